@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.benchmarks.embedded;
+
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.datastax.driver.core.Cluster;
+
+import info.archinnov.achilles.benchmarks.entities.BenchmarkEntity;
+import info.archinnov.achilles.benchmarks.synthetic.SyntheticFixtures;
+import info.archinnov.achilles.embedded.CassandraEmbeddedServerBuilder;
+import info.archinnov.achilles.generated.ManagerFactory;
+import info.archinnov.achilles.generated.ManagerFactoryBuilder;
+import info.archinnov.achilles.generated.manager.BenchmarkEntity_Manager;
+
+/**
+ * End-to-end operations against an embedded Cassandra server.
+ * <br/>
+ * The figures include the network round-trip and the server-side processing,
+ * use them to detect regressions between releases rather than as absolute values
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EndToEndBenchmark {
+
+    private static final int PARTITION_COUNT = 1000;
+    private static final int BUCKET_COUNT = 16;
+
+    private ManagerFactory managerFactory;
+    private BenchmarkEntity_Manager manager;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Cluster cluster = CassandraEmbeddedServerBuilder
+                .builder()
+                .withKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                .cleanDataFilesAtStartup(true)
+                .buildNativeCluster();
+
+        managerFactory = ManagerFactoryBuilder
+                .builder(cluster)
+                .withManagedEntityClasses(BenchmarkEntity.class)
+                .doForceSchemaCreation(true)
+                .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                .build();
+
+        manager = managerFactory.forBenchmarkEntity();
+
+        for (long id = 0; id < PARTITION_COUNT; id++) {
+            for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+                final BenchmarkEntity entity = SyntheticFixtures.newEntity(id);
+                entity.setBucket(bucket);
+                manager.crud().insert(entity).execute();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        managerFactory.shutDown();
+    }
+
+    @Benchmark
+    public void insert() {
+        final long id = PARTITION_COUNT + ThreadLocalRandom.current().nextLong(PARTITION_COUNT);
+        manager.crud().insert(SyntheticFixtures.newEntity(id)).execute();
+    }
+
+    @Benchmark
+    public BenchmarkEntity findById() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        return manager.crud()
+                .findById((long) random.nextInt(PARTITION_COUNT), random.nextInt(BUCKET_COUNT))
+                .get();
+    }
+
+    @Benchmark
+    public List<BenchmarkEntity> selectPartition() {
+        return manager.dsl()
+                .select()
+                .allColumns_FromBaseTable()
+                .where()
+                .id().Eq((long) ThreadLocalRandom.current().nextInt(PARTITION_COUNT))
+                .getList();
+    }
+
+    @Benchmark
+    public void updateColumn() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        manager.dsl()
+                .update()
+                .fromBaseTable()
+                .value().Set("updated")
+                .where()
+                .id().Eq((long) random.nextInt(PARTITION_COUNT))
+                .bucket().Eq(random.nextInt(BUCKET_COUNT))
+                .execute();
+    }
+}
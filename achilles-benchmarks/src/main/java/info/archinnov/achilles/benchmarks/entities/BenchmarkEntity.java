@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.benchmarks.entities;
+
+import static info.archinnov.achilles.annotations.Enumerated.Encoding.NAME;
+import static info.archinnov.achilles.annotations.Enumerated.Encoding.ORDINAL;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import com.datastax.driver.core.ConsistencyLevel;
+
+import info.archinnov.achilles.annotations.*;
+import info.archinnov.achilles.type.tuples.Tuple2;
+
+@Table(table = BenchmarkEntity.TABLE)
+public class BenchmarkEntity {
+
+    public static final String TABLE = "benchmark_entity";
+
+    @PartitionKey
+    private Long id;
+
+    @ClusteringColumn
+    private Integer bucket;
+
+    @Column
+    private String value;
+
+    @Column
+    private Long count;
+
+    @Column
+    private Double ratio;
+
+    @Column("created_at")
+    private Date createdAt;
+
+    @Column
+    private List<String> tags;
+
+    @Column
+    private Map<String, Integer> counters;
+
+    @Enumerated(NAME)
+    @Column
+    private ConsistencyLevel consistency;
+
+    @Enumerated(ORDINAL)
+    @Column("ordinal_consistency")
+    private ConsistencyLevel ordinalConsistency;
+
+    @JSON
+    @Column("json_payload")
+    private Map<String, List<Integer>> jsonPayload;
+
+    @Column
+    private @Frozen BenchmarkUDT address;
+
+    @Column
+    private Tuple2<Integer, String> version;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Integer getBucket() {
+        return bucket;
+    }
+
+    public void setBucket(Integer bucket) {
+        this.bucket = bucket;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public void setValue(String value) {
+        this.value = value;
+    }
+
+    public Long getCount() {
+        return count;
+    }
+
+    public void setCount(Long count) {
+        this.count = count;
+    }
+
+    public Double getRatio() {
+        return ratio;
+    }
+
+    public void setRatio(Double ratio) {
+        this.ratio = ratio;
+    }
+
+    public Date getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Date createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+
+    public Map<String, Integer> getCounters() {
+        return counters;
+    }
+
+    public void setCounters(Map<String, Integer> counters) {
+        this.counters = counters;
+    }
+
+    public ConsistencyLevel getConsistency() {
+        return consistency;
+    }
+
+    public void setConsistency(ConsistencyLevel consistency) {
+        this.consistency = consistency;
+    }
+
+    public ConsistencyLevel getOrdinalConsistency() {
+        return ordinalConsistency;
+    }
+
+    public void setOrdinalConsistency(ConsistencyLevel ordinalConsistency) {
+        this.ordinalConsistency = ordinalConsistency;
+    }
+
+    public Map<String, List<Integer>> getJsonPayload() {
+        return jsonPayload;
+    }
+
+    public void setJsonPayload(Map<String, List<Integer>> jsonPayload) {
+        this.jsonPayload = jsonPayload;
+    }
+
+    public BenchmarkUDT getAddress() {
+        return address;
+    }
+
+    public void setAddress(BenchmarkUDT address) {
+        this.address = address;
+    }
+
+    public Tuple2<Integer, String> getVersion() {
+        return version;
+    }
+
+    public void setVersion(Tuple2<Integer, String> version) {
+        this.version = version;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.benchmarks.entities;
+
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+
+import java.util.List;
+
+import info.archinnov.achilles.annotations.Column;
+import info.archinnov.achilles.annotations.UDT;
+
+@UDT(keyspace = DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME, name = "benchmark_udt")
+public class BenchmarkUDT {
+
+    @Column
+    private String street;
+
+    @Column("zip_code")
+    private Integer zipCode;
+
+    @Column
+    private List<String> lines;
+
+    public BenchmarkUDT() {
+    }
+
+    public BenchmarkUDT(String street, Integer zipCode, List<String> lines) {
+        this.street = street;
+        this.zipCode = zipCode;
+        this.lines = lines;
+    }
+
+    public String getStreet() {
+        return street;
+    }
+
+    public void setStreet(String street) {
+        this.street = street;
+    }
+
+    public Integer getZipCode() {
+        return zipCode;
+    }
+
+    public void setZipCode(Integer zipCode) {
+        this.zipCode = zipCode;
+    }
+
+    public List<String> getLines() {
+        return lines;
+    }
+
+    public void setLines(List<String> lines) {
+        this.lines = lines;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.benchmarks.synthetic;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.*;
+
+import info.archinnov.achilles.benchmarks.entities.BenchmarkEntity;
+import info.archinnov.achilles.internals.factory.DefaultBeanFactory;
+import info.archinnov.achilles.type.factory.BeanFactory;
+
+/**
+ * Cost of instantiating an entity through the default bean factory,
+ * compared to plain reflection and to a direct constructor call
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BeanInstantiationBenchmark {
+
+    private final BeanFactory beanFactory = new DefaultBeanFactory();
+    private Supplier<BenchmarkEntity> instantiator;
+    private Class<BenchmarkEntity> entityClass;
+
+    @Setup
+    public void setUp() {
+        entityClass = BenchmarkEntity.class;
+        instantiator = DefaultBeanFactory.instantiatorFor(beanFactory, entityClass);
+    }
+
+    @Benchmark
+    public BenchmarkEntity reflection() throws Exception {
+        return entityClass.newInstance();
+    }
+
+    @Benchmark
+    public BenchmarkEntity beanFactory() {
+        return beanFactory.newInstance(entityClass);
+    }
+
+    @Benchmark
+    public BenchmarkEntity resolvedInstantiator() {
+        return instantiator.get();
+    }
+
+    @Benchmark
+    public BenchmarkEntity constructor() {
+        return new BenchmarkEntity();
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.benchmarks.synthetic;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.datastax.driver.core.ConsistencyLevel;
+
+import info.archinnov.achilles.benchmarks.entities.BenchmarkUDT;
+import info.archinnov.achilles.internals.codec.EnumNameCodec;
+import info.archinnov.achilles.internals.codec.EnumOrdinalCodec;
+import info.archinnov.achilles.internals.codec.JSONCodec;
+import info.archinnov.achilles.json.DefaultJacksonMapperFactory;
+
+/**
+ * Encoding and decoding throughput of the built-in Achilles codecs
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CodecBenchmark {
+
+    private JSONCodec<BenchmarkUDT> jsonCodec;
+    private EnumNameCodec<ConsistencyLevel> enumNameCodec;
+    private EnumOrdinalCodec<ConsistencyLevel> enumOrdinalCodec;
+
+    private BenchmarkUDT jsonValue;
+    private String encodedJsonValue;
+
+    @Setup
+    public void setUp() {
+        jsonCodec = new JSONCodec<>(BenchmarkUDT.class, JSONCodec.TYPE_FACTORY_INSTANCE.constructType(BenchmarkUDT.class));
+        jsonCodec.setObjectMapper(new DefaultJacksonMapperFactory().getMapper(BenchmarkUDT.class));
+        enumNameCodec = new EnumNameCodec<>(Arrays.asList(ConsistencyLevel.values()), ConsistencyLevel.class);
+        enumOrdinalCodec = new EnumOrdinalCodec<>(Arrays.asList(ConsistencyLevel.values()), ConsistencyLevel.class);
+
+        jsonValue = new BenchmarkUDT("street", 75000, Arrays.asList("line1", "line2"));
+        encodedJsonValue = jsonCodec.encode(jsonValue);
+    }
+
+    @Benchmark
+    public String jsonEncode() {
+        return jsonCodec.encode(jsonValue);
+    }
+
+    @Benchmark
+    public BenchmarkUDT jsonDecode() {
+        return jsonCodec.decode(encodedJsonValue);
+    }
+
+    @Benchmark
+    public String enumNameEncode() {
+        return enumNameCodec.encode(ConsistencyLevel.LOCAL_QUORUM);
+    }
+
+    @Benchmark
+    public ConsistencyLevel enumNameDecode() {
+        return enumNameCodec.decode("LOCAL_QUORUM");
+    }
+
+    @Benchmark
+    public Integer enumOrdinalEncode() {
+        return enumOrdinalCodec.encode(ConsistencyLevel.LOCAL_QUORUM);
+    }
+
+    @Benchmark
+    public ConsistencyLevel enumOrdinalDecode() {
+        return enumOrdinalCodec.decode(ConsistencyLevel.LOCAL_QUORUM.ordinal());
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.benchmarks.synthetic;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import info.archinnov.achilles.generated.dsl.BenchmarkEntity_Delete;
+import info.archinnov.achilles.generated.dsl.BenchmarkEntity_Select;
+import info.archinnov.achilles.generated.dsl.BenchmarkEntity_Update;
+import info.archinnov.achilles.generated.meta.entity.BenchmarkEntity_AchillesMeta;
+
+/**
+ * Building of DSL statements, from the fluent API calls up to the final query string.
+ * No runtime engine is needed because the statements are never executed
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DSLStatementBenchmark {
+
+    private BenchmarkEntity_AchillesMeta meta;
+
+    @Setup
+    public void setUp() {
+        meta = SyntheticFixtures.newEntityMeta();
+    }
+
+    @Benchmark
+    public String selectByPrimaryKey() {
+        return new BenchmarkEntity_Select(null, meta)
+                .value()
+                .count()
+                .tags()
+                .ratio()
+                .fromBaseTable()
+                .where()
+                .id().Eq(1L)
+                .bucket().Eq(1)
+                .getStatementAsString();
+    }
+
+    @Benchmark
+    public String updateByPrimaryKey() {
+        return new BenchmarkEntity_Update(null, meta)
+                .fromBaseTable()
+                .value().Set("value")
+                .tags().AppendTo("tag")
+                .where()
+                .id().Eq(1L)
+                .bucket().Eq(1)
+                .getStatementAsString();
+    }
+
+    @Benchmark
+    public String deleteByPrimaryKey() {
+        return new BenchmarkEntity_Delete(null, meta)
+                .value()
+                .fromBaseTable()
+                .where()
+                .id().Eq(1L)
+                .bucket().Eq(1)
+                .getStatementAsString();
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.benchmarks.synthetic;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.datastax.driver.core.Row;
+
+import info.archinnov.achilles.benchmarks.entities.BenchmarkEntity;
+import info.archinnov.achilles.generated.meta.entity.BenchmarkEntity_AchillesMeta;
+
+/**
+ * Row to entity mapping throughput, as done for each row of a SELECT
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EntityMappingBenchmark {
+
+    private BenchmarkEntity_AchillesMeta meta;
+    private Row row;
+
+    @Setup
+    public void setUp() {
+        meta = SyntheticFixtures.newEntityMeta();
+        row = SyntheticFixtures.newRow(meta, SyntheticFixtures.newEntity(1L));
+    }
+
+    @Benchmark
+    public BenchmarkEntity createEntityFromRow() {
+        return meta.createEntityFrom(row);
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.benchmarks.synthetic;
+
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+
+import static java.lang.String.format;
+
+import java.lang.reflect.Constructor;
+import java.nio.ByteBuffer;
+import java.util.*;
+
+import com.datastax.driver.core.*;
+
+import info.archinnov.achilles.benchmarks.entities.BenchmarkEntity;
+import info.archinnov.achilles.benchmarks.entities.BenchmarkUDT;
+import info.archinnov.achilles.generated.meta.entity.BenchmarkEntity_AchillesMeta;
+import info.archinnov.achilles.internals.factory.DefaultBeanFactory;
+import info.archinnov.achilles.internals.factory.TupleTypeFactory;
+import info.archinnov.achilles.internals.factory.UserTypeFactory;
+import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.metamodel.AbstractProperty;
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.statements.PreparedStatementGenerator;
+import info.archinnov.achilles.json.DefaultJacksonMapperFactory;
+import info.archinnov.achilles.type.strategy.InsertStrategy;
+import info.archinnov.achilles.type.tuples.Tuple2;
+
+/**
+ * Entity meta wired exactly like the runtime does at bootstrap, but without any Cassandra cluster.
+ * <br/>
+ * Rows and prepared statements are built locally from hand-made column definitions,
+ * no Cassandra server is started nor contacted
+ */
+public class SyntheticFixtures {
+
+    public static final ProtocolVersion PROTOCOL_VERSION = ProtocolVersion.V4;
+    public static final CodecRegistry CODEC_REGISTRY = new CodecRegistry();
+
+    private static final Class<?> PREPARED_METADATA_CLASS = driverClass("com.datastax.driver.core.PreparedId$PreparedMetadata");
+    private static final Class<?> MD5_DIGEST_CLASS = driverClass("com.datastax.driver.core.MD5Digest");
+
+    public static BenchmarkEntity_AchillesMeta newEntityMeta() {
+        final BenchmarkEntity_AchillesMeta meta = new BenchmarkEntity_AchillesMeta();
+        meta.injectKeyspace(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME);
+        meta.inject(new DefaultBeanFactory());
+        meta.inject(new DefaultJacksonMapperFactory().getMapper(BenchmarkEntity.class));
+        meta.inject(InsertStrategy.ALL_FIELDS);
+        meta.injectRuntimeCodecs(new HashMap<>());
+        meta.inject(new UserTypeFactory(PROTOCOL_VERSION, CODEC_REGISTRY), new TupleTypeFactory(PROTOCOL_VERSION, CODEC_REGISTRY));
+        return meta;
+    }
+
+    public static BenchmarkEntity newEntity(long id) {
+        final BenchmarkEntity entity = new BenchmarkEntity();
+        entity.setId(id);
+        entity.setBucket((int) (id % 16));
+        entity.setValue("value_" + id);
+        entity.setCount(id * 10);
+        entity.setRatio(id / 3.0d);
+        entity.setCreatedAt(new Date(1514764800000L + id));
+        entity.setTags(Arrays.asList("tag1", "tag2", "tag3"));
+        final Map<String, Integer> counters = new HashMap<>();
+        counters.put("read", 10);
+        counters.put("write", 20);
+        entity.setCounters(counters);
+        entity.setConsistency(ConsistencyLevel.LOCAL_QUORUM);
+        entity.setOrdinalConsistency(ConsistencyLevel.ONE);
+        final Map<String, List<Integer>> jsonPayload = new HashMap<>();
+        jsonPayload.put("primes", Arrays.asList(2, 3, 5, 7, 11));
+        entity.setJsonPayload(jsonPayload);
+        entity.setAddress(new BenchmarkUDT("street_" + id, 75000, Arrays.asList("line1", "line2")));
+        entity.setVersion(Tuple2.of(1, "v1"));
+        return entity;
+    }
+
+    /**
+     * Build a row containing all the columns of the entity, as returned by a <strong>SELECT *</strong>.
+     * <br/>
+     * The column values are serialized by binding the entity to the INSERT statement, the benchmarks only decode them
+     */
+    public static Row newRow(AbstractEntityProperty<BenchmarkEntity> meta, BenchmarkEntity entity) {
+        final BoundStatement bs = meta.extractAllValuesFromEntity(entity, new CassandraOptions())
+                .bindWithInsertStrategy(newInsertStatement(meta), InsertStrategy.ALL_FIELDS)
+                .getBoundStatement();
+        final List<ByteBuffer> values = new ArrayList<>(meta.allColumns.size());
+        for (int i = 0; i < meta.allColumns.size(); i++) {
+            values.add(bs.getBytesUnsafe(i));
+        }
+        return new SyntheticRow(newColumnDefinitions(meta, meta.allColumns, false), values);
+    }
+
+    /**
+     * Build the INSERT statement of the entity, with the same bound variables as the runtime one.
+     * <br/>
+     * The statement is never sent to Cassandra, the benchmarks only bind it
+     */
+    public static PreparedStatement newInsertStatement(AbstractEntityProperty<BenchmarkEntity> meta) {
+        final ColumnDefinitions variables = newColumnDefinitions(meta, meta.allColumns, true);
+        final PreparedId preparedId = newDriverInstance(PreparedId.class,
+                new Class<?>[]{PREPARED_METADATA_CLASS, PREPARED_METADATA_CLASS, int[].class, ProtocolVersion.class},
+                newPreparedMetadata(variables), newPreparedMetadata(null), null, PROTOCOL_VERSION);
+        final String queryString = PreparedStatementGenerator.generateInsert(meta, Optional.empty()).getQueryString();
+        return new SyntheticPreparedStatement(queryString, variables, preparedId);
+    }
+
+    /**
+     * The driver only creates column definitions from the server responses, their constructors are not public
+     */
+    private static ColumnDefinitions newColumnDefinitions(AbstractEntityProperty<BenchmarkEntity> meta,
+                                                          List<AbstractProperty<BenchmarkEntity, ?, ?>> columns,
+                                                          boolean withTtl) {
+        final String keyspace = meta.getKeyspace().get();
+        final String table = meta.getTableOrViewName();
+        final List<ColumnDefinitions.Definition> definitions = new ArrayList<>(columns.size() + 1);
+        for (AbstractProperty<BenchmarkEntity, ?, ?> x : columns) {
+            definitions.add(newDefinition(keyspace, table, x.fieldInfo.cqlColumn, x.getDataType()));
+        }
+        if (withTtl) {
+            definitions.add(newDefinition(keyspace, table, "ttl", DataType.cint()));
+        }
+        return newDriverInstance(ColumnDefinitions.class,
+                new Class<?>[]{ColumnDefinitions.Definition[].class, CodecRegistry.class},
+                definitions.toArray(new ColumnDefinitions.Definition[definitions.size()]), CODEC_REGISTRY);
+    }
+
+    private static ColumnDefinitions.Definition newDefinition(String keyspace, String table, String name, DataType type) {
+        return newDriverInstance(ColumnDefinitions.Definition.class,
+                new Class<?>[]{String.class, String.class, String.class, DataType.class},
+                keyspace, table, name, type);
+    }
+
+    private static Object newPreparedMetadata(ColumnDefinitions variables) {
+        return newDriverInstance(PREPARED_METADATA_CLASS,
+                new Class<?>[]{MD5_DIGEST_CLASS, ColumnDefinitions.class}, null, variables);
+    }
+
+    private static <T> T newDriverInstance(Class<T> type, Class<?>[] parameterTypes, Object... args) {
+        try {
+            final Constructor<T> constructor = type.getDeclaredConstructor(parameterTypes);
+            constructor.setAccessible(true);
+            return constructor.newInstance(args);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(format("Cannot instantiate driver class %s", type.getCanonicalName()), e);
+        }
+    }
+
+    private static Class<?> driverClass(String className) {
+        try {
+            return Class.forName(className);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(format("Cannot load driver class %s", className), e);
+        }
+    }
+}
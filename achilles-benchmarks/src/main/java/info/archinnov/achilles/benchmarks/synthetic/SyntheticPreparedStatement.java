@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.benchmarks.synthetic;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+import com.datastax.driver.core.*;
+import com.datastax.driver.core.policies.RetryPolicy;
+
+/**
+ * Driver {@link PreparedStatement} built locally from the query string and its bound variables,
+ * without a round trip to Cassandra
+ */
+class SyntheticPreparedStatement implements PreparedStatement {
+
+    private final String queryString;
+    private final ColumnDefinitions variables;
+    private final PreparedId preparedId;
+    private volatile ConsistencyLevel consistencyLevel;
+    private volatile ConsistencyLevel serialConsistencyLevel;
+    private volatile RetryPolicy retryPolicy;
+    private volatile Boolean idempotent;
+    private volatile boolean tracing;
+    private volatile Map<String, ByteBuffer> outgoingPayload;
+
+    SyntheticPreparedStatement(String queryString, ColumnDefinitions variables, PreparedId preparedId) {
+        this.queryString = queryString;
+        this.variables = variables;
+        this.preparedId = preparedId;
+    }
+
+    @Override
+    public ColumnDefinitions getVariables() {
+        return variables;
+    }
+
+    @Override
+    public BoundStatement bind(Object... values) {
+        return new BoundStatement(this).bind(values);
+    }
+
+    @Override
+    public BoundStatement bind() {
+        return new BoundStatement(this);
+    }
+
+    @Override
+    public PreparedStatement setRoutingKey(ByteBuffer routingKey) {
+        return this;
+    }
+
+    @Override
+    public PreparedStatement setRoutingKey(ByteBuffer... routingKeyComponents) {
+        return this;
+    }
+
+    @Override
+    public ByteBuffer getRoutingKey() {
+        return null;
+    }
+
+    @Override
+    public PreparedStatement setConsistencyLevel(ConsistencyLevel consistency) {
+        this.consistencyLevel = consistency;
+        return this;
+    }
+
+    @Override
+    public ConsistencyLevel getConsistencyLevel() {
+        return consistencyLevel;
+    }
+
+    @Override
+    public PreparedStatement setSerialConsistencyLevel(ConsistencyLevel serialConsistency) {
+        this.serialConsistencyLevel = serialConsistency;
+        return this;
+    }
+
+    @Override
+    public ConsistencyLevel getSerialConsistencyLevel() {
+        return serialConsistencyLevel;
+    }
+
+    @Override
+    public String getQueryString() {
+        return queryString;
+    }
+
+    @Override
+    public String getQueryKeyspace() {
+        return variables.size() > 0 ? variables.getKeyspace(0) : null;
+    }
+
+    @Override
+    public PreparedStatement enableTracing() {
+        this.tracing = true;
+        return this;
+    }
+
+    @Override
+    public PreparedStatement disableTracing() {
+        this.tracing = false;
+        return this;
+    }
+
+    @Override
+    public boolean isTracing() {
+        return tracing;
+    }
+
+    @Override
+    public PreparedStatement setRetryPolicy(RetryPolicy policy) {
+        this.retryPolicy = policy;
+        return this;
+    }
+
+    @Override
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    @Override
+    public PreparedId getPreparedId() {
+        return preparedId;
+    }
+
+    @Override
+    public Map<String, ByteBuffer> getIncomingPayload() {
+        return null;
+    }
+
+    @Override
+    public Map<String, ByteBuffer> getOutgoingPayload() {
+        return outgoingPayload;
+    }
+
+    @Override
+    public PreparedStatement setOutgoingPayload(Map<String, ByteBuffer> payload) {
+        this.outgoingPayload = payload;
+        return this;
+    }
+
+    @Override
+    public CodecRegistry getCodecRegistry() {
+        return SyntheticFixtures.CODEC_REGISTRY;
+    }
+
+    @Override
+    public PreparedStatement setIdempotent(Boolean idempotent) {
+        this.idempotent = idempotent;
+        return this;
+    }
+
+    @Override
+    public Boolean isIdempotent() {
+        return idempotent;
+    }
+}
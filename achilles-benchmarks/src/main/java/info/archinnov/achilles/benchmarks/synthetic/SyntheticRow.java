@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.benchmarks.synthetic;
+
+import static java.lang.String.format;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import com.datastax.driver.core.*;
+
+/**
+ * Driver {@link Row} backed by already serialized column values, as a <strong>SELECT *</strong> would return it
+ */
+class SyntheticRow extends AbstractGettableData implements Row {
+
+    private final ColumnDefinitions columnDefinitions;
+    private final List<ByteBuffer> values;
+
+    SyntheticRow(ColumnDefinitions columnDefinitions, List<ByteBuffer> values) {
+        super(SyntheticFixtures.PROTOCOL_VERSION);
+        this.columnDefinitions = columnDefinitions;
+        this.values = values;
+    }
+
+    @Override
+    public ColumnDefinitions getColumnDefinitions() {
+        return columnDefinitions;
+    }
+
+    @Override
+    protected DataType getType(int i) {
+        return columnDefinitions.getType(i);
+    }
+
+    @Override
+    protected String getName(int i) {
+        return columnDefinitions.getName(i);
+    }
+
+    @Override
+    protected ByteBuffer getValue(int i) {
+        return values.get(i);
+    }
+
+    @Override
+    protected CodecRegistry getCodecRegistry() {
+        return SyntheticFixtures.CODEC_REGISTRY;
+    }
+
+    @Override
+    protected int getIndexOf(String name) {
+        final boolean quoted = name.startsWith("\"");
+        final String columnName = quoted ? name.substring(1, name.length() - 1) : name;
+        for (int i = 0; i < columnDefinitions.size(); i++) {
+            if (quoted ? columnDefinitions.getName(i).equals(columnName) : columnDefinitions.getName(i).equalsIgnoreCase(columnName)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException(format("%s is not a column defined in this metadata", name));
+    }
+
+    @Override
+    public Token getToken(int i) {
+        throw new UnsupportedOperationException("Tokens are not available on synthetic rows");
+    }
+
+    @Override
+    public Token getToken(String name) {
+        throw new UnsupportedOperationException("Tokens are not available on synthetic rows");
+    }
+
+    @Override
+    public Token getPartitionKeyToken() {
+        throw new UnsupportedOperationException("Tokens are not available on synthetic rows");
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.benchmarks.synthetic;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.datastax.driver.core.TupleValue;
+import com.datastax.driver.core.UDTValue;
+
+import info.archinnov.achilles.benchmarks.entities.BenchmarkUDT;
+import info.archinnov.achilles.generated.meta.entity.BenchmarkEntity_AchillesMeta;
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.type.tuples.Tuple2;
+
+/**
+ * Conversion between Java beans/tuples and driver UDTValue/TupleValue
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UDTAndTupleBenchmark {
+
+    private BenchmarkUDT udt;
+    private UDTValue udtValue;
+    private Tuple2<Integer, String> tuple;
+    private TupleValue tupleValue;
+    private Optional<CassandraOptions> writeOptions;
+
+    @Setup
+    public void setUp() {
+        // Inject the user type and tuple type factories into the static properties
+        SyntheticFixtures.newEntityMeta();
+        udt = new BenchmarkUDT("street", 75000, Arrays.asList("line1", "line2"));
+        udtValue = BenchmarkEntity_AchillesMeta.address.encodeFromJava(udt);
+        tuple = Tuple2.of(1, "v1");
+        tupleValue = BenchmarkEntity_AchillesMeta.version.encodeFromJava(tuple);
+        // The write path always passes the options of the query, even when they are all empty
+        writeOptions = Optional.of(new CassandraOptions());
+    }
+
+    @Benchmark
+    public UDTValue encodeUDT() {
+        return BenchmarkEntity_AchillesMeta.address.encodeFromJava(udt);
+    }
+
+    @Benchmark
+    public UDTValue encodeUDTWithOptions() {
+        return BenchmarkEntity_AchillesMeta.address.encodeFromJava(udt, writeOptions);
+    }
+
+    @Benchmark
+    public BenchmarkUDT decodeUDT() {
+        return BenchmarkEntity_AchillesMeta.address.decodeFromRaw(udtValue);
+    }
+
+    @Benchmark
+    public TupleValue encodeTuple() {
+        return BenchmarkEntity_AchillesMeta.version.encodeFromJava(tuple);
+    }
+
+    @Benchmark
+    public TupleValue encodeTupleWithOptions() {
+        return BenchmarkEntity_AchillesMeta.version.encodeFromJava(tuple, writeOptions);
+    }
+
+    @Benchmark
+    public Tuple2<Integer, String> decodeTuple() {
+        return BenchmarkEntity_AchillesMeta.version.decodeFromRaw(tupleValue);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.benchmarks.synthetic;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.datastax.driver.core.PreparedStatement;
+
+import info.archinnov.achilles.benchmarks.entities.BenchmarkEntity;
+import info.archinnov.achilles.generated.meta.entity.BenchmarkEntity_AchillesMeta;
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.statements.BoundValuesWrapper;
+import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.type.strategy.InsertStrategy;
+
+/**
+ * Extraction of the entity values and binding to the INSERT prepared statement
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValueBindingBenchmark {
+
+    private final CassandraOptions options = new CassandraOptions();
+    private BenchmarkEntity_AchillesMeta meta;
+    private BenchmarkEntity entity;
+    private PreparedStatement insertStatement;
+
+    @Setup
+    public void setUp() {
+        meta = SyntheticFixtures.newEntityMeta();
+        entity = SyntheticFixtures.newEntity(1L);
+        insertStatement = SyntheticFixtures.newInsertStatement(meta);
+    }
+
+    @Benchmark
+    public BoundValuesWrapper extractAllValues() {
+        return meta.extractAllValuesFromEntity(entity, options);
+    }
+
+    @Benchmark
+    public StatementWrapper bindAllFields() {
+        return meta.extractAllValuesFromEntity(entity, options)
+                .bindWithInsertStrategy(insertStatement, InsertStrategy.ALL_FIELDS);
+    }
+
+    @Benchmark
+    public StatementWrapper bindNotNullFields() {
+        return meta.extractAllValuesFromEntity(entity, options)
+                .bindWithInsertStrategy(insertStatement, InsertStrategy.NOT_NULL_FIELDS);
+    }
+}
@@ -31,13 +31,22 @@ public class DefaultExecutorThreadFactory implements ThreadFactory {
     private static final Logger LOGGER = getLogger("achilles-default-executor");
 
     private final AtomicInteger threadNumber = new AtomicInteger(0);
+    private final String threadNamePrefix;
     private Thread.UncaughtExceptionHandler uncaughtExceptionHandler = (t, e) ->
             LOGGER.error("Uncaught asynchronous exception : " + e.getMessage(), e);
 
+    public DefaultExecutorThreadFactory() {
+        this("achilles-default-executor-");
+    }
+
+    public DefaultExecutorThreadFactory(String threadNamePrefix) {
+        this.threadNamePrefix = threadNamePrefix;
+    }
+
     @Override
     public Thread newThread(Runnable r) {
         Thread thread = new Thread(r);
-        thread.setName("achilles-default-executor-" + threadNumber.incrementAndGet());
+        thread.setName(threadNamePrefix + threadNumber.incrementAndGet());
         thread.setDaemon(true);
         thread.setUncaughtExceptionHandler(uncaughtExceptionHandler);
         return thread;
@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 import com.datastax.driver.core.Cluster;
 import com.datastax.driver.core.ConsistencyLevel;
@@ -32,8 +33,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import info.archinnov.achilles.configuration.ArgumentExtractor;
 import info.archinnov.achilles.configuration.ConfigurationParameters;
+import info.archinnov.achilles.internals.cache.EntityCacheOptions;
 import info.archinnov.achilles.internals.cache.StatementsCache;
+import info.archinnov.achilles.internals.cache.StatementsCacheListener;
 import info.archinnov.achilles.internals.context.ConfigurationContext;
+import info.archinnov.achilles.internals.metrics.StatementMetricsListener;
 import info.archinnov.achilles.internals.runtime.AbstractManagerFactory;
 import info.archinnov.achilles.internals.types.ConfigMap;
 import info.archinnov.achilles.json.JacksonMapperFactory;
@@ -41,6 +45,7 @@ import info.archinnov.achilles.type.SchemaNameProvider;
 import info.archinnov.achilles.type.codec.Codec;
 import info.archinnov.achilles.type.codec.CodecSignature;
 import info.archinnov.achilles.type.interceptor.Interceptor;
+import info.archinnov.achilles.type.strategy.InFlightOverflowStrategy;
 import info.archinnov.achilles.type.strategy.InsertStrategy;
 import info.archinnov.achilles.validation.Validator;
 
@@ -264,6 +269,32 @@ public abstract class AbstractManagerFactoryBuilder<T extends AbstractManagerFac
         return getThis();
     }
 
+    /**
+     * Validate only the given validation groups instead of the <em>Default</em> group.
+     * Entities having no constraint in these groups are not intercepted
+     *
+     * @return ManagerFactoryBuilder
+     * @see <a href="https://github.com/doanduyhai/Achilles/wiki/Configuration-Parameters#bean-validation" target="_blank">Bean validation</a>
+     */
+    public T withBeanValidationGroups(Class<?>... groups) {
+        Validator.validateNotNull(groups, "Bean validation groups should not be null");
+        configMap.put(BEAN_VALIDATION_GROUPS, Arrays.asList(groups));
+        return getThis();
+    }
+
+    /**
+     * Validate only 1 loaded entity out of <em>samplingRate</em> for each entity type on POST_LOAD event.
+     * Useful to keep Post Load Bean Validation enabled on large SELECT results
+     *
+     * @return ManagerFactoryBuilder
+     * @see <a href="https://github.com/doanduyhai/Achilles/wiki/Configuration-Parameters#bean-validation" target="_blank">Bean validation</a>
+     */
+    public T withPostLoadBeanValidationSamplingRate(int samplingRate) {
+        Validator.validateTrue(samplingRate > 0, "The post load bean validation sampling rate should be strictly positive");
+        configMap.put(POST_LOAD_BEAN_VALIDATION_SAMPLING_RATE, samplingRate);
+        return getThis();
+    }
+
     /**
      * Specify maximum size for the internal prepared statements LRU cache.
      * If the cache is full, oldest prepared statements will be dropped, leading to unexpected behavior.
@@ -281,6 +312,65 @@ public abstract class AbstractManagerFactoryBuilder<T extends AbstractManagerFac
         return getThis();
     }
 
+    /**
+     * Bound the LRU cache for prepared statements by the total length of the cached query strings
+     * instead of the number of entries. Useful when dynamic queries have very different sizes
+     *
+     * @param maxPreparedStatementCacheWeight max total length of the cached query strings
+     * @return ManagerFactoryBuilder
+     */
+    public T withMaxPreparedStatementCacheWeight(long maxPreparedStatementCacheWeight) {
+        configMap.put(PREPARED_STATEMENTS_CACHE_MAX_WEIGHT, maxPreparedStatementCacheWeight);
+        return getThis();
+    }
+
+    /**
+     * Register a listener notified of each prepare, eviction and re-prepare storm of the LRU cache
+     * for prepared statements. This is the hook to publish the cache activity to a metrics registry
+     *
+     * @param statementsCacheListener an instance of {@link info.archinnov.achilles.internals.cache.StatementsCacheListener}
+     * @return ManagerFactoryBuilder
+     */
+    public T withPreparedStatementCacheListener(StatementsCacheListener statementsCacheListener) {
+        configMap.put(PREPARED_STATEMENTS_CACHE_LISTENER, statementsCacheListener);
+        return getThis();
+    }
+
+    /**
+     * Define the max number of evicted prepared statements re-prepared per minute. Above this threshold
+     * a warning is logged and the listener is notified, hinting that the LRU cache is too small. Default value = 100
+     *
+     * @param rePrepareThresholdPerMinute max number of re-prepares per minute
+     * @return ManagerFactoryBuilder
+     */
+    public T withPreparedStatementRePrepareThreshold(long rePrepareThresholdPerMinute) {
+        configMap.put(PREPARED_STATEMENTS_RE_PREPARE_THRESHOLD, rePrepareThresholdPerMinute);
+        return getThis();
+    }
+
+    /**
+     * Define the max number of static statements prepared concurrently at bootstrap. Default value = 32
+     *
+     * @param staticStatementsPreparationConcurrency max number of concurrent prepare requests
+     * @return ManagerFactoryBuilder
+     */
+    public T withStaticStatementsPreparationConcurrency(int staticStatementsPreparationConcurrency) {
+        configMap.put(STATIC_STATEMENTS_PREPARATION_CONCURRENCY, staticStatementsPreparationConcurrency);
+        return getThis();
+    }
+
+    /**
+     * Defer the preparation of rarely used static statements (INSERT JSON, INSERT/DELETE with IF [NOT] EXISTS,
+     * INSERT of static columns) to their first use. Default value = false
+     *
+     * @param lazyRareStaticStatements whether to prepare rare static statements on first use
+     * @return ManagerFactoryBuilder
+     */
+    public T withLazyRareStaticStatements(boolean lazyRareStaticStatements) {
+        configMap.put(LAZY_RARE_STATIC_STATEMENTS, lazyRareStaticStatements);
+        return getThis();
+    }
+
     /**
      * Define the global insert strategy
      *
@@ -424,6 +514,42 @@ public abstract class AbstractManagerFactoryBuilder<T extends AbstractManagerFac
         return getThis();
     }
 
+    /**
+     * Pass a dedicated ExecutorService to Achilles to decode SELECT results into entities
+     * and trigger the <strong>POST_LOAD</strong> interceptors, away from the default ExecutorService.
+     * <br/>
+     * The futures returned to the user are completed back on the default ExecutorService.
+     * On JDK 21+ you can pass <strong>Executors.newVirtualThreadPerTaskExecutor()</strong>.
+     * Achilles will <strong>NOT</strong> shut down a provided ExecutorService.
+     * By default the mapping is done on the default ExecutorService
+     *
+     * @param mappingExecutorService an executor service dedicated to result mapping
+     * @return ManagerFactoryBuilder
+     */
+    public T withMappingExecutorService(ExecutorService mappingExecutorService) {
+        configMap.put(MAPPING_EXECUTOR_SERVICE, mappingExecutorService);
+        return getThis();
+    }
+
+    /**
+     * Let Achilles build a dedicated fixed-size ExecutorService to decode SELECT results into entities
+     * and trigger the <strong>POST_LOAD</strong> interceptors. Ignored if <strong>withMappingExecutorService()</strong> is used.
+     * <br/>
+     * The thread pool is configured as below:
+     * <pre class="code"><code class="java">
+     * new ThreadPoolExecutor(threadCount, threadCount, 60, TimeUnit.SECONDS,
+     * new LinkedBlockingQueue<Runnable>(),
+     * new DefaultExecutorThreadFactory("achilles-mapping-executor-"))
+     * </code></pre>
+     *
+     * @param threadCount thread count of the mapping executor service
+     * @return ManagerFactoryBuilder
+     */
+    public T withMappingExecutorServiceThreadCount(int threadCount) {
+        configMap.put(MAPPING_EXECUTOR_SERVICE_THREAD_COUNT, threadCount);
+        return getThis();
+    }
+
     /**
      * Define a list of entities to be managed by <strong>Achilles</strong>.
      * Specifically, schema validation will be performed at bootstrap for those entities
@@ -557,4 +683,80 @@ public abstract class AbstractManagerFactoryBuilder<T extends AbstractManagerFac
         configMap.put(DML_RESULTS_DISPLAY_SIZE, maxDMLResultsDisplayed);
         return getThis();
     }
+
+    /**
+     * Limit the number of requests sent concurrently to Cassandra by <strong>Achilles</strong>.
+     * <br/>
+     * Requests exceeding this limit are queued or rejected depending on the
+     * {@link info.archinnov.achilles.type.strategy.InFlightOverflowStrategy}. By default there is no limit
+     * @param maxInFlightRequests max number of in-flight requests
+     * @return ManagerFactoryBuilder
+     */
+    public T withMaxInFlightRequests(int maxInFlightRequests) {
+        configMap.put(MAX_IN_FLIGHT_REQUESTS, maxInFlightRequests);
+        return getThis();
+    }
+
+    /**
+     * Define the max number of requests waiting for an in-flight slot when the
+     * strategy is {@link info.archinnov.achilles.type.strategy.InFlightOverflowStrategy#QUEUE}.
+     * Once the queue is full, new requests are rejected. Default value = 10000
+     * @param inFlightRequestsQueueSize max number of queued requests
+     * @return ManagerFactoryBuilder
+     */
+    public T withInFlightRequestsQueueSize(int inFlightRequestsQueueSize) {
+        configMap.put(IN_FLIGHT_REQUESTS_QUEUE_SIZE, inFlightRequestsQueueSize);
+        return getThis();
+    }
+
+    /**
+     * Define what to do with requests exceeding the max number of in-flight requests.
+     * Default value = {@link info.archinnov.achilles.type.strategy.InFlightOverflowStrategy#QUEUE}
+     * @param inFlightOverflowStrategy overflow strategy
+     * @return ManagerFactoryBuilder
+     */
+    public T withInFlightOverflowStrategy(InFlightOverflowStrategy inFlightOverflowStrategy) {
+        configMap.put(IN_FLIGHT_OVERFLOW_STRATEGY, inFlightOverflowStrategy);
+        return getThis();
+    }
+
+    /**
+     * Enable a client-side read-through cache of <strong>findById</strong> for the given entity class.
+     * <br/>
+     * Entries are evicted once <strong>maximumSize</strong> is reached or <strong>timeToLive</strong> after
+     * being loaded, and are invalidated by the <strong>insert</strong>, <strong>update</strong> and <strong>delete</strong>
+     * operations issued through the manager of the entity. Mutations issued by other clients are only
+     * visible once the cached entries expire so only use it for rarely updated data.
+     * By default no entity is cached
+     *
+     * @param entityClass entity class to cache
+     * @param maximumSize max number of cached rows
+     * @param timeToLive  max time an entry is kept after being loaded
+     * @param timeUnit    unit of the time-to-live
+     * @return ManagerFactoryBuilder
+     */
+    public T withEntityCache(Class<?> entityClass, long maximumSize, long timeToLive, TimeUnit timeUnit) {
+        if (!configMap.containsKey(ENTITY_CACHES)) {
+            configMap.put(ENTITY_CACHES, new HashMap<Class<?>, EntityCacheOptions>());
+        }
+        configMap.<Map<Class<?>, EntityCacheOptions>>getTyped(ENTITY_CACHES).put(entityClass, new EntityCacheOptions(maximumSize, timeToLive, timeUnit));
+        return getThis();
+    }
+
+    /**
+     * Register a listener notified of the latency and outcome of every statement executed by Achilles,
+     * keyed by entity class, operation type and query string.
+     * <br/>
+     * Use {@link info.archinnov.achilles.internals.metrics.StatementMetricsRecorder} to keep in-memory
+     * latency histograms, throughput and error counts per statement shape.
+     * The listener is invoked on the driver I/O threads so it must be fast and non-blocking.
+     * By default no metrics are recorded and the execution path is unchanged
+     *
+     * @param statementMetricsListener the statement metrics listener
+     * @return ManagerFactoryBuilder
+     */
+    public T withStatementMetricsListener(StatementMetricsListener statementMetricsListener) {
+        configMap.put(STATEMENT_METRICS_LISTENER, statementMetricsListener);
+        return getThis();
+    }
 }
@@ -35,10 +35,15 @@ import com.google.common.collect.ImmutableMap;
 
 import info.archinnov.achilles.async.DefaultExecutorThreadFactory;
 import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.internals.cache.EntityCache;
+import info.archinnov.achilles.internals.cache.EntityCacheOptions;
 import info.archinnov.achilles.internals.cache.StatementsCache;
+import info.archinnov.achilles.internals.cache.StatementsCacheListener;
 import info.archinnov.achilles.internals.context.ConfigurationContext;
 import info.archinnov.achilles.internals.factory.DefaultBeanFactory;
+import info.archinnov.achilles.internals.metrics.StatementMetricsListener;
 import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.runtime.InFlightRequestsLimiter;
 import info.archinnov.achilles.internals.types.ConfigMap;
 import info.archinnov.achilles.json.DefaultJacksonMapperFactory;
 import info.archinnov.achilles.json.JacksonMapperFactory;
@@ -47,6 +52,8 @@ import info.archinnov.achilles.type.codec.Codec;
 import info.archinnov.achilles.type.codec.CodecSignature;
 import info.archinnov.achilles.type.factory.BeanFactory;
 import info.archinnov.achilles.type.interceptor.Interceptor;
+import info.archinnov.achilles.type.strategy.InFlightOverflowStrategy;
+import info.archinnov.achilles.validation.Validator;
 import info.archinnov.achilles.type.strategy.InsertStrategy;
 import info.archinnov.achilles.type.strategy.NamingStrategy;
 
@@ -56,8 +63,12 @@ import info.archinnov.achilles.type.strategy.NamingStrategy;
 public class ArgumentExtractor {
 
     static final int DEFAULT_LRU_CACHE_SIZE = 10000;
+    static final long DEFAULT_RE_PREPARE_THRESHOLD = 100L;
+    static final int DEFAULT_STATIC_STATEMENTS_PREPARATION_CONCURRENCY = 32;
+    static final boolean DEFAULT_LAZY_RARE_STATIC_STATEMENTS = false;
     static final boolean DEFAULT_ENABLE_PRE_MUTATE_BEAN_VALIDATION = false;
     static final boolean DEFAULT_ENABLE_POST_LOAD_BEAN_VALIDATION = false;
+    static final int DEFAULT_POST_LOAD_BEAN_VALIDATION_SAMPLING_RATE = 1;
     static final int DEFAULT_THREAD_POOL_MIN_THREAD_COUNT = 10;
     static final int DEFAULT_THREAD_POOL_MAX_THREAD_COUNT = 10;
     static final long DEFAULT_THREAD_POOL_THREAD_TTL = 60L;
@@ -67,6 +78,8 @@ public class ArgumentExtractor {
     static final NamingStrategy DEFAULT_GLOBAL_NAMING_STRATEGY = NamingStrategy.LOWER_CASE;
     static final BeanFactory DEFAULT_BEAN_FACTORY = new DefaultBeanFactory();
     static final Integer DEFAULT_DML_RESULTS_DISPLAY_SIZE = 10;
+    static final int DEFAULT_IN_FLIGHT_REQUESTS_QUEUE_SIZE = 10000;
+    static final InFlightOverflowStrategy DEFAULT_IN_FLIGHT_OVERFLOW_STRATEGY = InFlightOverflowStrategy.QUEUE;
     private static final Logger LOGGER = LoggerFactory.getLogger(ArgumentExtractor.class);
 
     public static ConfigurationContext initConfigContext(Cluster cluster, ConfigMap configurationMap) {
@@ -83,6 +96,8 @@ public class ArgumentExtractor {
         configContext.setReadConsistencyLevelMap(initReadConsistencyMap(configurationMap));
         configContext.setWriteConsistencyLevelMap(initWriteConsistencyMap(configurationMap));
         configContext.setSerialConsistencyLevelMap(initSerialConsistencyMap(configurationMap));
+        configContext.setBeanValidationGroups(initBeanValidationGroups(configurationMap));
+        configContext.setPostLoadBeanValidationSamplingRate(initPostLoadBeanValidationSamplingRate(configurationMap));
         configContext.setBeanValidator(initValidator(configurationMap));
         configContext.setPostLoadBeanValidationEnabled(initPostLoadBeanValidation(configurationMap));
         configContext.setInterceptors(initInterceptors(configurationMap));
@@ -99,6 +114,13 @@ public class ArgumentExtractor {
         configContext.setRuntimeCodecs(initRuntimeCodecs(configurationMap));
         configContext.setValidateSchema(initValidateSchema(configurationMap));
         configContext.setDMLResultsDisplaySize(initDMLResultsDisplayLimit(configurationMap));
+        configContext.setInFlightRequestsLimiter(initInFlightRequestsLimiter(configurationMap));
+        configContext.setStaticStatementsPreparationConcurrency(initStaticStatementsPreparationConcurrency(configurationMap));
+        configContext.setLazyRareStaticStatements(initLazyRareStaticStatements(configurationMap));
+        configContext.setEntityCaches(initEntityCaches(configurationMap));
+        configContext.setMappingExecutorService(initMappingExecutorService(configurationMap));
+        configContext.setProvidedMappingExecutorService(initProvidedMappingExecutorService(configurationMap));
+        configContext.setStatementMetricsListener(initStatementMetricsListener(configurationMap));
         return configContext;
     }
 
@@ -223,6 +245,19 @@ public class ArgumentExtractor {
 
     }
 
+    static Class<?>[] initBeanValidationGroups(ConfigMap configMap) {
+        LOGGER.trace("Extract or init Bean validation groups");
+        final List<Class<?>> groups = configMap.getTypedOr(BEAN_VALIDATION_GROUPS, new ArrayList<>());
+        return groups.toArray(new Class<?>[groups.size()]);
+    }
+
+    static int initPostLoadBeanValidationSamplingRate(ConfigMap configMap) {
+        LOGGER.trace("Extract or init Post Load Bean validation sampling rate");
+        final Integer samplingRate = configMap.getTypedOr(POST_LOAD_BEAN_VALIDATION_SAMPLING_RATE, DEFAULT_POST_LOAD_BEAN_VALIDATION_SAMPLING_RATE);
+        Validator.validateTrue(samplingRate > 0, "The post load bean validation sampling rate should be strictly positive");
+        return samplingRate;
+    }
+
     public static Integer initPreparedStatementsCacheSize(ConfigMap configMap) {
         LOGGER.trace("Extract or init prepared statements cache size");
         return configMap.getTypedOr(PREPARED_STATEMENTS_CACHE_SIZE, DEFAULT_LRU_CACHE_SIZE);
@@ -281,7 +316,10 @@ public class ArgumentExtractor {
             return configMap.getTyped(STATEMENTS_CACHE);
         } else {
             final Integer cacheSize = initPreparedStatementsCacheSize(configMap);
-            return new StatementsCache(cacheSize);
+            final Optional<Long> maxWeight = Optional.ofNullable(configMap.getTyped(PREPARED_STATEMENTS_CACHE_MAX_WEIGHT));
+            final StatementsCacheListener listener = configMap.getTypedOr(PREPARED_STATEMENTS_CACHE_LISTENER, StatementsCacheListener.NO_OP);
+            final long rePrepareThreshold = configMap.getTypedOr(PREPARED_STATEMENTS_RE_PREPARE_THRESHOLD, DEFAULT_RE_PREPARE_THRESHOLD);
+            return new StatementsCache(cacheSize, maxWeight, listener, rePrepareThreshold);
         }
     }
 
@@ -302,4 +340,61 @@ public class ArgumentExtractor {
             return DEFAULT_DML_RESULTS_DISPLAY_SIZE;
         }
     }
+
+    static Optional<InFlightRequestsLimiter> initInFlightRequestsLimiter(final ConfigMap configMap) {
+        LOGGER.trace("Extract or init in-flight requests limiter");
+        if (configMap.containsKey(MAX_IN_FLIGHT_REQUESTS)) {
+            final int maxInFlightRequests = configMap.getTyped(MAX_IN_FLIGHT_REQUESTS);
+            final int queueSize = configMap.getTypedOr(IN_FLIGHT_REQUESTS_QUEUE_SIZE, DEFAULT_IN_FLIGHT_REQUESTS_QUEUE_SIZE);
+            final InFlightOverflowStrategy overflowStrategy = configMap.getTypedOr(IN_FLIGHT_OVERFLOW_STRATEGY, DEFAULT_IN_FLIGHT_OVERFLOW_STRATEGY);
+            return Optional.of(new InFlightRequestsLimiter(maxInFlightRequests, queueSize, overflowStrategy));
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    static int initStaticStatementsPreparationConcurrency(final ConfigMap configMap) {
+        LOGGER.trace("Extract or init static statements preparation concurrency");
+        final int concurrency = configMap.getTypedOr(STATIC_STATEMENTS_PREPARATION_CONCURRENCY, DEFAULT_STATIC_STATEMENTS_PREPARATION_CONCURRENCY);
+        Validator.validateTrue(concurrency > 0, "The static statements preparation concurrency should be strictly positive");
+        return concurrency;
+    }
+
+    static boolean initLazyRareStaticStatements(final ConfigMap configMap) {
+        LOGGER.trace("Extract or init lazy preparation of rare static statements");
+        return configMap.getTypedOr(LAZY_RARE_STATIC_STATEMENTS, DEFAULT_LAZY_RARE_STATIC_STATEMENTS);
+    }
+
+    static Map<Class<?>, EntityCache> initEntityCaches(final ConfigMap configMap) {
+        LOGGER.trace("Extract or init entity caches");
+        final Map<Class<?>, EntityCacheOptions> entityCachesOptions = configMap.getTypedOr(ENTITY_CACHES, new HashMap<>());
+        final Map<Class<?>, EntityCache> entityCaches = new HashMap<>();
+        entityCachesOptions.forEach((entityClass, options) -> entityCaches.put(entityClass, new EntityCache(entityClass, options)));
+        return entityCaches;
+    }
+
+    static Optional<ExecutorService> initMappingExecutorService(ConfigMap configMap) {
+        LOGGER.trace("Extract or init mapping executor service (thread pool)");
+        final ExecutorService providedMappingExecutor = configMap.getTyped(MAPPING_EXECUTOR_SERVICE);
+        if (providedMappingExecutor != null) {
+            return Optional.of(providedMappingExecutor);
+        }
+        final Integer threadCount = configMap.getTyped(MAPPING_EXECUTOR_SERVICE_THREAD_COUNT);
+        if (threadCount == null) {
+            return Optional.empty();
+        }
+        Validator.validateTrue(threadCount > 0, "The mapping executor service thread count should be strictly positive");
+        return Optional.of(new ThreadPoolExecutor(threadCount, threadCount, DEFAULT_THREAD_POOL_THREAD_TTL, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new DefaultExecutorThreadFactory("achilles-mapping-executor-")));
+    }
+
+    static boolean initProvidedMappingExecutorService(ConfigMap configMap) {
+        LOGGER.trace("Is mapping executor service provided or built internally ? ");
+        return Optional.ofNullable(configMap.<ExecutorService>getTyped(MAPPING_EXECUTOR_SERVICE)).isPresent();
+    }
+
+    static StatementMetricsListener initStatementMetricsListener(ConfigMap configMap) {
+        LOGGER.trace("Extract statement metrics listener");
+        return configMap.getTypedOr(STATEMENT_METRICS_LISTENER, StatementMetricsListener.NO_OP);
+    }
 }
@@ -126,6 +126,12 @@ package info.archinnov.achilles.configuration;
  If no validator is provided, <strong>Achilles</strong> will get the default validator provided by the default Validation provider.
  * If Bean Validation is enabled at runtime but no default Validation provider can be found, an exception will be raised and the bootstrap is aborted</p>
  * </li>
+ * <li><strong>BEAN_VALIDATION_GROUPS</strong> (OPTIONAL): list of validation groups to validate. Default = the <em>javax.validation.groups.Default</em> group.
+ * Entities having no constraint in these groups are not intercepted at all
+ * </li>
+ * <li><strong>POST_LOAD_BEAN_VALIDATION_SAMPLING_RATE</strong> (OPTIONAL): validate only 1 loaded entity out of N for each entity type
+ * on POST_LOAD event. Default = 1, every loaded entity is validated
+ * </li>
  * </ul>
  * <br/>
  * <br/>
@@ -137,6 +143,23 @@ package info.archinnov.achilles.configuration;
  The default size is <code>10000</code> entries. Once the limit is reached, oldest prepared statements are evicted, causing <strong>Achilles</strong> to re-prepare them and get warnings from the Java Driver.</p>
  You can get details on the LRU cache state by putting the logger <code>info.archinnov.achilles.internal.statement.cache.CacheManager</code> on <strong>DEBUG</strong></p>
  * </li>
+ * <li><strong>PREPARED_STATEMENTS_CACHE_MAX_WEIGHT</strong> (OPTIONAL): bound the LRU cache by the total length of the cached query strings
+ * instead of the number of entries. When defined, PREPARED_STATEMENTS_CACHE_SIZE only applies to internal bookkeeping caches
+ * </li>
+ * <li><strong>PREPARED_STATEMENTS_CACHE_LISTENER</strong> (OPTIONAL): an instance of {@link info.archinnov.achilles.internals.cache.StatementsCacheListener}
+ * notified of each prepare, eviction and re-prepare storm of the LRU cache, for example to feed a metrics registry.
+ * Cumulative hit/miss/eviction/load time counters are also available with <code>ManagerFactory.getStatementsCacheStats()</code>
+ * </li>
+ * <li><strong>PREPARED_STATEMENTS_RE_PREPARE_THRESHOLD</strong> (OPTIONAL): max number of evicted statements re-prepared per minute
+ * before <strong>Achilles</strong> logs a warning and notifies the listener. <strong>Default = 100</strong>
+ * </li>
+ * <li><strong>STATIC_STATEMENTS_PREPARATION_CONCURRENCY</strong> (OPTIONAL): max number of static statements (insert, delete, select by id)
+ * prepared concurrently at bootstrap. <strong>Default = 32</strong>
+ * </li>
+ * <li><strong>LAZY_RARE_STATIC_STATEMENTS</strong> (OPTIONAL): defer the preparation of rarely used static statements
+ * (INSERT JSON, INSERT/DELETE with IF [NOT] EXISTS, INSERT of static columns) to their first use to speed up the bootstrap.
+ * <strong>Default = false</strong>
+ * </li>
  * <li>
  * <strong>STATEMENTS_CACHE</strong> (OPTIONAL): provide an instance of the class {@link info.archinnov.achilles.internals.cache.StatementsCache}
  * to store all prepared statements. This option is useful for unit testing to avoid re-preparing many times the same prepared statements
@@ -250,6 +273,56 @@ package info.archinnov.achilles.configuration;
  * </code></pre>
  * For more details, please check <strong><a href="https://github.com/doanduyhai/Achilles/wiki/Asynchronous-Operations">Asynchronous Operations</a></strong></p>
  * </li>
+ * <li>
+ * <strong>MAPPING_EXECUTOR_SERVICE</strong> (OPTIONAL): define a dedicated executor service on which <strong>Achilles</strong> decodes
+ * the rows of SELECT results into entities and triggers the <code>POST_LOAD</code> interceptors. The returned futures are then completed
+ * back on the default executor service so that user callbacks never run on the mapping threads.
+ * On JDK 21+, <code>Executors.newVirtualThreadPerTaskExecutor()</code> can be provided.
+ * By default the mapping is done on the default executor service
+ * </li>
+ * <li>
+ * <strong>MAPPING_EXECUTOR_SERVICE_THREAD_COUNT</strong> (OPTIONAL): when <strong>MAPPING_EXECUTOR_SERVICE</strong> is not provided,
+ * build a dedicated fixed-size mapping executor service with this thread count
+ * </li>
+ * </ul>
+ * <br/>
+ * <br/>
+ * <h4>In-flight Requests Limit</h4>
+ * <ul>
+ * <li>
+ * <strong>MAX_IN_FLIGHT_REQUESTS</strong> (OPTIONAL): max number of requests sent concurrently to Cassandra by <strong>Achilles</strong>.
+ * By default there is no limit
+ * </li>
+ * <li>
+ * <strong>IN_FLIGHT_REQUESTS_QUEUE_SIZE</strong> (OPTIONAL): max number of requests waiting for an in-flight slot
+ * when the strategy is {@link info.archinnov.achilles.type.strategy.InFlightOverflowStrategy#QUEUE}. <strong>Default = 10000</strong>
+ * </li>
+ * <li>
+ * <strong>IN_FLIGHT_OVERFLOW_STRATEGY</strong> (OPTIONAL): choose between <strong><code>InFlightOverflowStrategy.QUEUE</code></strong>
+ * and <strong><code>InFlightOverflowStrategy.REJECT</code></strong>. <strong>Default = InFlightOverflowStrategy.QUEUE</strong>
+ * </li>
+ * </ul>
+ * <br/>
+ * <br/>
+ * <h4>Entity Cache</h4>
+ * <ul>
+ * <li>
+ * <strong>ENTITY_CACHES</strong> (OPTIONAL): a <code>Map&lt;Class&lt;?&gt;, {@link info.archinnov.achilles.internals.cache.EntityCacheOptions}&gt;</code>
+ * enabling a client-side read-through cache of <code>findById</code> for the given entity classes. Entries are evicted by size and
+ * time-to-live and invalidated by the <code>insert</code>, <code>update</code> and <code>delete</code> operations issued through the manager.
+ * Mutations issued by other clients are only visible once the entries expire. By default no entity is cached
+ * </li>
+ * </ul>
+ * <br/>
+ * <br/>
+ * <h4>Statement Metrics</h4>
+ * <ul>
+ * <li>
+ * <strong>STATEMENT_METRICS_LISTENER</strong> (OPTIONAL): a {@link info.archinnov.achilles.internals.metrics.StatementMetricsListener}
+ * notified of the latency and outcome of every executed statement, keyed by entity class, operation type and query string.
+ * Use {@link info.archinnov.achilles.internals.metrics.StatementMetricsRecorder} for in-memory latency histograms.
+ * By default no metrics are recorded
+ * </li>
  * </ul>
  */
 public enum ConfigurationParameters {
@@ -277,8 +350,15 @@ public enum ConfigurationParameters {
     BEAN_VALIDATION_ENABLE("achilles.bean.validation.enable"),
     POST_LOAD_BEAN_VALIDATION_ENABLE("achilles.post.load.bean.validation.enable"),
     BEAN_VALIDATION_VALIDATOR("achilles.bean.validation.validator"),
+    BEAN_VALIDATION_GROUPS("achilles.bean.validation.groups"),
+    POST_LOAD_BEAN_VALIDATION_SAMPLING_RATE("achilles.post.load.bean.validation.sampling.rate"),
 
     PREPARED_STATEMENTS_CACHE_SIZE("achilles.prepared.statements.cache.size"),
+    PREPARED_STATEMENTS_CACHE_MAX_WEIGHT("achilles.prepared.statements.cache.max.weight"),
+    PREPARED_STATEMENTS_CACHE_LISTENER("achilles.prepared.statements.cache.listener"),
+    PREPARED_STATEMENTS_RE_PREPARE_THRESHOLD("achilles.prepared.statements.re.prepare.threshold"),
+    STATIC_STATEMENTS_PREPARATION_CONCURRENCY("achilles.static.statements.preparation.concurrency"),
+    LAZY_RARE_STATIC_STATEMENTS("achilles.static.statements.lazy.rare"),
 
     DEFAULT_BEAN_FACTORY("achilles.bean.factory"),
 
@@ -297,7 +377,18 @@ public enum ConfigurationParameters {
     DEFAULT_EXECUTOR_SERVICE_QUEUE_SIZE("achilles.executor.service.default.queue.size"),
     DEFAULT_EXECUTOR_SERVICE_THREAD_FACTORY("achilles.executor.service.thread.factory"),
 
-    DML_RESULTS_DISPLAY_SIZE("achilles.dml.results_display.size");
+    DML_RESULTS_DISPLAY_SIZE("achilles.dml.results_display.size"),
+
+    MAX_IN_FLIGHT_REQUESTS("achilles.runtime.max.in.flight.requests"),
+    IN_FLIGHT_REQUESTS_QUEUE_SIZE("achilles.runtime.in.flight.requests.queue.size"),
+    IN_FLIGHT_OVERFLOW_STRATEGY("achilles.runtime.in.flight.overflow.strategy"),
+
+    ENTITY_CACHES("achilles.runtime.entity.caches"),
+
+    MAPPING_EXECUTOR_SERVICE("achilles.mapping.executor.service"),
+    MAPPING_EXECUTOR_SERVICE_THREAD_COUNT("achilles.mapping.executor.service.thread.count"),
+
+    STATEMENT_METRICS_LISTENER("achilles.statement.metrics.listener");
 
 
     private String label;
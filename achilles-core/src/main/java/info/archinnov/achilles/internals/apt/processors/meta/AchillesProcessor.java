@@ -21,6 +21,7 @@ import static info.archinnov.achilles.internals.cassandra_version.CassandraFeatu
 import static info.archinnov.achilles.internals.cassandra_version.CassandraFeature.UDF_UDA;
 import static info.archinnov.achilles.internals.codegen.function.InternalSystemFunctionRegistry.SYSTEM_FUNCTIONS;
 import static info.archinnov.achilles.internals.parser.TypeUtils.*;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 
@@ -28,6 +29,8 @@ import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -36,8 +39,10 @@ import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.Processor;
 import javax.annotation.processing.RoundEnvironment;
 import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
 import javax.lang.model.element.TypeElement;
 import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
 import javax.tools.StandardLocation;
 
 import org.apache.commons.io.FileUtils;
@@ -89,6 +94,8 @@ public class AchillesProcessor extends AbstractProcessor {
 
             try {
 
+                final long startNanos = System.nanoTime();
+
                 final GlobalParsingContext globalContext = initGlobalParsingContext(annotations, roundEnv);
 
                 validateCassandraVersionAgainstUsedAnnotations(annotations, globalContext);
@@ -99,68 +106,86 @@ public class AchillesProcessor extends AbstractProcessor {
 
                 final FunctionsContext udfContext = parseAndValidateFunctionRegistry(globalContext, annotations, roundEnv, tableAndViewSignatures);
 
+                final long parsingDoneNanos = System.nanoTime();
+
                 final TypeSpec managerFactoryBuilder = ManagerFactoryBuilderCodeGen.buildInstance(globalContext);
 
                 final ManagersAndDSLClasses managersAndDSLClasses = ManagerFactoryCodeGen.buildInstance(aptUtils, tableAndViewSignatures, udfContext, globalContext);
 
-                aptUtils.printNote("[Achilles] Reading previously generated source files (if exist)");
-                try {
-                    final FileObject resource = aptUtils.filer.getResource(StandardLocation.SOURCE_OUTPUT, GENERATED_PACKAGE, globalContext.managerFactoryBuilderClassName());
-                    final File generatedSourceFolder = new File(resource.toUri().getRawPath().replaceAll("(.+/info/archinnov/achilles/generated/).+", "$1"));
-                    aptUtils.printNote("[Achilles] Cleaning previously generated source files folder : '%s'", generatedSourceFolder.getPath());
-                    FileUtils.deleteDirectory(generatedSourceFolder);
-                } catch (IOException ioe) {
-                    aptUtils.printNote("[Achilles] No previously generated source files found, proceed to code generation");
-                }
+                final List<JavaFile> javaFiles = new ArrayList<>();
 
                 aptUtils.printNote("[Achilles] Generating CQL compatible types (used by the application) as class for function calls");
                 for (TypeSpec typeSpec : globalContext.functionParameterTypesCodeGen().buildParameterTypesClasses(udfContext)) {
-                    JavaFile.builder(FUNCTION_PACKAGE, typeSpec)
-                            .build().writeTo(aptUtils.filer);
+                    javaFiles.add(JavaFile.builder(FUNCTION_PACKAGE, typeSpec).build());
                 }
 
                 aptUtils.printNote("[Achilles] Generating SystemFunctions");
-                JavaFile.builder(FUNCTION_PACKAGE, globalContext.functionsRegistryCodeGen().generateFunctionsRegistryClass(SYSTEM_FUNCTIONS_CLASS,
-                        SYSTEM_FUNCTIONS)).build().writeTo(aptUtils.filer);
+                javaFiles.add(JavaFile.builder(FUNCTION_PACKAGE, globalContext.functionsRegistryCodeGen().generateFunctionsRegistryClass(SYSTEM_FUNCTIONS_CLASS,
+                        SYSTEM_FUNCTIONS)).build());
 
                 if (globalContext.supportsFeature(UDF_UDA)) {
                     aptUtils.printNote("[Achilles] Generating FunctionsRegistry");
-                    JavaFile.builder(FUNCTION_PACKAGE, globalContext.functionsRegistryCodeGen().generateFunctionsRegistryClass(FUNCTIONS_REGISTRY_CLASS,
-                            udfContext.functionSignatures)).build().writeTo(aptUtils.filer);
+                    javaFiles.add(JavaFile.builder(FUNCTION_PACKAGE, globalContext.functionsRegistryCodeGen().generateFunctionsRegistryClass(FUNCTIONS_REGISTRY_CLASS,
+                            udfContext.functionSignatures)).build());
                 }
 
-
                 aptUtils.printNote("[Achilles] Generating ManagerFactoryBuilder");
-                JavaFile.builder(GENERATED_PACKAGE, managerFactoryBuilder)
-                        .build().writeTo(aptUtils.filer);
+                javaFiles.add(JavaFile.builder(GENERATED_PACKAGE, managerFactoryBuilder).build());
 
                 aptUtils.printNote("[Achilles] Generating Manager factory class");
-                JavaFile.builder(GENERATED_PACKAGE, managersAndDSLClasses.managerFactoryClass)
-                        .build().writeTo(aptUtils.filer);
+                javaFiles.add(JavaFile.builder(GENERATED_PACKAGE, managersAndDSLClasses.managerFactoryClass).build());
 
                 aptUtils.printNote("[Achilles] Generating UDT meta classes");
                 for (TypeSpec typeSpec : globalContext.udtTypes.values()) {
-                    JavaFile.builder(UDT_META_PACKAGE, typeSpec)
-                            .build().writeTo(aptUtils.filer);
+                    javaFiles.add(JavaFile.builder(UDT_META_PACKAGE, typeSpec).build());
                 }
 
                 aptUtils.printNote("[Achilles] Generating entity meta classes");
                 for (EntityMetaSignature signature : tableAndViewSignatures) {
-                    JavaFile.builder(ENTITY_META_PACKAGE, signature.sourceCode)
-                            .build().writeTo(aptUtils.filer);
+                    javaFiles.add(JavaFile.builder(ENTITY_META_PACKAGE, signature.sourceCode).build());
                 }
 
                 aptUtils.printNote("[Achilles] Generating manager classes");
                 for (TypeSpec manager : managersAndDSLClasses.managerClasses) {
-                    JavaFile.builder(MANAGER_PACKAGE, manager)
-                            .build().writeTo(aptUtils.filer);
+                    javaFiles.add(JavaFile.builder(MANAGER_PACKAGE, manager).build());
                 }
 
                 aptUtils.printNote("[Achilles] Generating DSL classes");
                 for (TypeSpec dsl : managersAndDSLClasses.dslClasses) {
-                    JavaFile.builder(DSL_PACKAGE, dsl)
-                            .build().writeTo(aptUtils.filer);
+                    javaFiles.add(JavaFile.builder(DSL_PACKAGE, dsl).build());
+                }
+
+                final long codeGenerationDoneNanos = System.nanoTime();
+
+                /*
+                 * Formatting the source code is pure JavaPoet work so it is done in parallel.
+                 * The parsing and the code generation above stay sequential because the
+                 * javax.lang.model utilities of the compiler are not thread-safe
+                 */
+                final List<String> sources = javaFiles
+                        .parallelStream()
+                        .map(JavaFile::toString)
+                        .collect(toList());
+
+                final long renderingDoneNanos = System.nanoTime();
+
+                if (isGradleIncrementalBuild()) {
+                    aptUtils.printNote("[Achilles] Gradle incremental build, previously generated source files are cleaned by Gradle");
+                } else {
+                    cleanPreviouslyGeneratedSources(globalContext);
                 }
+
+                writeSourceFiles(javaFiles, sources, getOriginatingElements(annotations, roundEnv));
+
+                final long writingDoneNanos = System.nanoTime();
+
+                aptUtils.printNote("[Achilles] Generated %s source files for %s entities in %s ms " +
+                                "(parsing: %s ms, code generation: %s ms, rendering: %s ms, writing: %s ms)",
+                        javaFiles.size(), tableAndViewSignatures.size(), NANOSECONDS.toMillis(writingDoneNanos - startNanos),
+                        NANOSECONDS.toMillis(parsingDoneNanos - startNanos),
+                        NANOSECONDS.toMillis(codeGenerationDoneNanos - parsingDoneNanos),
+                        NANOSECONDS.toMillis(renderingDoneNanos - codeGenerationDoneNanos),
+                        NANOSECONDS.toMillis(writingDoneNanos - renderingDoneNanos));
             }catch (AchillesException e) {
                 e.printStackTrace();
                 aptUtils.printError("Error while parsing: %s", e.getMessage(), e);
@@ -188,6 +213,56 @@ public class AchillesProcessor extends AbstractProcessor {
         return true;
     }
 
+    /**
+     * Gradle wraps the Filer of incremental annotation processors to track the generated files.
+     * It removes the stale generated files by itself and does not allow reading them back
+     * through the Filer nor deleting them behind its back
+     */
+    protected boolean isGradleIncrementalBuild() {
+        return aptUtils.filer.getClass().getName().startsWith("org.gradle.");
+    }
+
+    /**
+     * Maven does not remove the source files generated for deleted entities, clean the whole generated folder
+     */
+    private void cleanPreviouslyGeneratedSources(GlobalParsingContext globalContext) {
+        aptUtils.printNote("[Achilles] Reading previously generated source files (if exist)");
+        try {
+            final FileObject resource = aptUtils.filer.getResource(StandardLocation.SOURCE_OUTPUT, GENERATED_PACKAGE, globalContext.managerFactoryBuilderClassName());
+            final File generatedSourceFolder = new File(resource.toUri().getRawPath().replaceAll("(.+/info/archinnov/achilles/generated/).+", "$1"));
+            aptUtils.printNote("[Achilles] Cleaning previously generated source files folder : '%s'", generatedSourceFolder.getPath());
+            FileUtils.deleteDirectory(generatedSourceFolder);
+        } catch (IOException ioe) {
+            aptUtils.printNote("[Achilles] No previously generated source files found, proceed to code generation");
+        }
+    }
+
+    private void writeSourceFiles(List<JavaFile> javaFiles, List<String> sources, Element[] originatingElements) throws IOException {
+        for (int i = 0; i < javaFiles.size(); i++) {
+            final JavaFile javaFile = javaFiles.get(i);
+            final String className = javaFile.packageName.isEmpty()
+                    ? javaFile.typeSpec.name
+                    : javaFile.packageName + "." + javaFile.typeSpec.name;
+            final JavaFileObject sourceFile = aptUtils.filer.createSourceFile(className, originatingElements);
+            try (Writer writer = sourceFile.openWriter()) {
+                writer.write(sources.get(i));
+            }
+        }
+    }
+
+    /**
+     * All the generated classes aggregate the annotated types (the manager factory references every entity)
+     * so they all share the same originating elements. This is what Gradle expects from an
+     * <em>aggregating</em> annotation processor
+     */
+    private Element[] getOriginatingElements(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        return annotations
+                .stream()
+                .flatMap(annotation -> roundEnv.getElementsAnnotatedWith(annotation).stream())
+                .distinct()
+                .toArray(Element[]::new);
+    }
+
     private void validateCassandraVersionAgainstUsedAnnotations(Set<? extends TypeElement> annotations, GlobalParsingContext parsingContext) {
         final InternalCassandraVersion version = parsingContext.cassandraVersion;
         aptUtils.validateFalse(containsElementsAnnotatedBy(annotations, FunctionRegistry.class)
@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.cache;
+
+import static com.google.common.cache.CacheBuilder.newBuilder;
+import static java.lang.String.format;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.ExecutionInfo;
+import com.datastax.driver.core.Row;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheStats;
+
+import info.archinnov.achilles.type.tuples.Tuple2;
+
+/**
+ * Read-through cache of the rows returned by <strong>findById</strong> for a given entity,
+ * keyed by the encoded primary key values.
+ * <br/>
+ * Raw rows are cached rather than entity instances so that each lookup maps a fresh,
+ * independently mutable entity. Entries are invalidated by the mutations issued through
+ * the manager of the entity
+ */
+public class EntityCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EntityCache.class);
+
+    private final Class<?> entityClass;
+    private final Cache<List<Object>, Tuple2<Row, ExecutionInfo>> cache;
+    private final LongAdder invalidationCount = new LongAdder();
+    private final AtomicLong generation = new AtomicLong(0);
+
+    public EntityCache(Class<?> entityClass, EntityCacheOptions options) {
+        this.entityClass = entityClass;
+        this.cache = newBuilder()
+                .recordStats()
+                .maximumSize(options.getMaximumSize())
+                .expireAfterWrite(options.getTimeToLiveInMillis(), TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    public Optional<Tuple2<Row, ExecutionInfo>> get(Object[] encodedPrimaryKeyValues) {
+        return Optional.ofNullable(cache.getIfPresent(Arrays.asList(encodedPrimaryKeyValues)));
+    }
+
+    /**
+     * @return current generation of the cache, bumped by each invalidation
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Cache the row only if no invalidation happened since <strong>generation</strong>
+     * was read, so that a read racing with a mutation cannot store a stale row
+     */
+    public void put(Object[] encodedPrimaryKeyValues, Row row, ExecutionInfo executionInfo, long generation) {
+        if (this.generation.get() == generation) {
+            cache.put(Arrays.asList(encodedPrimaryKeyValues), Tuple2.of(row, executionInfo));
+        }
+    }
+
+    public void invalidate(Object[] encodedPrimaryKeyValues) {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Invalidate cached %s for primary key %s",
+                    entityClass.getCanonicalName(), Arrays.toString(encodedPrimaryKeyValues)));
+        }
+        invalidationCount.increment();
+        generation.incrementAndGet();
+        cache.invalidate(Arrays.asList(encodedPrimaryKeyValues));
+    }
+
+    public void invalidateAll() {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Invalidate all cached %s", entityClass.getCanonicalName()));
+        }
+        invalidationCount.increment();
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    public EntityCacheStats getStats() {
+        final CacheStats cacheStats = cache.stats();
+        return new EntityCacheStats(cache.size(), cacheStats.hitCount(), cacheStats.missCount(),
+                cacheStats.evictionCount(), invalidationCount.sum());
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.cache;
+
+import static java.lang.String.format;
+
+import java.util.concurrent.TimeUnit;
+
+import info.archinnov.achilles.validation.Validator;
+
+/**
+ * Size and time-to-live bounds of the read-through cache of an entity
+ */
+public class EntityCacheOptions {
+
+    private final long maximumSize;
+    private final long timeToLiveInMillis;
+
+    public EntityCacheOptions(long maximumSize, long timeToLive, TimeUnit timeUnit) {
+        Validator.validateTrue(maximumSize > 0, "The entity cache maximum size should be strictly positive");
+        Validator.validateTrue(timeToLive > 0, "The entity cache time-to-live should be strictly positive");
+        Validator.validateNotNull(timeUnit, "The entity cache time-to-live unit should not be null");
+        this.maximumSize = maximumSize;
+        this.timeToLiveInMillis = timeUnit.toMillis(timeToLive);
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public long getTimeToLiveInMillis() {
+        return timeToLiveInMillis;
+    }
+
+    @Override
+    public String toString() {
+        return format("EntityCacheOptions{maximumSize=%s, timeToLiveInMillis=%s}", maximumSize, timeToLiveInMillis);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.cache;
+
+import static java.lang.String.format;
+
+/**
+ * Immutable snapshot of the statistics of an entity read-through cache.
+ * <br/>
+ * Counters are cumulative since the creation of the cache
+ */
+public class EntityCacheStats {
+
+    private final long size;
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long invalidationCount;
+
+    public EntityCacheStats(long size, long hitCount, long missCount, long evictionCount, long invalidationCount) {
+        this.size = size;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.invalidationCount = invalidationCount;
+    }
+
+    /**
+     * @return current number of cached rows
+     */
+    public long getSize() {
+        return size;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return number of entries removed because of the size or time-to-live bounds
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * @return number of invalidations triggered by mutations issued through the manager
+     */
+    public long getInvalidationCount() {
+        return invalidationCount;
+    }
+
+    public double getHitRate() {
+        final long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    @Override
+    public String toString() {
+        return format("EntityCacheStats{size=%s, hitCount=%s, missCount=%s, evictionCount=%s, invalidationCount=%s, hitRate=%s}",
+                size, hitCount, missCount, evictionCount, invalidationCount, getHitRate());
+    }
+}
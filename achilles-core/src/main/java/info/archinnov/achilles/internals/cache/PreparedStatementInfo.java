@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.cache;
+
+import static java.lang.String.format;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
+import info.archinnov.achilles.internals.dsl.LWTHelper;
+import info.archinnov.achilles.internals.statements.OperationType;
+
+/**
+ * Classification of a {@link com.datastax.driver.core.PreparedStatement} query string,
+ * computed once and kept in the {@link info.archinnov.achilles.internals.cache.StatementsCache}
+ */
+public class PreparedStatementInfo {
+
+    static final int MAX_TABLE_PATTERNS = 1000;
+    private static final String OPTIONAL_KEYSPACE_PREFIX = "[a-zA-Z0-9_]*\\.?";
+    private static final LoadingCache<String, Pattern> TABLE_PATTERNS = CacheBuilder.newBuilder()
+            .maximumSize(MAX_TABLE_PATTERNS)
+            .build(CacheLoader.from(tableName -> Pattern.compile(".* from " + OPTIONAL_KEYSPACE_PREFIX + tableName + "(?: )?.*")));
+
+    public final String queryString;
+    public final String lowerCaseQueryString;
+    public final boolean lwtOperation;
+    public final boolean lwtInsert;
+
+    private final Map<String, Boolean> targetedTables = new ConcurrentHashMap<>();
+    private volatile OperationType operationType;
+
+    public PreparedStatementInfo(PreparedStatement preparedStatement) {
+        this.queryString = preparedStatement.getQueryString();
+        this.lowerCaseQueryString = queryString.toLowerCase();
+        this.lwtOperation = LWTHelper.isLWTOperation(queryString);
+        this.lwtInsert = LWTHelper.isLWTInsert(queryString);
+    }
+
+    /**
+     * Return the operation type of the statement, computed with the given classifier on first call
+     */
+    public OperationType getOperationType(Supplier<OperationType> classifier) {
+        OperationType type = operationType;
+        if (type == null) {
+            type = classifier.get();
+            operationType = type;
+        }
+        return type;
+    }
+
+    /**
+     * @param lowerCaseTableName table name, in lower case
+     * @return whether the query selects from the given table, with an optional keyspace prefix
+     */
+    public boolean isTargetingTable(String lowerCaseTableName) {
+        return targetedTables.computeIfAbsent(lowerCaseTableName, tableName -> TABLE_PATTERNS
+                .getUnchecked(tableName)
+                .matcher(lowerCaseQueryString)
+                .matches());
+    }
+
+    @Override
+    public String toString() {
+        return format("PreparedStatementInfo{queryString=%s, operationType=%s, lwtOperation=%s, lwtInsert=%s}",
+                queryString, operationType, lwtOperation, lwtInsert);
+    }
+}
@@ -19,9 +19,16 @@ package info.archinnov.achilles.internals.cache;
 import static com.google.common.cache.CacheBuilder.newBuilder;
 import static java.lang.String.format;
 
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,22 +36,60 @@ import org.slf4j.LoggerFactory;
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.Session;
 import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheStats;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 
 import info.archinnov.achilles.exception.AchillesException;
 
 public class StatementsCache {
     private static final Logger LOGGER = LoggerFactory.getLogger(StatementsCache.class);
+    private static final long RE_PREPARE_WINDOW_IN_NANOS = TimeUnit.MINUTES.toNanos(1);
 
     private final Cache<String, PreparedStatement> dynamicCache;
     private final Cache<CacheKey, PreparedStatement> staticCache;
+    private final Cache<PreparedStatement, PreparedStatementInfo> statementsInfo;
+    private final Cache<String, Boolean> evictedQueries;
+    private final Cache<Object, String> queryTemplates;
+    private final Map<CacheKey, Callable<PreparedStatement>> lazyStaticStatements = new ConcurrentHashMap<>();
     private final int maxLRUCacheSize;
+    private final Optional<Long> maxWeight;
+    private final StatementsCacheListener listener;
+    private final long rePrepareThresholdPerMinute;
+    private final LongAdder rePrepareCount = new LongAdder();
+    private final AtomicLong rePrepareWindowStart = new AtomicLong(System.nanoTime());
+    private final AtomicLong rePreparesInWindow = new AtomicLong(0);
 
 
     public StatementsCache(int maxLRUCacheSize) {
+        this(maxLRUCacheSize, Optional.empty(), StatementsCacheListener.NO_OP, Long.MAX_VALUE);
+    }
+
+    /**
+     * @param maxLRUCacheSize             max number of dynamic prepared statements, ignored if maxWeight is defined
+     * @param maxWeight                   max total length of the cached dynamic query strings
+     * @param listener                    listener notified of prepares, evictions and re-prepare storms
+     * @param rePrepareThresholdPerMinute number of re-prepares per minute above which a warning is raised
+     */
+    public StatementsCache(int maxLRUCacheSize, Optional<Long> maxWeight, StatementsCacheListener listener, long rePrepareThresholdPerMinute) {
         this.maxLRUCacheSize = maxLRUCacheSize;
-        this.dynamicCache = newBuilder().maximumSize(maxLRUCacheSize).build();
+        this.maxWeight = maxWeight;
+        this.listener = listener;
+        this.rePrepareThresholdPerMinute = rePrepareThresholdPerMinute;
+        final CacheBuilder<String, PreparedStatement> dynamicCacheBuilder = newBuilder()
+                .recordStats()
+                .removalListener(this::onDynamicCacheRemoval);
+        if (maxWeight.isPresent()) {
+            dynamicCacheBuilder.maximumWeight(maxWeight.get()).weigher((String queryString, PreparedStatement ps) -> queryString.length());
+        } else {
+            dynamicCacheBuilder.maximumSize(maxLRUCacheSize);
+        }
+        this.dynamicCache = dynamicCacheBuilder.build();
         this.staticCache = newBuilder().build();
+        this.statementsInfo = newBuilder().weakKeys().maximumSize(maxLRUCacheSize).build();
+        this.evictedQueries = newBuilder().maximumSize(maxLRUCacheSize).build();
+        this.queryTemplates = newBuilder().maximumSize(maxLRUCacheSize).build();
     }
 
     public void putStaticCache(CacheKey cacheKey, Callable<PreparedStatement> psSupplier) {
@@ -58,10 +103,35 @@ public class StatementsCache {
         }
     }
 
+    public void putStaticCache(CacheKey cacheKey, PreparedStatement preparedStatement) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Putting static cache for key %s", cacheKey));
+        }
+        staticCache.put(cacheKey, preparedStatement);
+    }
+
+    /**
+     * Register a static statement to be prepared only on its first use
+     */
+    public void putLazyStaticCache(CacheKey cacheKey, Callable<PreparedStatement> psSupplier) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Putting lazy static cache for key %s", cacheKey));
+        }
+        lazyStaticStatements.put(cacheKey, psSupplier);
+    }
+
     public PreparedStatement getStaticCache(CacheKey cacheKey) {
         final PreparedStatement preparedStatement = staticCache.getIfPresent(cacheKey);
         if (preparedStatement == null) {
-            throw new AchillesException(format("Cannot find static cached prepared statement for cache key %s", cacheKey));
+            final Callable<PreparedStatement> psSupplier = lazyStaticStatements.get(cacheKey);
+            if (psSupplier == null) {
+                throw new AchillesException(format("Cannot find static cached prepared statement for cache key %s", cacheKey));
+            }
+            try {
+                return staticCache.get(cacheKey, psSupplier);
+            } catch (ExecutionException | UncheckedExecutionException e) {
+                throw new AchillesException(e.getCause());
+            }
         }
         return preparedStatement;
     }
@@ -74,7 +144,16 @@ public class StatementsCache {
                 if (LOGGER.isDebugEnabled()) {
                     LOGGER.debug("Preparing dynamic query : " + queryString);
                 }
-                return session.prepare(queryString);
+                final long start = System.nanoTime();
+                final PreparedStatement ps = session.prepare(queryString);
+                final long prepareTimeInNanos = System.nanoTime() - start;
+                final boolean rePrepare = evictedQueries.getIfPresent(queryString) != null;
+                if (rePrepare) {
+                    evictedQueries.invalidate(queryString);
+                    recordRePrepare(queryString);
+                }
+                listener.onPrepare(queryString, prepareTimeInNanos, rePrepare);
+                return ps;
             });
 
             if (displayStats.get()) displayCacheStatistics();
@@ -84,13 +163,81 @@ public class StatementsCache {
         }
     }
 
+    /**
+     * Look up a dynamic prepared statement by a cheap shape key. The query string is
+     * rendered by <strong>queryStringSupplier</strong> only the first time the shape is seen,
+     * later calls skip the query building altogether. The shape key must capture
+     * everything the rendered query string depends on
+     */
+    public PreparedStatement getDynamicCache(final Object shapeKey, Supplier<String> queryStringSupplier, Session session) {
+        try {
+            final String queryString = queryTemplates.get(shapeKey, queryStringSupplier::get);
+            return getDynamicCache(queryString, session);
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            throw new AchillesException(e.getCause());
+        }
+    }
+
+    /**
+     * Return the classification of the given prepared statement, computed only once
+     */
+    public PreparedStatementInfo getPreparedStatementInfo(PreparedStatement preparedStatement) {
+        try {
+            return statementsInfo.get(preparedStatement, () -> new PreparedStatementInfo(preparedStatement));
+        } catch (ExecutionException e) {
+            throw new AchillesException(e);
+        }
+    }
+
+    /**
+     * Return a snapshot of the dynamic prepared statements cache statistics
+     */
+    public StatementsCacheStats getDynamicCacheStats() {
+        final CacheStats cacheStats = dynamicCache.stats();
+        return new StatementsCacheStats(dynamicCache.size(), cacheStats.hitCount(), cacheStats.missCount(),
+                cacheStats.evictionCount(), rePrepareCount.sum(), cacheStats.totalLoadTime());
+    }
+
+    private void onDynamicCacheRemoval(RemovalNotification<String, PreparedStatement> notification) {
+        if (notification.wasEvicted()) {
+            final String queryString = notification.getKey();
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(format("Evicting dynamic query : %s", queryString));
+            }
+            evictedQueries.put(queryString, Boolean.TRUE);
+            listener.onEviction(queryString);
+        }
+    }
+
+    private void recordRePrepare(String queryString) {
+        rePrepareCount.increment();
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Re-preparing previously evicted dynamic query : %s", queryString));
+        }
+
+        final long now = System.nanoTime();
+        final long windowStart = rePrepareWindowStart.get();
+        if (now - windowStart > RE_PREPARE_WINDOW_IN_NANOS && rePrepareWindowStart.compareAndSet(windowStart, now)) {
+            rePreparesInWindow.set(0);
+        }
+
+        final long rePreparesPerMinute = rePreparesInWindow.incrementAndGet();
+        // Notify only once per window, when crossing the threshold
+        if (rePreparesPerMinute == rePrepareThresholdPerMinute + 1) {
+            LOGGER.warn(format("%s dynamic queries have been re-prepared during the last minute, above the threshold of %s. " +
+                    "Consider increasing the prepared statements cache size (current size = %s)",
+                    rePreparesPerMinute, rePrepareThresholdPerMinute, dynamicCache.size()));
+            listener.onRePrepareThresholdExceeded(rePreparesPerMinute, rePrepareThresholdPerMinute);
+        }
+    }
+
     private void displayCacheStatistics() {
 
         long cacheSize = dynamicCache.size();
         CacheStats cacheStats = dynamicCache.stats();
 
         LOGGER.info("Total LRU cache size {}", cacheSize);
-        if (cacheSize > (maxLRUCacheSize * 0.8)) {
+        if (!maxWeight.isPresent() && cacheSize > (maxLRUCacheSize * 0.8)) {
             LOGGER.warn("Warning, the LRU prepared statements cache is over 80% full");
         }
 
@@ -106,6 +253,7 @@ public class StatementsCache {
             LOGGER.debug("\t\t- load exception count : {}", cacheStats.loadExceptionCount());
             LOGGER.debug("\t\t- total load time : {}", cacheStats.totalLoadTime());
             LOGGER.debug("\t\t- average load penalty : {}", cacheStats.averageLoadPenalty());
+            LOGGER.debug("\t\t- re-prepare count : {}", rePrepareCount.sum());
             LOGGER.debug("");
             LOGGER.debug("");
         }
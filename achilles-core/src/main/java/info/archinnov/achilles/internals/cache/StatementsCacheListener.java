@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.cache;
+
+/**
+ * Callback notified of the activity of the dynamic prepared statements cache
+ * of {@link info.archinnov.achilles.internals.cache.StatementsCache}.
+ * <br/>
+ * Use it to feed a metrics registry or to alert on prepared statements churn.
+ * All methods are invoked synchronously on the calling thread so implementations should be fast and non-blocking
+ */
+public interface StatementsCacheListener {
+
+    StatementsCacheListener NO_OP = new StatementsCacheListener() {
+    };
+
+    /**
+     * Called once a dynamic query has been prepared and put into the cache
+     *
+     * @param queryString        the prepared query string
+     * @param prepareTimeInNanos time spent preparing the query, in nanoseconds
+     * @param rePrepare          true if this query has been evicted from the cache before
+     */
+    default void onPrepare(String queryString, long prepareTimeInNanos, boolean rePrepare) {
+    }
+
+    /**
+     * Called when a prepared statement is evicted because the cache reached its max size or max weight
+     *
+     * @param queryString the evicted query string
+     */
+    default void onEviction(String queryString) {
+    }
+
+    /**
+     * Called once per minute at most when the number of re-prepared queries during the last minute
+     * exceeds the configured threshold
+     *
+     * @param rePreparesPerMinute number of re-prepared queries during the current minute
+     * @param threshold           the configured threshold
+     */
+    default void onRePrepareThresholdExceeded(long rePreparesPerMinute, long threshold) {
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.cache;
+
+import static java.lang.String.format;
+
+/**
+ * Immutable snapshot of the dynamic prepared statements cache statistics.
+ * <br/>
+ * Counters are cumulative since the creation of the cache so they can be exposed
+ * directly as monotonic counters/gauges in a metrics registry
+ */
+public class StatementsCacheStats {
+
+    private final long size;
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long rePrepareCount;
+    private final long totalLoadTimeInNanos;
+
+    public StatementsCacheStats(long size, long hitCount, long missCount, long evictionCount,
+                                long rePrepareCount, long totalLoadTimeInNanos) {
+        this.size = size;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.rePrepareCount = rePrepareCount;
+        this.totalLoadTimeInNanos = totalLoadTimeInNanos;
+    }
+
+    /**
+     * @return current number of prepared statements in the dynamic cache
+     */
+    public long getSize() {
+        return size;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * @return number of queries prepared again after having been evicted from the cache
+     */
+    public long getRePrepareCount() {
+        return rePrepareCount;
+    }
+
+    /**
+     * @return total time spent preparing dynamic queries, in nanoseconds
+     */
+    public long getTotalLoadTimeInNanos() {
+        return totalLoadTimeInNanos;
+    }
+
+    public double getHitRate() {
+        final long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    public double getAverageLoadTimeInNanos() {
+        return missCount == 0 ? 0.0 : (double) totalLoadTimeInNanos / missCount;
+    }
+
+    @Override
+    public String toString() {
+        return format("StatementsCacheStats{size=%s, hitCount=%s, missCount=%s, evictionCount=%s, rePrepareCount=%s, totalLoadTimeInNanos=%s}",
+                size, hitCount, missCount, evictionCount, rePrepareCount, totalLoadTimeInNanos);
+    }
+}
@@ -113,12 +113,14 @@ public class ManagerCodeGen {
         final MethodSpec.Builder builder = MethodSpec.methodBuilder("crud")
                 .addJavadoc("Provide CRUD operations: <br/>\n")
                 .addJavadoc("<ul>\n")
-                .addJavadoc("   <li>FIND BY ID</li>\n");
+                .addJavadoc("   <li>FIND BY ID</li>\n")
+                .addJavadoc("   <li>FIND BY IDS</li>\n");
 
         if (signature.isTable()) {
             builder.addJavadoc("   <li>INSERT</li>\n")
                     .addJavadoc("   <li>INSERT STATIC</li>\n")
                     .addJavadoc("   <li>INSERT IF NOT EXISTS</li>\n")
+                    .addJavadoc("   <li>INSERT ALL</li>\n")
                     .addJavadoc("   <li>DELETE BY ID</li>\n")
                     .addJavadoc("   <li>DELETE BY ID IF NOT EXISTS</li>\n")
                     .addJavadoc("   <li>DELETE BY PARTITION</li>\n");
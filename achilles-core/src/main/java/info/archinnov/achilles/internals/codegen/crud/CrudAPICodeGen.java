@@ -20,7 +20,11 @@ import static info.archinnov.achilles.internals.metamodel.columns.ColumnType.CLU
 import static info.archinnov.achilles.internals.metamodel.columns.ColumnType.PARTITION;
 import static info.archinnov.achilles.internals.parser.TypeUtils.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
 import javax.lang.model.element.Modifier;
 
 import com.squareup.javapoet.*;
@@ -28,6 +32,7 @@ import com.squareup.javapoet.*;
 import info.archinnov.achilles.internals.codegen.meta.EntityMetaCodeGen.EntityMetaSignature;
 import info.archinnov.achilles.internals.metamodel.columns.ClusteringColumnInfo;
 import info.archinnov.achilles.internals.metamodel.columns.PartitionKeyInfo;
+import info.archinnov.achilles.type.tuples.Tuple2;
 import info.archinnov.achilles.type.tuples.Tuple3;
 
 public abstract class CrudAPICodeGen {
@@ -37,6 +42,9 @@ public abstract class CrudAPICodeGen {
     public static final Comparator<Tuple3<String, TypeName, ClusteringColumnInfo>> CLUSTERING_COLUMN_SORTER =
             (o1, o2) -> o1._3().order.compareTo(o2._3().order);
 
+    private static final int MAX_TUPLE_KEY_SIZE = 10;
+    private static final List<ClassName> TUPLES = Arrays.asList(TUPLE2, TUPLE3, TUPLE4, TUPLE5, TUPLE6, TUPLE7, TUPLE8, TUPLE9, TUPLE10);
+
     protected abstract void augmentCRUDClass(EntityMetaSignature signature, TypeSpec.Builder crudClassBuilder);
 
     public TypeSpec buildCRUDClass(EntityMetaSignature signature) {
@@ -48,6 +56,11 @@ public abstract class CrudAPICodeGen {
                 .addMethod(buildWithSchemaNameProvider(signature))
                 .addMethod(buildFind(signature));
 
+        final List<Tuple2<String, TypeName>> primaryKeyColumns = getPrimaryKeyColumns(signature);
+        if (primaryKeyColumns.size() <= MAX_TUPLE_KEY_SIZE) {
+            crudClass.addMethod(buildFindByIds(signature, primaryKeyColumns));
+        }
+
         // API for table
         if (signature.isTable()) {
             crudClass.addMethod(buildDeleteInstance(signature))
@@ -55,6 +68,7 @@ public abstract class CrudAPICodeGen {
 
             if (!signature.isCounterEntity()) {
                 crudClass.addMethod(buildInsert(signature));
+                crudClass.addMethod(buildInsertAll(signature));
                 crudClass.addMethod(buildUpdate(signature));
                 if (signature.hasStatic()) {
                     crudClass.addMethod(buildInsertStatic(signature));
@@ -133,6 +147,69 @@ public abstract class CrudAPICodeGen {
         return builder.build();
     }
 
+    /*
+       public FindByIdsWithOptions<Tuple2<Long, Date>, Entity> findByIds(final Collection<Tuple2<Long, Date>> primaryKeys) {
+         validate keys not null
+         encode each primary key
+         return new FindByIdsWithOptions(entityClass, meta, rte, keys, encodedKeys, cassandraOptions);
+       }
+    */
+    private static MethodSpec buildFindByIds(EntityMetaSignature signature, List<Tuple2<String, TypeName>> primaryKeyColumns) {
+        final int keySize = primaryKeyColumns.size();
+        final TypeName keyType = keySize == 1
+                ? primaryKeyColumns.get(0)._2()
+                : ParameterizedTypeName.get(TUPLES.get(keySize - 2),
+                primaryKeyColumns.stream().map(Tuple2::_2).toArray(TypeName[]::new));
+        final ParameterizedTypeName returnType = ParameterizedTypeName.get(FIND_BY_IDS_WITH_OPTIONS, keyType, signature.entityRawClass);
+
+        final MethodSpec.Builder builder = MethodSpec.methodBuilder("findByIds")
+                .addJavadoc("Find several entities by their complete primary key, with bounded concurrency\n\n")
+                .addJavadoc("@param primaryKeys primary keys as ($L)\n", primaryKeyColumns.stream().map(Tuple2::_1).collect(Collectors.joining(", ")))
+                .addJavadoc("@return FindByIdsWithOptions<$T, $T>", keyType, signature.entityRawClass)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(genericType(COLLECTION, keyType), "primaryKeys", Modifier.FINAL)
+                .addStatement("$T.validateNotNull($N, $S)", VALIDATOR, "primaryKeys", "The primary keys should not be null")
+                .addStatement("final $T keys = new $T<>($N.size())", genericType(LIST, keyType), ARRAY_LIST, "primaryKeys")
+                .addStatement("final $T encodedKeys = new $T<>($N.size())", genericType(LIST, ArrayTypeName.of(TypeName.OBJECT)), ARRAY_LIST, "primaryKeys")
+                .beginControlFlow("for ($T primaryKey : primaryKeys)", keyType)
+                .addStatement("$T.validateNotNull(primaryKey, $S)", VALIDATOR, "The primary key should not be null");
+
+        final CodeBlock.Builder encodedKey = CodeBlock.builder().add("encodedKeys.add(new Object[]{");
+        for (int i = 0; i < keySize; i++) {
+            final String fieldName = primaryKeyColumns.get(i)._1();
+            final String value = keySize == 1 ? "primaryKey" : "primaryKey._" + (i + 1) + "()";
+            if (keySize > 1) {
+                builder.addStatement("$T.validateNotNull($L, $S, $S)", VALIDATOR, value, "Primary key column '%s' should not be null", fieldName);
+            }
+            encodedKey.add(i == 0 ? "" : ", ")
+                    .add("$L.$L.encodeFromJava($L, cassandraOptions)", signature.className + META_SUFFIX, fieldName, value);
+        }
+
+        return builder.addStatement("keys.add(primaryKey)")
+                .addStatement("$L", encodedKey.add("})").build())
+                .endControlFlow()
+                .addStatement("return new $T(entityClass, meta, rte, keys, encodedKeys, cassandraOptions)", returnType)
+                .returns(returnType)
+                .build();
+    }
+
+    private static List<Tuple2<String, TypeName>> getPrimaryKeyColumns(EntityMetaSignature signature) {
+        final List<Tuple2<String, TypeName>> primaryKeyColumns = new ArrayList<>();
+        signature.fieldMetaSignatures
+                .stream()
+                .filter(x -> x.context.columnType == PARTITION)
+                .map(x -> Tuple3.of(x.context.fieldName, x.sourceType, (PartitionKeyInfo) x.context.columnInfo))
+                .sorted(PARTITION_KEY_SORTER)
+                .forEach(tuple -> primaryKeyColumns.add(Tuple2.of(tuple._1(), tuple._2().box())));
+        signature.fieldMetaSignatures
+                .stream()
+                .filter(x -> x.context.columnType == CLUSTERING)
+                .map(x -> Tuple3.of(x.context.fieldName, x.sourceType, (ClusteringColumnInfo) x.context.columnInfo))
+                .sorted(CLUSTERING_COLUMN_SORTER)
+                .forEach(tuple -> primaryKeyColumns.add(Tuple2.of(tuple._1(), tuple._2().box())));
+        return primaryKeyColumns;
+    }
+
     private static MethodSpec buildInsert(EntityMetaSignature signature) {
         return MethodSpec.methodBuilder("insert")
                 .addJavadoc("Insert this entity\n\n")
@@ -145,6 +222,18 @@ public abstract class CrudAPICodeGen {
                 .build();
     }
 
+    private static MethodSpec buildInsertAll(EntityMetaSignature signature) {
+        return MethodSpec.methodBuilder("insertAll")
+                .addJavadoc("Insert all these entities using <strong>UNLOGGED</strong> batches grouped by partition\n\n")
+                .addJavadoc("@param instances a collection of $T\n", signature.entityRawClass)
+                .addJavadoc("@return $T<$T>", INSERT_ALL_WITH_OPTIONS, signature.entityRawClass)
+                .addModifiers(Modifier.FINAL, Modifier.PUBLIC)
+                .addParameter(genericType(COLLECTION, signature.entityRawClass), "instances", Modifier.FINAL)
+                .addStatement("return insertAllInternal(instances, cassandraOptions)")
+                .returns(genericType(INSERT_ALL_WITH_OPTIONS, signature.entityRawClass))
+                .build();
+    }
+
     private static MethodSpec buildUpdate(EntityMetaSignature signature) {
         return MethodSpec.methodBuilder("update")
                 .addJavadoc("Update the cassandra table with <strong>NOT NULL</strong> fields extracted from this entity\n\n")
@@ -23,6 +23,7 @@ import java.util.*;
 import javax.lang.model.element.Modifier;
 
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.TypeName;
@@ -184,6 +185,40 @@ public abstract class AbstractDSLCodeGen {
                 .build();
     }
 
+    public MethodSpec buildGetQueryShapeInternal() {
+        return MethodSpec
+                .methodBuilder("getQueryShapeInternal")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.FINAL, Modifier.PROTECTED)
+                .addStatement("return queryShape")
+                .returns(QUERY_SHAPE)
+                .build();
+    }
+
+    /**
+     * Generate a query building statement and record it in the query shape of the DSL chain.
+     * <br/>
+     * The statement source is the recorded token, the statement must not put any runtime value in the query string
+     */
+    public static CodeBlock buildQueryStatement(String format, Object... args) {
+        final CodeBlock statement = CodeBlock.builder().add(format, args).build();
+        return CodeBlock.builder()
+                .addStatement("queryShape.add($S)", statement.toString())
+                .addStatement("$L", statement)
+                .build();
+    }
+
+    /**
+     * Generate a query building statement putting runtime values in the query string,
+     * the query string of the DSL chain must then be rendered for each execution
+     */
+    public static CodeBlock buildDynamicQueryStatement(String format, Object... args) {
+        return CodeBlock.builder()
+                .addStatement("queryShape.markDynamic()")
+                .addStatement(format, args)
+                .build();
+    }
+
     public boolean hasCounter(EntityMetaSignature signature) {
         return signature
                 .fieldMetaSignatures
@@ -208,8 +243,8 @@ public abstract class AbstractDSLCodeGen {
         return MethodSpec.methodBuilder("allColumns_FromBaseTable")
                 .addJavadoc("Generate ... * FROM ...")
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addStatement("final $T where = $L.all().from(meta.getKeyspace().orElse($S + meta.entityClass.getCanonicalName()), meta.getTableOrViewName()).where()",
-                        whereTypeName, privateFieldName, "unknown_keyspace_for_")
+                .addCode(buildQueryStatement("final $T where = $L.all().from(meta.getKeyspace().orElse($S + meta.entityClass.getCanonicalName()), meta.getTableOrViewName()).where()",
+                        whereTypeName, privateFieldName, "unknown_keyspace_for_"))
                 .addStatement("return new $T(where, new $T())", newTypeName, OPTIONS)
                 .returns(newTypeName)
                 .build();
@@ -222,7 +257,8 @@ public abstract class AbstractDSLCodeGen {
                 .addParameter(SCHEMA_NAME_PROVIDER, "schemaNameProvider", Modifier.FINAL)
                 .addStatement("final String currentKeyspace = lookupKeyspace(schemaNameProvider, meta.entityClass)")
                 .addStatement("final String currentTable = lookupTable(schemaNameProvider, meta.entityClass)")
-                .addStatement("final $T where = $L.all().from(currentKeyspace, currentTable).where()", whereTypeName, privateFieldName)
+                .addCode(buildQueryStatement("final $T where = $L.all().from(currentKeyspace, currentTable).where()", whereTypeName, privateFieldName))
+                .addStatement("queryShape.add(currentKeyspace).add(currentTable)")
                 .addStatement("return new $T(where, $T.withSchemaNameProvider(schemaNameProvider))", newTypeName, OPTIONS)
                 .returns(newTypeName)
                 .build();
@@ -232,8 +268,8 @@ public abstract class AbstractDSLCodeGen {
         return MethodSpec.methodBuilder("fromBaseTable")
                 .addJavadoc("Generate a ... <strong>FROM xxx</strong> ... ")
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addStatement("final $T where = $L.from(meta.getKeyspace().orElse($S + meta.entityClass.getCanonicalName()), " +
-                        "meta.getTableOrViewName()).where()", whereTypeName, privateFieldName, "unknown_keyspace_for_")
+                .addCode(buildQueryStatement("final $T where = $L.from(meta.getKeyspace().orElse($S + meta.entityClass.getCanonicalName()), " +
+                        "meta.getTableOrViewName()).where()", whereTypeName, privateFieldName, "unknown_keyspace_for_"))
                 .addStatement("return new $T(where, new $T())", newTypeName, OPTIONS)
                 .returns(newTypeName)
                 .build();
@@ -246,7 +282,8 @@ public abstract class AbstractDSLCodeGen {
                 .addParameter(SCHEMA_NAME_PROVIDER, "schemaNameProvider", Modifier.FINAL)
                 .addStatement("final String currentKeyspace = lookupKeyspace(schemaNameProvider, meta.entityClass)")
                 .addStatement("final String currentTable = lookupTable(schemaNameProvider, meta.entityClass)")
-                .addStatement("final $T where = $L.from(currentKeyspace, currentTable).where()", whereTypeName, privateFieldName)
+                .addCode(buildQueryStatement("final $T where = $L.from(currentKeyspace, currentTable).where()", whereTypeName, privateFieldName))
+                .addStatement("queryShape.add(currentKeyspace).add(currentTable)")
                 .addStatement("return new $T(where, $T.withSchemaNameProvider(schemaNameProvider))", newTypeName, OPTIONS)
                 .returns(newTypeName)
                 .build();
@@ -16,6 +16,7 @@
 
 package info.archinnov.achilles.internals.codegen.dsl;
 
+import static info.archinnov.achilles.internals.codegen.dsl.AbstractDSLCodeGen.buildQueryStatement;
 import static info.archinnov.achilles.internals.codegen.dsl.AbstractDSLCodeGen.relationToSymbolForJavaDoc;
 import static info.archinnov.achilles.internals.parser.TypeUtils.*;
 import static info.archinnov.achilles.internals.utils.NamingHelper.upperCaseFirst;
@@ -43,8 +44,8 @@ public interface BaseSingleColumnRestriction {
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(fieldInfo.typeName, fieldInfo.fieldName)
-                .addStatement("where.and($T.$L($S, $T.bindMarker($S)))",
-                        QUERY_BUILDER, relation, fieldInfo.quotedCqlColumn, QUERY_BUILDER, fieldInfo.quotedCqlColumn)
+                .addCode(buildQueryStatement("where.and($T.$L($S, $T.bindMarker($S)))",
+                        QUERY_BUILDER, relation, fieldInfo.quotedCqlColumn, QUERY_BUILDER, fieldInfo.quotedCqlColumn))
                 .addStatement("boundValues.add($N)", fieldInfo.fieldName)
                 .addStatement("encodedValues.add(meta.$L.encodeFromJava($N, $T.of(cassandraOptions)))", fieldInfo.fieldName, fieldInfo.fieldName, OPTIONAL)
                 .returns(nextType);
@@ -70,8 +71,8 @@ public interface BaseSingleColumnRestriction {
                 .varargs()
                 .addStatement("$T.validateTrue($T.isNotEmpty($L), \"Varargs for field '%s' should not be null/empty\", $S)",
                         VALIDATOR, ARRAYS_UTILS, fieldInfo.fieldName, fieldInfo.fieldName)
-                .addStatement("where.and($T.in($S,$T.bindMarker($S)))",
-                        QUERY_BUILDER, fieldInfo.quotedCqlColumn, QUERY_BUILDER, fieldInfo.quotedCqlColumn);
+                .addCode(buildQueryStatement("where.and($T.in($S,$T.bindMarker($S)))",
+                        QUERY_BUILDER, fieldInfo.quotedCqlColumn, QUERY_BUILDER, fieldInfo.quotedCqlColumn));
 
         if (paramTypeName.isPrimitive()) {
             builder.addStatement("final $T varargs = $T.<Object>asList(($T[])$L)", LIST_OBJECT, ARRAYS, paramTypeName, param)
@@ -106,8 +107,8 @@ public interface BaseSingleColumnRestriction {
                 .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "static-access").build())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(TypeUtils.OBJECT_LONG, "tokenValue")
-                .addStatement("where.and($T.$L($S, $T.bindMarker($S)))",
-                        QUERY_BUILDER, relation, fcall, QUERY_BUILDER, "tokenValue")
+                .addCode(buildQueryStatement("where.and($T.$L($S, $T.bindMarker($S)))",
+                        QUERY_BUILDER, relation, fcall, QUERY_BUILDER, "tokenValue"))
                 .addStatement("boundValues.add($N)", "tokenValue")
                 .addStatement("encodedValues.add($N)", "tokenValue")
                 .returns(nextType);
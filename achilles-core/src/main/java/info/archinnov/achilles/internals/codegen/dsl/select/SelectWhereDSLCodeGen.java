@@ -75,6 +75,12 @@ public abstract class SelectWhereDSLCodeGen extends AbstractDSLCodeGen
 
         final List<TypeSpec> partitionKeysWhereClasses = buildWhereClassesInternal(signature, selectWhereDSLCodeGen, partitionKeys, clusteringCols,
                 classSignatureParams);
+        final TypeSpec selectEndClass = partitionKeysWhereClasses
+                .stream()
+                .filter(x -> x.name.equals(END_DSL_SUFFIX))
+                .findFirst()
+                .get();
+        partitionKeysWhereClasses.add(buildSelectEndWithoutWhereClass(signature, selectEndClass));
         final List<TypeSpec> partitionKeysWhereTypedMapClasses = buildWhereClassesInternal(signature, selectWhereDSLCodeGen, partitionKeys, clusteringCols,
                 typedMapClassSignatureParams);
         partitionKeysWhereClasses.addAll(partitionKeysWhereTypedMapClasses);
@@ -119,6 +125,7 @@ public abstract class SelectWhereDSLCodeGen extends AbstractDSLCodeGen
                 .addMethod(buildGetOptions())
                 .addMethod(buildGetBoundValuesInternal())
                 .addMethod(buildGetEncodedBoundValuesInternal())
+                .addMethod(buildGetQueryShapeInternal())
                 .addMethod(buildLimit(lastSignature))
                 .addMethod(buildGetThis(lastSignature.returnClassType));
 
@@ -129,6 +136,44 @@ public abstract class SelectWhereDSLCodeGen extends AbstractDSLCodeGen
         return builder.build();
     }
 
+    /**
+     * Build the end class returned by <strong>without_WHERE_Clause()</strong>. It exposes the full table scan
+     * and delegates the other end methods (limit, ordering ...) to the regular end class, so that the scan
+     * cannot be called once the statement has been further restricted
+     */
+    public TypeSpec buildSelectEndWithoutWhereClass(EntityMetaSignature signature, TypeSpec selectEndClass) {
+        final TypeName selectEndTypeName = ClassName.get(DSL_PACKAGE, signature.selectEndReturnType());
+        final TypeName selectEndWithoutWhereTypeName = ClassName.get(DSL_PACKAGE, signature.selectEndWithoutWhereReturnType());
+
+        final TypeSpec.Builder builder = TypeSpec.classBuilder(END_WITHOUT_WHERE_DSL_SUFFIX)
+                .superclass(genericType(ABSTRACT_SELECT_END_WITHOUT_WHERE, selectEndWithoutWhereTypeName, signature.entityRawClass))
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addMethod(buildWhereConstructorWithOptions(SELECT_DOT_WHERE))
+                .addMethod(buildGetEntityClass(signature))
+                .addMethod(buildGetMetaInternal(signature.entityRawClass))
+                .addMethod(buildGetRte())
+                .addMethod(buildGetOptions())
+                .addMethod(buildGetBoundValuesInternal())
+                .addMethod(buildGetEncodedBoundValuesInternal())
+                .addMethod(buildGetQueryShapeInternal())
+                .addMethod(buildGetThis(selectEndWithoutWhereTypeName));
+
+        selectEndClass.methodSpecs
+                .stream()
+                .filter(x -> selectEndTypeName.equals(x.returnType) && !x.name.equals("getThis"))
+                .map(x -> MethodSpec.methodBuilder(x.name)
+                        .addJavadoc("$L", x.javadoc)
+                        .addModifiers(x.modifiers)
+                        .addParameters(x.parameters)
+                        .returns(selectEndTypeName)
+                        .addStatement("return new $T(where, cassandraOptions).$L($L)", selectEndTypeName, x.name,
+                                x.parameters.stream().map(param -> param.name).collect(Collectors.joining(", ")))
+                        .build())
+                .forEach(builder::addMethod);
+
+        return builder.build();
+    }
+
     public void maybeBuildOrderingBy(ClassSignatureInfo lastSignature, Optional<FieldSignatureInfo> fieldSignatureInfoOptional, TypeSpec.Builder builder) {
         if (fieldSignatureInfoOptional.isPresent()) {
             final FieldSignatureInfo fieldSignatureInfo = fieldSignatureInfoOptional.get();
@@ -137,7 +182,7 @@ public abstract class SelectWhereDSLCodeGen extends AbstractDSLCodeGen
                     .addJavadoc("Generate a SELECT ... FROM ... WHERE ... <strong>ORDER BY $L ASC</strong>", fieldSignatureInfo.cqlColumn)
                     .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                     .returns(lastSignature.returnClassType)
-                    .addStatement("where.orderBy($T.asc($S))", QUERY_BUILDER, fieldSignatureInfo.cqlColumn)
+                    .addCode(buildQueryStatement("where.orderBy($T.asc($S))", QUERY_BUILDER, fieldSignatureInfo.cqlColumn))
                     .addStatement("return this")
                     .build();
 
@@ -146,7 +191,7 @@ public abstract class SelectWhereDSLCodeGen extends AbstractDSLCodeGen
                     .addJavadoc("Generate a SELECT ... FROM ... WHERE ... <strong>ORDER BY $L DESC</strong>", fieldSignatureInfo.cqlColumn)
                     .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                     .returns(lastSignature.returnClassType)
-                    .addStatement("where.orderBy($T.desc($S))", QUERY_BUILDER, fieldSignatureInfo.cqlColumn)
+                    .addCode(buildQueryStatement("where.orderBy($T.desc($S))", QUERY_BUILDER, fieldSignatureInfo.cqlColumn))
                     .addStatement("return this")
                     .build();
 
@@ -160,7 +205,7 @@ public abstract class SelectWhereDSLCodeGen extends AbstractDSLCodeGen
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(TypeName.INT.box(), "limit", Modifier.FINAL)
                 .returns(lastSignature.returnClassType)
-                .addStatement("where.limit($T.bindMarker($S))", QUERY_BUILDER, "lim")
+                .addCode(buildQueryStatement("where.limit($T.bindMarker($S))", QUERY_BUILDER, "lim"))
                 .addStatement("boundValues.add($N)", "limit")
                 .addStatement("encodedValues.add($N)", "limit")
                 .addStatement("return this")
@@ -295,6 +340,7 @@ public abstract class SelectWhereDSLCodeGen extends AbstractDSLCodeGen
                 .addMethod(buildGetOptions())
                 .addMethod(buildGetBoundValuesInternal())
                 .addMethod(buildGetEncodedBoundValuesInternal())
+                .addMethod(buildGetQueryShapeInternal())
                 .addMethod(buildLimit(classSignature));
 
 //        augmentClusteringWhereClass(builder, rootClassName, classesSignature, lastSignature);
@@ -92,7 +92,7 @@ public class SelectDSLCodeGen3_10 extends SelectDSLCodeGen2_2 {
         groupByClassBuilder.addMethod(MethodSpec.methodBuilder(groupByAllPartitionColumnsMethod)
                 .addJavadoc("SELECT ... FROM ... WHERE ... GROUP BY $L", partitionCQLColumnsForJavaDoc)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addStatement("where.groupBy($L)", partitionCQLColumns)
+                .addCode(buildQueryStatement("where.groupBy($L)", partitionCQLColumns))
                 .addStatement("return new $T(where, cassandraOptions)", selectEndTypeName)
                 .returns(selectEndTypeName)
                 .build());
@@ -126,7 +126,7 @@ public class SelectDSLCodeGen3_10 extends SelectDSLCodeGen2_2 {
             groupByClassBuilder.addMethod(MethodSpec.methodBuilder(methodName)
                     .addJavadoc("SELECT ... FROM ... WHERE ... GROUP BY $L", groupByColumnsForJavaDoc)
                     .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                    .addStatement("where.groupBy($L)", groupByColumns)
+                    .addCode(buildQueryStatement("where.groupBy($L)", groupByColumns))
                     .addStatement("return new $T(where, cassandraOptions)", selectEndTypeName)
                     .returns(selectEndTypeName)
                     .build());
@@ -93,7 +93,7 @@ public class SelectWhereDSLCodeGen3_10 extends SelectWhereDSLCodeGen3_6 {
             groupByClassBuilder.addMethod(MethodSpec.methodBuilder(methodName)
                     .addJavadoc("SELECT ... FROM ... WHERE ... GROUP BY $L", groupByColumnsForJavaDoc)
                     .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                    .addStatement("where.groupBy($L)", groupByColumns)
+                    .addCode(buildQueryStatement("where.groupBy($L)", groupByColumns))
                     .addStatement("return new $T(where, cassandraOptions)", lastSignature.returnClassType)
                     .returns(lastSignature.returnClassType)
                     .build());
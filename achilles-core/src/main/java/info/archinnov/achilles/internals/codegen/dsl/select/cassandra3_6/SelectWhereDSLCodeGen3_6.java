@@ -36,7 +36,7 @@ public class SelectWhereDSLCodeGen3_6 extends SelectWhereDSLCodeGen2_2 {
             .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
             .addParameter(TypeName.INT.box(), "perPartitionLimit", Modifier.FINAL)
             .returns(lastSignature.returnClassType)
-            .addStatement("where.perPartitionLimit($T.bindMarker($S))", QUERY_BUILDER, "perPartitionLimit")
+            .addCode(buildQueryStatement("where.perPartitionLimit($T.bindMarker($S))", QUERY_BUILDER, "perPartitionLimit"))
             .addStatement("boundValues.add($N)", "perPartitionLimit")
             .addStatement("encodedValues.add($N)", "perPartitionLimit")
             .addStatement("return this")
@@ -672,6 +672,10 @@ public class EntityMetaCodeGen implements CommonBeanMetaCodeGen {
             return selectClassName() + "." + END_DSL_SUFFIX;
         }
 
+        public String selectEndWithoutWhereReturnType() {
+            return selectClassName() + "." + END_WITHOUT_WHERE_DSL_SUFFIX;
+        }
+
         public String indexSelectEndReturnType() {
             return indexSelectClassName() + "." + END_DSL_SUFFIX;
         }
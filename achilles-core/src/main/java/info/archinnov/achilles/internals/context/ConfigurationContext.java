@@ -29,12 +29,16 @@ import com.datastax.driver.core.ConsistencyLevel;
 import com.datastax.driver.core.Session;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import info.archinnov.achilles.internals.cache.EntityCache;
 import info.archinnov.achilles.internals.cache.StatementsCache;
 import info.archinnov.achilles.internals.factory.TupleTypeFactory;
 import info.archinnov.achilles.internals.factory.UserTypeFactory;
+import info.archinnov.achilles.internals.interceptor.BeanValidationStats;
 import info.archinnov.achilles.internals.interceptor.DefaultPostLoadBeanValidationInterceptor;
 import info.archinnov.achilles.internals.interceptor.DefaultPreMutateBeanValidationInterceptor;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.metrics.StatementMetricsListener;
+import info.archinnov.achilles.internals.runtime.InFlightRequestsLimiter;
 import info.archinnov.achilles.json.JacksonMapperFactory;
 import info.archinnov.achilles.type.SchemaNameProvider;
 import info.archinnov.achilles.type.codec.Codec;
@@ -69,6 +73,8 @@ public class ConfigurationContext {
     private Validator beanValidator;
     private DefaultPreMutateBeanValidationInterceptor preMutateBeanValidationInterceptor;
     private Optional<DefaultPostLoadBeanValidationInterceptor> postLoadBeanValidationInterceptor = Optional.empty();
+    private Class<?>[] beanValidationGroups = new Class<?>[0];
+    private int postLoadBeanValidationSamplingRate = 1;
 
     private List<Interceptor<?>> interceptors;
 
@@ -95,6 +101,19 @@ public class ConfigurationContext {
 
     private Integer DMLResultsDisplaySize;
 
+    private Optional<InFlightRequestsLimiter> inFlightRequestsLimiter = Optional.empty();
+
+    private int staticStatementsPreparationConcurrency;
+
+    private boolean lazyRareStaticStatements;
+
+    private Map<Class<?>, EntityCache> entityCaches = new HashMap<>();
+
+    private Optional<ExecutorService> mappingExecutorService = Optional.empty();
+    private boolean providedMappingExecutorService;
+
+    private StatementMetricsListener statementMetricsListener = StatementMetricsListener.NO_OP;
+
     public boolean isForceSchemaGeneration() {
         return forceSchemaGeneration;
     }
@@ -157,13 +176,34 @@ public class ConfigurationContext {
 
     public void setBeanValidator(Validator beanValidator) {
         this.beanValidator = beanValidator;
-        this.preMutateBeanValidationInterceptor = new DefaultPreMutateBeanValidationInterceptor(beanValidator);
+        this.preMutateBeanValidationInterceptor = new DefaultPreMutateBeanValidationInterceptor(beanValidator, beanValidationGroups);
     }
 
     public void setPostLoadBeanValidationEnabled(boolean postLoadBeanValidationEnabled) {
         if (postLoadBeanValidationEnabled) {
-            this.postLoadBeanValidationInterceptor = Optional.of(new DefaultPostLoadBeanValidationInterceptor(this.beanValidator));
+            this.postLoadBeanValidationInterceptor = Optional.of(new DefaultPostLoadBeanValidationInterceptor(this.beanValidator,
+                    beanValidationGroups, postLoadBeanValidationSamplingRate));
+        }
+    }
+
+    public void setBeanValidationGroups(Class<?>[] beanValidationGroups) {
+        this.beanValidationGroups = beanValidationGroups;
+    }
+
+    public void setPostLoadBeanValidationSamplingRate(int postLoadBeanValidationSamplingRate) {
+        this.postLoadBeanValidationSamplingRate = postLoadBeanValidationSamplingRate;
+    }
+
+    public Optional<BeanValidationStats> getBeanValidationStats(Class<?> entityClass) {
+        if (beanValidator == null) {
+            return Optional.empty();
+        }
+        final Optional<BeanValidationStats> preMutateStats = preMutateBeanValidationInterceptor.getStats(entityClass);
+        final Optional<BeanValidationStats> postLoadStats = postLoadBeanValidationInterceptor.flatMap(x -> x.getStats(entityClass));
+        if (preMutateStats.isPresent() && postLoadStats.isPresent()) {
+            return Optional.of(preMutateStats.get().plus(postLoadStats.get()));
         }
+        return preMutateStats.isPresent() ? preMutateStats : postLoadStats;
     }
 
     public List<Interceptor<?>> getInterceptors() {
@@ -200,7 +240,7 @@ public class ConfigurationContext {
 
     public boolean isClassConstrained(Class<?> clazz) {
         if (beanValidator != null) {
-            return beanValidator.getConstraintsForClass(clazz).isBeanConstrained();
+            return preMutateBeanValidationInterceptor.acceptEntity(clazz);
         } else {
             return false;
         }
@@ -335,6 +375,8 @@ public class ConfigurationContext {
             }
         }
 
+        entityProperty.buildInterceptorsDispatchTable();
+
         LOGGER.debug("Injecting global consistency levels");
         entityProperty.injectConsistencyLevels(session, this);
 
@@ -370,4 +412,60 @@ public class ConfigurationContext {
     public void setDMLResultsDisplaySize(Integer DMLResultsDisplaySize) {
         this.DMLResultsDisplaySize = DMLResultsDisplaySize;
     }
+
+    public Optional<InFlightRequestsLimiter> getInFlightRequestsLimiter() {
+        return inFlightRequestsLimiter;
+    }
+
+    public void setInFlightRequestsLimiter(Optional<InFlightRequestsLimiter> inFlightRequestsLimiter) {
+        this.inFlightRequestsLimiter = inFlightRequestsLimiter;
+    }
+
+    public int getStaticStatementsPreparationConcurrency() {
+        return staticStatementsPreparationConcurrency;
+    }
+
+    public void setStaticStatementsPreparationConcurrency(int staticStatementsPreparationConcurrency) {
+        this.staticStatementsPreparationConcurrency = staticStatementsPreparationConcurrency;
+    }
+
+    public boolean isLazyRareStaticStatements() {
+        return lazyRareStaticStatements;
+    }
+
+    public void setLazyRareStaticStatements(boolean lazyRareStaticStatements) {
+        this.lazyRareStaticStatements = lazyRareStaticStatements;
+    }
+
+    public Map<Class<?>, EntityCache> getEntityCaches() {
+        return entityCaches;
+    }
+
+    public void setEntityCaches(Map<Class<?>, EntityCache> entityCaches) {
+        this.entityCaches = entityCaches;
+    }
+
+    public Optional<ExecutorService> getMappingExecutorService() {
+        return mappingExecutorService;
+    }
+
+    public void setMappingExecutorService(Optional<ExecutorService> mappingExecutorService) {
+        this.mappingExecutorService = mappingExecutorService;
+    }
+
+    public boolean isProvidedMappingExecutorService() {
+        return providedMappingExecutorService;
+    }
+
+    public void setProvidedMappingExecutorService(boolean providedMappingExecutorService) {
+        this.providedMappingExecutorService = providedMappingExecutorService;
+    }
+
+    public StatementMetricsListener getStatementMetricsListener() {
+        return statementMetricsListener;
+    }
+
+    public void setStatementMetricsListener(StatementMetricsListener statementMetricsListener) {
+        this.statementMetricsListener = statementMetricsListener;
+    }
 }
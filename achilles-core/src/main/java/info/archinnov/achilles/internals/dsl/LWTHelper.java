@@ -32,6 +32,7 @@ import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
 
 import info.archinnov.achilles.exception.AchillesLightWeightTransactionException;
+import info.archinnov.achilles.internals.cache.PreparedStatementInfo;
 import info.archinnov.achilles.type.TypedMap;
 import info.archinnov.achilles.type.lightweighttransaction.LWTResultListener;
 import info.archinnov.achilles.type.lightweighttransaction.LWTResultListener.LWTResult;
@@ -66,16 +67,25 @@ public class LWTHelper {
         lwtResultListeners.ifPresent(list -> list.forEach(listener -> listener.onSuccess()));
     }
 
-    private static boolean isLWTOperation(String queryString) {
+    public static boolean isLWTOperation(String queryString) {
         return queryString.contains(IF_CLAUSE);
     }
 
-    private static boolean isLWTInsert(String queryString) {
+    public static boolean isLWTInsert(String queryString) {
         return queryString.contains(IF_NOT_EXIST_CLAUSE);
     }
 
     public static ResultSet triggerLWTListeners(Optional<List<LWTResultListener>> lwtResultListeners, ResultSet resultSet, String queryString) {
-        if (isLWTOperation(queryString)) {
+        return triggerLWTListeners(lwtResultListeners, resultSet, queryString, isLWTOperation(queryString), isLWTInsert(queryString));
+    }
+
+    public static ResultSet triggerLWTListeners(Optional<List<LWTResultListener>> lwtResultListeners, ResultSet resultSet, PreparedStatementInfo statementInfo) {
+        return triggerLWTListeners(lwtResultListeners, resultSet, statementInfo.queryString, statementInfo.lwtOperation, statementInfo.lwtInsert);
+    }
+
+    private static ResultSet triggerLWTListeners(Optional<List<LWTResultListener>> lwtResultListeners, ResultSet resultSet,
+                                                 String queryString, boolean isLWTOperation, boolean isLWTInsert) {
+        if (isLWTOperation) {
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug(format("Trigger LWT listeners for query : %s", queryString));
             }
@@ -90,7 +100,7 @@ public class LWTHelper {
                 }
 
                 LWTOperation lwtOperation = UPDATE;
-                if (isLWTInsert(queryString)) {
+                if (isLWTInsert) {
                     lwtOperation = INSERT;
                 }
                 notifyLWTError(lwtResultListeners, new LWTResult(lwtOperation, TypedMap.fromMap(currentValues)));
@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.dsl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Record of the query building calls made by a DSL chain.
+ * <br/>
+ * Two chains recording the same calls render the same query string, so the recorded calls
+ * are used as key of the dynamic statements cache instead of rendering the query string again.
+ * <br/>
+ * A chain becomes dynamic when one call puts a runtime value in the query string itself
+ * (LWT conditions, USING clause, function calls ...), its query string must then be rendered
+ */
+public class QueryShape {
+
+    private final List<Object> calls = new ArrayList<>();
+    private boolean dynamic = false;
+
+    public QueryShape add(Object call) {
+        calls.add(call);
+        return this;
+    }
+
+    public QueryShape markDynamic() {
+        dynamic = true;
+        return this;
+    }
+
+    public boolean isDynamic() {
+        return dynamic;
+    }
+
+    /**
+     * Snapshot of the recorded calls, preceded by the given discriminants
+     */
+    public Object key(Object... discriminants) {
+        final List<Object> key = new ArrayList<>(discriminants.length + calls.size());
+        Collections.addAll(key, discriminants);
+        key.addAll(calls);
+        return key;
+    }
+}
@@ -49,7 +49,7 @@ public interface RawAndTypeMapDefaultImpl extends TypedMapAware, StatementTypeAw
 
     @Override
     default CompletableFuture<Tuple2<List<TypedMap>, ExecutionInfo>> getTypedMapsAsyncWithStats() {
-        final StatementWrapper statementWrapper = new BoundStatementWrapper(getOperationType(boundStatement()),
+        final StatementWrapper statementWrapper = new BoundStatementWrapper(getOperationType(boundStatement(), runtimeEngine().cache),
                 meta(), boundStatement(), encodedBoundValues());
 
         if (LOGGER.isTraceEnabled()) {
@@ -67,7 +67,7 @@ public interface RawAndTypeMapDefaultImpl extends TypedMapAware, StatementTypeAw
 
     @Override
     default CompletableFuture<Tuple2<TypedMap, ExecutionInfo>> getTypedMapAsyncWithStats() {
-        final StatementWrapper statementWrapper = new BoundStatementWrapper(getOperationType(boundStatement()),
+        final StatementWrapper statementWrapper = new BoundStatementWrapper(getOperationType(boundStatement(), runtimeEngine().cache),
                 meta(), boundStatement(), encodedBoundValues());
 
         if (LOGGER.isTraceEnabled()) {
@@ -86,7 +86,7 @@ public interface RawAndTypeMapDefaultImpl extends TypedMapAware, StatementTypeAw
 
     @Override
     default Iterator<TypedMap> typedMapIterator() {
-        StatementWrapper statementWrapper = new BoundStatementWrapper(getOperationType(boundStatement()),
+        StatementWrapper statementWrapper = new BoundStatementWrapper(getOperationType(boundStatement(), runtimeEngine().cache),
                 meta(), boundStatement(), encodedBoundValues());
 
         if (LOGGER.isTraceEnabled()) {
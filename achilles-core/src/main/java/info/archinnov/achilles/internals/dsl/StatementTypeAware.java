@@ -23,8 +23,10 @@ import static java.lang.String.format;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.Statement;
 
+import info.archinnov.achilles.internals.cache.StatementsCache;
 import info.archinnov.achilles.internals.statements.OperationType;
 
 public interface StatementTypeAware {
@@ -50,4 +52,13 @@ public interface StatementTypeAware {
         }
         return foundType;
     }
+
+    /**
+     * Same as {@link StatementTypeAware#getOperationType(Statement)} but the classification
+     * is computed only once per prepared statement
+     */
+    default OperationType getOperationType(BoundStatement boundStatement, StatementsCache cache) {
+        return cache.getPreparedStatementInfo(boundStatement.preparedStatement())
+                .getOperationType(() -> getOperationType(boundStatement));
+    }
 }
@@ -18,13 +18,18 @@ package info.archinnov.achilles.internals.dsl.action;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
+import org.reactivestreams.Publisher;
+
 import com.datastax.driver.core.ExecutionInfo;
+import com.datastax.driver.core.PagingState;
 import com.google.common.util.concurrent.Uninterruptibles;
 
 import info.archinnov.achilles.internals.dsl.AsyncAware;
+import info.archinnov.achilles.type.page.Page;
 import info.archinnov.achilles.type.tuples.Tuple2;
 
 public interface SelectAction<ENTITY> extends AsyncAware {
@@ -45,6 +50,17 @@ public interface SelectAction<ENTITY> extends AsyncAware {
      */
     Tuple2<Iterator<ENTITY>, ExecutionInfo> iteratorWithExecutionInfo();
 
+    /**
+     * Return a non-blocking {@link org.reactivestreams.Publisher}&lt;ENTITY&gt; of entity instances.
+     * <br/>
+     * The SELECT action is executed when the first entity is requested. Next pages
+     * are fetched asynchronously only when the subscriber requests more entities than
+     * available in the current page so memory usage stays bounded by the fetch size
+     * <br/>
+     * Each subscription executes the SELECT action again
+     */
+    Publisher<ENTITY> publisher();
+
     /**
      * Execute the SELECT action
      * and return the first entity instance
@@ -124,4 +140,25 @@ public interface SelectAction<ENTITY> extends AsyncAware {
      * a list of entity instances with {@link com.datastax.driver.core.ExecutionInfo}
      */
     CompletableFuture<Tuple2<List<ENTITY>, ExecutionInfo>> getListAsyncWithStats();
+
+    /**
+     * Execute the SELECT action
+     * and return a single {@link info.archinnov.achilles.type.page.Page} of at most <strong>pageSize</strong> entities,
+     * starting at the given paging state. Use <strong>Optional.empty()</strong> to fetch the first page
+     */
+    default Page<ENTITY> getPage(int pageSize, Optional<PagingState> pagingState) {
+        try {
+            return Uninterruptibles.getUninterruptibly(getPageAsync(pageSize, pagingState));
+        } catch (ExecutionException e) {
+            throw extractCauseFromExecutionException(e);
+        }
+    }
+
+    /**
+     * Execute the SELECT action asynchronously
+     * and return a {@link java.util.concurrent.CompletableFuture} of a single
+     * {@link info.archinnov.achilles.type.page.Page} of at most <strong>pageSize</strong> entities,
+     * starting at the given paging state. Use <strong>Optional.empty()</strong> to fetch the first page
+     */
+    CompletableFuture<Page<ENTITY>> getPageAsync(int pageSize, Optional<PagingState> pagingState);
 }
@@ -81,7 +81,8 @@ public class DeleteByPartitionWithOptions<ENTITY> extends AbstractOptionsForUpda
                 .thenApply(options::resultSetAsyncListener)
                 .thenApply(statementWrapper::logTrace)
                 .thenApply(x -> triggerLWTListeners(lwtResultListeners, x, queryString))
-                .thenApply(x -> x.getExecutionInfo());
+                .thenApply(x -> x.getExecutionInfo())
+                .whenComplete((x, throwable) -> rte.invalidateEntityCache(meta.entityClass));
 
     }
 
@@ -101,7 +101,8 @@ public class DeleteWithOptions<ENTITY> extends AbstractOptionsForUpdateOrDelete<
                 .thenApply(x -> {
                     if (this.instance.isPresent()) meta.triggerInterceptorsForEvent(POST_DELETE, instance.get());
                     return x;
-                });
+                })
+                .whenComplete((x, throwable) -> rte.invalidateEntityCache(entityClass, encodedPrimaryKeyValues));
     }
 
     @Override
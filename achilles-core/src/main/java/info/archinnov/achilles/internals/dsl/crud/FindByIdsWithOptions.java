@@ -0,0 +1,319 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.dsl.crud;
+
+import static info.archinnov.achilles.internals.cache.CacheKey.Operation.FIND;
+import static java.lang.String.format;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.*;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import info.archinnov.achilles.internals.cache.EntityCache;
+import info.archinnov.achilles.internals.dsl.AsyncAware;
+import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForRead;
+import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.metamodel.AbstractProperty;
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.runtime.BeanValueExtractor;
+import info.archinnov.achilles.internals.runtime.RuntimeEngine;
+import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
+import info.archinnov.achilles.internals.statements.OperationType;
+import info.archinnov.achilles.internals.statements.PreparedStatementGenerator;
+import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.type.interceptor.Event;
+import info.archinnov.achilles.type.tuples.Tuple2;
+import info.archinnov.achilles.validation.Validator;
+
+public class FindByIdsWithOptions<KEY, ENTITY> extends AbstractOptionsForRead<FindByIdsWithOptions<KEY, ENTITY>>
+        implements AsyncAware {
+
+    /**
+     * Default max number of SELECT queries in flight for a single multi-get
+     */
+    public static final int DEFAULT_MAX_CONCURRENCY = 32;
+
+    /**
+     * Default max number of primary keys fetched by a single <strong>IN</strong> query
+     * when keys sharing a partition are coalesced
+     */
+    public static final int DEFAULT_MAX_KEYS_PER_PARTITION_QUERY = 100;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FindByIdsWithOptions.class);
+
+    private final Class<ENTITY> entityClass;
+    private final AbstractEntityProperty<ENTITY> meta;
+    private final RuntimeEngine rte;
+    private final List<KEY> primaryKeys;
+    private final List<Object[]> encodedPrimaryKeys;
+    private final CassandraOptions options;
+    private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+    private boolean coalescePartitions = false;
+    private int maxKeysPerPartitionQuery = DEFAULT_MAX_KEYS_PER_PARTITION_QUERY;
+
+    public FindByIdsWithOptions(Class<ENTITY> entityClass, AbstractEntityProperty<ENTITY> meta, RuntimeEngine rte,
+                                List<KEY> primaryKeys, List<Object[]> encodedPrimaryKeys, Optional<CassandraOptions> cassandraOptions) {
+        this.entityClass = entityClass;
+        this.meta = meta;
+        this.rte = rte;
+        this.primaryKeys = primaryKeys;
+        this.encodedPrimaryKeys = encodedPrimaryKeys;
+        this.options = cassandraOptions.orElse(new CassandraOptions());
+    }
+
+    /**
+     * Max number of SELECT queries in flight for this multi-get.
+     * Default value = {@link FindByIdsWithOptions#DEFAULT_MAX_CONCURRENCY}
+     */
+    public FindByIdsWithOptions<KEY, ENTITY> withMaxConcurrency(int maxConcurrency) {
+        Validator.validateTrue(maxConcurrency > 0, "The max concurrency should be strictly positive");
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
+    /**
+     * Fetch the primary keys sharing the same partition and the same clustering columns but the last one
+     * with a single <strong>SELECT ... WHERE ... AND last_clustering IN ?</strong> query instead of one query per key.
+     * No-op for entities without clustering column or with non-frozen collection/UDT columns, which Cassandra
+     * does not allow to select with an IN restriction on clustering columns
+     *
+     * <br/>
+     * The number of keys of each <strong>IN</strong> query is also capped by the fetch size, so that
+     * every query returns a single page
+     *
+     * @param maxKeysPerQuery max number of primary keys fetched by each <strong>IN</strong> query
+     */
+    public FindByIdsWithOptions<KEY, ENTITY> withPartitionCoalescing(int maxKeysPerQuery) {
+        Validator.validateTrue(maxKeysPerQuery > 0, "The max number of keys per query should be strictly positive");
+        this.coalescePartitions = true;
+        this.maxKeysPerPartitionQuery = maxKeysPerQuery;
+        return this;
+    }
+
+    /**
+     * Same as {@link #withPartitionCoalescing(int)} with {@link FindByIdsWithOptions#DEFAULT_MAX_KEYS_PER_PARTITION_QUERY}
+     */
+    public FindByIdsWithOptions<KEY, ENTITY> withPartitionCoalescing() {
+        return withPartitionCoalescing(DEFAULT_MAX_KEYS_PER_PARTITION_QUERY);
+    }
+
+    /**
+     * Fetch the entities and return the found ones in the order of the given primary keys.
+     * Missing entities are skipped
+     */
+    public List<ENTITY> get() {
+        try {
+            return Uninterruptibles.getUninterruptibly(getAsync());
+        } catch (ExecutionException e) {
+            throw extractCauseFromExecutionException(e);
+        }
+    }
+
+    /**
+     * Fetch the entities and return them indexed by primary key, in the order of the given primary keys.
+     * Missing entities have no entry in the map
+     */
+    public Map<KEY, ENTITY> getAsMap() {
+        try {
+            return Uninterruptibles.getUninterruptibly(getAsMapAsync());
+        } catch (ExecutionException e) {
+            throw extractCauseFromExecutionException(e);
+        }
+    }
+
+    public CompletableFuture<List<ENTITY>> getAsync() {
+        return getAsMapAsync().thenApply(map -> new ArrayList<>(map.values()));
+    }
+
+    public CompletableFuture<Map<KEY, ENTITY>> getAsMapAsync() {
+        final Map<List<Object>, KEY> keysByEncodedKey = new LinkedHashMap<>();
+        for (int i = 0; i < primaryKeys.size(); i++) {
+            keysByEncodedKey.putIfAbsent(Arrays.asList(encodedPrimaryKeys.get(i)), primaryKeys.get(i));
+        }
+
+        final Map<List<Object>, ENTITY> found = new ConcurrentHashMap<>();
+        final Optional<EntityCache> entityCache = getEntityCache();
+        final long cacheGeneration = entityCache.map(EntityCache::getGeneration).orElse(0L);
+        final List<List<Object>> missingKeys = new ArrayList<>();
+
+        for (List<Object> encodedKey : keysByEncodedKey.keySet()) {
+            final Optional<Tuple2<Row, ExecutionInfo>> cached = entityCache.flatMap(cache -> cache.get(encodedKey.toArray()));
+            if (cached.isPresent()) {
+                final ENTITY entity = meta.createEntityFrom(cached.get()._1());
+                meta.triggerInterceptorsForEvent(Event.POST_LOAD, entity);
+                found.put(encodedKey, entity);
+            } else {
+                missingKeys.add(encodedKey);
+            }
+        }
+
+        final Queue<StatementWrapper> statements = new ConcurrentLinkedQueue<>(buildStatements(missingKeys));
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Find %s entities of type %s with %s queries, %s found in entity cache",
+                    keysByEncodedKey.size(), entityClass.getCanonicalName(), statements.size(),
+                    keysByEncodedKey.size() - missingKeys.size()));
+        }
+
+        final AtomicBoolean failed = new AtomicBoolean(false);
+        final int workers = Math.min(maxConcurrency, statements.size());
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[workers];
+        for (int i = 0; i < workers; i++) {
+            futures[i] = executeNext(statements, found, entityCache, cacheGeneration, failed);
+        }
+
+        return rte.completeOnDefaultExecutor(CompletableFuture
+                .allOf(futures)
+                .thenApply(x -> {
+                    final Map<KEY, ENTITY> result = new LinkedHashMap<>();
+                    keysByEncodedKey.forEach((encodedKey, key) -> {
+                        final ENTITY entity = found.get(encodedKey);
+                        if (entity != null) result.put(key, entity);
+                    });
+                    return result;
+                }));
+    }
+
+    @Override
+    protected CassandraOptions getOptions() {
+        return options;
+    }
+
+    @Override
+    protected FindByIdsWithOptions<KEY, ENTITY> getThis() {
+        return this;
+    }
+
+    private CompletableFuture<Void> executeNext(Queue<StatementWrapper> statements, Map<List<Object>, ENTITY> found,
+                                                Optional<EntityCache> entityCache, long cacheGeneration, AtomicBoolean failed) {
+        final StatementWrapper statementWrapper = failed.get() ? null : statements.poll();
+        if (statementWrapper == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return rte.executeForMapping(statementWrapper, getOptions().getHedging())
+                .thenApply(options::resultSetAsyncListener)
+                .thenApply(statementWrapper::logTrace)
+                .thenAccept(rs -> {
+                    // Each query returns at most fetch size rows, never block on fetching a next page here
+                    final int available = rs.getAvailableWithoutFetching();
+                    for (int i = 0; i < available; i++) {
+                        final Row row = rs.one();
+                        options.rowAsyncListener(row);
+                        final ENTITY entity = meta.createEntityFrom(row);
+                        final Object[] encodedKey = BeanValueExtractor.extractPrimaryKeyValues(entity, meta, Optional.of(options))._2();
+                        entityCache.ifPresent(cache -> cache.put(encodedKey, row, rs.getExecutionInfo(), cacheGeneration));
+                        meta.triggerInterceptorsForEvent(Event.POST_LOAD, entity);
+                        found.put(Arrays.asList(encodedKey), entity);
+                    }
+                })
+                .whenComplete((x, throwable) -> {
+                    if (throwable != null) failed.set(true);
+                })
+                .thenCompose(x -> executeNext(statements, found, entityCache, cacheGeneration, failed));
+    }
+
+    private List<StatementWrapper> buildStatements(List<List<Object>> encodedKeys) {
+        final List<StatementWrapper> statements = new ArrayList<>();
+        if (encodedKeys.isEmpty()) {
+            return statements;
+        }
+
+        final PreparedStatement findPs = FIND.getPreparedStatement(rte, meta, options);
+        if (!coalescePartitions || !canCoalescePartitions()) {
+            for (List<Object> encodedKey : encodedKeys) {
+                statements.add(bind(findPs, encodedKey.toArray()));
+            }
+            return statements;
+        }
+
+        final int lastIndex = meta.partitionKeys.size() + meta.clusteringColumns.size() - 1;
+        final Map<List<Object>, List<Object>> lastClusteringsByPrefix = new LinkedHashMap<>();
+        for (List<Object> encodedKey : encodedKeys) {
+            lastClusteringsByPrefix
+                    .computeIfAbsent(encodedKey.subList(0, lastIndex), prefix -> new ArrayList<>())
+                    .add(encodedKey.get(lastIndex));
+        }
+
+        final int fetchSize = options.getFetchSize()
+                .orElseGet(() -> rte.getCluster().getConfiguration().getQueryOptions().getFetchSize());
+        final int maxKeysPerQuery = fetchSize > 0 ? Math.min(fetchSize, maxKeysPerPartitionQuery) : maxKeysPerPartitionQuery;
+        PreparedStatement inPs = null;
+        for (Map.Entry<List<Object>, List<Object>> entry : lastClusteringsByPrefix.entrySet()) {
+            final List<Object> prefix = entry.getKey();
+            final List<Object> lastClusterings = entry.getValue();
+            if (lastClusterings.size() == 1) {
+                final Object[] encodedKey = prefix.toArray(new Object[lastIndex + 1]);
+                encodedKey[lastIndex] = lastClusterings.get(0);
+                statements.add(bind(findPs, encodedKey));
+                continue;
+            }
+
+            if (inPs == null) {
+                inPs = rte.prepareDynamicQuery(PreparedStatementGenerator
+                        .generateSelectInLastClusteringQuery(meta, options.getSchemaNameProvider()));
+            }
+            for (int from = 0; from < lastClusterings.size(); from += maxKeysPerQuery) {
+                final Object[] encodedValues = prefix.toArray(new Object[lastIndex + 1]);
+                encodedValues[lastIndex] = new ArrayList<>(lastClusterings.subList(from, Math.min(from + maxKeysPerQuery, lastClusterings.size())));
+                statements.add(bind(inPs, encodedValues));
+            }
+        }
+        return statements;
+    }
+
+    /**
+     * Cassandra rejects an IN restriction on clustering columns when a non-frozen collection
+     * or UDT column is selected, fall back to one query per primary key for such entities
+     */
+    private boolean canCoalescePartitions() {
+        if (meta.clusteringColumns.isEmpty()) {
+            return false;
+        }
+        for (AbstractProperty<ENTITY, ?, ?> property : meta.allColumns) {
+            final DataType dataType = property.getDataType();
+            if (!dataType.isFrozen() && (dataType.isCollection() || dataType instanceof UserType)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private StatementWrapper bind(PreparedStatement ps, Object[] encodedValues) {
+        final StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.SELECT, meta, ps, encodedValues, encodedValues);
+        statementWrapper.applyOptions(options);
+        return statementWrapper;
+    }
+
+    private Optional<EntityCache> getEntityCache() {
+        if (options.hasSchemaNameProvider()
+                || options.getResultSetAsyncListeners().isPresent()
+                || options.getRowAsyncListeners().isPresent()) {
+            return Optional.empty();
+        }
+        return rte.getEntityCache(entityClass);
+    }
+}
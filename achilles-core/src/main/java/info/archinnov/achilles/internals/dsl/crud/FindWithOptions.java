@@ -32,9 +32,10 @@ import com.datastax.driver.core.*;
 import com.google.common.util.concurrent.Uninterruptibles;
 
 import info.archinnov.achilles.internals.cache.CacheKey;
+import info.archinnov.achilles.internals.cache.EntityCache;
 import info.archinnov.achilles.internals.dsl.AsyncAware;
 import info.archinnov.achilles.internals.dsl.StatementProvider;
-import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForSelect;
+import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForRead;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.runtime.RuntimeEngine;
@@ -44,7 +45,7 @@ import info.archinnov.achilles.internals.statements.StatementWrapper;
 import info.archinnov.achilles.type.interceptor.Event;
 import info.archinnov.achilles.type.tuples.Tuple2;
 
-public class FindWithOptions<ENTITY> extends AbstractOptionsForSelect<FindWithOptions<ENTITY>>
+public class FindWithOptions<ENTITY> extends AbstractOptionsForRead<FindWithOptions<ENTITY>>
         implements StatementProvider, AsyncAware {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(FindWithOptions.class);
@@ -88,26 +89,44 @@ public class FindWithOptions<ENTITY> extends AbstractOptionsForSelect<FindWithOp
 
     public CompletableFuture<Tuple2<ENTITY, ExecutionInfo>> getAsyncWithStats() {
 
+        final Optional<EntityCache> entityCache = getEntityCache();
+        if (entityCache.isPresent()) {
+            final Optional<Tuple2<Row, ExecutionInfo>> cached = entityCache.get().get(encodedPrimaryKeyValues);
+            if (cached.isPresent()) {
+                if (LOGGER.isTraceEnabled()) {
+                    LOGGER.trace(format("Find %s from entity cache for primary key %s",
+                            entityClass.getCanonicalName(), Arrays.toString(primaryKeyValues)));
+                }
+                final ENTITY entity = meta.createEntityFrom(cached.get()._1());
+                meta.triggerInterceptorsForEvent(Event.POST_LOAD, entity);
+                return CompletableFuture.completedFuture(Tuple2.of(entity, cached.get()._2()));
+            }
+        }
+        final long cacheGeneration = entityCache.map(EntityCache::getGeneration).orElse(0L);
+
         StatementWrapper statementWrapper = getInternalBoundStatementWrapper();
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Find async with execution info : %s",
                     statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
         }
-        CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
+        CompletableFuture<ResultSet> futureRS = rte.executeForMapping(statementWrapper, getOptions().getHedging());
 
-        return futureRS
+        return rte.completeOnDefaultExecutor(futureRS
                 .thenApply(options::resultSetAsyncListener)
                 .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
                 .thenApply(statementWrapper::logTrace)
                 .thenApply(rs -> {
                     final Row row = rs.one();
                     options.rowAsyncListener(row);
+                    if (row != null && entityCache.isPresent()) {
+                        entityCache.get().put(encodedPrimaryKeyValues, row, rs.getExecutionInfo(), cacheGeneration);
+                    }
                     return Tuple2.of(meta.createEntityFrom(row), rs.getExecutionInfo());
                 })
                 .thenApply(tuple2 -> {
                     meta.triggerInterceptorsForEvent(Event.POST_LOAD, tuple2._1());
                     return tuple2;
-                });
+                }));
     }
 
     @Override
@@ -141,6 +160,19 @@ public class FindWithOptions<ENTITY> extends AbstractOptionsForSelect<FindWithOp
         return this;
     }
 
+    /**
+     * The entity cache is bypassed when the schema name provider or the async listeners
+     * are overridden for this query since the cached rows would not honour them
+     */
+    private Optional<EntityCache> getEntityCache() {
+        if (options.hasSchemaNameProvider()
+                || options.getResultSetAsyncListeners().isPresent()
+                || options.getRowAsyncListeners().isPresent()) {
+            return Optional.empty();
+        }
+        return rte.getEntityCache(entityClass);
+    }
+
     private StatementWrapper getInternalBoundStatementWrapper() {
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Get bound statement wrapper"));
@@ -0,0 +1,245 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.dsl.crud;
+
+import static info.archinnov.achilles.internals.cache.CacheKey.Operation.INSERT;
+import static info.archinnov.achilles.internals.cache.CacheKey.Operation.INSERT_IF_NOT_EXISTS;
+import static info.archinnov.achilles.internals.dsl.LWTHelper.triggerLWTListeners;
+import static info.archinnov.achilles.type.interceptor.Event.POST_INSERT;
+import static info.archinnov.achilles.type.interceptor.Event.PRE_INSERT;
+import static java.lang.String.format;
+import static java.util.stream.Collectors.toList;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.*;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import info.archinnov.achilles.internals.dsl.AsyncAware;
+import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForCRUDInsert;
+import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.runtime.RuntimeEngine;
+import info.archinnov.achilles.internals.statements.OperationType;
+import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.type.batch.BatchInsertResult;
+import info.archinnov.achilles.type.strategy.InsertStrategy;
+import info.archinnov.achilles.type.tuples.Tuple2;
+import info.archinnov.achilles.validation.Validator;
+
+public class InsertAllWithOptions<ENTITY> extends AbstractOptionsForCRUDInsert<InsertAllWithOptions<ENTITY>>
+        implements AsyncAware {
+
+    /**
+     * Default max size of a single batch, aligned on the default
+     * <strong>batch_size_warn_threshold_in_kb</strong> of Cassandra
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE_IN_BYTES = 5 * 1024;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InsertAllWithOptions.class);
+
+    private final AbstractEntityProperty<ENTITY> meta;
+    private final RuntimeEngine rte;
+    private final Collection<ENTITY> instances;
+    private final CassandraOptions options;
+    private int maxBatchSizeInBytes = DEFAULT_MAX_BATCH_SIZE_IN_BYTES;
+
+    public InsertAllWithOptions(AbstractEntityProperty<ENTITY> meta, RuntimeEngine rte, Collection<ENTITY> instances, Optional<CassandraOptions> cassandraOptions) {
+        this.meta = meta;
+        this.rte = rte;
+        this.instances = instances;
+        this.options = cassandraOptions.orElse(new CassandraOptions());
+    }
+
+    /**
+     * Max size in bytes of each <strong>UNLOGGED</strong> batch sent to Cassandra.
+     * A partition whose statements exceed this size is split into several batches.
+     * Default value = {@link InsertAllWithOptions#DEFAULT_MAX_BATCH_SIZE_IN_BYTES}
+     */
+    public InsertAllWithOptions<ENTITY> withMaxBatchSizeInBytes(int maxBatchSizeInBytes) {
+        Validator.validateTrue(maxBatchSizeInBytes > 0, "The max batch size in bytes should be strictly positive");
+        this.maxBatchSizeInBytes = maxBatchSizeInBytes;
+        return this;
+    }
+
+    /**
+     * Execute the INSERT of all entities
+     * and return a {@link info.archinnov.achilles.type.batch.BatchInsertResult}
+     */
+    public BatchInsertResult<ENTITY> execute() {
+        try {
+            return Uninterruptibles.getUninterruptibly(executeAsync());
+        } catch (ExecutionException e) {
+            throw extractCauseFromExecutionException(e);
+        }
+    }
+
+    /**
+     * Execute the INSERT of all entities asynchronously.
+     * <br/>
+     * Entities are grouped by partition into <strong>UNLOGGED</strong> batches
+     * so that each batch is routed to the replicas owning the partition.
+     * Entities whose routing key cannot be computed and <strong>IF NOT EXISTS</strong> inserts
+     * are executed one by one.
+     * The returned {@link java.util.concurrent.CompletableFuture} never completes
+     * exceptionally because of a failed batch, the failure is reported for each entity
+     * of the batch in the {@link info.archinnov.achilles.type.batch.BatchInsertResult}
+     */
+    public CompletableFuture<BatchInsertResult<ENTITY>> executeAsync() {
+
+        final boolean lwt = ifNotExists.isPresent() && ifNotExists.get();
+        final PreparedStatement ps = lwt
+                ? INSERT_IF_NOT_EXISTS.getPreparedStatement(rte, meta, options)
+                : INSERT.getPreparedStatement(rte, meta, options);
+        final InsertStrategy strategy = getOverridenStrategy(meta);
+        final Configuration configuration = rte.getCluster().getConfiguration();
+        final ProtocolVersion protocolVersion = configuration.getProtocolOptions().getProtocolVersion();
+        final CodecRegistry codecRegistry = configuration.getCodecRegistry();
+
+        final List<Tuple2<ENTITY, Throwable>> failedEntities = Collections.synchronizedList(new ArrayList<>());
+        final Map<ByteBuffer, List<EntityStatement<ENTITY>>> statementsByPartition = new LinkedHashMap<>();
+        final List<List<EntityStatement<ENTITY>>> singleStatements = new ArrayList<>();
+
+        for (ENTITY instance : instances) {
+            try {
+                meta.triggerInterceptorsForEvent(PRE_INSERT, instance);
+                final StatementWrapper wrapper = meta.extractAllValuesFromEntity(instance, options)
+                        .bindWithInsertStrategy(ps, strategy);
+                wrapper.applyOptions(options);
+                final BoundStatement bs = wrapper.getBoundStatement();
+                final EntityStatement<ENTITY> entityStatement = new EntityStatement<>(instance, wrapper, bs.requestSizeInBytes(protocolVersion, codecRegistry));
+                final ByteBuffer routingKey = lwt ? null : bs.getRoutingKey(protocolVersion, codecRegistry);
+                if (routingKey == null) {
+                    singleStatements.add(Collections.singletonList(entityStatement));
+                } else {
+                    statementsByPartition
+                            .computeIfAbsent(routingKey, key -> new ArrayList<>())
+                            .add(entityStatement);
+                }
+            } catch (Throwable throwable) {
+                failedEntities.add(Tuple2.of(instance, throwable));
+            }
+        }
+
+        final List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        final List<ExecutionInfo> executionInfos = Collections.synchronizedList(new ArrayList<>());
+
+        statementsByPartition
+                .values()
+                .stream()
+                .flatMap(statements -> splitBySize(statements).stream())
+                .forEach(group -> futures.add(executeGroup(group, failedEntities, executionInfos)));
+        singleStatements.forEach(group -> futures.add(executeGroup(group, failedEntities, executionInfos)));
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Insert %s entities of type %s in %s partitions using %s statements",
+                    instances.size(), meta.entityClass.getCanonicalName(), statementsByPartition.size() + singleStatements.size(), futures.size()));
+        }
+
+        return CompletableFuture
+                .allOf(futures.toArray(new CompletableFuture[futures.size()]))
+                .thenApply(x -> futures.stream().mapToInt(CompletableFuture::join).sum())
+                .thenApply(insertedCount -> new BatchInsertResult<>(insertedCount,
+                        new ArrayList<>(failedEntities), new ArrayList<>(executionInfos)));
+    }
+
+    private CompletableFuture<Integer> executeGroup(List<EntityStatement<ENTITY>> group,
+                                                    List<Tuple2<ENTITY, Throwable>> failedEntities,
+                                                    List<ExecutionInfo> executionInfos) {
+        CompletableFuture<ResultSet> cfutureRS;
+        if (group.size() == 1) {
+            final StatementWrapper wrapper = group.get(0).wrapper;
+            cfutureRS = rte.execute(wrapper);
+            if (ifNotExists.isPresent() && ifNotExists.get()) {
+                final String queryString = wrapper.getBoundStatement().preparedStatement().getQueryString();
+                cfutureRS = cfutureRS.thenApply(rs -> triggerLWTListeners(lwtResultListeners, rs, queryString));
+            }
+        } else {
+            final BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
+            for (EntityStatement<ENTITY> entityStatement : group) {
+                entityStatement.wrapper.logDML();
+                batch.add(entityStatement.wrapper.getBoundStatement());
+            }
+            options.applyOptions(OperationType.INSERT, meta, batch);
+            cfutureRS = rte.execute(Optional.of(meta.entityClass), OperationType.INSERT, batch);
+        }
+
+        return cfutureRS
+                .thenApply(this.options::resultSetAsyncListener)
+                .handle((rs, throwable) -> {
+                    group.forEach(x -> rte.invalidateEntityCache(meta, x.instance, options));
+                    if (throwable != null) {
+                        final Throwable cause = throwable.getCause() != null ? throwable.getCause() : throwable;
+                        group.forEach(x -> failedEntities.add(Tuple2.of(x.instance, cause)));
+                        return 0;
+                    } else {
+                        executionInfos.add(rs.getExecutionInfo());
+                        if (meta.hasInterceptorsForEvent(POST_INSERT)) {
+                            meta.triggerInterceptorsForEvent(POST_INSERT, group.stream().map(x -> x.instance).collect(toList()));
+                        }
+                        return group.size();
+                    }
+                });
+    }
+
+    private List<List<EntityStatement<ENTITY>>> splitBySize(List<EntityStatement<ENTITY>> statements) {
+        final List<List<EntityStatement<ENTITY>>> groups = new ArrayList<>();
+        List<EntityStatement<ENTITY>> currentGroup = new ArrayList<>();
+        int currentSize = 0;
+        for (EntityStatement<ENTITY> statement : statements) {
+            if (!currentGroup.isEmpty() && currentSize + statement.sizeInBytes > maxBatchSizeInBytes) {
+                groups.add(currentGroup);
+                currentGroup = new ArrayList<>();
+                currentSize = 0;
+            }
+            currentGroup.add(statement);
+            currentSize += statement.sizeInBytes;
+        }
+        if (!currentGroup.isEmpty()) {
+            groups.add(currentGroup);
+        }
+        return groups;
+    }
+
+    @Override
+    protected CassandraOptions getOptions() {
+        return options;
+    }
+
+    @Override
+    protected InsertAllWithOptions<ENTITY> getThis() {
+        return this;
+    }
+
+    private static class EntityStatement<ENTITY> {
+        private final ENTITY instance;
+        private final StatementWrapper wrapper;
+        private final int sizeInBytes;
+
+        private EntityStatement(ENTITY instance, StatementWrapper wrapper, int sizeInBytes) {
+            this.instance = instance;
+            this.wrapper = wrapper;
+            this.sizeInBytes = sizeInBytes;
+        }
+    }
+}
@@ -80,7 +80,8 @@ public class InsertJSONWithOptions extends AbstractOptionsForCRUDInsert<InsertJS
                 .thenApply(getOptions()::resultSetAsyncListener)
                 .thenApply(statementWrapper::logTrace)
                 .thenApply(x -> triggerLWTListeners(lwtResultListeners, x, queryString))
-                .thenApply(x -> x.getExecutionInfo());
+                .thenApply(x -> x.getExecutionInfo())
+                .whenComplete((x, throwable) -> rte.invalidateEntityCache(meta.entityClass));
     }
 
     @Override
@@ -21,8 +21,8 @@ import static info.archinnov.achilles.internals.dsl.LWTHelper.triggerLWTListener
 import static info.archinnov.achilles.type.interceptor.Event.POST_INSERT;
 import static info.archinnov.achilles.type.interceptor.Event.PRE_INSERT;
 import static java.lang.String.format;
-import static java.util.stream.Collectors.toList;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -85,7 +85,16 @@ public class InsertWithOptions<ENTITY> extends AbstractOptionsForCRUDInsert<Inse
                 .thenApply(x -> {
                     meta.triggerInterceptorsForEvent(POST_INSERT, instance);
                     return x;
-                });
+                })
+                .whenComplete((x, throwable) -> invalidateEntityCache());
+    }
+
+    private void invalidateEntityCache() {
+        if (insertStatic) {
+            rte.invalidateEntityCache(meta.entityClass);
+        } else {
+            rte.invalidateEntityCache(meta, instance, options);
+        }
     }
 
     @Override
@@ -106,18 +115,12 @@ public class InsertWithOptions<ENTITY> extends AbstractOptionsForCRUDInsert<Inse
 
     @Override
     public List<Object> getBoundValues() {
-        BoundValuesWrapper wrapper = insertStatic == true
-                ? meta.extractPartitionKeysAndStaticColumnsFromEntity(instance, options)
-                : meta.extractAllValuesFromEntity(instance, options);
-        return wrapper.boundValuesInfo.stream().map(x -> x.boundValue).collect(toList());
+        return Arrays.asList(extractValues().getBoundValues());
     }
 
     @Override
     public List<Object> getEncodedBoundValues() {
-        BoundValuesWrapper wrapper = insertStatic == true
-                ? meta.extractPartitionKeysAndStaticColumnsFromEntity(instance, options)
-                : meta.extractAllValuesFromEntity(instance, options);
-        return wrapper.boundValuesInfo.stream().map(x -> x.encodedValue).collect(toList());
+        return Arrays.asList(extractValues().encodedValues);
     }
 
     @Override
@@ -131,15 +134,19 @@ public class InsertWithOptions<ENTITY> extends AbstractOptionsForCRUDInsert<Inse
         }
 
         final PreparedStatement ps = getInternalPreparedStatement();
-        BoundValuesWrapper wrapper = insertStatic == true
-                ? meta.extractPartitionKeysAndStaticColumnsFromEntity(instance, options)
-                : meta.extractAllValuesFromEntity(instance, options);
+        final BoundValuesWrapper wrapper = extractValues();
 
         StatementWrapper statementWrapper = wrapper.bindWithInsertStrategy(ps, getOverridenStrategy(meta));
         statementWrapper.applyOptions(options);
         return statementWrapper;
     }
 
+    private BoundValuesWrapper extractValues() {
+        return insertStatic == true
+                ? meta.extractPartitionKeysAndStaticColumnsFromEntity(instance, options)
+                : meta.extractAllValuesFromEntity(instance, options);
+    }
+
     private PreparedStatement getInternalPreparedStatement() {
         if (ifNotExists.isPresent() && ifNotExists.get() == true) {
             return insertStatic == true
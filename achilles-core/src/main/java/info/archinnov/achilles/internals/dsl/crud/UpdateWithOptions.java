@@ -20,8 +20,8 @@ import static info.archinnov.achilles.internals.dsl.LWTHelper.triggerLWTListener
 import static info.archinnov.achilles.type.interceptor.Event.POST_UPDATE;
 import static info.archinnov.achilles.type.interceptor.Event.PRE_UPDATE;
 import static java.lang.String.format;
-import static java.util.stream.Collectors.toList;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -85,7 +85,16 @@ public class UpdateWithOptions<ENTITY> extends AbstractOptionsForCRUDUpdate<Upda
                 .thenApply(x -> {
                     meta.triggerInterceptorsForEvent(POST_UPDATE, instance);
                     return x;
-                });
+                })
+                .whenComplete((x, throwable) -> invalidateEntityCache());
+    }
+
+    private void invalidateEntityCache() {
+        if (updateStatic) {
+            rte.invalidateEntityCache(meta.entityClass);
+        } else {
+            rte.invalidateEntityCache(meta, instance, options);
+        }
     }
 
     @Override
@@ -106,18 +115,12 @@ public class UpdateWithOptions<ENTITY> extends AbstractOptionsForCRUDUpdate<Upda
 
     @Override
     public List<Object> getBoundValues() {
-        BoundValuesWrapper wrapper = updateStatic == true
-                ? meta.extractPartitionKeysAndStaticColumnsFromEntity(instance, options)
-                : meta.extractAllValuesFromEntity(instance, options);
-        return wrapper.boundValuesInfo.stream().map(x -> x.boundValue).collect(toList());
+        return Arrays.asList(extractValues().getBoundValues());
     }
 
     @Override
     public List<Object> getEncodedBoundValues() {
-        BoundValuesWrapper wrapper = updateStatic == true
-                ? meta.extractPartitionKeysAndStaticColumnsFromEntity(instance, options)
-                : meta.extractAllValuesFromEntity(instance, options);
-        return wrapper.boundValuesInfo.stream().map(x -> x.encodedValue).collect(toList());
+        return Arrays.asList(extractValues().encodedValues);
     }
 
     @Override
@@ -131,18 +134,23 @@ public class UpdateWithOptions<ENTITY> extends AbstractOptionsForCRUDUpdate<Upda
         }
 
         final PreparedStatement ps = getInternalPreparedStatement();
-        BoundValuesWrapper wrapper = updateStatic == true
-                ? meta.extractPartitionKeysAndStaticColumnsFromEntity(instance, options)
-                : meta.extractAllValuesFromEntity(instance, options);
+        final BoundValuesWrapper wrapper = extractValues();
 
         StatementWrapper statementWrapper = wrapper.bindForUpdate(ps);
         statementWrapper.applyOptions(options);
         return statementWrapper;
     }
 
+    private BoundValuesWrapper extractValues() {
+        return updateStatic == true
+                ? meta.extractPartitionKeysAndStaticColumnsFromEntity(instance, options)
+                : meta.extractAllValuesFromEntity(instance, options);
+    }
+
     private PreparedStatement getInternalPreparedStatement() {
-        return rte.prepareDynamicQuery(PreparedStatementGenerator.generateUpdate(instance, meta, options, updateStatic,
-                (ifExists.isPresent() && ifExists.get() == true)));
+        final boolean ifExists = this.ifExists.isPresent() && this.ifExists.get() == true;
+        return rte.prepareDynamicQuery(PreparedStatementGenerator.generateUpdateShapeKey(instance, meta, options, updateStatic, ifExists),
+                () -> PreparedStatementGenerator.generateUpdate(instance, meta, options, updateStatic, ifExists));
     }
 
 
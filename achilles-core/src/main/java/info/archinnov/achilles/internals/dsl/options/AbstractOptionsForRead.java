@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.dsl.options;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import info.archinnov.achilles.internals.options.HedgingOptions;
+
+public abstract class AbstractOptionsForRead<T extends AbstractOptionsForRead<T>> extends AbstractOptionsForSelect<T> {
+
+    /**
+     * Hedge the read: if no response has been received after the given delay, the same statement
+     * is sent again, usually to another replica depending on the load balancing policy.
+     * The first response wins and the other request is cancelled.
+     * <br/>
+     * Hedging only applies to idempotent statements, see {@link #isIdempotent()}
+     */
+    public T withHedging(long delay, TimeUnit timeUnit) {
+        getOptions().setHedging(Optional.of(HedgingOptions.fixedDelay(delay, timeUnit)));
+        return getThis();
+    }
+
+    /**
+     * Hedge the read with a delay equal to the given percentile of the latencies observed
+     * for this statement, e.g. 95.0. The fallback delay is used until 100 executions have been observed.
+     * <br/>
+     * Hedging only applies to idempotent statements, see {@link #isIdempotent()}
+     */
+    public T withHedgingAtPercentile(double percentile, long fallbackDelay, TimeUnit timeUnit) {
+        getOptions().setHedging(Optional.of(HedgingOptions.percentileDelay(percentile, fallbackDelay, timeUnit)));
+        return getThis();
+    }
+}
@@ -32,6 +32,7 @@ import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.querybuilder.Delete;
 
+import info.archinnov.achilles.internals.dsl.QueryShape;
 import info.archinnov.achilles.internals.dsl.StatementProvider;
 import info.archinnov.achilles.internals.dsl.action.MutationAction;
 import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForUpdateOrDelete;
@@ -59,6 +60,8 @@ public abstract class AbstractDeleteEnd<T extends AbstractDeleteEnd<T, ENTITY>,
 
     protected abstract List<Object> getEncodedValuesInternal();
 
+    protected abstract QueryShape getQueryShapeInternal();
+
     protected abstract AbstractEntityProperty<ENTITY> getMetaInternal();
 
     protected abstract Class<ENTITY> getEntityClass();
@@ -68,12 +71,14 @@ public abstract class AbstractDeleteEnd<T extends AbstractDeleteEnd<T, ENTITY>,
     public T ifExists(boolean ifExists) {
         if (ifExists) {
             where.ifExists();
+            getQueryShapeInternal().markDynamic();
         }
         return getThis();
     }
 
     public T ifExists() {
         where.ifExists();
+        getQueryShapeInternal().markDynamic();
         return getThis();
     }
 
@@ -96,7 +101,8 @@ public abstract class AbstractDeleteEnd<T extends AbstractDeleteEnd<T, ENTITY>,
                 .thenApply(options::resultSetAsyncListener)
                 .thenApply(statementWrapper::logTrace)
                 .thenApply(x -> triggerLWTListeners(lwtResultListeners, x, queryString))
-                .thenApply(x -> x.getExecutionInfo());
+                .thenApply(x -> x.getExecutionInfo())
+                .whenComplete((x, throwable) -> rte.invalidateEntityCache(getMetaInternal().entityClass));
     }
 
     @Override
@@ -129,14 +135,21 @@ public abstract class AbstractDeleteEnd<T extends AbstractDeleteEnd<T, ENTITY>,
         final AbstractEntityProperty<ENTITY> meta = getMetaInternal();
         final CassandraOptions cassandraOptions = getOptions();
 
-        PreparedStatement ps = rte.prepareDynamicQuery(where);
+        PreparedStatement ps = prepareStatement(rte);
 
         StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.DELETE,
                 meta, ps,
-                getBoundValuesInternal().toArray(),
+                getBoundValuesInternal()::toArray,
                 getEncodedValuesInternal().toArray());
 
         statementWrapper.applyOptions(cassandraOptions);
         return statementWrapper;
     }
+
+    private PreparedStatement prepareStatement(RuntimeEngine rte) {
+        final QueryShape queryShape = getQueryShapeInternal();
+        return queryShape.isDynamic()
+                ? rte.prepareDynamicQuery(where)
+                : rte.prepareDynamicQuery(queryShape.key(getClass()), () -> where);
+    }
 }
@@ -22,8 +22,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.SimpleStatement;
 import com.datastax.driver.core.querybuilder.Select;
 
+import info.archinnov.achilles.internals.dsl.QueryShape;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.runtime.RuntimeEngine;
@@ -50,26 +52,36 @@ public abstract class AbstractIndexSelectWhereTypeMap<T extends AbstractIndexSel
         final AbstractEntityProperty<ENTITY> meta = getMetaInternal();
         final CassandraOptions cassandraOptions = getOptions();
 
-        final String queryString;
+        final boolean allowFiltering;
         if (cassandraOptions.hasRawSolrQuery()) {
             getBoundValuesInternal().add(0, cassandraOptions.generateRawSolrQuery());
             getEncodedValuesInternal().add(0, cassandraOptions.generateRawSolrQuery());
-            queryString = where.getQueryString();
+            allowFiltering = false;
         } else if (cassandraOptions.hasSolrQuery()) {
             getBoundValuesInternal().add(0, cassandraOptions.generateSolrQuery());
             getEncodedValuesInternal().add(0, cassandraOptions.generateSolrQuery());
-            queryString = where.getQueryString();
+            allowFiltering = false;
         } else {
-            queryString = where.getQueryString().trim().replaceFirst(";$", " ALLOW FILTERING;");
+            allowFiltering = true;
         }
 
-        final PreparedStatement ps = rte.prepareDynamicQuery(queryString);
+        final QueryShape queryShape = getQueryShapeInternal();
+        final PreparedStatement ps = queryShape.isDynamic()
+                ? rte.prepareDynamicQuery(buildQueryString(allowFiltering))
+                : rte.prepareDynamicQuery(queryShape.key(getClass(), allowFiltering),
+                        () -> new SimpleStatement(buildQueryString(allowFiltering)));
         final StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.SELECT,
                 meta, ps,
-                getBoundValuesInternal().toArray(),
+                getBoundValuesInternal()::toArray,
                 getEncodedValuesInternal().toArray());
 
         statementWrapper.applyOptions(cassandraOptions);
         return statementWrapper;
     }
+
+    private String buildQueryString(boolean allowFiltering) {
+        return allowFiltering
+                ? QueryStringHelper.appendAllowFiltering(where.getQueryString())
+                : where.getQueryString();
+    }
 }
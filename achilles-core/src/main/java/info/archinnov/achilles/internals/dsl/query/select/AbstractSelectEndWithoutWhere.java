@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.dsl.query.select;
+
+import static java.lang.String.format;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.querybuilder.Select;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.runtime.RuntimeEngine;
+import info.archinnov.achilles.internals.types.EntityScanner;
+import info.archinnov.achilles.type.scan.ScanCheckpoint;
+import info.archinnov.achilles.validation.Validator;
+
+/**
+ * End of a SELECT <strong>without</strong> WHERE clause. Only this end type exposes the full table scan
+ * by token ranges since the scan adds its own token restrictions to the statement
+ */
+public abstract class AbstractSelectEndWithoutWhere<T extends AbstractSelectEndWithoutWhere<T, ENTITY>, ENTITY>
+        extends AbstractSelectWhere<T, ENTITY> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AbstractSelectEndWithoutWhere.class);
+
+    protected AbstractSelectEndWithoutWhere(Select.Where where, CassandraOptions cassandraOptions) {
+        super(where, cassandraOptions);
+    }
+
+    /**
+     * Scan the whole table by token ranges, with at most <strong>parallelism</strong> ranges scanned concurrently,
+     * and pass each entity to the consumer.
+     * <br/>
+     * The consumer is invoked concurrently from several threads, it should be thread-safe
+     * <br/>
+     * WARNING: <strong>this method performs a blocking call to the underlying async queries</strong>
+     *
+     * @param parallelism max number of token ranges scanned concurrently
+     * @param consumer    consumer of the entities
+     */
+    public ScanCheckpoint scanAll(int parallelism, Consumer<ENTITY> consumer) {
+        return scanAll(parallelism, ScanCheckpoint.empty(), consumer, checkpoint -> {});
+    }
+
+    /**
+     * Scan the whole table by token ranges, skipping the ranges already completed in the given checkpoint.
+     * <br/>
+     * The progress listener receives a new checkpoint each time a token range has been completely scanned.
+     * Persist it to resume the scan later. If the scan fails, an
+     * {@link info.archinnov.achilles.exception.AchillesScanException} carrying the last checkpoint is raised
+     * <br/>
+     * WARNING: <strong>this method performs a blocking call to the underlying async queries</strong>
+     *
+     * @param parallelism      max number of token ranges scanned concurrently
+     * @param checkpoint       checkpoint of a previous scan or {@link ScanCheckpoint#empty()}
+     * @param consumer         consumer of the entities
+     * @param progressListener listener notified with a new checkpoint after each completed token range
+     */
+    public ScanCheckpoint scanAll(int parallelism, ScanCheckpoint checkpoint, Consumer<ENTITY> consumer, Consumer<ScanCheckpoint> progressListener) {
+        try {
+            return Uninterruptibles.getUninterruptibly(scanAllAsync(parallelism, checkpoint, consumer, progressListener));
+        } catch (ExecutionException e) {
+            throw extractCauseFromExecutionException(e);
+        }
+    }
+
+    /**
+     * Scan asynchronously the whole table by token ranges. See {@link #scanAll(int, ScanCheckpoint, Consumer, Consumer)}
+     */
+    public CompletableFuture<ScanCheckpoint> scanAllAsync(int parallelism, ScanCheckpoint checkpoint, Consumer<ENTITY> consumer, Consumer<ScanCheckpoint> progressListener) {
+        Validator.validateTrue(parallelism > 0, "The scan parallelism should be strictly positive");
+        Validator.validateNotNull(checkpoint, "The scan checkpoint should not be null");
+        Validator.validateNotNull(consumer, "The entity consumer should not be null");
+        Validator.validateNotNull(progressListener, "The scan progress listener should not be null");
+
+        final RuntimeEngine rte = getRte();
+        final AbstractEntityProperty<ENTITY> meta = getMetaInternal();
+        final CassandraOptions options = getOptions();
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Scan all token ranges for select : %s", where.getQueryString()));
+        }
+
+        return new EntityScanner<>(rte, meta, where, options, parallelism, checkpoint, consumer, progressListener).start();
+    }
+}
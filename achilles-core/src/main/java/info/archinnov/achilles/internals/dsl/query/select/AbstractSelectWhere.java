@@ -21,19 +21,22 @@ import static java.util.stream.Collectors.toList;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.IntStream;
 
+import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.*;
 import com.datastax.driver.core.querybuilder.Select;
 
+import info.archinnov.achilles.internals.dsl.QueryShape;
 import info.archinnov.achilles.internals.dsl.StatementProvider;
 import info.archinnov.achilles.internals.dsl.TypedMapAware;
 import info.archinnov.achilles.internals.dsl.action.SelectAction;
-import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForSelect;
+import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForRead;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.runtime.RuntimeEngine;
@@ -41,13 +44,16 @@ import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
 import info.archinnov.achilles.internals.statements.OperationType;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
 import info.archinnov.achilles.internals.types.EntityIteratorWrapper;
+import info.archinnov.achilles.internals.types.EntityPublisher;
 import info.archinnov.achilles.internals.types.TypedMapIteratorWrapper;
 import info.archinnov.achilles.type.TypedMap;
 import info.archinnov.achilles.type.interceptor.Event;
+import info.archinnov.achilles.type.page.Page;
 import info.archinnov.achilles.type.tuples.Tuple2;
+import info.archinnov.achilles.validation.Validator;
 
 public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTITY>, ENTITY>
-        extends AbstractOptionsForSelect<T>
+        extends AbstractOptionsForRead<T>
         implements SelectAction<ENTITY>, StatementProvider, TypedMapAware {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractSelectWhere.class);
@@ -64,6 +70,8 @@ public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTIT
 
     protected abstract List<Object> getEncodedValuesInternal();
 
+    protected abstract QueryShape getQueryShapeInternal();
+
     protected abstract AbstractEntityProperty<ENTITY> getMetaInternal();
 
     protected abstract Class<ENTITY> getEntityClass();
@@ -84,7 +92,7 @@ public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTIT
                     statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
         }
 
-        CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
+        CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper, getOptions().getHedging());
         return new EntityIteratorWrapper<>(futureRS, meta, statementWrapper, cassandraOptions);
     }
 
@@ -94,6 +102,23 @@ public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTIT
         return Tuple2.of(iterator, iterator.getExecutionInfo());
     }
 
+    @Override
+    public Publisher<ENTITY> publisher() {
+
+        final RuntimeEngine rte = getRte();
+        final AbstractEntityProperty<ENTITY> meta = getMetaInternal();
+        final CassandraOptions cassandraOptions = getOptions();
+
+        final StatementWrapper statementWrapper = getInternalBoundStatementWrapper();
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Generate publisher for select : %s",
+                    statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+        }
+
+        return new EntityPublisher<>(() -> rte.executeForMapping(statementWrapper, getOptions().getHedging()), meta, statementWrapper, cassandraOptions, rte.mappingExecutor);
+    }
+
     public CompletableFuture<Tuple2<List<ENTITY>, ExecutionInfo>> getListAsyncWithStats() {
 
         final RuntimeEngine rte = getRte();
@@ -107,9 +132,9 @@ public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTIT
                     statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
         }
 
-        CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
+        CompletableFuture<ResultSet> futureRS = rte.executeForMapping(statementWrapper, getOptions().getHedging());
 
-        return futureRS
+        return rte.completeOnDefaultExecutor(futureRS
                 .thenApply(options::resultSetAsyncListener)
                 .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
                 .thenApply(statementWrapper::logTrace)
@@ -122,11 +147,33 @@ public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTIT
                             .collect(toList()),
                             rs.getExecutionInfo()))
                 .thenApply(tuple2 -> {
-                    for (ENTITY entity : tuple2._1()) {
-                        meta.triggerInterceptorsForEvent(Event.POST_LOAD, entity);
-                    }
+                    meta.triggerInterceptorsForEvent(Event.POST_LOAD, tuple2._1());
                     return tuple2;
-                });
+                }));
+    }
+
+    @Override
+    public CompletableFuture<Page<ENTITY>> getPageAsync(int pageSize, Optional<PagingState> pagingState) {
+        Validator.validateTrue(pageSize > 0, "The page size should be strictly positive");
+        Validator.validateNotNull(pagingState, "The optional paging state should not be null");
+
+        // The statement is bound synchronously, restore the options so that they do not leak into the next executions
+        final CassandraOptions options = getOptions();
+        final Optional<Integer> previousFetchSize = options.getFetchSize();
+        final Optional<PagingState> previousPagingState = options.getPagingState();
+        options.setFetchSize(Optional.of(pageSize));
+        options.setPagingState(pagingState);
+        final CompletableFuture<Tuple2<List<ENTITY>, ExecutionInfo>> futureList;
+        try {
+            futureList = getListAsyncWithStats();
+        } finally {
+            options.setFetchSize(previousFetchSize);
+            options.setPagingState(previousPagingState);
+        }
+
+        return futureList
+                .thenApply(tuple2 -> new Page<>(tuple2._1(),
+                        Optional.ofNullable(tuple2._2().getPagingState()), tuple2._2()));
     }
 
     /***************************************************************************************
@@ -143,13 +190,13 @@ public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTIT
             LOGGER.trace(format("Select async with execution info : %s",
                     statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
         }
-        CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
+        CompletableFuture<ResultSet> futureRS = rte.executeForMapping(statementWrapper, getOptions().getHedging());
 
-        return futureRS
+        return rte.completeOnDefaultExecutor(futureRS
             .thenApply(options::resultSetAsyncListener)
                     .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
                     .thenApply(statementWrapper::logTrace)
-                    .thenApply(x -> Tuple2.of(mapResultSetToTypedMaps(x), x.getExecutionInfo()));
+                    .thenApply(x -> Tuple2.of(mapResultSetToTypedMaps(x), x.getExecutionInfo())));
     }
 
 
@@ -165,13 +212,13 @@ public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTIT
                     statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
         }
 
-        CompletableFuture<ResultSet> cfutureRS = rte.execute(statementWrapper);
+        CompletableFuture<ResultSet> cfutureRS = rte.executeForMapping(statementWrapper, getOptions().getHedging());
 
-        return cfutureRS
+        return rte.completeOnDefaultExecutor(cfutureRS
                 .thenApply(options::resultSetAsyncListener)
                 .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
                 .thenApply(statementWrapper::logTrace)
-                .thenApply(x -> Tuple2.of(mapRowToTypedMap(x.one()), x.getExecutionInfo()));
+                .thenApply(x -> Tuple2.of(mapRowToTypedMap(x.one()), x.getExecutionInfo())));
     }
 
     @Override
@@ -185,7 +232,7 @@ public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTIT
                     statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
         }
 
-        CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
+        CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper, getOptions().getHedging());
 
         return new TypedMapIteratorWrapper(futureRS, statementWrapper, cassandraOptions);
     }
@@ -227,14 +274,25 @@ public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTIT
         final AbstractEntityProperty<ENTITY> meta = getMetaInternal();
         final CassandraOptions cassandraOptions = getOptions();
 
-        final PreparedStatement ps = rte.prepareDynamicQuery(where);
+        final PreparedStatement ps = prepareStatement(rte);
 
         final StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.SELECT,
                 meta, ps,
-                getBoundValuesInternal().toArray(),
+                getBoundValuesInternal()::toArray,
                 getEncodedValuesInternal().toArray());
 
         statementWrapper.applyOptions(cassandraOptions);
         return statementWrapper;
     }
+
+    /**
+     * Prepare the statement keyed by the shape of the DSL chain, the query string
+     * is only rendered for dynamic shapes or when the shape is not cached yet
+     */
+    protected PreparedStatement prepareStatement(RuntimeEngine rte) {
+        final QueryShape queryShape = getQueryShapeInternal();
+        return queryShape.isDynamic()
+                ? rte.prepareDynamicQuery(where)
+                : rte.prepareDynamicQuery(queryShape.key(getClass()), () -> where);
+    }
 }
@@ -33,9 +33,10 @@ import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.querybuilder.Select;
 
+import info.archinnov.achilles.internals.dsl.QueryShape;
 import info.archinnov.achilles.internals.dsl.StatementProvider;
 import info.archinnov.achilles.internals.dsl.action.SelectJSONAction;
-import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForSelect;
+import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForRead;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.runtime.RuntimeEngine;
@@ -46,7 +47,7 @@ import info.archinnov.achilles.internals.types.JSONIteratorWrapper;
 import info.archinnov.achilles.type.tuples.Tuple2;
 
 public abstract class AbstractSelectWhereJSON<T extends AbstractSelectWhereJSON<T, ENTITY>, ENTITY>
-        extends AbstractOptionsForSelect<T>
+        extends AbstractOptionsForRead<T>
         implements SelectJSONAction, StatementProvider {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractSelectWhereJSON.class);
@@ -63,6 +64,8 @@ public abstract class AbstractSelectWhereJSON<T extends AbstractSelectWhereJSON<
 
     protected abstract List<Object> getEncodedValuesInternal();
 
+    protected abstract QueryShape getQueryShapeInternal();
+
     protected abstract AbstractEntityProperty<ENTITY> getMetaInternal();
 
     protected abstract Class<ENTITY> getEntityClass();
@@ -85,7 +88,7 @@ public abstract class AbstractSelectWhereJSON<T extends AbstractSelectWhereJSON<
             LOGGER.trace(format("Select async with execution info : %s",
                     statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
         }
-        CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
+        CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper, getOptions().getHedging());
 
         return futureRS
                 .thenApply(options::resultSetAsyncListener)
@@ -108,7 +111,7 @@ public abstract class AbstractSelectWhereJSON<T extends AbstractSelectWhereJSON<
                     statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
         }
 
-        CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
+        CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper, getOptions().getHedging());
 
         return new JSONIteratorWrapper(futureRS, statementWrapper, cassandraOptions);
     }
@@ -151,14 +154,21 @@ public abstract class AbstractSelectWhereJSON<T extends AbstractSelectWhereJSON<
         final AbstractEntityProperty<ENTITY> meta = getMetaInternal();
         final CassandraOptions cassandraOptions = getOptions();
 
-        final PreparedStatement ps = rte.prepareDynamicQuery(where);
+        final PreparedStatement ps = prepareStatement(rte);
 
         final StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.SELECT,
                 meta, ps,
-                getBoundValuesInternal().toArray(),
+                getBoundValuesInternal()::toArray,
                 getEncodedValuesInternal().toArray());
 
         statementWrapper.applyOptions(cassandraOptions);
         return statementWrapper;
     }
+
+    protected PreparedStatement prepareStatement(RuntimeEngine rte) {
+        final QueryShape queryShape = getQueryShapeInternal();
+        return queryShape.isDynamic()
+                ? rte.prepareDynamicQuery(where)
+                : rte.prepareDynamicQuery(queryShape.key(getClass()), () -> where);
+    }
 }
@@ -31,9 +31,10 @@ import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.querybuilder.Select;
 
+import info.archinnov.achilles.internals.dsl.QueryShape;
 import info.archinnov.achilles.internals.dsl.StatementProvider;
 import info.archinnov.achilles.internals.dsl.TypedMapAware;
-import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForSelect;
+import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForRead;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.runtime.RuntimeEngine;
@@ -45,7 +46,7 @@ import info.archinnov.achilles.type.TypedMap;
 import info.archinnov.achilles.type.tuples.Tuple2;
 
 public abstract class AbstractSelectWhereTypeMap<T extends AbstractSelectWhereTypeMap<T, ENTITY>, ENTITY>
-        extends AbstractOptionsForSelect<T>
+        extends AbstractOptionsForRead<T>
         implements StatementProvider, TypedMapAware {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractSelectWhereTypeMap.class);
@@ -62,6 +63,8 @@ public abstract class AbstractSelectWhereTypeMap<T extends AbstractSelectWhereTy
 
     protected abstract List<Object> getEncodedValuesInternal();
 
+    protected abstract QueryShape getQueryShapeInternal();
+
     protected abstract AbstractEntityProperty<ENTITY> getMetaInternal();
 
     protected abstract Class<ENTITY> getEntityClass();
@@ -82,13 +85,13 @@ public abstract class AbstractSelectWhereTypeMap<T extends AbstractSelectWhereTy
             LOGGER.trace(format("Select async with execution info : %s",
                     statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
         }
-        CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
+        CompletableFuture<ResultSet> futureRS = rte.executeForMapping(statementWrapper, getOptions().getHedging());
 
-        return futureRS
+        return rte.completeOnDefaultExecutor(futureRS
             .thenApply(options::resultSetAsyncListener)
                     .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
                     .thenApply(statementWrapper::logTrace)
-                    .thenApply(x -> Tuple2.of(mapResultSetToTypedMaps(x), x.getExecutionInfo()));
+                    .thenApply(x -> Tuple2.of(mapResultSetToTypedMaps(x), x.getExecutionInfo())));
     }
 
 
@@ -104,13 +107,13 @@ public abstract class AbstractSelectWhereTypeMap<T extends AbstractSelectWhereTy
                     statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
         }
 
-        CompletableFuture<ResultSet> cfutureRS = rte.execute(statementWrapper);
+        CompletableFuture<ResultSet> cfutureRS = rte.executeForMapping(statementWrapper, getOptions().getHedging());
 
-        return cfutureRS
+        return rte.completeOnDefaultExecutor(cfutureRS
                 .thenApply(options::resultSetAsyncListener)
                 .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
                 .thenApply(statementWrapper::logTrace)
-                .thenApply(x -> Tuple2.of(mapRowToTypedMap(x.one()), x.getExecutionInfo()));
+                .thenApply(x -> Tuple2.of(mapRowToTypedMap(x.one()), x.getExecutionInfo())));
     }
 
     @Override
@@ -124,7 +127,7 @@ public abstract class AbstractSelectWhereTypeMap<T extends AbstractSelectWhereTy
                     statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
         }
 
-        CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
+        CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper, getOptions().getHedging());
 
         return new TypedMapIteratorWrapper(futureRS, statementWrapper, cassandraOptions);
     }
@@ -168,14 +171,21 @@ public abstract class AbstractSelectWhereTypeMap<T extends AbstractSelectWhereTy
         final AbstractEntityProperty<ENTITY> meta = getMetaInternal();
         final CassandraOptions cassandraOptions = getOptions();
 
-        final PreparedStatement ps = rte.prepareDynamicQuery(where);
+        final PreparedStatement ps = prepareStatement(rte);
 
         final StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.SELECT,
                 meta, ps,
-                getBoundValuesInternal().toArray(),
+                getBoundValuesInternal()::toArray,
                 getEncodedValuesInternal().toArray());
 
         statementWrapper.applyOptions(cassandraOptions);
         return statementWrapper;
     }
+
+    protected PreparedStatement prepareStatement(RuntimeEngine rte) {
+        final QueryShape queryShape = getQueryShapeInternal();
+        return queryShape.isDynamic()
+                ? rte.prepareDynamicQuery(where)
+                : rte.prepareDynamicQuery(queryShape.key(getClass()), () -> where);
+    }
 }
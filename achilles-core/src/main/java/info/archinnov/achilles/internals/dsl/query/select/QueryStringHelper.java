@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.dsl.query.select;
+
+final class QueryStringHelper {
+
+    private static final String ALLOW_FILTERING = " ALLOW FILTERING;";
+
+    private QueryStringHelper() {
+    }
+
+    /**
+     * Equivalent to <em>queryString.trim().replaceFirst(";$", " ALLOW FILTERING;")</em>
+     * without compiling a regular expression on each call
+     */
+    static String appendAllowFiltering(String queryString) {
+        final String trimmed = queryString.trim();
+        if (trimmed.endsWith(";")) {
+            return new StringBuilder(trimmed.length() + ALLOW_FILTERING.length())
+                    .append(trimmed, 0, trimmed.length() - 1)
+                    .append(ALLOW_FILTERING)
+                    .toString();
+        }
+        return trimmed;
+    }
+}
@@ -19,6 +19,7 @@ package info.archinnov.achilles.internals.dsl.query.update;
 import java.util.ArrayList;
 import java.util.List;
 
+import info.archinnov.achilles.internals.dsl.QueryShape;
 import info.archinnov.achilles.internals.dsl.SchemaNameAware;
 import info.archinnov.achilles.internals.runtime.RuntimeEngine;
 
@@ -27,6 +28,7 @@ public abstract class AbstractUpdate implements SchemaNameAware {
     protected final RuntimeEngine rte;
     protected final List<Object> boundValues = new ArrayList<>();
     protected final List<Object> encodedValues = new ArrayList<>();
+    protected final QueryShape queryShape = new QueryShape();
 
 
     protected AbstractUpdate(RuntimeEngine rte) {
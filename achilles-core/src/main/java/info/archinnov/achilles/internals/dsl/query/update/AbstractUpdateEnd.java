@@ -33,6 +33,7 @@ import com.datastax.driver.core.querybuilder.QueryBuilder;
 import com.datastax.driver.core.querybuilder.Update;
 
 import info.archinnov.achilles.internals.dsl.LWTHelper;
+import info.archinnov.achilles.internals.dsl.QueryShape;
 import info.archinnov.achilles.internals.dsl.StatementProvider;
 import info.archinnov.achilles.internals.dsl.action.MutationAction;
 import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForUpdateOrDelete;
@@ -62,6 +63,8 @@ public abstract class AbstractUpdateEnd<T extends AbstractUpdateEnd<T, ENTITY>,
 
     protected abstract List<Object> getEncodedValuesInternal();
 
+    protected abstract QueryShape getQueryShapeInternal();
+
     protected abstract AbstractEntityProperty<ENTITY> getMetaInternal();
 
     protected abstract Class<ENTITY> getEntityClass();
@@ -74,6 +77,7 @@ public abstract class AbstractUpdateEnd<T extends AbstractUpdateEnd<T, ENTITY>,
     public T ifExists(boolean ifExists) {
         if (ifExists) {
             where.ifExists();
+            getQueryShapeInternal().markDynamic();
         }
         return getThis();
     }
@@ -83,11 +87,13 @@ public abstract class AbstractUpdateEnd<T extends AbstractUpdateEnd<T, ENTITY>,
      */
     public T ifExists() {
         where.ifExists();
+        getQueryShapeInternal().markDynamic();
         return getThis();
     }
 
     public T usingTimeToLive(int timeToLive) {
         where.using(QueryBuilder.ttl(QueryBuilder.bindMarker("ttl")));
+        getQueryShapeInternal().markDynamic();
         getBoundValuesInternal().add(0, timeToLive);
         getEncodedValuesInternal().add(0, timeToLive);
         return getThis();
@@ -111,7 +117,8 @@ public abstract class AbstractUpdateEnd<T extends AbstractUpdateEnd<T, ENTITY>,
                 .thenApply(cassandraOptions::resultSetAsyncListener)
                 .thenApply(statementWrapper::logTrace)
                 .thenApply(x -> LWTHelper.triggerLWTListeners(lwtResultListeners, x, queryString))
-                .thenApply(x -> x.getExecutionInfo());
+                .thenApply(x -> x.getExecutionInfo())
+                .whenComplete((x, throwable) -> rte.invalidateEntityCache(getMetaInternal().entityClass));
     }
 
     @Override
@@ -143,14 +150,21 @@ public abstract class AbstractUpdateEnd<T extends AbstractUpdateEnd<T, ENTITY>,
         final RuntimeEngine rte = getRte();
         final AbstractEntityProperty<ENTITY> meta = getMetaInternal();
         final CassandraOptions cassandraOptions = getOptions();
-        final PreparedStatement ps = rte.prepareDynamicQuery(where);
+        final PreparedStatement ps = prepareStatement(rte);
 
         final StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.UPDATE,
                 meta, ps,
-                getBoundValuesInternal().toArray(),
+                getBoundValuesInternal()::toArray,
                 getEncodedValuesInternal().toArray());
 
         statementWrapper.applyOptions(cassandraOptions);
         return statementWrapper;
     }
+
+    private PreparedStatement prepareStatement(RuntimeEngine rte) {
+        final QueryShape queryShape = getQueryShapeInternal();
+        return queryShape.isDynamic()
+                ? rte.prepareDynamicQuery(where)
+                : rte.prepareDynamicQuery(queryShape.key(getClass()), () -> where);
+    }
 }
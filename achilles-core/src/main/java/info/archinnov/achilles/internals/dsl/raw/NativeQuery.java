@@ -31,6 +31,7 @@ import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.ExecutionInfo;
 import com.datastax.driver.core.ResultSet;
 
+import info.archinnov.achilles.internals.cache.PreparedStatementInfo;
 import info.archinnov.achilles.internals.dsl.LWTHelper;
 import info.archinnov.achilles.internals.dsl.RawAndTypeMapDefaultImpl;
 import info.archinnov.achilles.internals.dsl.action.MutationAction;
@@ -156,7 +157,7 @@ public class NativeQuery implements MutationAction, RawAndTypeMapDefaultImpl {
      * @param DMLResultsDisplaySize the maximum number of returned rows to be displayed
      */
     public NativeQuery withDMLResultsDisplaySize(int DMLResultsDisplaySize) {
-        if (!getOperationType(boundStatement).isUpsert) {
+        if (!getOperationType(boundStatement, rte.cache).isUpsert) {
             options.setDMLResultsDisplaySize(Optional.of(Integer.max(0,Integer.min(DMLResultsDisplaySize, CassandraOptions.MAX_RESULTS_DISPLAY_SIZE))));
         }
         return this;
@@ -170,11 +171,11 @@ public class NativeQuery implements MutationAction, RawAndTypeMapDefaultImpl {
     @Override
     public CompletableFuture<ExecutionInfo> executeAsyncWithStats() {
 
-        final StatementWrapper statementWrapper = new NativeStatementWrapper(getOperationType(boundStatement), meta, boundStatement, encodedBoundValues);
-        final String queryString = statementWrapper.getBoundStatement().preparedStatement().getQueryString();
+        final StatementWrapper statementWrapper = new NativeStatementWrapper(getOperationType(boundStatement, rte.cache), meta, boundStatement, encodedBoundValues);
+        final PreparedStatementInfo statementInfo = rte.cache.getPreparedStatementInfo(boundStatement.preparedStatement());
 
         if (LOGGER.isTraceEnabled()) {
-            LOGGER.trace(format("Execute native query async with execution info : %s", queryString));
+            LOGGER.trace(format("Execute native query async with execution info : %s", statementInfo.queryString));
         }
 
         CompletableFuture<ResultSet> cfutureRS = rte.execute(statementWrapper);
@@ -183,7 +184,7 @@ public class NativeQuery implements MutationAction, RawAndTypeMapDefaultImpl {
                 .thenApply(options::resultSetAsyncListener)
                 .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
                 .thenApply(statementWrapper::logTrace)
-                .thenApply(x -> LWTHelper.triggerLWTListeners(lwtResultListeners, x, queryString))
+                .thenApply(x -> LWTHelper.triggerLWTListeners(lwtResultListeners, x, statementInfo))
                 .thenApply(x -> x.getExecutionInfo());
     }
 
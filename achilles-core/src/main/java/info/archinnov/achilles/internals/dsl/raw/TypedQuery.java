@@ -26,11 +26,13 @@ import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.IntStream;
 
+import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.ExecutionInfo;
+import com.datastax.driver.core.PagingState;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
 
@@ -42,8 +44,11 @@ import info.archinnov.achilles.internals.runtime.RuntimeEngine;
 import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
 import info.archinnov.achilles.internals.types.EntityIteratorWrapper;
+import info.archinnov.achilles.internals.types.EntityPublisher;
 import info.archinnov.achilles.type.interceptor.Event;
+import info.archinnov.achilles.type.page.Page;
 import info.archinnov.achilles.type.tuples.Tuple2;
+import info.archinnov.achilles.validation.Validator;
 
 /**
  * Typed query
@@ -64,7 +69,7 @@ public class TypedQuery<ENTITY> implements SelectAction<ENTITY>, RawAndTypeMapDe
         this.meta = meta;
         this.boundStatement = boundStatement;
         this.encodedBoundValues = encodedBoundValues;
-        TypedQueryValidator.validateCorrectTableName(boundStatement.preparedStatement().getQueryString().toLowerCase(), meta);
+        TypedQueryValidator.validateCorrectTableName(rte.cache.getPreparedStatementInfo(boundStatement.preparedStatement()), meta);
     }
 
     /**
@@ -149,7 +154,7 @@ public class TypedQuery<ENTITY> implements SelectAction<ENTITY>, RawAndTypeMapDe
      * @param DMLResultsDisplaySize the maximum number of returned rows to be displayed
      */
     public TypedQuery<ENTITY> withDMLResultsDisplaySize(int DMLResultsDisplaySize) {
-        if (!getOperationType(boundStatement).isUpsert) {
+        if (!getOperationType(boundStatement, rte.cache).isUpsert) {
             options.setDMLResultsDisplaySize(Optional.of(Integer.max(0,Integer.min(DMLResultsDisplaySize, CassandraOptions.MAX_RESULTS_DISPLAY_SIZE))));
         }
         return this;
@@ -163,7 +168,7 @@ public class TypedQuery<ENTITY> implements SelectAction<ENTITY>, RawAndTypeMapDe
     @Override
     public Iterator<ENTITY> iterator() {
 
-        StatementWrapper statementWrapper = new BoundStatementWrapper(getOperationType(boundStatement), meta,
+        StatementWrapper statementWrapper = new BoundStatementWrapper(getOperationType(boundStatement, rte.cache), meta,
                 boundStatement, encodedBoundValues);
 
         if (LOGGER.isTraceEnabled()) {
@@ -186,14 +191,37 @@ public class TypedQuery<ENTITY> implements SelectAction<ENTITY>, RawAndTypeMapDe
         return Tuple2.of(iterator, iterator.getExecutionInfo());
     }
 
+    /**
+     * Return a non-blocking publisher of entities, pages are fetched on demand
+     *
+     * @return Publisher&lt;ENTITY&gt;
+     */
+    @Override
+    public Publisher<ENTITY> publisher() {
+
+        StatementWrapper statementWrapper = new BoundStatementWrapper(getOperationType(boundStatement, rte.cache), meta,
+                boundStatement, encodedBoundValues);
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(String.format("Generate publisher for typed query : %s",
+                    statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+        }
+
+        return new EntityPublisher<>(() -> rte.executeForMapping(statementWrapper), meta, statementWrapper, options, rte.mappingExecutor);
+    }
+
     /**
      * Execute the typed query asynchronously and return a list of entities with execution info
      *
      * @return CompletableFuture&lt;Tuple2&lt;List&lt;ENTITY&gt;, ExecutionInfo&gt;&gt;
      */
     public CompletableFuture<Tuple2<List<ENTITY>, ExecutionInfo>> getListAsyncWithStats() {
+        return getListAsyncWithStats(boundStatement);
+    }
 
-        StatementWrapper statementWrapper = new BoundStatementWrapper(getOperationType(boundStatement), meta,
+    private CompletableFuture<Tuple2<List<ENTITY>, ExecutionInfo>> getListAsyncWithStats(BoundStatement boundStatement) {
+
+        StatementWrapper statementWrapper = new BoundStatementWrapper(getOperationType(boundStatement, rte.cache), meta,
                 boundStatement, encodedBoundValues);
 
         if (LOGGER.isTraceEnabled()) {
@@ -201,9 +229,9 @@ public class TypedQuery<ENTITY> implements SelectAction<ENTITY>, RawAndTypeMapDe
                     statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
         }
 
-        CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
+        CompletableFuture<ResultSet> futureRS = rte.executeForMapping(statementWrapper);
 
-        return futureRS
+        return rte.completeOnDefaultExecutor(futureRS
                 .thenApply(options::resultSetAsyncListener)
                 .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
                 .thenApply(statementWrapper::logTrace)
@@ -216,11 +244,58 @@ public class TypedQuery<ENTITY> implements SelectAction<ENTITY>, RawAndTypeMapDe
                                 .collect(toList()),
                         rs.getExecutionInfo()))
                 .thenApply(tuple2 -> {
-                    for (ENTITY entity : tuple2._1()) {
-                        meta.triggerInterceptorsForEvent(Event.POST_LOAD, entity);
-                    }
+                    meta.triggerInterceptorsForEvent(Event.POST_LOAD, tuple2._1());
                     return tuple2;
-                });
+                }));
+    }
+
+    /**
+     * Execute the typed query asynchronously and return a single page of at most <strong>pageSize</strong> entities.
+     * The page is fetched with a copy of the bound statement so that the fetch size and the paging state
+     * do not leak into the next executions of this query
+     *
+     * @return CompletableFuture&lt;Page&lt;ENTITY&gt;&gt;
+     */
+    @Override
+    public CompletableFuture<Page<ENTITY>> getPageAsync(int pageSize, Optional<PagingState> pagingState) {
+        Validator.validateTrue(pageSize > 0, "The page size should be strictly positive");
+        Validator.validateNotNull(pagingState, "The optional paging state should not be null");
+
+        final BoundStatement pageStatement = copyBoundStatement();
+        pageStatement.setFetchSize(pageSize);
+        pageStatement.setPagingState(pagingState.orElse(null));
+
+        return getListAsyncWithStats(pageStatement)
+                .thenApply(tuple2 -> new Page<>(tuple2._1(),
+                        Optional.ofNullable(tuple2._2().getPagingState()), tuple2._2()));
+    }
+
+    private BoundStatement copyBoundStatement() {
+        final BoundStatement copy = new BoundStatement(boundStatement.preparedStatement());
+        for (int i = 0; i < boundStatement.preparedStatement().getVariables().size(); i++) {
+            if (boundStatement.isSet(i)) {
+                copy.setBytesUnsafe(i, boundStatement.getBytesUnsafe(i));
+            }
+        }
+        copy.setConsistencyLevel(boundStatement.getConsistencyLevel());
+        if (boundStatement.getSerialConsistencyLevel() != null) {
+            copy.setSerialConsistencyLevel(boundStatement.getSerialConsistencyLevel());
+        }
+        copy.setRetryPolicy(boundStatement.getRetryPolicy());
+        copy.setDefaultTimestamp(boundStatement.getDefaultTimestamp());
+        if (boundStatement.getReadTimeoutMillis() >= 0) {
+            copy.setReadTimeoutMillis(boundStatement.getReadTimeoutMillis());
+        }
+        if (boundStatement.isIdempotent() != null) {
+            copy.setIdempotent(boundStatement.isIdempotent());
+        }
+        if (boundStatement.isTracing()) {
+            copy.enableTracing();
+        }
+        if (boundStatement.getOutgoingPayload() != null) {
+            copy.setOutgoingPayload(boundStatement.getOutgoingPayload());
+        }
+        return copy;
     }
 
     @Override
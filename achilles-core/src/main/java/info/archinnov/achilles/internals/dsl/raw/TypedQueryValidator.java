@@ -19,28 +19,25 @@ package info.archinnov.achilles.internals.dsl.raw;
 import static info.archinnov.achilles.validation.Validator.validateTrue;
 import static java.lang.String.format;
 
-import java.util.regex.Pattern;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import info.archinnov.achilles.internals.cache.PreparedStatementInfo;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 
 public class TypedQueryValidator {
     private static final Logger LOGGER = LoggerFactory.getLogger(TypedQueryValidator.class);
-    private static final String OPTIONAL_KEYSPACE_PREFIX = "[a-zA-Z0-9_]*\\.?";
 
-    public static void validateCorrectTableName(String queryString, AbstractEntityProperty<?> meta) {
+    public static void validateCorrectTableName(PreparedStatementInfo statementInfo, AbstractEntityProperty<?> meta) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Validate that the query string %s is related to the entity meta %s",
-                    queryString, meta.toString()));
+                    statementInfo.queryString, meta.toString()));
         }
 
         String tableName = meta.getTableOrViewName().toLowerCase();
 
-        final Pattern pattern = Pattern.compile(".* from " + OPTIONAL_KEYSPACE_PREFIX + tableName + "(?: )?.*");
-        validateTrue(pattern.matcher(queryString).matches(), "The typed query [%s] should contain the table name '%s' if the entity type is '%s'", queryString, tableName,
-                meta.entityClass.getCanonicalName());
+        validateTrue(statementInfo.isTargetingTable(tableName), "The typed query [%s] should contain the table name '%s' if the entity type is '%s'",
+                statementInfo.lowerCaseQueryString, tableName, meta.entityClass.getCanonicalName());
     }
 
 }
@@ -18,25 +18,166 @@ package info.archinnov.achilles.internals.factory;
 
 import static java.lang.String.format;
 
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.function.Supplier;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.type.factory.BeanFactory;
 
+/**
+ * Default {@link info.archinnov.achilles.type.factory.BeanFactory} using the no-arg constructor.
+ * <br/>
+ * The constructor is resolved only once per class and bound to a {@link java.util.function.Supplier}
+ * generated with {@link java.lang.invoke.LambdaMetafactory} so that each instantiation is a plain
+ * <strong>new</strong> call instead of a reflective {@link java.lang.Class#newInstance()}
+ */
 public class DefaultBeanFactory implements BeanFactory {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultBeanFactory.class);
 
+    private static final MethodType SUPPLIER_FACTORY_TYPE = MethodType.methodType(Supplier.class);
+    private static final MethodType SUPPLIER_GET_TYPE = MethodType.methodType(Object.class);
+
+    private static final ClassValue<Supplier<?>> INSTANTIATORS = new ClassValue<Supplier<?>>() {
+        @Override
+        protected Supplier<?> computeValue(Class<?> type) {
+            return buildInstantiator(type);
+        }
+    };
+
+    /**
+     * Resolve once the instantiation function of the given class.
+     * <br/>
+     * For the default bean factory, the returned {@link java.util.function.Supplier} calls directly the no-arg constructor,
+     * otherwise it delegates to the runtime-provided {@link info.archinnov.achilles.type.factory.BeanFactory}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Supplier<T> instantiatorFor(BeanFactory beanFactory, Class<T> clazz) {
+        if (beanFactory instanceof DefaultBeanFactory) {
+            return (Supplier<T>) INSTANTIATORS.get(clazz);
+        } else {
+            return () -> beanFactory.newInstance(clazz);
+        }
+    }
+
     @Override
+    @SuppressWarnings("unchecked")
     public <T> T newInstance(Class<T> clazz) {
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Creating new instance of class %s", clazz.getCanonicalName()));
         }
+        return (T) INSTANTIATORS.get(clazz).get();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Supplier<T> buildInstantiator(Class<T> clazz) {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Resolving no-arg constructor of class %s", clazz.getCanonicalName()));
+        }
+        if (clazz.isInterface() || Modifier.isAbstract(clazz.getModifiers())) {
+            return missingDefaultConstructor(clazz);
+        }
+
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        final MethodHandle constructorHandle;
         try {
-            return clazz.newInstance();
-        } catch (InstantiationException | IllegalAccessException e) {
+            final Constructor<T> constructor = clazz.getDeclaredConstructor();
+            constructorHandle = lookup.unreflectConstructor(constructor);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return missingDefaultConstructor(clazz);
+        }
+
+        final Supplier<T> methodHandleInstantiator = methodHandleInstantiator(clazz, constructorHandle);
+        if (!isVisibleFromAchilles(clazz)) {
+            // The generated function would resolve the class name from the class loader of Achilles
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(format("Class %s is not visible from the class loader of Achilles, using method handle instead",
+                        clazz.getCanonicalName()));
+            }
+            return methodHandleInstantiator;
+        }
+
+        try {
+            final CallSite callSite = LambdaMetafactory.metafactory(lookup, "get", SUPPLIER_FACTORY_TYPE,
+                    SUPPLIER_GET_TYPE, constructorHandle, MethodType.methodType(clazz));
+            return new LinkageSafeInstantiator<>(clazz, (Supplier<T>) callSite.getTarget().invoke(), methodHandleInstantiator);
+        } catch (Throwable throwable) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(format("Cannot generate instantiation function for class %s, using method handle instead : %s",
+                        clazz.getCanonicalName(), throwable.getMessage()));
+            }
+            return methodHandleInstantiator;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Supplier<T> methodHandleInstantiator(Class<T> clazz, MethodHandle constructorHandle) {
+        final MethodHandle genericHandle = constructorHandle.asType(SUPPLIER_GET_TYPE);
+        return () -> {
+            try {
+                return (T) genericHandle.invokeExact();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new AchillesException(format("Cannot instantiate instance of class '%s'", clazz.getCanonicalName()), e);
+            }
+        };
+    }
+
+    private static boolean isVisibleFromAchilles(Class<?> clazz) {
+        try {
+            return Class.forName(clazz.getName(), false, DefaultBeanFactory.class.getClassLoader()) == clazz;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static <T> Supplier<T> missingDefaultConstructor(Class<T> clazz) {
+        return () -> {
             throw new AchillesException(format("Cannot instantiate instance of class '%s'. Did you forget to declare a default constructor ?", clazz.getCanonicalName()));
+        };
+    }
+
+    /**
+     * The function generated by {@link java.lang.invoke.LambdaMetafactory} links the constructor lazily,
+     * on its first call. If the linkage fails, switch once and for all to the method handle
+     */
+    static class LinkageSafeInstantiator<T> implements Supplier<T> {
+        private final Class<T> clazz;
+        private final Supplier<T> fallback;
+        private volatile Supplier<T> delegate;
+
+        LinkageSafeInstantiator(Class<T> clazz, Supplier<T> generated, Supplier<T> fallback) {
+            this.clazz = clazz;
+            this.delegate = generated;
+            this.fallback = fallback;
+        }
+
+        @Override
+        public T get() {
+            final Supplier<T> current = delegate;
+            try {
+                return current.get();
+            } catch (NoClassDefFoundError | IllegalAccessError e) {
+                if (current == fallback) {
+                    throw e;
+                }
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(format("Cannot link instantiation function for class %s, using method handle instead : %s",
+                            clazz.getCanonicalName(), e.getMessage()));
+                }
+                delegate = fallback;
+                return fallback.get();
+            }
         }
     }
 }
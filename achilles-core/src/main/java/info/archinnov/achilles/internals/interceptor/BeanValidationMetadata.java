@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.interceptor;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import javax.validation.GroupSequence;
+import javax.validation.Validator;
+import javax.validation.groups.Default;
+import javax.validation.metadata.BeanDescriptor;
+import javax.validation.metadata.PropertyDescriptor;
+
+/**
+ * Bean Validation metadata and counters of an entity type, computed once per entity class
+ */
+class BeanValidationMetadata {
+
+    final Class<?> entityClass;
+    final boolean constrained;
+
+    private final AtomicLong loadedCount = new AtomicLong(0L);
+    private final LongAdder validatedCount = new LongAdder();
+    private final LongAdder skippedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder validationTimeInNanos = new LongAdder();
+
+    BeanValidationMetadata(Class<?> entityClass, boolean constrained) {
+        this.entityClass = entityClass;
+        this.constrained = constrained;
+    }
+
+    static BeanValidationMetadata of(Validator validator, Class<?> entityClass, Class<?>[] groups) {
+        return new BeanValidationMetadata(entityClass, isConstrainedForGroups(validator.getConstraintsForClass(entityClass), groups));
+    }
+
+    /**
+     * An entity is constrained for the given groups if it has a class-level constraint or a property constraint
+     * belonging to one of these groups, or a cascaded property. Group sequences are not expanded by the
+     * metadata API so any constrained entity is considered as constrained when a group sequence is involved
+     */
+    static boolean isConstrainedForGroups(BeanDescriptor descriptor, Class<?>[] groups) {
+        if (!descriptor.isBeanConstrained()) {
+            return false;
+        }
+        for (Class<?> group : groups) {
+            if (group.equals(Default.class) || group.isAnnotationPresent(GroupSequence.class)) {
+                return true;
+            }
+        }
+        if (descriptor.findConstraints().unorderedAndMatchingGroups(groups).hasConstraints()) {
+            return true;
+        }
+        for (PropertyDescriptor property : descriptor.getConstrainedProperties()) {
+            if (property.isCascaded() || property.findConstraints().unorderedAndMatchingGroups(groups).hasConstraints()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param samplingRate validate 1 loaded entity out of <em>samplingRate</em>
+     * @return whether the current loaded entity should be validated
+     */
+    boolean sampleLoadedEntity(int samplingRate) {
+        if (samplingRate <= 1 || loadedCount.getAndIncrement() % samplingRate == 0) {
+            return true;
+        }
+        skippedCount.increment();
+        return false;
+    }
+
+    void recordValidation(long elapsedNanos, boolean failed) {
+        validatedCount.increment();
+        validationTimeInNanos.add(elapsedNanos);
+        if (failed) {
+            failedCount.increment();
+        }
+    }
+
+    BeanValidationStats getStats() {
+        return new BeanValidationStats(entityClass, validatedCount.sum(), skippedCount.sum(), failedCount.sum(), validationTimeInNanos.sum());
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.interceptor;
+
+import static java.lang.String.format;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable snapshot of the Bean Validation statistics of an entity type.
+ * <br/>
+ * Counters are cumulative since the bootstrap of the manager factory
+ */
+public class BeanValidationStats {
+
+    private final Class<?> entityClass;
+    private final long validatedCount;
+    private final long skippedCount;
+    private final long failedCount;
+    private final long totalValidationTimeInNanos;
+
+    public BeanValidationStats(Class<?> entityClass, long validatedCount, long skippedCount, long failedCount, long totalValidationTimeInNanos) {
+        this.entityClass = entityClass;
+        this.validatedCount = validatedCount;
+        this.skippedCount = skippedCount;
+        this.failedCount = failedCount;
+        this.totalValidationTimeInNanos = totalValidationTimeInNanos;
+    }
+
+    public Class<?> getEntityClass() {
+        return entityClass;
+    }
+
+    /**
+     * @return number of entities validated
+     */
+    public long getValidatedCount() {
+        return validatedCount;
+    }
+
+    /**
+     * @return number of loaded entities not validated because of the POST_LOAD sampling rate
+     */
+    public long getSkippedCount() {
+        return skippedCount;
+    }
+
+    /**
+     * @return number of validations which raised constraint violations
+     */
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    public long getTotalValidationTimeInNanos() {
+        return totalValidationTimeInNanos;
+    }
+
+    public double getMeanValidationTimeInMicros() {
+        return validatedCount == 0 ? 0.0 : (double) TimeUnit.NANOSECONDS.toMicros(totalValidationTimeInNanos) / validatedCount;
+    }
+
+    public BeanValidationStats plus(BeanValidationStats other) {
+        return new BeanValidationStats(entityClass, validatedCount + other.validatedCount, skippedCount + other.skippedCount,
+                failedCount + other.failedCount, totalValidationTimeInNanos + other.totalValidationTimeInNanos);
+    }
+
+    @Override
+    public String toString() {
+        return format("BeanValidationStats{entityClass=%s, validatedCount=%s, skippedCount=%s, failedCount=%s, totalValidationTimeInNanos=%s}",
+                entityClass.getCanonicalName(), validatedCount, skippedCount, failedCount, totalValidationTimeInNanos);
+    }
+}
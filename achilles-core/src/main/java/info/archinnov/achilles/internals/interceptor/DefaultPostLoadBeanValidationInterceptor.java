@@ -18,23 +18,45 @@ package info.archinnov.achilles.internals.interceptor;
 
 
 import static info.archinnov.achilles.type.interceptor.Event.POST_LOAD;
-import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 
 import java.util.List;
 import javax.validation.Validator;
 
 import info.archinnov.achilles.type.interceptor.Event;
 
-
+/**
+ * Validate loaded entities. With a sampling rate of <em>N</em>, only 1 loaded entity
+ * out of <em>N</em> is validated for each entity type
+ */
 public class DefaultPostLoadBeanValidationInterceptor extends DefaultPreMutateBeanValidationInterceptor {
 
+    private static final List<Event> EVENTS = singletonList(POST_LOAD);
+
+    private final int samplingRate;
+
     public DefaultPostLoadBeanValidationInterceptor(Validator validator) {
-        super(validator);
+        this(validator, new Class<?>[0], 1);
+    }
+
+    public DefaultPostLoadBeanValidationInterceptor(Validator validator, Class<?>[] groups, int samplingRate) {
+        super(validator, groups);
+        info.archinnov.achilles.validation.Validator.validateTrue(samplingRate > 0, "The post load bean validation sampling rate should be strictly positive");
+        this.samplingRate = samplingRate;
+    }
+
+    @Override
+    public void onEvent(Object entity, Event event) {
+        info.archinnov.achilles.validation.Validator.validateNotNull(entity, "Entity passed to bean validation interceptor should not be null on event %s", event.name());
+        final BeanValidationMetadata entityMetadata = getMetadata(entity.getClass());
+        if (entityMetadata.sampleLoadedEntity(samplingRate)) {
+            validate(entity, event, entityMetadata);
+        }
     }
 
     @Override
     public List<Event> interceptOnEvents() {
-        return asList(POST_LOAD);
+        return EVENTS;
     }
 
 
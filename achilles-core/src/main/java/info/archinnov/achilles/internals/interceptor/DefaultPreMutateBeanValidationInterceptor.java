@@ -23,13 +23,16 @@ import static java.lang.String.format;
 import static java.util.Arrays.asList;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import javax.validation.ConstraintViolation;
 import javax.validation.Path;
 import javax.validation.Validator;
+import javax.validation.groups.Default;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,20 +46,30 @@ public class DefaultPreMutateBeanValidationInterceptor implements AchillesIntern
     private static final String LOGGER_NAME = "info.archinnov.achilles.internals.interceptor.DefaultBeanValidatorInterceptor";
     private static final Logger LOGGER = LoggerFactory.getLogger(LOGGER_NAME);
 
-    private final Map<Class<?>, Boolean> constrainedClasses = new HashMap<>();
-    private Validator validator;
+    private static final Class<?>[] DEFAULT_GROUPS = new Class<?>[]{Default.class};
+    private static final List<Event> EVENTS = Collections.unmodifiableList(asList(PRE_INSERT, PRE_UPDATE));
+
+    private final ConcurrentMap<Class<?>, BeanValidationMetadata> metadata = new ConcurrentHashMap<>();
+    private final Validator validator;
+    private final Class<?>[] groups;
 
     public DefaultPreMutateBeanValidationInterceptor(Validator validator) {
+        this(validator, DEFAULT_GROUPS);
+    }
+
+    /**
+     * @param validator Bean Validation validator
+     * @param groups validation groups to validate, the <em>Default</em> group if empty
+     */
+    public DefaultPreMutateBeanValidationInterceptor(Validator validator, Class<?>[] groups) {
         this.validator = validator;
+        this.groups = groups.length == 0 ? DEFAULT_GROUPS : groups.clone();
     }
 
 
     @Override
     public boolean acceptEntity(Class<?> entityClass) {
-        if (!constrainedClasses.containsKey(entityClass)) {
-            constrainedClasses.put(entityClass, validator.getConstraintsForClass(entityClass).isBeanConstrained());
-        }
-        final Boolean acceptEntity = constrainedClasses.get(entityClass);
+        final boolean acceptEntity = getMetadata(entityClass).constrained;
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Accept entity %s for bean validation ? %s", entityClass.getCanonicalName(), acceptEntity));
         }
@@ -66,11 +79,38 @@ public class DefaultPreMutateBeanValidationInterceptor implements AchillesIntern
     @Override
     public void onEvent(Object entity, Event event) {
         info.archinnov.achilles.validation.Validator.validateNotNull(entity, "Entity passed to bean validation interceptor should not be null on event %s", event.name());
+        validate(entity, event, getMetadata(entity.getClass()));
+    }
+
+    @Override
+    public List<Event> interceptOnEvents() {
+        return EVENTS;
+    }
+
+    /**
+     * @param entityClass entity class
+     * @return a snapshot of the validation statistics of the entity class, if it has already been validated
+     */
+    public Optional<BeanValidationStats> getStats(Class<?> entityClass) {
+        return Optional.ofNullable(metadata.get(entityClass)).map(BeanValidationMetadata::getStats);
+    }
+
+    BeanValidationMetadata getMetadata(Class<?> entityClass) {
+        final BeanValidationMetadata entityMetadata = metadata.get(entityClass);
+        if (entityMetadata != null) {
+            return entityMetadata;
+        }
+        return metadata.computeIfAbsent(entityClass, clazz -> BeanValidationMetadata.of(validator, clazz, groups));
+    }
+
+    void validate(Object entity, Event event, BeanValidationMetadata entityMetadata) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Trigger bean validation interceptor for entity of class %s and event %s",
                     entity.getClass().getCanonicalName(), event.name()));
         }
-        Set<ConstraintViolation<Object>> violations = validator.validate(entity);
+        final long start = System.nanoTime();
+        final Set<ConstraintViolation<Object>> violations = validator.validate(entity, groups);
+        entityMetadata.recordValidation(System.nanoTime() - start, violations.size() > 0);
         if (violations.size() > 0) {
             StringBuilder errorMessage = new StringBuilder("Bean validation error on event '" + event.name() + "' : \n");
             for (ConstraintViolation<Object> violation : violations) {
@@ -80,11 +120,6 @@ public class DefaultPreMutateBeanValidationInterceptor implements AchillesIntern
         }
     }
 
-    @Override
-    public List<Event> interceptOnEvents() {
-        return asList(PRE_INSERT, PRE_UPDATE);
-    }
-
 
     private void buildValidationErrorMessage(StringBuilder errorMessage, ConstraintViolation<Object> violation) {
         if (LOGGER.isTraceEnabled()) {
@@ -23,17 +23,20 @@ import static java.lang.String.format;
 import static java.util.stream.Collectors.toList;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.*;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.BiMap;
 
-import info.archinnov.achilles.internals.cache.StatementsCache;
 import info.archinnov.achilles.internals.cassandra_version.InternalCassandraVersion;
 import info.archinnov.achilles.internals.context.ConfigurationContext;
+import info.archinnov.achilles.internals.factory.DefaultBeanFactory;
 import info.archinnov.achilles.internals.factory.TupleTypeFactory;
 import info.archinnov.achilles.internals.factory.UserTypeFactory;
 import info.archinnov.achilles.internals.injectable.*;
@@ -43,6 +46,7 @@ import info.archinnov.achilles.internals.runtime.BeanValueExtractor;
 import info.archinnov.achilles.internals.schema.SchemaContext;
 import info.archinnov.achilles.internals.schema.SchemaCreator;
 import info.archinnov.achilles.internals.statements.BoundValuesWrapper;
+import info.archinnov.achilles.internals.statements.StaticStatementsPreparer;
 import info.archinnov.achilles.internals.strategy.naming.InternalNamingStrategy;
 import info.archinnov.achilles.internals.types.OverridingOptional;
 import info.archinnov.achilles.internals.utils.CollectionsHelper;
@@ -64,6 +68,7 @@ public abstract class AbstractEntityProperty<T> implements
         InjectRuntimeCodecs {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractEntityProperty.class);
+    private static final int MAX_ROW_DECODERS = 100;
 
     public final Logger entityLogger;
     public final Class<T> entityClass;
@@ -87,8 +92,12 @@ public abstract class AbstractEntityProperty<T> implements
     public final List<AbstractProperty<T, ?, ?>> constructorInjectedColumns;
     public final List<AbstractProperty<T, ?, ?>> allColumns;
     public final List<AbstractProperty<T, ?, ?>> allColumnsWithComputed;
+    public final AbstractProperty<T, ?, ?>[] allBoundColumns;
+    public final AbstractProperty<T, ?, ?>[] partitionKeysAndStaticBoundColumns;
     public final List<Interceptor<T>> interceptors = new ArrayList<>();
+    private volatile Map<Event, Interceptor<T>[]> interceptorsByEvent;
     protected BeanFactory beanFactory;
+    protected Supplier<T> instantiator;
     protected Optional<String> keyspace = Optional.empty();
     protected ConsistencyLevel readConsistencyLevel;
     protected ConsistencyLevel writeConsistencyLevel;
@@ -96,6 +105,13 @@ public abstract class AbstractEntityProperty<T> implements
     protected InsertStrategy insertStrategy;
     public Optional<SchemaNameProvider> schemaStrategy = Optional.empty();
 
+    // Rows of the same result set or prepared statement share the same ColumnDefinitions instance
+    private final Cache<ColumnDefinitions, RowDecoder<T>> rowDecoders = CacheBuilder.newBuilder()
+            .weakKeys()
+            .maximumSize(MAX_ROW_DECODERS)
+            .build();
+    private volatile RowDecoder<T> lastRowDecoder;
+
 
     public AbstractEntityProperty() {
         entityClass = getEntityClass();
@@ -120,6 +136,18 @@ public abstract class AbstractEntityProperty<T> implements
         counterColumns = getCounterColumns();
         allColumns = getAllColumns();
         allColumnsWithComputed = getAllColumnsWithComputed();
+        allBoundColumns = toArray(partitionKeys, staticColumns, clusteringColumns, normalColumns, counterColumns);
+        partitionKeysAndStaticBoundColumns = toArray(partitionKeys, staticColumns);
+    }
+
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    private static <T> AbstractProperty<T, ?, ?>[] toArray(List<AbstractProperty<T, ?, ?>>... columns) {
+        final List<AbstractProperty<T, ?, ?>> all = new ArrayList<>();
+        for (List<AbstractProperty<T, ?, ?>> list : columns) {
+            all.addAll(list);
+        }
+        return all.toArray(new AbstractProperty[all.size()]);
     }
 
     protected abstract Class<T> getEntityClass();
@@ -217,14 +245,66 @@ public abstract class AbstractEntityProperty<T> implements
     }
 
     public void triggerInterceptorsForEvent(Event event, T instance) {
+        final Interceptor<T>[] eventInterceptors = getInterceptorsForEvent(event);
+        if (eventInterceptors == null) {
+            return;
+        }
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Trigger interceptors for entity %s on event %s",
                     instance, event.name()));
         }
-        interceptors
-                .stream()
-                .filter(x -> x.interceptOnEvents().contains(event))
-                .forEach(x -> x.onEvent(instance, event));
+        for (Interceptor<T> interceptor : eventInterceptors) {
+            interceptor.onEvent(instance, event);
+        }
+    }
+
+    /**
+     * Trigger the interceptors once for all the given entities,
+     * see {@link info.archinnov.achilles.type.interceptor.Interceptor#onEvents(List, Event)}
+     */
+    public void triggerInterceptorsForEvent(Event event, List<T> instances) {
+        final Interceptor<T>[] eventInterceptors = getInterceptorsForEvent(event);
+        if (eventInterceptors == null || instances.isEmpty()) {
+            return;
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Trigger interceptors for %s entities of type %s on event %s",
+                    instances.size(), entityClass.getCanonicalName(), event.name()));
+        }
+        for (Interceptor<T> interceptor : eventInterceptors) {
+            interceptor.onEvents(instances, event);
+        }
+    }
+
+    public boolean hasInterceptorsForEvent(Event event) {
+        return getInterceptorsForEvent(event) != null;
+    }
+
+    /**
+     * Bucket the interceptors by event once so that triggering an event does not
+     * have to call <em>interceptOnEvents()</em> on every interceptor. To be called
+     * after the interceptors have been added
+     */
+    @SuppressWarnings("unchecked")
+    public void buildInterceptorsDispatchTable() {
+        final Map<Event, Interceptor<T>[]> dispatchTable = new EnumMap<>(Event.class);
+        for (Event event : Event.values()) {
+            final Interceptor<T>[] eventInterceptors = interceptors
+                    .stream()
+                    .filter(x -> x.interceptOnEvents().contains(event))
+                    .toArray(Interceptor[]::new);
+            if (eventInterceptors.length > 0) {
+                dispatchTable.put(event, eventInterceptors);
+            }
+        }
+        interceptorsByEvent = dispatchTable;
+    }
+
+    private Interceptor<T>[] getInterceptorsForEvent(Event event) {
+        if (interceptorsByEvent == null) {
+            buildInterceptorsDispatchTable();
+        }
+        return interceptorsByEvent.get(event);
     }
 
     protected abstract T newInstanceFromCustomConstructor(Row row, List<String> cqlColumns);
@@ -235,30 +315,48 @@ public abstract class AbstractEntityProperty<T> implements
                     entityClass.getCanonicalName(), row));
         }
         if (row != null) {
+            final RowDecoder<T> rowDecoder = getRowDecoder(row.getColumnDefinitions());
             // No custom constructor
-            final List<String> cqlColumns = row.getColumnDefinitions().asList().stream().map(def -> def.getName()).collect(toList());
             if (constructorInjectedColumns.size() == 0) {
-                T newInstance = beanFactory.newInstance(entityClass);
-                allColumnsWithComputed
-                        .stream()
-                        .filter(x -> cqlColumns.contains(x.getColumnForSelect()))
-                        .forEach(x -> x.decodeField(row, newInstance));
+                T newInstance = instantiator.get();
+                rowDecoder.decodeFields(row, newInstance);
                 return newInstance;
             } else {
 
-                final T newInstance = newInstanceFromCustomConstructor(row, cqlColumns);
+                final T newInstance = newInstanceFromCustomConstructor(row, rowDecoder.cqlColumns);
 
                 // Call setters for remaining fields not injected by constructor
-                allColumnsWithComputed
-                        .stream()
-                        .filter(x -> !constructorInjectedColumns.contains(x))
-                        .forEach(x -> x.decodeField(row, newInstance));
+                rowDecoder.decodeFields(row, newInstance);
                 return newInstance;
             }
         }
         return null;
     }
 
+    private RowDecoder<T> getRowDecoder(ColumnDefinitions columnDefinitions) {
+        final RowDecoder<T> last = lastRowDecoder;
+        if (last != null && last.columnDefinitions == columnDefinitions) {
+            return last;
+        }
+
+        RowDecoder<T> rowDecoder = rowDecoders.getIfPresent(columnDefinitions);
+        if (rowDecoder == null) {
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.trace(format("Build row decoder of entity type %s for columns %s",
+                        entityClass.getCanonicalName(), columnDefinitions));
+            }
+            rowDecoder = constructorInjectedColumns.size() == 0
+                    ? new RowDecoder<>(columnDefinitions, allColumnsWithComputed, true)
+                    : new RowDecoder<>(columnDefinitions, allColumnsWithComputed
+                        .stream()
+                        .filter(x -> !constructorInjectedColumns.contains(x))
+                        .collect(toList()), false);
+            rowDecoders.put(columnDefinitions, rowDecoder);
+        }
+        lastRowDecoder = rowDecoder;
+        return rowDecoder;
+    }
+
     public BoundValuesWrapper extractAllValuesFromEntity(T instance, CassandraOptions cassandraOptions) {
         return BeanValueExtractor.extractAllValues(instance, this, cassandraOptions);
     }
@@ -293,17 +391,17 @@ public abstract class AbstractEntityProperty<T> implements
         return tableName;
     }
 
-    public void prepareStaticStatements(InternalCassandraVersion cassandraVersion, Session session, StatementsCache cache) {
+    public void prepareStaticStatements(InternalCassandraVersion cassandraVersion, StaticStatementsPreparer preparer) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Preparing static statements for entity of type %s",
                     entityClass.getCanonicalName()));
         }
         if (!counterTable) {
-            generateStaticInsertQueries(cassandraVersion, session, cache, this);
+            generateStaticInsertQueries(cassandraVersion, preparer, this);
         }
 
-        generateStaticDeleteQueries(session, cache, this);
-        generateStaticSelectQuery(session, cache, this);
+        generateStaticDeleteQueries(preparer, this);
+        generateStaticSelectQuery(preparer, this);
     }
 
     protected List<AbstractProperty<T, ?, ?>> getAllColumns() {
@@ -455,6 +553,7 @@ public abstract class AbstractEntityProperty<T> implements
                     factory, entityClass.getCanonicalName()));
         }
         beanFactory = factory;
+        instantiator = DefaultBeanFactory.instantiatorFor(factory, entityClass);
 
         for (AbstractProperty<T, ?, ?> x : allColumns) {
             x.inject(factory);
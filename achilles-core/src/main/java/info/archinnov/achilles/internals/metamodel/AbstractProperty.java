@@ -22,6 +22,7 @@ import java.util.Optional;
 
 import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.GettableData;
+import com.datastax.driver.core.Row;
 import com.datastax.driver.core.SettableData;
 import com.datastax.driver.core.UDTValue;
 import com.google.common.reflect.TypeToken;
@@ -41,6 +42,7 @@ public abstract class AbstractProperty<ENTITY, VALUEFROM, VALUETO>
     public TypeToken<VALUETO> valueToTypeToken;
     protected Optional<SchemaNameProvider> schemaNameProvider = Optional.empty();
     private DataType dataType;
+    private String quotedColumnForSelect;
 
     AbstractProperty(TypeToken<VALUEFROM> valueFromTypeToken, TypeToken<VALUETO> valueToTypeToken, FieldInfo<ENTITY, VALUEFROM> fieldInfo) {
         this.valueFromTypeToken = valueFromTypeToken;
@@ -128,12 +130,31 @@ public abstract class AbstractProperty<ENTITY, VALUEFROM, VALUETO>
      * @return
      */
     public VALUEFROM decodeFromGettable(GettableData gettableData) {
-        if (gettableData.isNull(NamingHelper.maybeQuote(getColumnForSelect())) && !isOptional()) return null;
+        if (gettableData.isNull(getQuotedColumnForSelect()) && !isOptional()) return null;
         return decodeFromGettableInternal(gettableData);
     }
 
     abstract VALUEFROM decodeFromGettableInternal(GettableData gettableData);
 
+    /**
+     * Decode the column at the given index of the Row to Java value using Achilles codec system.
+     * The index should have been resolved once for the row {@link com.datastax.driver.core.ColumnDefinitions}
+     * @param row
+     * @param index
+     * @return
+     */
+    public VALUEFROM decodeFromRow(Row row, int index) {
+        if (row.isNull(index) && !isOptional()) return null;
+        return decodeFromRowInternal(row, index);
+    }
+
+    /**
+     * Fall back to lookup by column name, properties able to read by index should override this method
+     */
+    VALUEFROM decodeFromRowInternal(Row row, int index) {
+        return decodeFromGettableInternal(row);
+    }
+
     /**
      * Decode the given raw object to Java value value using Achilles codec system
      * @param o
@@ -245,6 +266,17 @@ public abstract class AbstractProperty<ENTITY, VALUEFROM, VALUETO>
         fieldInfo.setter.set(entity, valuefrom);
     }
 
+    /**
+     * Same as {@link AbstractProperty#decodeField(GettableData, Object)} but read the column by index
+     * @param row
+     * @param index
+     * @param entity
+     */
+    public void decodeField(Row row, int index, ENTITY entity) {
+        final VALUEFROM valuefrom = decodeFromRow(row, index);
+        fieldInfo.setter.set(entity, valuefrom);
+    }
+
     /**
      * Call the getter on the given entity to get the value
      * @param entity
@@ -262,6 +294,17 @@ public abstract class AbstractProperty<ENTITY, VALUEFROM, VALUETO>
         return fieldInfo.cqlColumn;
     }
 
+    /**
+     * @return the quoted name of the column holding the value in a SELECT result,
+     * the alias for computed columns
+     */
+    String getQuotedColumnForSelect() {
+        if (quotedColumnForSelect == null) {
+            quotedColumnForSelect = NamingHelper.maybeQuote(getColumnForSelect());
+        }
+        return quotedColumnForSelect;
+    }
+
     public DataType getDataType() {
         if (dataType == null) {
             dataType = buildType(Optional.empty());
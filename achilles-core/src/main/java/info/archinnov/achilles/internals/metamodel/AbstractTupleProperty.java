@@ -27,6 +27,7 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.datastax.driver.core.Row;
 import com.datastax.driver.core.SettableData;
 import com.datastax.driver.core.TupleType;
 import com.datastax.driver.core.TupleValue;
@@ -51,6 +52,7 @@ public abstract class AbstractTupleProperty<ENTITY, T extends Tuple> extends Abs
     };
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractTupleProperty.class);
     protected TupleType tupleType;
+    private final RuntimeTypeCache<TupleType> runtimeTupleTypes = new RuntimeTypeCache<>();
     protected TupleTypeFactory tupleTypeFactory;
 
     AbstractTupleProperty(TypeToken<T> valueFromTypeToken, FieldInfo<ENTITY, T> fieldInfo) {
@@ -67,6 +69,15 @@ public abstract class AbstractTupleProperty<ENTITY, T extends Tuple> extends Abs
 
     protected abstract List<AbstractProperty<ENTITY, ?, ?>> componentsProperty();
 
+    @Override
+    T decodeFromRowInternal(Row row, int index) {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Decode '%s' tuple from row %s at index %s", fieldName, row, index));
+        }
+
+        return decodeFromRaw(row.getTupleValue(index));
+    }
+
     @Override
     public void encodeToSettable(TupleValue tuple, SettableData<?> settableData) {
         if (LOGGER.isTraceEnabled()) {
@@ -89,6 +100,7 @@ public abstract class AbstractTupleProperty<ENTITY, T extends Tuple> extends Abs
          for (AbstractProperty<ENTITY, ?, ?> x : componentsProperty()) {
              x.injectKeyspace(keyspace);
          }
+         runtimeTupleTypes.clear();
      }
 
              @Override
@@ -98,6 +110,7 @@ public abstract class AbstractTupleProperty<ENTITY, T extends Tuple> extends Abs
             x.inject(userTypeFactory, tupleTypeFactory);
         }
         this.tupleType = this.buildType(schemaNameProvider.map(CassandraOptions::withSchemaNameProvider));
+        this.runtimeTupleTypes.clear();
     }
 
     @Override
@@ -145,9 +158,20 @@ public abstract class AbstractTupleProperty<ENTITY, T extends Tuple> extends Abs
         for (AbstractProperty<ENTITY, ?, ?> x : componentsProperty()) {
             x.inject(schemaNameProvider);
         }
+        runtimeTupleTypes.clear();
     }
 
-     protected TupleType getRuntimeTupleType(Optional<CassandraOptions> options) {
-         return options.isPresent() ? buildType(options) : tupleType;
-     }
+    /**
+     * The resolved type only depends on the keyspaces resolved for the nested UDTs
+     * so it is built once per combination instead of on each encoding
+     */
+    protected TupleType getRuntimeTupleType(Optional<CassandraOptions> options) {
+        if (options.isPresent() && options.get().hasSchemaNameProvider()) {
+            final List<AbstractUDTClassProperty<?>> udtClassProperties = getUDTClassProperties();
+            if (!udtClassProperties.isEmpty()) {
+                return runtimeTupleTypes.get(RuntimeTypeCache.keyFor(udtClassProperties, options), () -> buildType(options));
+            }
+        }
+        return tupleType;
+    }
 }
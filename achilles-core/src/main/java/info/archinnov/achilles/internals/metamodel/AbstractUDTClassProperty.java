@@ -22,7 +22,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,6 +36,7 @@ import com.datastax.driver.core.schemabuilder.SchemaBuilder;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import info.archinnov.achilles.annotations.UDT;
+import info.archinnov.achilles.internals.factory.DefaultBeanFactory;
 import info.archinnov.achilles.internals.factory.TupleTypeFactory;
 import info.archinnov.achilles.internals.factory.UserTypeFactory;
 import info.archinnov.achilles.internals.injectable.*;
@@ -63,8 +66,12 @@ public abstract class AbstractUDTClassProperty<A>
     public final List<AbstractProperty<A, ?, ?>> constructorInjectedProperty;
     public final Class<?> parentEntityClass;
     protected BeanFactory udtFactory;
+    protected Supplier<A> udtInstantiator;
     protected UserTypeFactory userTypeFactory;
-    protected UserType userType;
+    private final RuntimeTypeCache<UserType> runtimeUserTypes = new RuntimeTypeCache<>();
+    private final RuntimeTypeCache<UserType> runtimeFrozenUserTypes = new RuntimeTypeCache<>();
+    private volatile UserType userType;
+    private volatile UserType frozenUserType;
     protected Optional<SchemaNameProvider> schemaNameProvider = Optional.empty();
     String keyspace;
 
@@ -103,7 +110,7 @@ public abstract class AbstractUDTClassProperty<A>
         if (udtValue != null) {
             final A instance;
             if (constructorInjectedProperty.size() == 0) {
-                instance = udtFactory.newInstance(udtClass);
+                instance = udtInstantiator.get();
                 componentsProperty
                         .stream()
                         .forEach(x -> x.decodeField(udtValue, instance));
@@ -121,12 +128,37 @@ public abstract class AbstractUDTClassProperty<A>
         return null;
     }
 
+    /**
+     * The resolved type only depends on the frozen flag and on the keyspaces resolved for this UDT
+     * and its nested UDTs so it is built once per combination instead of on each encoding
+     */
     protected UserType getUserType(boolean frozen, Optional<CassandraOptions> cassandraOptions) {
-        if (cassandraOptions.isPresent() || userType == null) {
-            return buildType(frozen, cassandraOptions);
+        if (cassandraOptions.isPresent() && cassandraOptions.get().hasSchemaNameProvider()) {
+            final RuntimeTypeCache<UserType> cache = frozen ? runtimeFrozenUserTypes : runtimeUserTypes;
+            final List<AbstractUDTClassProperty<?>> udtClassProperties = Stream
+                    .concat(Stream.of(this), componentsProperty.stream().flatMap(x -> x.getUDTClassProperties().stream()))
+                    .collect(Collectors.toList());
+            return cache.get(RuntimeTypeCache.keyFor(udtClassProperties, cassandraOptions), () -> buildType(frozen, cassandraOptions));
+        }
+        final UserType type = frozen ? frozenUserType : userType;
+        return type != null ? type : buildDefaultUserType(frozen);
+    }
+
+    private UserType buildDefaultUserType(boolean frozen) {
+        final UserType type = buildType(frozen, Optional.empty());
+        if (frozen) {
+            frozenUserType = type;
         } else {
-            return userType;
+            userType = type;
         }
+        return type;
+    }
+
+    private void clearUserTypes() {
+        userType = null;
+        frozenUserType = null;
+        runtimeUserTypes.clear();
+        runtimeFrozenUserTypes.clear();
     }
 
     public UserType buildType(boolean frozen, Optional<CassandraOptions> cassandraOptions) {
@@ -134,11 +166,7 @@ public abstract class AbstractUDTClassProperty<A>
             LOGGER.debug(format("Building UserType instance for the current UDT class meta %s", this.toString()));
         }
 
-        Optional<String> keyspaceName = OverridingOptional
-                .from(cassandraOptions.flatMap(CassandraOptions::getSchemaNameProvider).map(x -> x.keyspaceFor(parentEntityClass)))
-                .andThen(this.schemaNameProvider.map(x -> x.keyspaceFor(parentEntityClass)))
-                .andThen(staticKeyspace.orElse(keyspace))
-                .getOptional();
+        Optional<String> keyspaceName = resolveKeyspace(cassandraOptions);
 
         Validator.validateTrue(keyspaceName.isPresent(),
                 "The keyspace name for the UDT type '%s' should be either provided by the '%s' annotation or at runtime",
@@ -150,6 +178,14 @@ public abstract class AbstractUDTClassProperty<A>
         return userTypeFactory.typeFor(keyspaceName.get(), udtName, frozen, fields);
     }
 
+    Optional<String> resolveKeyspace(Optional<CassandraOptions> cassandraOptions) {
+        return OverridingOptional
+                .from(cassandraOptions.flatMap(CassandraOptions::getSchemaNameProvider).map(x -> x.keyspaceFor(parentEntityClass)))
+                .andThen(this.schemaNameProvider.map(x -> x.keyspaceFor(parentEntityClass)))
+                .andThen(staticKeyspace.orElse(keyspace))
+                .getOptional();
+    }
+
     public String generateSchema(SchemaContext context) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Generating creation script for current UDT class meta %s", this.toString()));
@@ -172,6 +208,7 @@ public abstract class AbstractUDTClassProperty<A>
     @Override
     public void inject(BeanFactory factory) {
         udtFactory = factory;
+        udtInstantiator = DefaultBeanFactory.instantiatorFor(factory, udtClass);
         for (AbstractProperty<A, ?, ?> x : componentsProperty) {
             x.inject(udtFactory);
         }
@@ -183,7 +220,7 @@ public abstract class AbstractUDTClassProperty<A>
         for (AbstractProperty<A, ?, ?> x : componentsProperty) {
             x.inject(userTypeFactory, tupleTypeFactory);
         }
-        //userType = this.buildType(frozen, schemaNameProvider.map(CassandraOptions::withSchemaNameProvider));
+        clearUserTypes();
     }
 
     @Override
@@ -206,11 +243,13 @@ public abstract class AbstractUDTClassProperty<A>
         for (AbstractProperty<A, ?, ?> x : componentsProperty) {
             x.injectKeyspace(keyspace);
         }
+        clearUserTypes();
     }
 
     @Override
     public void inject(SchemaNameProvider schemaNameProvider) {
         this.schemaNameProvider = Optional.ofNullable(schemaNameProvider);
+        clearUserTypes();
     }
 
     @Override
@@ -35,12 +35,12 @@ import com.datastax.driver.core.KeyspaceMetadata;
 import com.datastax.driver.core.MaterializedViewMetadata;
 import com.datastax.driver.core.Session;
 
-import info.archinnov.achilles.internals.cache.StatementsCache;
 import info.archinnov.achilles.internals.cassandra_version.InternalCassandraVersion;
 import info.archinnov.achilles.internals.context.ConfigurationContext;
 import info.archinnov.achilles.internals.metamodel.columns.ColumnType;
 import info.archinnov.achilles.internals.schema.SchemaContext;
 import info.archinnov.achilles.internals.schema.SchemaCreator;
+import info.archinnov.achilles.internals.statements.StaticStatementsPreparer;
 import info.archinnov.achilles.internals.types.OverridingOptional;
 import info.archinnov.achilles.internals.utils.CollectionsHelper;
 import info.archinnov.achilles.type.interceptor.Event;
@@ -51,8 +51,6 @@ public abstract class AbstractViewProperty<T> extends AbstractEntityProperty<T>
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractViewProperty.class);
 
-    private final List<AbstractProperty<T, ?, ?>> EMPTY_LIST = Arrays.asList();
-
     private AbstractEntityProperty<?> baseClassProperty;
 
     public abstract Class<?> getBaseEntityClass();
@@ -116,12 +114,12 @@ public abstract class AbstractViewProperty<T> extends AbstractEntityProperty<T>
     }
 
     @Override
-    public void prepareStaticStatements(InternalCassandraVersion cassandraVersion, Session session, StatementsCache cache) {
+    public void prepareStaticStatements(InternalCassandraVersion cassandraVersion, StaticStatementsPreparer preparer) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Preparing static statements for entity of type %s",
                     entityClass.getCanonicalName()));
         }
-        generateStaticSelectQuery(session, cache, this);
+        generateStaticSelectQuery(preparer, this);
     }
 
     protected List<AbstractProperty<T, ?, ?>> getAllColumns() {
@@ -166,6 +164,14 @@ public abstract class AbstractViewProperty<T> extends AbstractEntityProperty<T>
         super.triggerInterceptorsForEvent(event, instance);
     }
 
+    @Override
+    public void triggerInterceptorsForEvent(Event event, List<T> instances) {
+        if (event != Event.POST_LOAD) {
+            throw new RuntimeException("Cannot execute mutation for the materialized view " + getDerivedTableOrViewName());
+        }
+        super.triggerInterceptorsForEvent(event, instances);
+    }
+
     @Override
     public InsertStrategy insertStrategy() {
         throw new RuntimeException("Cannot execute mutation for the materialized view " + getDerivedTableOrViewName());
@@ -208,12 +214,12 @@ public abstract class AbstractViewProperty<T> extends AbstractEntityProperty<T>
 
     @Override
     protected List<AbstractProperty<T, ?, ?>> getStaticColumns() {
-        return EMPTY_LIST;
+        return Arrays.asList();
     }
 
     @Override
     protected List<AbstractProperty<T, ?, ?>> getCounterColumns() {
-        return EMPTY_LIST;
+        return Arrays.asList();
     }
 
     public AbstractEntityProperty<?> getBaseClassProperty() {
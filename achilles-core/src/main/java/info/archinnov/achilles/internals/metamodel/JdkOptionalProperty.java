@@ -27,6 +27,7 @@ import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.GettableData;
+import com.datastax.driver.core.Row;
 import com.datastax.driver.core.SettableData;
 import com.datastax.driver.core.UDTValue;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -107,6 +108,15 @@ public class JdkOptionalProperty<ENTITY, FROM, TO> extends AbstractProperty<ENTI
         }
     }
 
+    @Override
+    Optional<FROM> decodeFromRowInternal(Row row, int index) {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Decode '%s' optional from row %s at index %s", fieldName, row, index));
+        }
+
+        return Optional.ofNullable(aProperty.decodeFromRowInternal(row, index));
+    }
+
     @Override
     Optional<FROM> decodeFromRawInternal(Object o) {
         if (LOGGER.isTraceEnabled()) {
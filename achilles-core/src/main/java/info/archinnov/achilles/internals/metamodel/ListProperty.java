@@ -29,6 +29,7 @@ import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.GettableData;
+import com.datastax.driver.core.Row;
 import com.datastax.driver.core.SettableData;
 import com.datastax.driver.core.UDTValue;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -40,7 +41,6 @@ import info.archinnov.achilles.internals.factory.UserTypeFactory;
 import info.archinnov.achilles.internals.injectable.InjectBeanFactory;
 import info.archinnov.achilles.internals.metamodel.columns.FieldInfo;
 import info.archinnov.achilles.internals.options.CassandraOptions;
-import info.archinnov.achilles.internals.utils.NamingHelper;
 import info.archinnov.achilles.type.SchemaNameProvider;
 import info.archinnov.achilles.type.codec.Codec;
 import info.archinnov.achilles.type.codec.CodecSignature;
@@ -140,10 +140,25 @@ public class ListProperty<ENTITY, VALUEFROM, VALUETO> extends
 
     @Override
     public List<VALUEFROM> decodeFromGettable(GettableData gettableData) {
-        if (gettableData.isNull(NamingHelper.maybeQuote(getColumnForSelect())) && !emptyCollectionIfNull) return null;
+        if (gettableData.isNull(getQuotedColumnForSelect()) && !emptyCollectionIfNull) return null;
         return decodeFromGettableInternal(gettableData);
     }
 
+    @Override
+    public List<VALUEFROM> decodeFromRow(Row row, int index) {
+        if (row.isNull(index) && !emptyCollectionIfNull) return null;
+        return decodeFromRowInternal(row, index);
+    }
+
+    @Override
+    List<VALUEFROM> decodeFromRowInternal(Row row, int index) {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Decode '%s' list from row %s at index %s", fieldName, row, index));
+        }
+
+        return decodeFromRaw(row.getList(index, valueProperty.valueToTypeToken));
+    }
+
     @Override
     public List<VALUEFROM> decodeFromGettableInternal(GettableData gettableData) {
         if (LOGGER.isTraceEnabled()) {
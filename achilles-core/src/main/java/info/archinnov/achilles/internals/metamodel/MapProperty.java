@@ -29,6 +29,7 @@ import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.GettableData;
+import com.datastax.driver.core.Row;
 import com.datastax.driver.core.SettableData;
 import com.datastax.driver.core.UDTValue;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -40,7 +41,6 @@ import info.archinnov.achilles.internals.factory.UserTypeFactory;
 import info.archinnov.achilles.internals.metamodel.columns.FieldInfo;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.utils.CollectionsHelper;
-import info.archinnov.achilles.internals.utils.NamingHelper;
 import info.archinnov.achilles.type.SchemaNameProvider;
 import info.archinnov.achilles.type.codec.Codec;
 import info.archinnov.achilles.type.codec.CodecSignature;
@@ -172,10 +172,25 @@ public class MapProperty<ENTITY, KEYFROM, KEYTO, VALUEFROM, VALUETO> extends
 
     @Override
     public Map<KEYFROM, VALUEFROM> decodeFromGettable(GettableData gettableData) {
-        if (gettableData.isNull(NamingHelper.maybeQuote(getColumnForSelect())) && !emptyCollectionIfNull) return null;
+        if (gettableData.isNull(getQuotedColumnForSelect()) && !emptyCollectionIfNull) return null;
         return decodeFromGettableInternal(gettableData);
     }
 
+    @Override
+    public Map<KEYFROM, VALUEFROM> decodeFromRow(Row row, int index) {
+        if (row.isNull(index) && !emptyCollectionIfNull) return null;
+        return decodeFromRowInternal(row, index);
+    }
+
+    @Override
+    Map<KEYFROM, VALUEFROM> decodeFromRowInternal(Row row, int index) {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Decode '%s' map from row %s at index %s", fieldName, row, index));
+        }
+
+        return decodeFromRaw(row.getMap(index, keyProperty.valueToTypeToken, valueProperty.valueToTypeToken));
+    }
+
     @Override
     public Map<KEYFROM, VALUEFROM> decodeFromGettableInternal(GettableData gettableData) {
         if (LOGGER.isTraceEnabled()) {
@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.metamodel;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.Row;
+
+/**
+ * Decoding plan of rows sharing the same {@link com.datastax.driver.core.ColumnDefinitions}.
+ * <br/>
+ * The index of each property column is resolved once so that decoding a row
+ * does not require any column name lookup
+ */
+public class RowDecoder<T> {
+
+    private static final int NOT_SELECTED = -1;
+
+    final ColumnDefinitions columnDefinitions;
+    final List<String> cqlColumns;
+    private final AbstractProperty<T, ?, ?>[] properties;
+    private final int[] indices;
+
+    @SuppressWarnings("unchecked")
+    RowDecoder(ColumnDefinitions columnDefinitions, List<AbstractProperty<T, ?, ?>> candidates, boolean skipMissingColumns) {
+        this.columnDefinitions = columnDefinitions;
+
+        final int columnsCount = columnDefinitions.size();
+        final List<String> columns = new ArrayList<>(columnsCount);
+        for (int i = 0; i < columnsCount; i++) {
+            columns.add(columnDefinitions.getName(i));
+        }
+        this.cqlColumns = Collections.unmodifiableList(columns);
+
+        final List<AbstractProperty<T, ?, ?>> selectedProperties = new ArrayList<>(candidates.size());
+        final List<Integer> selectedIndices = new ArrayList<>(candidates.size());
+        for (AbstractProperty<T, ?, ?> property : candidates) {
+            final int index = columns.indexOf(property.getColumnForSelect());
+            if (index >= 0 || !skipMissingColumns) {
+                selectedProperties.add(property);
+                selectedIndices.add(index >= 0 ? index : NOT_SELECTED);
+            }
+        }
+
+        this.properties = selectedProperties.toArray(new AbstractProperty[selectedProperties.size()]);
+        this.indices = new int[selectedIndices.size()];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = selectedIndices.get(i);
+        }
+    }
+
+    void decodeFields(Row row, T instance) {
+        for (int i = 0; i < properties.length; i++) {
+            final int index = indices[i];
+            if (index == NOT_SELECTED) {
+                properties[i].decodeField(row, instance);
+            } else {
+                properties[i].decodeField(row, index, instance);
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.metamodel;
+
+import static java.util.stream.Collectors.joining;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import com.datastax.driver.core.DataType;
+
+import info.archinnov.achilles.internals.options.CassandraOptions;
+
+/**
+ * Memoize the runtime {@link com.datastax.driver.core.UserType} or {@link com.datastax.driver.core.TupleType}
+ * of a property for each combination of keyspaces resolved at runtime for its UDTs. The key is the list of
+ * <strong>keyspace.udt_name</strong>, so schema name providers created for each query or serving several
+ * tenants share the same types as long as they resolve the same keyspaces.
+ * <br/>
+ * The number of cached types is bounded so that a large number of tenant keyspaces
+ * does not make the cache grow indefinitely, the type is rebuilt for them instead
+ */
+class RuntimeTypeCache<T extends DataType> {
+
+    static final int MAX_CACHED_TYPES = 64;
+
+    private final ConcurrentMap<String, T> types = new ConcurrentHashMap<>();
+
+    static String keyFor(List<AbstractUDTClassProperty<?>> udtClassProperties, Optional<CassandraOptions> cassandraOptions) {
+        return udtClassProperties
+                .stream()
+                .map(x -> x.resolveKeyspace(cassandraOptions).orElse("") + "." + x.udtName)
+                .collect(joining(","));
+    }
+
+    T get(String key, Supplier<T> typeBuilder) {
+        final T cached = types.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        final T type = typeBuilder.get();
+        if (types.size() < MAX_CACHED_TYPES) {
+            final T previous = types.putIfAbsent(key, type);
+            return previous != null ? previous : type;
+        }
+        return type;
+    }
+
+    void clear() {
+        types.clear();
+    }
+}
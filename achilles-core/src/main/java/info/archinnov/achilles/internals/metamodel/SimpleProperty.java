@@ -30,6 +30,7 @@ import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.GettableData;
+import com.datastax.driver.core.Row;
 import com.datastax.driver.core.SettableData;
 import com.datastax.driver.core.UDTValue;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -110,6 +111,15 @@ public class SimpleProperty<ENTITY, VALUEFROM, VALUETO> extends AbstractProperty
         return valueCodec.decode(gettable.apply(gettableData));
     }
 
+    @Override
+    VALUEFROM decodeFromRowInternal(Row row, int index) {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Decode '%s' from row %s at index %s", fieldName, row, index));
+        }
+
+        return valueCodec.decode(row.get(index, valueToTypeToken));
+    }
+
 
     @Override
     public VALUEFROM decodeFromRawInternal(Object o) {
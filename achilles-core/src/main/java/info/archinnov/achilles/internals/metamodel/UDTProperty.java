@@ -28,6 +28,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.GettableData;
+import com.datastax.driver.core.Row;
 import com.datastax.driver.core.SettableData;
 import com.datastax.driver.core.UDTValue;
 import com.datastax.driver.core.UserType;
@@ -104,6 +105,15 @@ public class UDTProperty<ENTITY, UDT_META extends AbstractUDTClassProperty<A>, A
         return decodeFromRaw(gettableData.getUDTValue(fieldInfo.quotedCqlColumn));
     }
 
+    @Override
+    A decodeFromRowInternal(Row row, int index) {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Decode '%s' from row %s at index %s", fieldName, row, index));
+        }
+
+        return decodeFromRaw(row.getUDTValue(index));
+    }
+
     @Override
     A decodeFromRawInternal(Object o) {
         if (LOGGER.isTraceEnabled()) {
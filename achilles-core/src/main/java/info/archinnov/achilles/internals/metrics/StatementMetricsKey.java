@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.metrics;
+
+import static java.lang.String.format;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import info.archinnov.achilles.internals.statements.OperationType;
+
+/**
+ * Identify the shape of an executed statement: the entity class, the operation type
+ * and the prepared query string. All executions of the same static statement or of the
+ * same dynamic DSL query share the same key
+ */
+public class StatementMetricsKey {
+
+    public static final String BATCH_QUERY = "BATCH";
+
+    private final Optional<Class<?>> entityClass;
+    private final OperationType operationType;
+    private final String queryString;
+    private final int hashCode;
+
+    public StatementMetricsKey(Optional<Class<?>> entityClass, OperationType operationType, String queryString) {
+        this.entityClass = entityClass;
+        this.operationType = operationType;
+        this.queryString = queryString;
+        this.hashCode = Objects.hash(entityClass, operationType, queryString);
+    }
+
+    /**
+     * @return the entity class, empty for batches built from raw statements
+     */
+    public Optional<Class<?>> getEntityClass() {
+        return entityClass;
+    }
+
+    public OperationType getOperationType() {
+        return operationType;
+    }
+
+    /**
+     * @return the prepared query string or {@link #BATCH_QUERY} for batch statements
+     */
+    public String getQueryString() {
+        return queryString;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        StatementMetricsKey that = (StatementMetricsKey) o;
+        return hashCode == that.hashCode &&
+                Objects.equals(entityClass, that.entityClass) &&
+                operationType == that.operationType &&
+                Objects.equals(queryString, that.queryString);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return format("StatementMetricsKey{entityClass=%s, operationType=%s, queryString='%s'}",
+                entityClass.map(Class::getCanonicalName).orElse(""), operationType, queryString);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.metrics;
+
+/**
+ * Callback notified of the latency and outcome of every statement executed by
+ * {@link info.archinnov.achilles.internals.runtime.RuntimeEngine}.
+ * <br/>
+ * Use {@link info.archinnov.achilles.internals.metrics.StatementMetricsRecorder} for in-memory
+ * histograms or implement it to feed a metrics registry.
+ * All methods are invoked synchronously on the thread completing the statement so implementations should be fast and non-blocking
+ */
+public interface StatementMetricsListener {
+
+    StatementMetricsListener NO_OP = new StatementMetricsListener() {
+    };
+
+    /**
+     * Called once a statement has completed successfully
+     *
+     * @param key              entity class, operation type and query string of the statement
+     * @param latencyInNanos   time between the submission of the statement and its completion, in nanoseconds
+     */
+    default void onSuccess(StatementMetricsKey key, long latencyInNanos) {
+    }
+
+    /**
+     * Called once a statement has failed
+     *
+     * @param key              entity class, operation type and query string of the statement
+     * @param latencyInNanos   time between the submission of the statement and its failure, in nanoseconds
+     * @param error            the failure cause
+     */
+    default void onError(StatementMetricsKey key, long latencyInNanos, Throwable error) {
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.metrics;
+
+import static java.util.stream.Collectors.toMap;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory {@link info.archinnov.achilles.internals.metrics.StatementMetricsListener} recording,
+ * for each statement shape, the throughput, the error count and a latency histogram.
+ * <br/>
+ * The histogram has 4 buckets per power of two of microseconds so the reported percentiles are
+ * accurate to 25%. Recording is lock-free and allocation-free once the shape has been seen
+ */
+public class StatementMetricsRecorder implements StatementMetricsListener {
+
+    private final ConcurrentMap<StatementMetricsKey, StatementMetrics> metrics = new ConcurrentHashMap<>();
+
+    @Override
+    public void onSuccess(StatementMetricsKey key, long latencyInNanos) {
+        getOrCreate(key).record(latencyInNanos, false);
+    }
+
+    @Override
+    public void onError(StatementMetricsKey key, long latencyInNanos, Throwable error) {
+        getOrCreate(key).record(latencyInNanos, true);
+    }
+
+    /**
+     * @return a snapshot of the statistics of all the statement shapes seen since the creation or the last reset
+     */
+    public Map<StatementMetricsKey, StatementMetricsStats> getStats() {
+        return metrics.entrySet()
+                .stream()
+                .collect(toMap(Map.Entry::getKey, entry -> entry.getValue().snapshot()));
+    }
+
+    /**
+     * @param entityClass entity class
+     * @return a snapshot of the statistics of the statement shapes of the given entity
+     */
+    public Map<StatementMetricsKey, StatementMetricsStats> getStats(Class<?> entityClass) {
+        final Optional<Class<?>> expected = Optional.of(entityClass);
+        return metrics.entrySet()
+                .stream()
+                .filter(entry -> entry.getKey().getEntityClass().equals(expected))
+                .collect(toMap(Map.Entry::getKey, entry -> entry.getValue().snapshot()));
+    }
+
+    /**
+     * Compute one latency percentile of the given statement shape without taking a full snapshot
+     *
+     * @param key statement shape
+     * @param percentile percentile between 0 and 100, e.g. 99.9
+     * @param minCount minimum number of executions to consider the percentile meaningful
+     * @return the percentile in microseconds or empty if the shape has fewer than <em>minCount</em> executions
+     */
+    public OptionalLong getLatencyPercentileInMicros(StatementMetricsKey key, double percentile, long minCount) {
+        final StatementMetrics statementMetrics = metrics.get(key);
+        if (statementMetrics == null) {
+            return OptionalLong.empty();
+        }
+        return statementMetrics.percentile(percentile, minCount);
+    }
+
+    public void reset() {
+        metrics.clear();
+    }
+
+    private StatementMetrics getOrCreate(StatementMetricsKey key) {
+        final StatementMetrics existing = metrics.get(key);
+        return existing != null ? existing : metrics.computeIfAbsent(key, x -> new StatementMetrics());
+    }
+
+    static int bucketIndex(long latencyInMicros) {
+        if (latencyInMicros < 4) {
+            return (int) Math.max(latencyInMicros, 0L);
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(latencyInMicros);
+        final int subBucket = (int) ((latencyInMicros >>> (exponent - 2)) & 3);
+        return Math.min(exponent * 4 + subBucket - 4, StatementMetricsStats.BUCKET_COUNT - 1);
+    }
+
+    private static class StatementMetrics {
+        private final long startNanos = System.nanoTime();
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errorCount = new LongAdder();
+        private final LongAdder totalLatencyInNanos = new LongAdder();
+        private final AtomicLong maxLatencyInNanos = new AtomicLong();
+        private final AtomicLongArray buckets = new AtomicLongArray(StatementMetricsStats.BUCKET_COUNT);
+
+        void record(long latencyInNanos, boolean error) {
+            count.increment();
+            if (error) {
+                errorCount.increment();
+            }
+            totalLatencyInNanos.add(latencyInNanos);
+            if (latencyInNanos > maxLatencyInNanos.get()) {
+                maxLatencyInNanos.accumulateAndGet(latencyInNanos, Math::max);
+            }
+            buckets.incrementAndGet(bucketIndex(TimeUnit.NANOSECONDS.toMicros(latencyInNanos)));
+        }
+
+        OptionalLong percentile(double percentile, long minCount) {
+            final long currentCount = count.sum();
+            if (currentCount == 0 || currentCount < minCount) {
+                return OptionalLong.empty();
+            }
+            return OptionalLong.of(StatementMetricsStats.percentileInMicros(currentCount, percentile, buckets::get,
+                    TimeUnit.NANOSECONDS.toMicros(maxLatencyInNanos.get())));
+        }
+
+        StatementMetricsStats snapshot() {
+            final long[] bucketCounts = new long[StatementMetricsStats.BUCKET_COUNT];
+            for (int i = 0; i < bucketCounts.length; i++) {
+                bucketCounts[i] = buckets.get(i);
+            }
+            return new StatementMetricsStats(count.sum(), errorCount.sum(), totalLatencyInNanos.sum(),
+                    maxLatencyInNanos.get(), bucketCounts, System.nanoTime() - startNanos);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.metrics;
+
+import static java.lang.String.format;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Immutable snapshot of the statistics of one statement shape recorded by
+ * {@link info.archinnov.achilles.internals.metrics.StatementMetricsRecorder}.
+ * <br/>
+ * Counters are cumulative since the first execution of the shape or the last reset
+ */
+public class StatementMetricsStats {
+
+    static final int BUCKET_COUNT = 160;
+
+    private final long count;
+    private final long errorCount;
+    private final long totalLatencyInNanos;
+    private final long maxLatencyInNanos;
+    private final long[] buckets;
+    private final long elapsedNanos;
+
+    StatementMetricsStats(long count, long errorCount, long totalLatencyInNanos, long maxLatencyInNanos,
+                          long[] buckets, long elapsedNanos) {
+        this.count = count;
+        this.errorCount = errorCount;
+        this.totalLatencyInNanos = totalLatencyInNanos;
+        this.maxLatencyInNanos = maxLatencyInNanos;
+        this.buckets = buckets;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * @return number of executions, successful or not
+     */
+    public long getCount() {
+        return count;
+    }
+
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * @return mean number of executions per second since the first execution
+     */
+    public double getThroughputPerSecond() {
+        return elapsedNanos <= 0 ? 0.0 : count * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    public long getMeanLatencyInMicros() {
+        return count == 0 ? 0L : TimeUnit.NANOSECONDS.toMicros(totalLatencyInNanos / count);
+    }
+
+    public long getMaxLatencyInMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(maxLatencyInNanos);
+    }
+
+    /**
+     * @param percentile percentile between 0 and 100, e.g. 99.9
+     * @return upper bound of the histogram bucket containing the given percentile, in microseconds
+     */
+    public long getLatencyPercentileInMicros(double percentile) {
+        if (count == 0) {
+            return 0L;
+        }
+        return percentileInMicros(count, percentile, i -> buckets[i], getMaxLatencyInMicros());
+    }
+
+    static long percentileInMicros(long count, double percentile, IntToLongFunction bucketCount, long maxLatencyInMicros) {
+        final long rank = Math.max(1L, (long) Math.ceil(count * percentile / 100.0));
+        long cumulated = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulated += bucketCount.applyAsLong(i);
+            if (cumulated >= rank) {
+                return Math.min(bucketUpperBound(i), maxLatencyInMicros);
+            }
+        }
+        return maxLatencyInMicros;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < 4) {
+            return index;
+        }
+        final int exponent = (index + 4) / 4;
+        final int subBucket = (index + 4) % 4;
+        return ((4L + subBucket + 1) << (exponent - 2)) - 1;
+    }
+
+    @Override
+    public String toString() {
+        return format("StatementMetricsStats{count=%s, errorCount=%s, throughputPerSecond=%.2f, meanLatencyInMicros=%s, " +
+                        "p50=%s, p99=%s, maxLatencyInMicros=%s}",
+                count, errorCount, getThroughputPerSecond(), getMeanLatencyInMicros(),
+                getLatencyPercentileInMicros(50), getLatencyPercentileInMicros(99), getMaxLatencyInMicros());
+    }
+}
@@ -59,6 +59,7 @@ public class CassandraOptions {
     private Optional<StringJoiner> dseSearchSolrQuery = Optional.empty();
     private Optional<String> dseSearchRawSolrQuery = Optional.empty();
     private Optional<Integer> DMLResultsDisplaySize = Optional.empty();
+    private Optional<HedgingOptions> hedging = Optional.empty();
 
     public CassandraOptions() {}
 
@@ -276,6 +277,14 @@ public class CassandraOptions {
         this.DMLResultsDisplaySize = DMLResultsDisplaySize;
     }
 
+    public Optional<HedgingOptions> getHedging() {
+        return hedging;
+    }
+
+    public void setHedging(Optional<HedgingOptions> hedging) {
+        this.hedging = hedging;
+    }
+
     public Statement applyOptions(OperationType operationType, AbstractEntityProperty<?> meta, Statement statement) {
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(String.format("Applying options %s to the current statement %s",
@@ -321,6 +330,7 @@ public class CassandraOptions {
         sb.append(", schemaNameProvider=").append(schemaNameProvider);
         sb.append(", readTimeoutInMillis=").append(readTimeout);
         sb.append(", DMLResultsDisplaySize=").append(DMLResultsDisplaySize);
+        sb.append(", hedging=").append(hedging);
         sb.append('}');
         return sb.toString();
     }
@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.options;
+
+import static java.lang.String.format;
+
+import java.util.OptionalDouble;
+import java.util.concurrent.TimeUnit;
+
+import info.archinnov.achilles.validation.Validator;
+
+/**
+ * Hedging settings of a read: the delay after which a second identical request
+ * is sent if the first one has not answered yet.
+ * <br/>
+ * The delay is either fixed or derived from a percentile of the latencies observed
+ * for the same statement, in which case the fixed delay is used as a fallback until
+ * enough executions have been recorded
+ */
+public class HedgingOptions {
+
+    private final long delayInNanos;
+    private final OptionalDouble percentile;
+
+    private HedgingOptions(long delayInNanos, OptionalDouble percentile) {
+        this.delayInNanos = delayInNanos;
+        this.percentile = percentile;
+    }
+
+    public static HedgingOptions fixedDelay(long delay, TimeUnit timeUnit) {
+        Validator.validateTrue(delay >= 0, "The hedging delay should be positive");
+        Validator.validateNotNull(timeUnit, "The hedging delay time unit should not be null");
+        return new HedgingOptions(timeUnit.toNanos(delay), OptionalDouble.empty());
+    }
+
+    public static HedgingOptions percentileDelay(double percentile, long fallbackDelay, TimeUnit timeUnit) {
+        Validator.validateTrue(percentile > 0 && percentile < 100, "The hedging percentile should be strictly between 0 and 100");
+        Validator.validateTrue(fallbackDelay >= 0, "The hedging fallback delay should be positive");
+        Validator.validateNotNull(timeUnit, "The hedging delay time unit should not be null");
+        return new HedgingOptions(timeUnit.toNanos(fallbackDelay), OptionalDouble.of(percentile));
+    }
+
+    /**
+     * @return the fixed delay or the fallback delay if the delay is percentile-derived
+     */
+    public long getDelayInNanos() {
+        return delayInNanos;
+    }
+
+    public OptionalDouble getPercentile() {
+        return percentile;
+    }
+
+    @Override
+    public String toString() {
+        return format("HedgingOptions{delayInNanos=%s, percentile=%s}", delayInNanos, percentile);
+    }
+}
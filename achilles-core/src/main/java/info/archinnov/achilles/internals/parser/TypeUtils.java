@@ -51,6 +51,7 @@ import info.archinnov.achilles.internals.cassandra_version.InternalCassandraVers
 import info.archinnov.achilles.internals.codec.*;
 import info.archinnov.achilles.internals.codegen.function.InternalSystemFunctionRegistry;
 import info.archinnov.achilles.internals.context.ConfigurationContext;
+import info.archinnov.achilles.internals.dsl.QueryShape;
 import info.archinnov.achilles.internals.dsl.crud.*;
 import info.archinnov.achilles.internals.dsl.query.delete.*;
 import info.archinnov.achilles.internals.dsl.query.select.*;
@@ -93,6 +94,7 @@ public class TypeUtils {
     public static final String WHERE_TYPED_MAP_DSL_SUFFIX = "W_TM";
     public static final String WHERE_JSON_DSL_SUFFIX = "W_J";
     public static final String END_DSL_SUFFIX = "E";
+    public static final String END_WITHOUT_WHERE_DSL_SUFFIX = "E_NW";
     public static final String END_TYPED_MAP_DSL_SUFFIX = "E_TM";
     public static final String END_JSON_DSL_SUFFIX = "E_J";
 
@@ -188,6 +190,7 @@ public class TypeUtils {
     public static final ClassName ABSTRACT_SELECT_FROM_TYPED_MAP = ClassName.get(AbstractSelectFromTypeMap.class);
     public static final ClassName ABSTRACT_SELECT_FROM_JSON = ClassName.get(AbstractSelectFromJSON.class);
     public static final ClassName ABSTRACT_SELECT_WHERE = ClassName.get(AbstractSelectWhere.class);
+    public static final ClassName ABSTRACT_SELECT_END_WITHOUT_WHERE = ClassName.get(AbstractSelectEndWithoutWhere.class);
     public static final ClassName ABSTRACT_INDEX_SELECT_WHERE = ClassName.get(AbstractIndexSelectWhere.class);
     public static final ClassName ABSTRACT_SELECT_WHERE_TYPED_MAP = ClassName.get(AbstractSelectWhereTypeMap.class);
     public static final ClassName ABSTRACT_INDEX_SELECT_WHERE_TYPED_MAP = ClassName.get(AbstractIndexSelectWhereTypeMap.class);
@@ -228,10 +231,13 @@ public class TypeUtils {
     public static final ClassName ABSTRACT_ENTITY_PROPERTY = ClassName.get(AbstractEntityProperty.class);
     public static final ClassName ABSTRACT_VIEW_PROPERTY = ClassName.get(AbstractViewProperty.class);
     public static final ClassName RUNTIME_ENGINE = ClassName.get(RuntimeEngine.class);
+    public static final ClassName QUERY_SHAPE = ClassName.get(QueryShape.class);
     public static final ClassName INSERT_WITH_OPTIONS = ClassName.get(InsertWithOptions.class);
     public static final ClassName UPDATE_WITH_OPTIONS = ClassName.get(UpdateWithOptions.class);
+    public static final ClassName INSERT_ALL_WITH_OPTIONS = ClassName.get(InsertAllWithOptions.class);
     public static final ClassName INSERT_JSON_WITH_OPTIONS = ClassName.get(InsertJSONWithOptions.class);
     public static final ClassName FIND_WITH_OPTIONS = ClassName.get(FindWithOptions.class);
+    public static final ClassName FIND_BY_IDS_WITH_OPTIONS = ClassName.get(FindByIdsWithOptions.class);
     public static final ClassName DELETE_WITH_OPTIONS = ClassName.get(DeleteWithOptions.class);
     public static final ClassName DELETE_BY_PARTITION_WITH_OPTIONS = ClassName.get(DeleteByPartitionWithOptions.class);
     public static final ClassName INTERNAL_CASSANDRA_VERSION = ClassName.get(InternalCassandraVersion.class);
@@ -264,6 +270,7 @@ public class TypeUtils {
     public static final ClassName JAVA_DRIVER_USER_TYPE = ClassName.get(UserType.class);
     public static final ClassName DATATYPE = ClassName.get(DataType.class);
     public static final ClassName LIST = ClassName.get(List.class);
+    public static final ClassName COLLECTION = ClassName.get(Collection.class);
     public static final ClassName SET = ClassName.get(Set.class);
     public static final ClassName MAP = ClassName.get(Map.class);
 
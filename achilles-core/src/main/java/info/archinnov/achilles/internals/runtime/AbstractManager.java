@@ -22,6 +22,7 @@ import static info.archinnov.achilles.internals.statement.StatementHelper.isSele
 import static info.archinnov.achilles.validation.Validator.*;
 import static java.lang.String.format;
 
+import java.util.Collection;
 import java.util.Optional;
 
 import org.apache.commons.lang3.ArrayUtils;
@@ -31,6 +32,7 @@ import org.slf4j.LoggerFactory;
 import com.datastax.driver.core.*;
 
 import info.archinnov.achilles.internals.dsl.crud.DeleteWithOptions;
+import info.archinnov.achilles.internals.dsl.crud.InsertAllWithOptions;
 import info.archinnov.achilles.internals.dsl.crud.InsertJSONWithOptions;
 import info.archinnov.achilles.internals.dsl.crud.InsertWithOptions;
 import info.archinnov.achilles.internals.dsl.crud.UpdateWithOptions;
@@ -111,6 +113,22 @@ public abstract class AbstractManager<ENTITY> {
         return new InsertWithOptions<>(meta_internal, rte, instance, insertStatic, cassandraOptions);
     }
 
+    protected InsertAllWithOptions<ENTITY> insertAllInternal(Collection<ENTITY> instances, Optional<CassandraOptions> cassandraOptions) {
+
+        validateNotNull(instances, "Entities to be inserted should not be null");
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Create insert all CRUD for %s entities", instances.size()));
+        }
+
+        for (ENTITY instance : instances) {
+            validateNotNull(instance, "Entity to be inserted should not be null");
+            validatePrimaryKey(instance, meta_internal, cassandraOptions);
+        }
+
+        return new InsertAllWithOptions<>(meta_internal, rte, instances, cassandraOptions);
+    }
+
     protected UpdateWithOptions<ENTITY> updateInternal(ENTITY instance, boolean updateStatic, Optional<CassandraOptions> cassandraOptions) {
 
         validateNotNull(instance, "Entity to be updated to Cassandra should not be null");
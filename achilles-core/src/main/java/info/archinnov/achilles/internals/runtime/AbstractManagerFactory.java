@@ -23,6 +23,7 @@ import static java.lang.String.format;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import javax.annotation.PreDestroy;
 
@@ -39,14 +40,19 @@ import com.datastax.driver.extras.codecs.jdk8.LocalDateCodec;
 import com.datastax.driver.extras.codecs.jdk8.LocalTimeCodec;
 import com.datastax.driver.extras.codecs.jdk8.ZonedDateTimeCodec;
 
+import info.archinnov.achilles.internals.cache.EntityCache;
+import info.archinnov.achilles.internals.cache.EntityCacheStats;
+import info.archinnov.achilles.internals.cache.StatementsCacheStats;
 import info.archinnov.achilles.internals.cassandra_version.InternalCassandraVersion;
 import info.archinnov.achilles.internals.context.ConfigurationContext;
 import info.archinnov.achilles.internals.factory.TupleTypeFactory;
 import info.archinnov.achilles.internals.factory.UserTypeFactory;
+import info.archinnov.achilles.internals.interceptor.BeanValidationStats;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.metamodel.AbstractUDTClassProperty;
 import info.archinnov.achilles.internals.metamodel.AbstractViewProperty;
 import info.archinnov.achilles.internals.metamodel.functions.FunctionProperty;
+import info.archinnov.achilles.internals.statements.StaticStatementsPreparer;
 import info.archinnov.achilles.internals.utils.CodecRegistryHelper;
 
 public abstract class AbstractManagerFactory {
@@ -92,6 +98,91 @@ public abstract class AbstractManagerFactory {
         return tableName;
     }
 
+    /**
+     * Provide the in-flight requests limiter, if <strong>MAX_IN_FLIGHT_REQUESTS</strong> has been configured.
+     * This object exposes the current number of in-flight requests, the queue depth and the time spent waiting
+     * by queued requests
+     *
+     * @return optional {@link info.archinnov.achilles.internals.runtime.InFlightRequestsLimiter}
+     */
+    public Optional<InFlightRequestsLimiter> getInFlightRequestsLimiter() {
+        return rte.inFlightRequestsLimiter;
+    }
+
+    /**
+     * Provide a snapshot of the dynamic prepared statements cache statistics: size, hit/miss/eviction counts,
+     * number of re-prepared statements and total prepare time
+     *
+     * @return {@link info.archinnov.achilles.internals.cache.StatementsCacheStats}
+     */
+    public StatementsCacheStats getStatementsCacheStats() {
+        return rte.cache.getDynamicCacheStats();
+    }
+
+    /**
+     * Provide a snapshot of the read-through cache statistics of the given entity, if
+     * the cache has been enabled for this entity with <strong>ENTITY_CACHES</strong>
+     *
+     * @param entityClass entity class
+     * @return optional {@link info.archinnov.achilles.internals.cache.EntityCacheStats}
+     */
+    public Optional<EntityCacheStats> getEntityCacheStats(Class<?> entityClass) {
+        return rte.getEntityCache(entityClass).map(EntityCache::getStats);
+    }
+
+    /**
+     * Provide a snapshot of the activity of the default executor service, if it is backed by a
+     * {@link java.util.concurrent.ThreadPoolExecutor}
+     *
+     * @return optional {@link info.archinnov.achilles.internals.runtime.ExecutorStats}
+     */
+    public Optional<ExecutorStats> getExecutorStats() {
+        return ExecutorStats.of(rte.executor);
+    }
+
+    /**
+     * Provide a snapshot of the activity of the dedicated mapping executor service, if one is
+     * configured with <strong>MAPPING_EXECUTOR_SERVICE</strong> or <strong>MAPPING_EXECUTOR_SERVICE_THREAD_COUNT</strong>
+     * and backed by a {@link java.util.concurrent.ThreadPoolExecutor}
+     *
+     * @return optional {@link info.archinnov.achilles.internals.runtime.ExecutorStats}
+     */
+    public Optional<ExecutorStats> getMappingExecutorStats() {
+        return configContext.getMappingExecutorService().flatMap(ExecutorStats::of);
+    }
+
+    /**
+     * Provide a snapshot of the hedged reads counters: number of reads executed with hedging,
+     * number of hedges sent and number of hedges which answered first
+     *
+     * @return {@link info.archinnov.achilles.internals.runtime.HedgedReadsStats}
+     */
+    public HedgedReadsStats getHedgedReadsStats() {
+        return rte.hedgedReads.getStats();
+    }
+
+    /**
+     * Provide a snapshot of the Bean Validation statistics of the given entity: number of validated entities,
+     * number of loaded entities skipped by the POST_LOAD sampling rate, number of failed validations and total validation time
+     *
+     * @param entityClass entity class
+     * @return optional {@link info.archinnov.achilles.internals.interceptor.BeanValidationStats}, empty if Bean Validation
+     * is disabled or no entity of this type has been validated yet
+     */
+    public Optional<BeanValidationStats> getBeanValidationStats(Class<?> entityClass) {
+        return configContext.getBeanValidationStats(entityClass);
+    }
+
+    /**
+     * Invalidate all the cached rows of the given entity, for example after the
+     * underlying table has been modified by another client
+     *
+     * @param entityClass entity class
+     */
+    public void invalidateEntityCache(Class<?> entityClass) {
+        rte.invalidateEntityCache(entityClass);
+    }
+
     /**
      * Shutdown the manager factory and the related session and executor service (if they are created by Achilles).
      * If the Java driver Session object and/or the executor service were provided as bootstrap parameter, Achilles
@@ -109,18 +200,39 @@ public abstract class AbstractManagerFactory {
             LOGGER.info(format("Closing built executor service (thread pool) %s", configContext.getExecutorService()));
             configContext.getExecutorService().shutdown();
         }
+        if (configContext.getMappingExecutorService().isPresent() && !configContext.isProvidedMappingExecutorService()) {
+            LOGGER.info(format("Closing built mapping executor service (thread pool) %s", configContext.getMappingExecutorService().get()));
+            configContext.getMappingExecutorService().get().shutdown();
+        }
+        rte.hedgedReads.shutDown();
     }
 
     protected void bootstrap() {
+        final long start = System.nanoTime();
         addNativeCodecs();
+        final long codecsDone = System.nanoTime();
         injectDependencies();
+        final long injectionDone = System.nanoTime();
         if (configContext.isForceSchemaGeneration()) {
             createSchema();
         }
+        final long schemaCreationDone = System.nanoTime();
         if (configContext.isValidateSchema()) {
             validateSchema();
         }
-        prepareStaticStatements();
+        final long schemaValidationDone = System.nanoTime();
+        final StaticStatementsPreparer preparer = prepareStaticStatements();
+        final long end = System.nanoTime();
+
+        LOGGER.info(format("Bootstrap done in %s ms (native codecs: %s ms, dependencies injection: %s ms, schema creation: %s ms, " +
+                        "schema validation: %s ms, static statements preparation: %s ms for %s statements, %s deferred)",
+                toMillis(end - start), toMillis(codecsDone - start), toMillis(injectionDone - codecsDone),
+                toMillis(schemaCreationDone - injectionDone), toMillis(schemaValidationDone - schemaCreationDone),
+                toMillis(end - schemaValidationDone), preparer.getPreparedCount(), preparer.getDeferredCount()));
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
     }
 
     protected void addNativeCodecs() {
@@ -236,12 +348,16 @@ public abstract class AbstractManagerFactory {
 
     }
 
-    protected void prepareStaticStatements() {
+    protected StaticStatementsPreparer prepareStaticStatements() {
         final List<Class<?>> manageEntities = configContext.getManageEntities().isEmpty() ? entityClasses : configContext.getManageEntities();
+        final StaticStatementsPreparer preparer = new StaticStatementsPreparer(configContext.getSession(), rte.cache,
+                configContext.getStaticStatementsPreparationConcurrency(), configContext.isLazyRareStaticStatements());
         entityProperties
                 .stream()
                 .filter(x -> manageEntities.contains(x.entityClass))
-                .forEach(x -> x.prepareStaticStatements(getCassandraVersion(), configContext.getSession(), rte.cache));
+                .forEach(x -> x.prepareStaticStatements(getCassandraVersion(), preparer));
+        preparer.prepareAll();
+        return preparer;
     }
 
 
@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.runtime;
+
+import static java.lang.String.format;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Immutable snapshot of the activity of an executor service (thread pool) used by Achilles.
+ * <br/>
+ * Only available for executor services backed by a {@link java.util.concurrent.ThreadPoolExecutor}
+ */
+public class ExecutorStats {
+
+    private final int poolSize;
+    private final int activeCount;
+    private final int queueSize;
+    private final int queueRemainingCapacity;
+    private final long completedTaskCount;
+
+    public ExecutorStats(int poolSize, int activeCount, int queueSize, int queueRemainingCapacity, long completedTaskCount) {
+        this.poolSize = poolSize;
+        this.activeCount = activeCount;
+        this.queueSize = queueSize;
+        this.queueRemainingCapacity = queueRemainingCapacity;
+        this.completedTaskCount = completedTaskCount;
+    }
+
+    public static Optional<ExecutorStats> of(ExecutorService executorService) {
+        if (executorService instanceof ThreadPoolExecutor) {
+            final ThreadPoolExecutor threadPool = (ThreadPoolExecutor) executorService;
+            return Optional.of(new ExecutorStats(threadPool.getPoolSize(), threadPool.getActiveCount(),
+                    threadPool.getQueue().size(), threadPool.getQueue().remainingCapacity(),
+                    threadPool.getCompletedTaskCount()));
+        }
+        return Optional.empty();
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * @return approximate number of threads currently running a task
+     */
+    public int getActiveCount() {
+        return activeCount;
+    }
+
+    /**
+     * @return number of tasks waiting for a thread
+     */
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public int getQueueRemainingCapacity() {
+        return queueRemainingCapacity;
+    }
+
+    public long getCompletedTaskCount() {
+        return completedTaskCount;
+    }
+
+    @Override
+    public String toString() {
+        return format("ExecutorStats{poolSize=%s, activeCount=%s, queueSize=%s, queueRemainingCapacity=%s, completedTaskCount=%s}",
+                poolSize, activeCount, queueSize, queueRemainingCapacity, completedTaskCount);
+    }
+}
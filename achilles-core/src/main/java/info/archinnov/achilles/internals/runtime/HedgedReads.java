@@ -0,0 +1,212 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.runtime;
+
+import static java.lang.String.format;
+
+import java.util.OptionalLong;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+
+import info.archinnov.achilles.async.DefaultExecutorThreadFactory;
+import info.archinnov.achilles.internals.metrics.StatementMetricsKey;
+import info.archinnov.achilles.internals.metrics.StatementMetricsRecorder;
+import info.archinnov.achilles.internals.options.HedgingOptions;
+
+/**
+ * Execute hedged reads: if the first request has not answered after the hedging delay,
+ * the same statement is sent a second time. The first successful response wins and
+ * the other request is cancelled. A failure is only propagated once every request sent has failed,
+ * failed requests are never retried.
+ * <br/>
+ * The timer thread is only started by the first hedged read
+ */
+public class HedgedReads {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HedgedReads.class);
+
+    static final long MIN_EXECUTIONS_FOR_PERCENTILE = 100L;
+
+    private final StatementMetricsRecorder latencies = new StatementMetricsRecorder();
+    private final LongAdder hedgedReads = new LongAdder();
+    private final LongAdder hedgesSent = new LongAdder();
+    private final LongAdder hedgesWon = new LongAdder();
+    private volatile ScheduledThreadPoolExecutor timer;
+
+    /**
+     * @param sender sends the statement once and returns the driver future
+     * @param key statement shape, used to track the latencies for percentile-derived delays
+     * @param hedgingOptions hedging options
+     * @return future of the first successful response
+     */
+    public ListenableFuture<ResultSet> execute(Supplier<ResultSetFuture> sender, StatementMetricsKey key, HedgingOptions hedgingOptions) {
+        hedgedReads.increment();
+        final long delayInNanos = computeDelayInNanos(key, hedgingOptions);
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Hedged read of %s with a delay of %s micros", key.getQueryString(),
+                    TimeUnit.NANOSECONDS.toMicros(delayInNanos)));
+        }
+        final HedgedRead hedgedRead = new HedgedRead(sender, key);
+        hedgedRead.start(delayInNanos);
+        return hedgedRead.result;
+    }
+
+    long computeDelayInNanos(StatementMetricsKey key, HedgingOptions hedgingOptions) {
+        if (hedgingOptions.getPercentile().isPresent()) {
+            final OptionalLong percentile = latencies.getLatencyPercentileInMicros(key,
+                    hedgingOptions.getPercentile().getAsDouble(), MIN_EXECUTIONS_FOR_PERCENTILE);
+            if (percentile.isPresent()) {
+                return TimeUnit.MICROSECONDS.toNanos(Math.max(1L, percentile.getAsLong()));
+            }
+        }
+        return hedgingOptions.getDelayInNanos();
+    }
+
+    /**
+     * @return a snapshot of the hedged reads counters
+     */
+    public HedgedReadsStats getStats() {
+        return new HedgedReadsStats(hedgedReads.sum(), hedgesSent.sum(), hedgesWon.sum());
+    }
+
+    public void shutDown() {
+        if (timer != null) {
+            timer.shutdownNow();
+        }
+    }
+
+    private ScheduledThreadPoolExecutor getTimer() {
+        if (timer == null) {
+            synchronized (this) {
+                if (timer == null) {
+                    final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1,
+                            new DefaultExecutorThreadFactory("achilles-hedged-reads-timer-"));
+                    executor.setRemoveOnCancelPolicy(true);
+                    timer = executor;
+                }
+            }
+        }
+        return timer;
+    }
+
+    private class HedgedRead {
+        private final SettableFuture<ResultSet> result = SettableFuture.create();
+        private final AtomicInteger pendingRequests = new AtomicInteger(1);
+        private final Supplier<ResultSetFuture> sender;
+        private final StatementMetricsKey key;
+        private volatile ResultSetFuture primary;
+        private volatile ResultSetFuture hedge;
+        private volatile ScheduledFuture<?> scheduledHedge;
+
+        HedgedRead(Supplier<ResultSetFuture> sender, StatementMetricsKey key) {
+            this.sender = sender;
+            this.key = key;
+        }
+
+        void start(long delayInNanos) {
+            result.addListener(() -> {
+                if (result.isCancelled()) {
+                    cancelRequests();
+                }
+            }, MoreExecutors.directExecutor());
+
+            primary = send(false);
+            if (!result.isDone()) {
+                scheduledHedge = getTimer().schedule(this::sendHedge, delayInNanos, TimeUnit.NANOSECONDS);
+                if (result.isDone()) {
+                    scheduledHedge.cancel(false);
+                }
+            }
+        }
+
+        private void sendHedge() {
+            if (result.isDone()) {
+                return;
+            }
+            pendingRequests.incrementAndGet();
+            hedgesSent.increment();
+            try {
+                hedge = send(true);
+            } catch (RuntimeException ex) {
+                onRequestFailure(ex);
+                return;
+            }
+            if (result.isDone()) {
+                hedge.cancel(true);
+            }
+        }
+
+        private ResultSetFuture send(boolean isHedge) {
+            final long startNanos = System.nanoTime();
+            final ResultSetFuture future = sender.get();
+            Futures.addCallback(future, new FutureCallback<ResultSet>() {
+                @Override
+                public void onSuccess(ResultSet resultSet) {
+                    latencies.onSuccess(key, System.nanoTime() - startNanos);
+                    if (result.set(resultSet)) {
+                        if (isHedge) {
+                            hedgesWon.increment();
+                        }
+                        cancelRequests();
+                    }
+                }
+
+                @Override
+                public void onFailure(Throwable throwable) {
+                    onRequestFailure(throwable);
+                }
+            }, MoreExecutors.directExecutor());
+            return future;
+        }
+
+        private void onRequestFailure(Throwable throwable) {
+            if (pendingRequests.decrementAndGet() == 0 && !(throwable instanceof CancellationException)) {
+                if (result.setException(throwable)) {
+                    cancelRequests();
+                }
+            }
+        }
+
+        private void cancelRequests() {
+            if (scheduledHedge != null) {
+                scheduledHedge.cancel(false);
+            }
+            if (primary != null) {
+                primary.cancel(true);
+            }
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.runtime;
+
+import static java.lang.String.format;
+
+/**
+ * Immutable snapshot of the hedged reads counters
+ */
+public class HedgedReadsStats {
+
+    private final long hedgedReadCount;
+    private final long hedgesSentCount;
+    private final long hedgesWonCount;
+
+    public HedgedReadsStats(long hedgedReadCount, long hedgesSentCount, long hedgesWonCount) {
+        this.hedgedReadCount = hedgedReadCount;
+        this.hedgesSentCount = hedgesSentCount;
+        this.hedgesWonCount = hedgesWonCount;
+    }
+
+    /**
+     * @return number of reads executed with hedging enabled
+     */
+    public long getHedgedReadCount() {
+        return hedgedReadCount;
+    }
+
+    /**
+     * @return number of second requests sent because the first one did not answer within the hedging delay
+     */
+    public long getHedgesSentCount() {
+        return hedgesSentCount;
+    }
+
+    /**
+     * @return number of second requests which answered before the first one
+     */
+    public long getHedgesWonCount() {
+        return hedgesWonCount;
+    }
+
+    @Override
+    public String toString() {
+        return format("HedgedReadsStats{hedgedReadCount=%s, hedgesSentCount=%s, hedgesWonCount=%s}",
+                hedgedReadCount, hedgesSentCount, hedgesWonCount);
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.runtime;
+
+import static java.lang.String.format;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import info.archinnov.achilles.exception.AchillesInFlightLimitException;
+import info.archinnov.achilles.type.strategy.InFlightOverflowStrategy;
+import info.archinnov.achilles.validation.Validator;
+
+/**
+ * Limit the number of requests sent concurrently to Cassandra.
+ * <br/>
+ * When the limit is reached, excess requests are either kept in a bounded queue
+ * or rejected, depending on the configured {@link info.archinnov.achilles.type.strategy.InFlightOverflowStrategy}.
+ * Queued requests never block the calling thread, they are sent as soon as an in-flight request completes
+ */
+public class InFlightRequestsLimiter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InFlightRequestsLimiter.class);
+
+    private final int maxInFlightRequests;
+    private final int maxQueueSize;
+    private final InFlightOverflowStrategy overflowStrategy;
+
+    private final AtomicInteger inFlightRequests = new AtomicInteger(0);
+    private final AtomicInteger queueDepth = new AtomicInteger(0);
+    private final Queue<PendingRequest<?>> pendingRequests = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger drainRequests = new AtomicInteger(0);
+
+    private final LongAdder queuedRequestsCount = new LongAdder();
+    private final LongAdder rejectedRequestsCount = new LongAdder();
+    private final LongAdder totalWaitTimeInNanos = new LongAdder();
+    private final AtomicLong maxWaitTimeInNanos = new AtomicLong(0L);
+
+    public InFlightRequestsLimiter(int maxInFlightRequests, int maxQueueSize, InFlightOverflowStrategy overflowStrategy) {
+        Validator.validateTrue(maxInFlightRequests > 0, "The max number of in-flight requests should be strictly positive");
+        Validator.validateTrue(maxQueueSize >= 0, "The in-flight requests queue size should be positive");
+        Validator.validateNotNull(overflowStrategy, "The in-flight overflow strategy should not be null");
+        this.maxInFlightRequests = maxInFlightRequests;
+        this.maxQueueSize = maxQueueSize;
+        this.overflowStrategy = overflowStrategy;
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> request) {
+        if (tryAcquire()) {
+            return executeAndRelease(request);
+        }
+
+        if (overflowStrategy == InFlightOverflowStrategy.REJECT) {
+            return reject();
+        }
+
+        if (queueDepth.incrementAndGet() > maxQueueSize) {
+            queueDepth.decrementAndGet();
+            return reject();
+        }
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Max in-flight requests %s reached, queueing request. Queue depth = %s",
+                    maxInFlightRequests, queueDepth.get()));
+        }
+
+        final PendingRequest<T> pendingRequest = new PendingRequest<>(request);
+        pendingRequests.add(pendingRequest);
+        queuedRequestsCount.increment();
+
+        // An in-flight request may have completed between the failed acquire and the enqueue
+        drainPendingRequests();
+        return pendingRequest.result;
+    }
+
+    /**
+     * @return current number of requests sent to Cassandra and not yet completed
+     */
+    public int getInFlightRequests() {
+        return inFlightRequests.get();
+    }
+
+    /**
+     * @return current number of requests waiting for an in-flight slot
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * @return total number of requests that had to wait for an in-flight slot
+     */
+    public long getQueuedRequestsCount() {
+        return queuedRequestsCount.sum();
+    }
+
+    /**
+     * @return total number of requests rejected because of the in-flight limit
+     */
+    public long getRejectedRequestsCount() {
+        return rejectedRequestsCount.sum();
+    }
+
+    /**
+     * @return cumulated wait time in milliseconds of all queued requests
+     */
+    public long getTotalWaitTimeInMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(totalWaitTimeInNanos.sum());
+    }
+
+    /**
+     * @return longest wait time in milliseconds of a queued request
+     */
+    public long getMaxWaitTimeInMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxWaitTimeInNanos.get());
+    }
+
+    private boolean tryAcquire() {
+        while (true) {
+            final int current = inFlightRequests.get();
+            if (current >= maxInFlightRequests) {
+                return false;
+            }
+            if (inFlightRequests.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void release() {
+        inFlightRequests.decrementAndGet();
+        drainPendingRequests();
+    }
+
+    /**
+     * Only one thread drains the queue at a time. A request completing synchronously
+     * while being executed by the drain loop calls back into this method, which then
+     * only records the drain request and returns, so that the loop, not the call stack,
+     * sends the next queued requests
+     */
+    private void drainPendingRequests() {
+        if (drainRequests.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            while (!pendingRequests.isEmpty() && tryAcquire()) {
+                final PendingRequest<?> pendingRequest = pendingRequests.poll();
+                if (pendingRequest == null) {
+                    inFlightRequests.decrementAndGet();
+                } else {
+                    queueDepth.decrementAndGet();
+                    final long waitTime = System.nanoTime() - pendingRequest.enqueueTime;
+                    totalWaitTimeInNanos.add(waitTime);
+                    maxWaitTimeInNanos.accumulateAndGet(waitTime, Long::max);
+                    pendingRequest.execute();
+                }
+            }
+            missed = drainRequests.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private <T> CompletableFuture<T> executeAndRelease(Supplier<CompletableFuture<T>> request) {
+        final CompletableFuture<T> future;
+        try {
+            future = request.get();
+        } catch (Throwable throwable) {
+            release();
+            final CompletableFuture<T> failed = new CompletableFuture<>();
+            failed.completeExceptionally(throwable);
+            return failed;
+        }
+        future.whenComplete((result, throwable) -> release());
+        return future;
+    }
+
+    private <T> CompletableFuture<T> reject() {
+        rejectedRequestsCount.increment();
+        final CompletableFuture<T> rejected = new CompletableFuture<>();
+        rejected.completeExceptionally(new AchillesInFlightLimitException(
+                format("Cannot send request, max in-flight requests %s reached and %s requests queued",
+                        maxInFlightRequests, queueDepth.get())));
+        return rejected;
+    }
+
+    @Override
+    public String toString() {
+        return format("InFlightRequestsLimiter{maxInFlightRequests=%s, maxQueueSize=%s, overflowStrategy=%s, " +
+                        "inFlightRequests=%s, queueDepth=%s, rejectedRequestsCount=%s}",
+                maxInFlightRequests, maxQueueSize, overflowStrategy,
+                inFlightRequests.get(), queueDepth.get(), rejectedRequestsCount.sum());
+    }
+
+    private class PendingRequest<T> {
+        private final Supplier<CompletableFuture<T>> request;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final long enqueueTime = System.nanoTime();
+
+        private PendingRequest(Supplier<CompletableFuture<T>> request) {
+            this.request = request;
+        }
+
+        private void execute() {
+            executeAndRelease(request)
+                    .whenComplete((value, throwable) -> {
+                        if (throwable != null) {
+                            result.completeExceptionally(throwable);
+                        } else {
+                            result.complete(value);
+                        }
+                    });
+        }
+    }
+}
@@ -19,6 +19,7 @@ package info.archinnov.achilles.internals.runtime;
 import static info.archinnov.achilles.internals.futures.FutureUtils.toCompletableFuture;
 import static java.lang.String.format;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
@@ -28,13 +29,22 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.*;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
 
 import info.archinnov.achilles.internals.cache.CacheKey;
+import info.archinnov.achilles.internals.cache.EntityCache;
 import info.archinnov.achilles.internals.cache.StatementsCache;
 import info.archinnov.achilles.internals.context.ConfigurationContext;
 import info.archinnov.achilles.internals.factory.TupleTypeFactory;
 import info.archinnov.achilles.internals.factory.UserTypeFactory;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.metrics.StatementMetricsKey;
+import info.archinnov.achilles.internals.metrics.StatementMetricsListener;
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.options.HedgingOptions;
+import info.archinnov.achilles.internals.statements.OperationType;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
 import info.archinnov.achilles.type.SchemaNameProvider;
 
@@ -47,6 +57,12 @@ public class RuntimeEngine {
     public final Session session;
     public final String currentKeyspace;
     public final ExecutorService executor;
+    public final ExecutorService mappingExecutor;
+    public final Optional<InFlightRequestsLimiter> inFlightRequestsLimiter;
+    public final Map<Class<?>, EntityCache> entityCaches;
+    public final StatementMetricsListener statementMetricsListener;
+    private final boolean statementMetricsEnabled;
+    public final HedgedReads hedgedReads = new HedgedReads();
 
     public TupleTypeFactory tupleTypeFactory;
     public UserTypeFactory userTypeFactory;
@@ -57,6 +73,11 @@ public class RuntimeEngine {
         this.cache = configContext.getStatementsCache();
         this.currentKeyspace = configContext.getCurrentKeyspace().orElseGet(session::getLoggedKeyspace);
         this.executor = configContext.getExecutorService();
+        this.mappingExecutor = configContext.getMappingExecutorService().orElse(executor);
+        this.inFlightRequestsLimiter = configContext.getInFlightRequestsLimiter();
+        this.entityCaches = configContext.getEntityCaches();
+        this.statementMetricsListener = configContext.getStatementMetricsListener();
+        this.statementMetricsEnabled = statementMetricsListener != StatementMetricsListener.NO_OP;
     }
 
     public PreparedStatement getStaticCache(CacheKey cacheKey) {
@@ -64,22 +85,35 @@ public class RuntimeEngine {
     }
 
     public CompletableFuture<ResultSet> execute(StatementWrapper wrapper) {
+        return execute(wrapper, Optional.empty());
+    }
+
+    /**
+     * Execute the statement, hedging the read if hedging options are provided
+     * and the statement is idempotent
+     */
+    public CompletableFuture<ResultSet> execute(StatementWrapper wrapper, Optional<HedgingOptions> hedgingOptions) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Executing statement %s", wrapper.getBoundStatement().preparedStatement().getQueryString()));
         }
 
         wrapper.logDML();
-        return toCompletableFuture(session.executeAsync(wrapper.getBoundStatement()), executor);
+        return executeAsync(wrapper, executor, hedgingOptions);
     }
 
     public CompletableFuture<ResultSet> execute(BoundStatement boundStatement) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Executing bound statement %s", boundStatement.preparedStatement().getQueryString()));
         }
-        return toCompletableFuture(session.executeAsync(boundStatement), executor);
+        return executeAsync(boundStatement, executor, metricsKey(Optional.empty(), OperationType.OTHER,
+                boundStatement.preparedStatement().getQueryString()));
     }
 
     public CompletableFuture<ResultSet> execute(BatchStatement batchStatement) {
+        return execute(Optional.empty(), OperationType.OTHER, batchStatement);
+    }
+
+    public CompletableFuture<ResultSet> execute(Optional<Class<?>> entityClass, OperationType operationType, BatchStatement batchStatement) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Executing batch statement : %s",
                     batchStatement.getStatements()
@@ -87,7 +121,117 @@ public class RuntimeEngine {
                             .map(Statement::toString)
                             .reduce("", (x, y) -> x + y)));
         }
-        return toCompletableFuture(session.executeAsync(batchStatement), executor);
+        return executeAsync(batchStatement, executor, metricsKey(entityClass, operationType, StatementMetricsKey.BATCH_QUERY));
+    }
+
+    /**
+     * Execute a SELECT whose rows will be mapped to entities. The returned future
+     * is completed on the mapping executor so that the decoding and the interceptors
+     * chained on it do not run on the default executor. Hand the mapped result back
+     * with {@link #completeOnDefaultExecutor(CompletableFuture)}
+     */
+    public CompletableFuture<ResultSet> executeForMapping(StatementWrapper wrapper) {
+        return executeForMapping(wrapper, Optional.empty());
+    }
+
+    /**
+     * Same as {@link #executeForMapping(StatementWrapper)}, hedging the read if hedging
+     * options are provided and the statement is idempotent
+     */
+    public CompletableFuture<ResultSet> executeForMapping(StatementWrapper wrapper, Optional<HedgingOptions> hedgingOptions) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Executing statement for mapping %s", wrapper.getBoundStatement().preparedStatement().getQueryString()));
+        }
+
+        wrapper.logDML();
+        return executeAsync(wrapper, mappingExecutor, hedgingOptions);
+    }
+
+    /**
+     * Complete the given future on the default executor if a dedicated mapping
+     * executor is configured, so that user callbacks never run on the mapping threads
+     */
+    public <T> CompletableFuture<T> completeOnDefaultExecutor(CompletableFuture<T> future) {
+        if (mappingExecutor == executor) {
+            return future;
+        }
+        final CompletableFuture<T> completion = new CompletableFuture<>();
+        future.whenCompleteAsync((value, throwable) -> {
+            if (throwable != null) {
+                completion.completeExceptionally(throwable);
+            } else {
+                completion.complete(value);
+            }
+        }, executor);
+        return completion;
+    }
+
+    private CompletableFuture<ResultSet> executeAsync(StatementWrapper wrapper, ExecutorService completionExecutor,
+                                                      Optional<HedgingOptions> hedgingOptions) {
+        final BoundStatement boundStatement = wrapper.getBoundStatement();
+        final Optional<StatementMetricsKey> metricsKey = metricsKey(wrapper);
+        if (hedgingOptions.isPresent() && isIdempotent(boundStatement)) {
+            final StatementMetricsKey hedgingKey = metricsKey.orElseGet(() -> new StatementMetricsKey(wrapper.getEntityClass(),
+                    wrapper.getOperationType(), boundStatement.preparedStatement().getQueryString()));
+            return submit(() -> toCompletableFuture(hedgedReads.execute(() -> sendStatement(boundStatement, metricsKey),
+                    hedgingKey, hedgingOptions.get()), completionExecutor));
+        }
+        return executeAsync(boundStatement, completionExecutor, metricsKey);
+    }
+
+    private CompletableFuture<ResultSet> executeAsync(Statement statement, ExecutorService completionExecutor,
+                                                      Optional<StatementMetricsKey> metricsKey) {
+        return submit(() -> toCompletableFuture(sendStatement(statement, metricsKey), completionExecutor));
+    }
+
+    private CompletableFuture<ResultSet> submit(Supplier<CompletableFuture<ResultSet>> execution) {
+        if (inFlightRequestsLimiter.isPresent()) {
+            return inFlightRequestsLimiter.get().submit(execution);
+        } else {
+            return execution.get();
+        }
+    }
+
+    private boolean isIdempotent(Statement statement) {
+        final Boolean idempotent = statement.isIdempotent();
+        return idempotent != null
+                ? idempotent
+                : session.getCluster().getConfiguration().getQueryOptions().getDefaultIdempotence();
+    }
+
+    private ResultSetFuture sendStatement(Statement statement, Optional<StatementMetricsKey> metricsKey) {
+        if (!metricsKey.isPresent()) {
+            return session.executeAsync(statement);
+        }
+        final long startNanos = System.nanoTime();
+        final ResultSetFuture resultSetFuture = session.executeAsync(statement);
+        Futures.addCallback(resultSetFuture, new FutureCallback<ResultSet>() {
+            @Override
+            public void onSuccess(ResultSet result) {
+                statementMetricsListener.onSuccess(metricsKey.get(), System.nanoTime() - startNanos);
+            }
+
+            @Override
+            public void onFailure(Throwable throwable) {
+                statementMetricsListener.onError(metricsKey.get(), System.nanoTime() - startNanos, throwable);
+            }
+        }, MoreExecutors.directExecutor());
+        return resultSetFuture;
+    }
+
+    private Optional<StatementMetricsKey> metricsKey(StatementWrapper wrapper) {
+        if (!statementMetricsEnabled) {
+            return Optional.empty();
+        }
+        return metricsKey(wrapper.getEntityClass(), wrapper.getOperationType(),
+                wrapper.getBoundStatement().preparedStatement().getQueryString());
+    }
+
+    private Optional<StatementMetricsKey> metricsKey(Optional<Class<?>> entityClass, OperationType operationType, String queryString) {
+        if (!statementMetricsEnabled) {
+            return Optional.empty();
+        }
+        return Optional.of(new StatementMetricsKey(entityClass, operationType, queryString));
     }
 
     public PreparedStatement prepareDynamicQuery(RegularStatement statement) {
@@ -101,6 +245,32 @@ public class RuntimeEngine {
         return cache.getDynamicCache(queryString, session);
     }
 
+    public PreparedStatement prepareDynamicQuery(Object shapeKey, Supplier<RegularStatement> lambda) {
+        return cache.getDynamicCache(shapeKey, () -> lambda.get().getQueryString(), session);
+    }
+
+    public Optional<EntityCache> getEntityCache(Class<?> entityClass) {
+        if (entityCaches.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(entityCaches.get(entityClass));
+    }
+
+    public void invalidateEntityCache(Class<?> entityClass) {
+        getEntityCache(entityClass).ifPresent(EntityCache::invalidateAll);
+    }
+
+    public void invalidateEntityCache(Class<?> entityClass, Object[] encodedPrimaryKeyValues) {
+        getEntityCache(entityClass).ifPresent(entityCache -> entityCache.invalidate(encodedPrimaryKeyValues));
+    }
+
+    public <T> void invalidateEntityCache(AbstractEntityProperty<T> meta, T instance, CassandraOptions options) {
+        final Optional<EntityCache> entityCache = getEntityCache(meta.entityClass);
+        if (entityCache.isPresent()) {
+            entityCache.get().invalidate(BeanValueExtractor.extractPrimaryKeyValues(instance, meta, Optional.of(options))._2());
+        }
+    }
+
     public Optional<PreparedStatement> maybePrepareIfDifferentSchemaNameFromCache(AbstractEntityProperty<?> entityProperty,
                                                                                   PreparedStatement psFromCache,
                                                                                   Optional<SchemaNameProvider> schemaNameProvider,
@@ -112,7 +282,7 @@ public class RuntimeEngine {
             }
             final SchemaNameProvider provider = schemaNameProvider.get();
             final String tableNameWithKeyspace = provider.keyspaceFor(entityProperty.entityClass) + "." + provider.tableNameFor(entityProperty.entityClass);
-            if (!psFromCache.getQueryString().toLowerCase().contains("from " + tableNameWithKeyspace)) {
+            if (!cache.getPreparedStatementInfo(psFromCache).lowerCaseQueryString.contains("from " + tableNameWithKeyspace)) {
                 return Optional.of(prepareDynamicQuery(lambda.get()));
             }
         }
@@ -18,7 +18,10 @@ package info.archinnov.achilles.internals.statements;
 
 import static java.lang.String.format;
 
-import java.util.UUID;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.apache.commons.lang3.ArrayUtils;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -38,11 +41,12 @@ public class BoundStatementWrapper implements StatementWrapper {
 
     private final OperationType operationType;
     private final AbstractEntityProperty<?> meta;
-    private final Object[] boundValues;
     private final Object[] encodedBoundValues;
     private final Logger actualLogger;
+    private Object[] boundValues;
+    private Supplier<Object[]> boundValuesSupplier;
     private BoundStatement bs;
-    private UUID queryId;
+    private String queryId;
 
 
     public BoundStatementWrapper(OperationType operationType, AbstractEntityProperty<?> meta, PreparedStatement ps,
@@ -52,7 +56,24 @@ public class BoundStatementWrapper implements StatementWrapper {
 
     public BoundStatementWrapper(OperationType operationType, AbstractEntityProperty<?> meta,
                                  BoundStatement bs, Object[] encodedBoundValues) {
-        this(operationType, meta, bs, new Object[]{}, encodedBoundValues);
+        this(operationType, meta, bs, ArrayUtils.EMPTY_OBJECT_ARRAY, encodedBoundValues);
+    }
+
+    /**
+     * @param boundValues supplier of the raw bound values, only invoked if they are logged
+     */
+    public BoundStatementWrapper(OperationType operationType, AbstractEntityProperty<?> meta, PreparedStatement ps,
+                                 Supplier<Object[]> boundValues, Object[] encodedBoundValues) {
+        this(operationType, meta, ps.bind(encodedBoundValues), boundValues, encodedBoundValues);
+    }
+
+    /**
+     * @param boundValues supplier of the raw bound values, only invoked if they are logged
+     */
+    public BoundStatementWrapper(OperationType operationType, AbstractEntityProperty<?> meta,
+                                 BoundStatement bs, Supplier<Object[]> boundValues, Object[] encodedBoundValues) {
+        this(operationType, meta, bs, (Object[]) null, encodedBoundValues);
+        this.boundValuesSupplier = boundValues;
     }
 
     public BoundStatementWrapper(OperationType operationType, AbstractEntityProperty<?> meta,
@@ -67,6 +88,9 @@ public class BoundStatementWrapper implements StatementWrapper {
 
     @Override
     public Object[] getBoundValues() {
+        if (boundValues == null) {
+            boundValues = boundValuesSupplier.get();
+        }
         return boundValues;
     }
 
@@ -75,6 +99,16 @@ public class BoundStatementWrapper implements StatementWrapper {
         return bs;
     }
 
+    @Override
+    public OperationType getOperationType() {
+        return operationType;
+    }
+
+    @Override
+    public Optional<Class<?>> getEntityClass() {
+        return meta == null ? Optional.empty() : Optional.of(meta.entityClass);
+    }
+
     @Override
     public void applyOptions(CassandraOptions cassandraOptions) {
         cassandraOptions.applyOptions(operationType, meta, bs);
@@ -86,9 +120,8 @@ public class BoundStatementWrapper implements StatementWrapper {
             LOGGER.trace(format("Maybe log DML query %s", bs.preparedStatement().getQueryString()));
         }
 
-        queryId = UUID.randomUUID();
         if (actualLogger.isDebugEnabled()) {
-            writeDMLStatementLog(actualLogger, queryId, bs.preparedStatement().getQueryString(), bs.getConsistencyLevel(), boundValues, encodedBoundValues);
+            writeDMLStatementLog(actualLogger, getQueryId(), bs.preparedStatement().getQueryString(), bs.getConsistencyLevel(), getBoundValues(), encodedBoundValues);
         }
     }
 
@@ -100,7 +133,7 @@ public class BoundStatementWrapper implements StatementWrapper {
 
         if (actualLogger.isDebugEnabled()) {
             final ResultSetWrapper wrapper = new ResultSetWrapper(originalResultSet);
-            logReturnedResultsInternal(actualLogger, queryId, wrapper, maxDisplayedRows);
+            logReturnedResultsInternal(actualLogger, getQueryId(), wrapper, maxDisplayedRows);
             return wrapper;
         } else {
             return originalResultSet;
@@ -114,7 +147,7 @@ public class BoundStatementWrapper implements StatementWrapper {
         }
 
         if (actualLogger.isDebugEnabled()) {
-            logReturnedRowInternal(actualLogger, queryId, row);
+            logReturnedRowInternal(actualLogger, getQueryId(), row);
         }
         return row;
     }
@@ -124,7 +157,16 @@ public class BoundStatementWrapper implements StatementWrapper {
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Maybe display tracing for query %s", bs.preparedStatement().getQueryString()));
         }
-        tracingInternal(actualLogger, queryId, resultSet);
+        if (actualLogger.isTraceEnabled()) {
+            tracingInternal(actualLogger, getQueryId(), resultSet);
+        }
         return resultSet;
     }
+
+    private String getQueryId() {
+        if (queryId == null) {
+            queryId = StatementWrapper.nextQueryId();
+        }
+        return queryId;
+    }
 }
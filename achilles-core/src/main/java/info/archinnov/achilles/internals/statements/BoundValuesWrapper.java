@@ -19,7 +19,7 @@ package info.archinnov.achilles.internals.statements;
 import static info.archinnov.achilles.type.strategy.InsertStrategy.ALL_FIELDS;
 import static java.lang.String.format;
 
-import java.util.List;
+import java.util.Arrays;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,6 +28,7 @@ import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.PreparedStatement;
 
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.metamodel.AbstractProperty;
 import info.archinnov.achilles.type.strategy.InsertStrategy;
 
 
@@ -35,33 +36,49 @@ public class BoundValuesWrapper {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(BoundValuesWrapper.class);
 
-    public final List<BoundValueInfo> boundValuesInfo;
     public final AbstractEntityProperty<?> meta;
-
-    public BoundValuesWrapper(AbstractEntityProperty<?> meta, List<BoundValueInfo> boundValuesInfo) {
+    public final Object[] encodedValues;
+    private final AbstractProperty<?, ?, ?>[] properties;
+    private final Object instance;
+
+    /**
+     * @param properties properties whose values are bound, in order
+     * @param instance entity instance the values are extracted from
+     * @param encodedValues encoded values of the properties, with the TTL value as last element
+     */
+    public BoundValuesWrapper(AbstractEntityProperty<?> meta, AbstractProperty<?, ?, ?>[] properties,
+                              Object instance, Object[] encodedValues) {
         this.meta = meta;
-        this.boundValuesInfo = boundValuesInfo;
+        this.properties = properties;
+        this.instance = instance;
+        this.encodedValues = encodedValues;
+    }
+
+    /**
+     * Raw values of the properties, with the TTL value as last element. They are only
+     * used for logging so they are extracted from the entity on demand
+     */
+    @SuppressWarnings("unchecked")
+    public Object[] getBoundValues() {
+        final Object[] boundValues = new Object[properties.length + 1];
+        for (int i = 0; i < properties.length; i++) {
+            boundValues[i] = ((AbstractProperty<Object, ?, ?>) properties[i]).getFieldValue(instance);
+        }
+        boundValues[properties.length] = encodedValues[properties.length];
+        return boundValues;
     }
 
     public StatementWrapper bindWithInsertStrategy(PreparedStatement ps, InsertStrategy insertStrategy) {
 
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Bind values %s to query %s with insert strategy %s",
-                    boundValuesInfo, ps.getQueryString(), insertStrategy.name()));
+                    Arrays.toString(encodedValues), ps.getQueryString(), insertStrategy.name()));
         }
 
         if (insertStrategy == ALL_FIELDS) {
-            return new BoundStatementWrapper(OperationType.INSERT, meta, ps,
-                    boundValuesInfo.stream().map(x -> x.boundValue).toArray(),
-                    boundValuesInfo.stream().map(x -> x.encodedValue).toArray());
+            return new BoundStatementWrapper(OperationType.INSERT, meta, ps.bind(encodedValues), this::getBoundValues, encodedValues);
         } else {
-            BoundStatement bs = ps.bind();
-            boundValuesInfo.stream()
-                    .filter(x -> x.encodedValue != null)
-                    .forEach(x -> x.setter.accept(x.encodedValue, bs));
-            return new BoundStatementWrapper(OperationType.INSERT, meta, bs,
-                    boundValuesInfo.stream().map(x -> x.boundValue).toArray(),
-                    boundValuesInfo.stream().map(x -> x.encodedValue).toArray());
+            return new BoundStatementWrapper(OperationType.INSERT, meta, bindNonNullValues(ps), this::getBoundValues, encodedValues);
         }
     }
 
@@ -69,16 +86,22 @@ public class BoundValuesWrapper {
 
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Bind values %s to query %s for UPDATE",
-                    boundValuesInfo, ps.getQueryString()));
+                    Arrays.toString(encodedValues), ps.getQueryString()));
         }
 
-        BoundStatement bs = ps.bind();
-        boundValuesInfo.stream()
-                .filter(x -> x.encodedValue != null)
-                .forEach(x -> x.setter.accept(x.encodedValue, bs));
-        return new BoundStatementWrapper(OperationType.UPDATE, meta, bs,
-                boundValuesInfo.stream().map(x -> x.boundValue).toArray(),
-                boundValuesInfo.stream().map(x -> x.encodedValue).toArray());
+        return new BoundStatementWrapper(OperationType.UPDATE, meta, bindNonNullValues(ps), this::getBoundValues, encodedValues);
+    }
 
+    @SuppressWarnings("unchecked")
+    private BoundStatement bindNonNullValues(PreparedStatement ps) {
+        final BoundStatement bs = ps.bind();
+        for (int i = 0; i < properties.length; i++) {
+            final Object encodedValue = encodedValues[i];
+            if (encodedValue != null) {
+                ((AbstractProperty<?, ?, Object>) properties[i]).encodeToSettable(encodedValue, bs);
+            }
+        }
+        bs.setInt("ttl", (Integer) encodedValues[properties.length]);
+        return bs;
     }
 }
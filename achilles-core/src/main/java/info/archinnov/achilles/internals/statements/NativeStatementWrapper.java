@@ -18,7 +18,9 @@ package info.archinnov.achilles.internals.statements;
 
 import static java.lang.String.format;
 
-import java.util.UUID;
+import java.util.Optional;
+
+import org.apache.commons.lang3.ArrayUtils;
 
 import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.ResultSet;
@@ -33,7 +35,7 @@ public class NativeStatementWrapper implements StatementWrapper {
     private final AbstractEntityProperty<?> meta;
     private final BoundStatement boundStatement;
     private final Object[] encodedBoundValues;
-    private final UUID queryId = UUID.randomUUID();
+    private String queryId;
     private final OperationType operationType;
 
 
@@ -54,6 +56,16 @@ public class NativeStatementWrapper implements StatementWrapper {
         return boundStatement;
     }
 
+    @Override
+    public OperationType getOperationType() {
+        return operationType;
+    }
+
+    @Override
+    public Optional<Class<?>> getEntityClass() {
+        return meta == null ? Optional.empty() : Optional.of(meta.entityClass);
+    }
+
     @Override
     public void applyOptions(CassandraOptions cassandraOptions) {
         cassandraOptions.applyOptions(operationType, meta, boundStatement);
@@ -61,16 +73,18 @@ public class NativeStatementWrapper implements StatementWrapper {
 
     @Override
     public void logDML() {
-        writeDMLStatementLog(DML_LOGGER, queryId,
-                boundStatement.preparedStatement().getQueryString(),
-                boundStatement.getConsistencyLevel(), new Object[0], encodedBoundValues);
+        if (DML_LOGGER.isDebugEnabled()) {
+            writeDMLStatementLog(DML_LOGGER, getQueryId(),
+                    boundStatement.preparedStatement().getQueryString(),
+                    boundStatement.getConsistencyLevel(), ArrayUtils.EMPTY_OBJECT_ARRAY, encodedBoundValues);
+        }
     }
 
     @Override
     public ResultSet logReturnResults(ResultSet originalResultSet, int maxDisplayedRows) {
         if (DML_LOGGER.isDebugEnabled()) {
             final ResultSetWrapper wrapper = new ResultSetWrapper(originalResultSet);
-            logReturnedResultsInternal(DML_LOGGER, queryId, wrapper, maxDisplayedRows);
+            logReturnedResultsInternal(DML_LOGGER, getQueryId(), wrapper, maxDisplayedRows);
             return wrapper;
         } else {
             return originalResultSet;
@@ -80,7 +94,7 @@ public class NativeStatementWrapper implements StatementWrapper {
     @Override
     public Row logReturnedRow(Row row) {
         if (DML_LOGGER.isDebugEnabled()) {
-            logReturnedRowInternal(DML_LOGGER, queryId, row);
+            logReturnedRowInternal(DML_LOGGER, getQueryId(), row);
         }
         return row;
     }
@@ -90,7 +104,16 @@ public class NativeStatementWrapper implements StatementWrapper {
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Maybe display tracing for query %s", boundStatement.preparedStatement().getQueryString()));
         }
-        tracingInternal(DML_LOGGER, queryId, resultSet);
+        if (DML_LOGGER.isTraceEnabled()) {
+            tracingInternal(DML_LOGGER, getQueryId(), resultSet);
+        }
         return resultSet;
     }
+
+    private String getQueryId() {
+        if (queryId == null) {
+            queryId = StatementWrapper.nextQueryId();
+        }
+        return queryId;
+    }
 }
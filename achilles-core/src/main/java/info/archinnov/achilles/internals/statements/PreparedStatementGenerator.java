@@ -20,17 +20,18 @@ import static com.datastax.driver.core.querybuilder.QueryBuilder.*;
 import static info.archinnov.achilles.internals.cache.CacheKey.Operation.*;
 import static java.lang.String.format;
 
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
 import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.RegularStatement;
-import com.datastax.driver.core.Session;
 import com.datastax.driver.core.querybuilder.*;
 
 import info.archinnov.achilles.internals.cache.CacheKey;
-import info.archinnov.achilles.internals.cache.StatementsCache;
 import info.archinnov.achilles.internals.cassandra_version.CassandraFeature;
 import info.archinnov.achilles.internals.cassandra_version.InternalCassandraVersion;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
@@ -45,16 +46,35 @@ import info.archinnov.achilles.validation.Validator;
 public class PreparedStatementGenerator {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PreparedStatementGenerator.class);
+    private static final String UPDATE_SHAPE = "UPDATE";
 
-    public static void generateStaticSelectQuery(Session session, StatementsCache cache,  AbstractEntityProperty<?> entityProperty) {
-        final RegularStatement where = generateSelectQuery(entityProperty, Optional.empty());
-        cache.putStaticCache(new CacheKey(entityProperty.entityClass, FIND), () -> session.prepare(where));
+    public static void generateStaticSelectQuery(StaticStatementsPreparer preparer, AbstractEntityProperty<?> entityProperty) {
+        preparer.prepare(new CacheKey(entityProperty.entityClass, FIND), generateSelectQuery(entityProperty, Optional.empty()));
     }
 
     public static RegularStatement generateSelectQuery( AbstractEntityProperty<?> entityProperty, Optional<SchemaNameProvider> schemaNameProvider) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Generate SELECT query for entity of type %s", entityProperty.entityClass.getCanonicalName()));
         }
+        return generateSelectQuery(entityProperty, schemaNameProvider, false);
+    }
+
+    /**
+     * Generate a SELECT query by partition key(s) and clustering column(s) with an <strong>IN</strong>
+     * clause on the last clustering column, to fetch several rows of the same partition at once
+     */
+    public static RegularStatement generateSelectInLastClusteringQuery(AbstractEntityProperty<?> entityProperty, Optional<SchemaNameProvider> schemaNameProvider) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Generate SELECT query with IN on last clustering column for entity of type %s", entityProperty.entityClass.getCanonicalName()));
+        }
+        Validator.validateTrue(entityProperty.clusteringColumns.size() > 0,
+                "Cannot generate SELECT with IN on last clustering column for entity of type %s because it has no clustering column",
+                entityProperty.entityClass.getCanonicalName());
+        return generateSelectQuery(entityProperty, schemaNameProvider, true);
+    }
+
+    private static RegularStatement generateSelectQuery(AbstractEntityProperty<?> entityProperty, Optional<SchemaNameProvider> schemaNameProvider,
+                                                        boolean inOnLastClustering) {
 
         final Select.Selection select = QueryBuilder.select();
         final Optional<String> keyspace = entityProperty.getKeyspace();
@@ -96,30 +116,36 @@ public class PreparedStatementGenerator {
             where.and(eq(x.fieldInfo.quotedCqlColumn, bindMarker(x.fieldInfo.quotedCqlColumn)));
         }
 
-        for (AbstractProperty<?, ?, ?> x : entityProperty.clusteringColumns) {
-            where.and(eq(x.fieldInfo.quotedCqlColumn, bindMarker(x.fieldInfo.quotedCqlColumn)));
+        final int clusteringCount = entityProperty.clusteringColumns.size();
+        for (int i = 0; i < clusteringCount; i++) {
+            final AbstractProperty<?, ?, ?> x = entityProperty.clusteringColumns.get(i);
+            if (inOnLastClustering && i == clusteringCount - 1) {
+                where.and(in(x.fieldInfo.quotedCqlColumn, bindMarker(x.fieldInfo.quotedCqlColumn)));
+            } else {
+                where.and(eq(x.fieldInfo.quotedCqlColumn, bindMarker(x.fieldInfo.quotedCqlColumn)));
+            }
         }
 
         return where;
     }
 
-    public static void generateStaticDeleteQueries(Session session, StatementsCache cache,  AbstractEntityProperty<?> entityProperty) {
+    public static void generateStaticDeleteQueries(StaticStatementsPreparer preparer, AbstractEntityProperty<?> entityProperty) {
 
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Generate DELETE queries for entity of type %s", entityProperty.entityClass.getCanonicalName()));
         }
 
-        cache.putStaticCache(new CacheKey(entityProperty.entityClass, DELETE),
-                () -> session.prepare(generateDeleteByKeys(entityProperty, Optional.empty())));
+        preparer.prepare(new CacheKey(entityProperty.entityClass, DELETE),
+                generateDeleteByKeys(entityProperty, Optional.empty()));
 
         if (!entityProperty.isCounter()) {
-            cache.putStaticCache(new CacheKey(entityProperty.entityClass, DELETE_IF_EXISTS),
-                    () -> session.prepare(generateDeleteByKeysIfExists(entityProperty, Optional.empty())));
+            preparer.prepareRare(new CacheKey(entityProperty.entityClass, DELETE_IF_EXISTS),
+                    generateDeleteByKeysIfExists(entityProperty, Optional.empty()));
         }
 
         if (entityProperty.isClustered()) {
-            cache.putStaticCache(new CacheKey(entityProperty.entityClass, DELETE_BY_PARTITION),
-                    () -> session.prepare(generateDeleteByPartition(entityProperty, Optional.empty())));
+            preparer.prepare(new CacheKey(entityProperty.entityClass, DELETE_BY_PARTITION),
+                    generateDeleteByPartition(entityProperty, Optional.empty()));
         }
     }
 
@@ -194,32 +220,32 @@ public class PreparedStatementGenerator {
     }
 
 
-    public static void generateStaticInsertQueries(InternalCassandraVersion cassandraVersion, Session session, StatementsCache cache, AbstractEntityProperty<?> entityProperty) {
+    public static void generateStaticInsertQueries(InternalCassandraVersion cassandraVersion, StaticStatementsPreparer preparer, AbstractEntityProperty<?> entityProperty) {
 
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Generate INSERT queries for entity of type %s", entityProperty.entityClass.getCanonicalName()));
         }
 
-        cache.putStaticCache(new CacheKey(entityProperty.entityClass, INSERT),
-                () -> session.prepare(generateInsert(entityProperty, Optional.empty())));
+        preparer.prepare(new CacheKey(entityProperty.entityClass, INSERT),
+                generateInsert(entityProperty, Optional.empty()));
 
-        cache.putStaticCache(new CacheKey(entityProperty.entityClass, INSERT_IF_NOT_EXISTS),
-                () -> session.prepare(generateInsertIfNotExists(entityProperty, Optional.empty())));
+        preparer.prepareRare(new CacheKey(entityProperty.entityClass, INSERT_IF_NOT_EXISTS),
+                generateInsertIfNotExists(entityProperty, Optional.empty()));
 
         if (cassandraVersion.supportsFeature(CassandraFeature.JSON)) {
-            cache.putStaticCache(new CacheKey(entityProperty.entityClass, INSERT_JSON),
-                    () -> session.prepare(generateInsertJSON(entityProperty, Optional.empty())));
+            preparer.prepareRare(new CacheKey(entityProperty.entityClass, INSERT_JSON),
+                    generateInsertJSON(entityProperty, Optional.empty()));
 
-            cache.putStaticCache(new CacheKey(entityProperty.entityClass, INSERT_IF_NOT_EXISTS_JSON),
-                    () -> session.prepare(generateInsertIfNotExistsJson(entityProperty, Optional.empty())));
+            preparer.prepareRare(new CacheKey(entityProperty.entityClass, INSERT_IF_NOT_EXISTS_JSON),
+                    generateInsertIfNotExistsJson(entityProperty, Optional.empty()));
         }
 
         if (entityProperty.hasStaticColumn()) {
-            cache.putStaticCache(new CacheKey(entityProperty.entityClass, INSERT_STATIC),
-                    () -> session.prepare(generateInsertStatic(entityProperty, Optional.empty())));
+            preparer.prepareRare(new CacheKey(entityProperty.entityClass, INSERT_STATIC),
+                    generateInsertStatic(entityProperty, Optional.empty()));
 
-            cache.putStaticCache(new CacheKey(entityProperty.entityClass, INSERT_STATIC_IF_NOT_EXISTS),
-                    () -> session.prepare(generateInsertStaticIfNotExists(entityProperty, Optional.empty())));
+            preparer.prepareRare(new CacheKey(entityProperty.entityClass, INSERT_STATIC_IF_NOT_EXISTS),
+                    generateInsertStaticIfNotExists(entityProperty, Optional.empty()));
         }
     }
 
@@ -279,6 +305,32 @@ public class PreparedStatementGenerator {
         return where;
     }
 
+    /**
+     * Compute the shape of the UPDATE query generated by {@link #generateUpdate(Object, AbstractEntityProperty, CassandraOptions, boolean, boolean)}
+     * without rendering it. Two instances with the same shape produce the same query string
+     */
+    public static <T> Object generateUpdateShapeKey(T instance, AbstractEntityProperty<T> entityProperty, CassandraOptions options,
+                                                    boolean staticValuesOnly, boolean ifExists) {
+        final List<AbstractProperty<T, ?, ?>> allColumns = entityProperty.allColumns;
+        final BitSet nonNullColumns = new BitSet(allColumns.size());
+        for (int i = 0; i < allColumns.size(); i++) {
+            final AbstractProperty<T, ?, ?> x = allColumns.get(i);
+            final ColumnType columnType = x.fieldInfo.columnType;
+            if (columnType != ColumnType.PARTITION && columnType != ColumnType.CLUSTERING
+                    && (!staticValuesOnly || columnType == ColumnType.STATIC)
+                    && x.getJavaValue(instance) != null) {
+                nonNullColumns.set(i);
+            }
+        }
+
+        final Optional<SchemaNameProvider> schemaNameProvider = options.getSchemaNameProvider();
+        final String keyspace = schemaNameProvider.map(provider -> provider.keyspaceFor(entityProperty.entityClass)).orElse(null);
+        final String table = schemaNameProvider.map(provider -> provider.tableNameFor(entityProperty.entityClass)).orElse(null);
+
+        return Arrays.asList(UPDATE_SHAPE, entityProperty.entityClass, keyspace, table, nonNullColumns,
+                staticValuesOnly, ifExists, options.hasDefaultTimestamp());
+    }
+
     public static RegularStatement generateInsertJSON(AbstractEntityProperty<?> entityProperty, Optional<SchemaNameProvider> schemaNameProvider) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Generate INSERT JSON query for entity of type %s", entityProperty.entityClass.getCanonicalName()));
@@ -21,6 +21,7 @@ import static info.archinnov.achilles.internals.utils.LoggerHelper.replaceByteBu
 import static java.lang.String.format;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.IntStream;
 
 import org.apache.commons.lang3.ArrayUtils;
@@ -39,11 +40,16 @@ public interface StatementWrapper {
 
     EventComparator EVENT_TRACE_COMPARATOR = new EventComparator();
     Logger DML_LOGGER = LoggerFactory.getLogger(AchillesLoggers.ACHILLES_DML_STATEMENT);
+    AtomicLong QUERY_ID_SEQUENCE = new AtomicLong(0L);
 
     Object[] getBoundValues();
 
     BoundStatement getBoundStatement();
 
+    OperationType getOperationType();
+
+    Optional<Class<?>> getEntityClass();
+
     void applyOptions(CassandraOptions cassandraOptions);
 
     void logDML();
@@ -54,14 +60,22 @@ public interface StatementWrapper {
 
     ResultSet logTrace(ResultSet resultSet);
 
-    default void writeDMLStatementLog(Logger actualLogger, UUID queryId, String queryString, ConsistencyLevel consistencyLevel, Object[] boundValues, Object[] encodedValues) {
+    /**
+     * Query ids only correlate the DML, results and tracing logs of a statement so
+     * they are drawn from a counter, only when one of these logs is enabled
+     */
+    static String nextQueryId() {
+        return Long.toHexString(QUERY_ID_SEQUENCE.incrementAndGet());
+    }
+
+    default void writeDMLStatementLog(Logger actualLogger, String queryId, String queryString, ConsistencyLevel consistencyLevel, Object[] boundValues, Object[] encodedValues) {
         if (actualLogger.isDebugEnabled()) {
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug(format("Writing DML log for query %s with id %s", queryString, queryId));
             }
             StringBuilder logBuilder = new StringBuilder("\n");
             logBuilder.append(String.format("Query ID %s : [%s] with CONSISTENCY LEVEL [%s]",
-                    queryId.toString(), queryString, consistencyLevel));
+                    queryId, queryString, consistencyLevel));
             if (ArrayUtils.isNotEmpty(boundValues)) {
                 logBuilder.append(String.format("\n\t Java bound values : %s", replaceByteBuffersByHexString(boundValues)));
                 logBuilder.append(String.format("\n\t Encoded bound values : %s", replaceByteBuffersByHexString(encodedValues)));
@@ -70,7 +84,7 @@ public interface StatementWrapper {
         }
     }
 
-    default void logReturnedResultsInternal(Logger actualLogger, UUID queryId, ResultSetWrapper resultSet, int maxDisplayedRows) {
+    default void logReturnedResultsInternal(Logger actualLogger, String queryId, ResultSetWrapper resultSet, int maxDisplayedRows) {
         if (maxDisplayedRows > 0) {
             final int availableWithoutFetching = resultSet.getAvailableWithoutFetching();
             StringBuilder results = new StringBuilder(format("Query ID %s results : \n", queryId));
@@ -83,7 +97,7 @@ public interface StatementWrapper {
         }
     }
 
-    default void logReturnedRowInternal(Logger actualLogger, UUID queryId, Row row) {
+    default void logReturnedRowInternal(Logger actualLogger, String queryId, Row row) {
         StringBuilder results = new StringBuilder(format("Query ID %s row : \n", queryId));
         appendRowDataToBuilder(row, row.getColumnDefinitions().asList(), results);
         actualLogger.debug(results.toString());
@@ -114,12 +128,12 @@ public interface StatementWrapper {
         }
     }
 
-    default void tracingInternal(Logger actualLogger, UUID queryId, ResultSet resultSet) {
+    default void tracingInternal(Logger actualLogger, String queryId, ResultSet resultSet) {
         StringBuilder trace = new StringBuilder();
         if (actualLogger.isTraceEnabled()) {
             for (ExecutionInfo executionInfo : resultSet.getAllExecutionInfo()) {
 
-                trace.append(format("\n\nTracing for Query ID %s at host %s with achieved consistency level %s \n", queryId.toString(), executionInfo.getQueriedHost(), executionInfo.getAchievedConsistencyLevel()));
+                trace.append(format("\n\nTracing for Query ID %s at host %s with achieved consistency level %s \n", queryId, executionInfo.getQueriedHost(), executionInfo.getAchievedConsistencyLevel()));
                 trace.append("****************************\n");
                 trace.append(format("%1$-80s | %2$-16s | %3$-24s | %4$-20s\n", "Description", "Source", "Source elapsed in micros", "Thread name"));
                 try {
@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.statements;
+
+import static java.lang.String.format;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.Session;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.internals.cache.CacheKey;
+import info.archinnov.achilles.internals.cache.StatementsCache;
+
+/**
+ * Collect the static statements of all entities then prepare them asynchronously
+ * with at most <strong>maxConcurrentPrepares</strong> prepare requests in flight.
+ * <br/>
+ * Rarely used statements (JSON, IF NOT EXISTS, static columns) can be deferred
+ * to their first use instead
+ */
+public class StaticStatementsPreparer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StaticStatementsPreparer.class);
+
+    private final Session session;
+    private final StatementsCache cache;
+    private final int maxConcurrentPrepares;
+    private final boolean lazyRareStatements;
+    private final List<CacheKey> cacheKeys = new ArrayList<>();
+    private final List<RegularStatement> statements = new ArrayList<>();
+    private int preparedCount = 0;
+    private int deferredCount = 0;
+
+    public StaticStatementsPreparer(Session session, StatementsCache cache, int maxConcurrentPrepares, boolean lazyRareStatements) {
+        this.session = session;
+        this.cache = cache;
+        this.maxConcurrentPrepares = maxConcurrentPrepares;
+        this.lazyRareStatements = lazyRareStatements;
+    }
+
+    /**
+     * Register a statement to be prepared by {@link #prepareAll()}
+     */
+    public void prepare(CacheKey cacheKey, RegularStatement statement) {
+        cacheKeys.add(cacheKey);
+        statements.add(statement);
+    }
+
+    /**
+     * Register a rarely used statement, prepared on first use if lazy preparation is enabled
+     */
+    public void prepareRare(CacheKey cacheKey, RegularStatement statement) {
+        if (lazyRareStatements) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(format("Defer preparation of static statement for key %s", cacheKey));
+            }
+            cache.putLazyStaticCache(cacheKey, () -> session.prepare(statement));
+            deferredCount++;
+        } else {
+            prepare(cacheKey, statement);
+        }
+    }
+
+    /**
+     * Prepare asynchronously all the registered statements, wait for them and put them into the static cache
+     *
+     * @return the number of prepared statements
+     */
+    public int prepareAll() {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Preparing %s static statements with %s concurrent prepares, %s deferred",
+                    statements.size(), maxConcurrentPrepares, deferredCount));
+        }
+
+        final Semaphore permits = new Semaphore(maxConcurrentPrepares);
+        final List<ListenableFuture<PreparedStatement>> futures = new ArrayList<>(statements.size());
+        for (RegularStatement statement : statements) {
+            permits.acquireUninterruptibly();
+            final ListenableFuture<PreparedStatement> future = session.prepareAsync(statement);
+            future.addListener(permits::release, MoreExecutors.directExecutor());
+            futures.add(future);
+        }
+
+        final List<PreparedStatement> preparedStatements;
+        try {
+            preparedStatements = Uninterruptibles.getUninterruptibly(Futures.allAsList(futures));
+        } catch (ExecutionException e) {
+            throw new AchillesException(format("Cannot prepare static statements : %s", e.getCause().getMessage()), e.getCause());
+        }
+
+        for (int i = 0; i < preparedStatements.size(); i++) {
+            cache.putStaticCache(cacheKeys.get(i), preparedStatements.get(i));
+        }
+        preparedCount += preparedStatements.size();
+        cacheKeys.clear();
+        statements.clear();
+        return preparedStatements.size();
+    }
+
+    /**
+     * @return the number of statements prepared by {@link #prepareAll()}
+     */
+    public int getPreparedCount() {
+        return preparedCount;
+    }
+
+    /**
+     * @return the number of statements deferred to their first use
+     */
+    public int getDeferredCount() {
+        return deferredCount;
+    }
+}
@@ -33,7 +33,9 @@ import info.archinnov.achilles.type.interceptor.Event;
 
 public class EntityIteratorWrapper<ENTITY> implements Iterator<ENTITY>, AsyncAware {
 
+    private final ResultSet resultSet;
     private final Iterator<Row> delegate;
+    private final int prefetchThreshold;
     private final AbstractEntityProperty<ENTITY> meta;
     private final StatementWrapper statementWrapper;
     private final CassandraOptions options;
@@ -45,14 +47,15 @@ public class EntityIteratorWrapper<ENTITY> implements Iterator<ENTITY>, AsyncAwa
         this.statementWrapper = statementWrapper;
         this.options = cassandraOptions;
         try {
-            this.delegate = Uninterruptibles.getUninterruptibly(futureRS
+            this.resultSet = Uninterruptibles.getUninterruptibly(futureRS
                     .thenApply(cassandraOptions::resultSetAsyncListener)
                     .thenApply(statementWrapper::logTrace)
                     .thenApply(rs -> {
                         EntityIteratorWrapper.this.executionInfo = rs.getExecutionInfo();
                         return rs;
-                    })
-                    .thenApply(rs -> rs.iterator()));
+                    }));
+            this.delegate = resultSet.iterator();
+            this.prefetchThreshold = Math.max(1, resultSet.getAvailableWithoutFetching() / 2);
         } catch (ExecutionException e) {
             throw extractCauseFromExecutionException(e);
         }
@@ -64,6 +67,7 @@ public class EntityIteratorWrapper<ENTITY> implements Iterator<ENTITY>, AsyncAwa
 
     @Override
     public boolean hasNext() {
+        prefetchNextPage();
         return delegate.hasNext();
     }
 
@@ -80,4 +84,15 @@ public class EntityIteratorWrapper<ENTITY> implements Iterator<ENTITY>, AsyncAwa
             return null;
         }
     }
+
+    /**
+     * Fetch asynchronously the next page once half of the current page has been consumed
+     * so that next() does not block on a synchronous page fetch. The driver ignores the
+     * call if a fetch is already in progress
+     */
+    private void prefetchNextPage() {
+        if (!resultSet.isFullyFetched() && resultSet.getAvailableWithoutFetching() <= prefetchThreshold) {
+            resultSet.fetchMoreResults();
+        }
+    }
 }
@@ -0,0 +1,215 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.types;
+
+import static java.lang.String.format;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+
+import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.type.interceptor.Event;
+
+/**
+ * Non-blocking {@link org.reactivestreams.Publisher} of entities.
+ * <br/>
+ * The query is only executed when the subscriber requests the first entity and
+ * the next page is fetched only when all the rows of the current page have been emitted
+ * and there is still pending demand. Each subscription executes the query again
+ */
+public class EntityPublisher<ENTITY> implements Publisher<ENTITY> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EntityPublisher.class);
+
+    private final Supplier<CompletableFuture<ResultSet>> query;
+    private final AbstractEntityProperty<ENTITY> meta;
+    private final StatementWrapper statementWrapper;
+    private final CassandraOptions options;
+    private final ExecutorService executor;
+
+    public EntityPublisher(Supplier<CompletableFuture<ResultSet>> query, AbstractEntityProperty<ENTITY> meta,
+                           StatementWrapper statementWrapper, CassandraOptions options, ExecutorService executor) {
+        this.query = query;
+        this.meta = meta;
+        this.statementWrapper = statementWrapper;
+        this.options = options;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super ENTITY> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("Subscriber should not be null");
+        }
+        subscriber.onSubscribe(new EntitySubscription(subscriber));
+    }
+
+    private class EntitySubscription implements Subscription {
+
+        private final Subscriber<? super ENTITY> subscriber;
+        private final AtomicLong demand = new AtomicLong(0L);
+        private final AtomicInteger wip = new AtomicInteger(0);
+
+        private volatile ResultSet resultSet;
+        private volatile boolean fetching = false;
+        private volatile boolean cancelled = false;
+        private volatile boolean terminated = false;
+
+        private EntitySubscription(Subscriber<? super ENTITY> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancelled = true;
+                terminate(new IllegalArgumentException(format("Requested count should be strictly positive, got %s", n)));
+                return;
+            }
+            demand.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.trace(format("Cancel subscription for query %s",
+                        statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+            }
+            cancelled = true;
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (!cancelled && !terminated) {
+                    if (resultSet == null) {
+                        if (!fetching) {
+                            fetching = true;
+                            executeQuery();
+                        }
+                    } else {
+                        emitAvailableRows();
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void executeQuery() {
+            try {
+                query.get()
+                        .thenApply(options::resultSetAsyncListener)
+                        .thenApply(statementWrapper::logTrace)
+                        .whenComplete((rs, throwable) -> {
+                            fetching = false;
+                            if (throwable != null) {
+                                terminate(throwable.getCause() != null ? throwable.getCause() : throwable);
+                            } else {
+                                resultSet = rs;
+                                drain();
+                            }
+                        });
+            } catch (Throwable throwable) {
+                fetching = false;
+                terminate(throwable);
+            }
+        }
+
+        private void emitAvailableRows() {
+            final ResultSet rs = resultSet;
+            while (demand.get() > 0 && rs.getAvailableWithoutFetching() > 0 && !cancelled) {
+                final ENTITY instance;
+                try {
+                    final Row row = rs.one();
+                    statementWrapper.logReturnedRow(row);
+                    options.rowAsyncListener(row);
+                    instance = meta.createEntityFrom(row);
+                    meta.triggerInterceptorsForEvent(Event.POST_LOAD, instance);
+                } catch (Throwable throwable) {
+                    cancelled = true;
+                    terminate(throwable);
+                    return;
+                }
+                demand.decrementAndGet();
+                subscriber.onNext(instance);
+            }
+
+            if (cancelled || rs.getAvailableWithoutFetching() > 0) {
+                return;
+            }
+
+            if (rs.isFullyFetched()) {
+                terminate(null);
+            } else if (demand.get() > 0 && !fetching) {
+                fetchNextPage(rs);
+            }
+        }
+
+        private void fetchNextPage(ResultSet rs) {
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.trace(format("Fetch next page for query %s",
+                        statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+            }
+            fetching = true;
+            Futures.addCallback(rs.fetchMoreResults(), new FutureCallback<ResultSet>() {
+                @Override
+                public void onSuccess(ResultSet result) {
+                    fetching = false;
+                    drain();
+                }
+
+                @Override
+                public void onFailure(Throwable throwable) {
+                    fetching = false;
+                    terminate(throwable);
+                }
+            }, executor);
+        }
+
+        private void terminate(Throwable throwable) {
+            if (terminated) {
+                return;
+            }
+            terminated = true;
+            if (throwable != null) {
+                subscriber.onError(throwable);
+            } else {
+                subscriber.onComplete();
+            }
+        }
+    }
+}
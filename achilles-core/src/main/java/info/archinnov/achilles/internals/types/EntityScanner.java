@@ -0,0 +1,266 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.types;
+
+import static info.archinnov.achilles.internals.futures.FutureUtils.toCompletableFuture;
+import static java.lang.String.format;
+
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.*;
+import com.datastax.driver.core.querybuilder.QueryBuilder;
+import com.datastax.driver.core.querybuilder.Select;
+
+import info.archinnov.achilles.exception.AchillesScanException;
+import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.runtime.RuntimeEngine;
+import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
+import info.archinnov.achilles.internals.statements.OperationType;
+import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.type.interceptor.Event;
+import info.archinnov.achilles.type.scan.ScanCheckpoint;
+
+/**
+ * Full table scan split by token ranges.
+ * <br/>
+ * The ring is split into the token ranges of the cluster metadata. Each range is queried with
+ * <strong>token(partition_keys) > :start AND token(partition_keys) <= :end</strong> and paged through
+ * asynchronously. The token restrictions are added to the SELECT statement with the QueryBuilder. The range wrapping
+ * around the ring is queried with <strong>token(partition_keys) > :start</strong> for its tail, then with
+ * the minimum token as start for its head. At most <strong>parallelism</strong> ranges are scanned concurrently. Ranges are
+ * ordered so that consecutive ranges belong to different replicas, spreading the load over the cluster
+ */
+public class EntityScanner<ENTITY> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EntityScanner.class);
+
+    private final RuntimeEngine rte;
+    private final AbstractEntityProperty<ENTITY> meta;
+    private final CassandraOptions options;
+    private final Consumer<ENTITY> consumer;
+    private final Consumer<ScanCheckpoint> progressListener;
+    private final int parallelism;
+
+    private final PreparedStatement rangePs;
+    private final PreparedStatement tailPs;
+    private final Queue<TokenRange> pendingRanges;
+    private final int totalRangesCount;
+    private final Set<String> completedRanges;
+    private final LongAdder scannedRows = new LongAdder();
+    private final AtomicInteger activeWorkers = new AtomicInteger(0);
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private final CompletableFuture<ScanCheckpoint> result = new CompletableFuture<>();
+
+    public EntityScanner(RuntimeEngine rte, AbstractEntityProperty<ENTITY> meta, Select.Where select,
+                         CassandraOptions options, int parallelism, ScanCheckpoint checkpoint,
+                         Consumer<ENTITY> consumer, Consumer<ScanCheckpoint> progressListener) {
+        this.rte = rte;
+        this.meta = meta;
+        this.options = options;
+        this.parallelism = parallelism;
+        this.consumer = consumer;
+        this.progressListener = progressListener;
+
+        final String tokenFunction = QueryBuilder.token(meta.partitionKeys
+                .stream()
+                .map(x -> x.fieldInfo.quotedCqlColumn)
+                .toArray(String[]::new));
+        select.and(QueryBuilder.gt(tokenFunction, QueryBuilder.bindMarker("start")));
+        this.tailPs = rte.prepareDynamicQuery(select);
+        select.and(QueryBuilder.lte(tokenFunction, QueryBuilder.bindMarker("end")));
+        this.rangePs = rte.prepareDynamicQuery(select);
+
+        final String keyspace = Optional.ofNullable(select.getKeyspace()).orElse(rte.currentKeyspace);
+        final List<TokenRange> allRanges = splitRing(rte.getCluster().getMetadata(), keyspace);
+        this.totalRangesCount = allRanges.size();
+        this.completedRanges = ConcurrentHashMap.newKeySet();
+        this.completedRanges.addAll(checkpoint.getCompletedRanges());
+        this.pendingRanges = new ConcurrentLinkedQueue<>();
+        allRanges.stream().filter(range -> !checkpoint.isCompleted(range)).forEach(pendingRanges::add);
+    }
+
+    /**
+     * Start the scan
+     *
+     * @return the final checkpoint once all the ranges have been scanned. On failure the future completes
+     * with an {@link info.archinnov.achilles.exception.AchillesScanException} carrying the last checkpoint
+     */
+    public CompletableFuture<ScanCheckpoint> start() {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Scanning %s token ranges out of %s for query %s with parallelism %s",
+                    pendingRanges.size(), totalRangesCount, rangePs.getQueryString(), parallelism));
+        }
+        final int workers = Math.max(1, Math.min(parallelism, pendingRanges.size()));
+        activeWorkers.set(workers);
+        for (int i = 0; i < workers; i++) {
+            scanNextRange();
+        }
+        return rte.completeOnDefaultExecutor(result);
+    }
+
+    private void scanNextRange() {
+        final TokenRange range = failure.get() == null ? pendingRanges.poll() : null;
+        if (range == null) {
+            if (activeWorkers.decrementAndGet() == 0) {
+                complete();
+            }
+            return;
+        }
+
+        try {
+            scanRange(range).whenComplete((rows, throwable) -> {
+                if (throwable != null) {
+                    failure.compareAndSet(null, throwable instanceof CompletionException && throwable.getCause() != null
+                            ? throwable.getCause()
+                            : throwable);
+                } else {
+                    completedRanges.add(ScanCheckpoint.rangeKey(range));
+                    progressListener.accept(checkpoint());
+                }
+                scanNextRange();
+            });
+        } catch (Throwable throwable) {
+            failure.compareAndSet(null, throwable);
+            scanNextRange();
+        }
+    }
+
+    private CompletableFuture<Void> scanRange(TokenRange range) {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Scanning token range %s", range));
+        }
+        CompletableFuture<Void> future = CompletableFuture.completedFuture(null);
+        for (TokenRange subRange : unwrapRing(range)) {
+            final Object start = subRange.getStart().getValue();
+            final Object end = subRange.getEnd().getValue();
+            if (subRange.getStart().compareTo(subRange.getEnd()) < 0) {
+                future = future.thenCompose(x -> scan(rangePs, start, end));
+            } else {
+                // The sub-range ends at the minimum token, it covers the tail of the ring
+                future = future.thenCompose(x -> scan(tailPs, start));
+            }
+        }
+        return future;
+    }
+
+    /**
+     * Split the range wrapping around the ring into a tail range ending at the minimum token
+     * and a head range starting at the minimum token. A range whose start equals its end covers
+     * the whole ring and is first split in two
+     */
+    private static List<TokenRange> unwrapRing(TokenRange range) {
+        final List<TokenRange> subRanges = new ArrayList<>();
+        final List<TokenRange> ranges = range.getStart().equals(range.getEnd())
+                ? range.splitEvenly(2)
+                : Collections.singletonList(range);
+        for (TokenRange x : ranges) {
+            subRanges.addAll(x.unwrap());
+        }
+        return subRanges;
+    }
+
+    private CompletableFuture<Void> scan(PreparedStatement ps, Object... tokens) {
+        final StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.SELECT, meta, ps, tokens, tokens);
+        statementWrapper.applyOptions(options);
+
+        return rte.executeForMapping(statementWrapper)
+                .thenApply(options::resultSetAsyncListener)
+                .thenApply(statementWrapper::logTrace)
+                .thenCompose(rs -> consumePages(rs, statementWrapper));
+    }
+
+    private CompletableFuture<Void> consumePages(ResultSet rs, StatementWrapper statementWrapper) {
+        final int available = rs.getAvailableWithoutFetching();
+        for (int i = 0; i < available; i++) {
+            final Row row = rs.one();
+            statementWrapper.logReturnedRow(row);
+            options.rowAsyncListener(row);
+            final ENTITY instance = meta.createEntityFrom(row);
+            meta.triggerInterceptorsForEvent(Event.POST_LOAD, instance);
+            consumer.accept(instance);
+        }
+        scannedRows.add(available);
+
+        if (rs.isFullyFetched()) {
+            return CompletableFuture.completedFuture(null);
+        } else if (failure.get() != null) {
+            // Another range has failed, stop here without marking this range as completed
+            final CompletableFuture<Void> cancelled = new CompletableFuture<>();
+            cancelled.completeExceptionally(new CancellationException("Full table scan aborted"));
+            return cancelled;
+        }
+        return toCompletableFuture(rs.fetchMoreResults(), rte.mappingExecutor)
+                .thenCompose(nextRs -> consumePages(nextRs, statementWrapper));
+    }
+
+    private void complete() {
+        final Throwable throwable = failure.get();
+        final ScanCheckpoint checkpoint = checkpoint();
+        if (throwable == null) {
+            result.complete(checkpoint);
+        } else {
+            result.completeExceptionally(new AchillesScanException(format("Full table scan failed after %s completed token ranges out of %s : %s",
+                    checkpoint.getCompletedRangesCount(), totalRangesCount, throwable.getMessage()), checkpoint, throwable));
+        }
+    }
+
+    private ScanCheckpoint checkpoint() {
+        return new ScanCheckpoint(new HashSet<>(completedRanges), totalRangesCount, scannedRows.sum());
+    }
+
+    /**
+     * Interleave the token ranges of the ring by primary replica
+     */
+    private static List<TokenRange> splitRing(Metadata metadata, String keyspace) {
+        final Map<Host, Deque<TokenRange>> rangesByReplica = new LinkedHashMap<>();
+        final List<TokenRange> ranges = new ArrayList<>();
+        for (TokenRange range : new TreeSet<>(metadata.getTokenRanges())) {
+            final Iterator<Host> replicas = metadata.getReplicas(Metadata.quote(keyspace), range).iterator();
+            if (replicas.hasNext()) {
+                rangesByReplica.computeIfAbsent(replicas.next(), host -> new ArrayDeque<>()).add(range);
+            } else {
+                ranges.add(range);
+            }
+        }
+
+        boolean remaining = true;
+        while (remaining) {
+            remaining = false;
+            for (Deque<TokenRange> replicaRanges : rangesByReplica.values()) {
+                final TokenRange range = replicaRanges.poll();
+                if (range != null) {
+                    ranges.add(range);
+                    remaining = true;
+                }
+            }
+        }
+        return ranges;
+    }
+}
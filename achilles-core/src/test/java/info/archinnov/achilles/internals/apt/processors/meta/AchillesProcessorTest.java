@@ -0,0 +1,190 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.apt.processors.meta;
+
+import static com.google.common.truth.Truth.assert_;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.*;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.FileObject;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+
+import org.junit.Test;
+
+import com.google.testing.compile.JavaFileObjects;
+import com.google.testing.compile.JavaSourcesSubjectFactory;
+
+import info.archinnov.achilles.internals.sample_classes.parser.entity.TestEntityWithCompositePartitionKey;
+
+public class AchillesProcessorTest {
+
+    @Test
+    public void should_generate_all_source_files_through_the_filer_with_entities_as_originating_elements() throws Exception {
+        //Given
+        final RecordingAchillesProcessor processor = new RecordingAchillesProcessor(false);
+
+        //When
+        compile(processor);
+
+        //Then
+        assertThat(processor.filer.createdSources.keySet()).contains(
+                "info.archinnov.achilles.generated.ManagerFactory",
+                "info.archinnov.achilles.generated.ManagerFactoryBuilder",
+                "info.archinnov.achilles.generated.meta.entity.TestEntityWithCompositePartitionKey_AchillesMeta",
+                "info.archinnov.achilles.generated.manager.TestEntityWithCompositePartitionKey_Manager");
+        for (List<Element> originatingElements : processor.filer.createdSources.values()) {
+            assertThat(originatingElements).hasSize(1);
+            assertThat(((TypeElement) originatingElements.get(0)).getQualifiedName().toString())
+                    .isEqualTo(TestEntityWithCompositePartitionKey.class.getCanonicalName());
+        }
+    }
+
+    @Test
+    public void should_clean_previously_generated_source_files_outside_of_gradle_incremental_build() throws Exception {
+        //Given
+        final RecordingAchillesProcessor processor = new RecordingAchillesProcessor(false);
+
+        //When
+        compile(processor);
+
+        //Then
+        assertThat(processor.filer.readResources).containsExactly("info.archinnov.achilles.generated/ManagerFactoryBuilder");
+    }
+
+    @Test
+    public void should_not_read_generated_source_files_back_during_gradle_incremental_build() throws Exception {
+        //Given
+        final RecordingAchillesProcessor processor = new RecordingAchillesProcessor(true);
+
+        //When
+        compile(processor);
+
+        //Then
+        assertThat(processor.filer.readResources).isEmpty();
+        assertThat(processor.filer.createdSources).isNotEmpty();
+    }
+
+    private void compile(AchillesProcessor processor) {
+        final Class<?> entityClass = TestEntityWithCompositePartitionKey.class;
+        final String resourceName = entityClass.getPackage().getName().replace(".", "/") + '/' + entityClass.getSimpleName() + ".java";
+        assert_().about(JavaSourcesSubjectFactory.javaSources())
+                .that(Arrays.asList(JavaFileObjects.forResource(resourceName)))
+                .processedWith(processor)
+                .compilesWithoutError();
+    }
+
+    private static class RecordingAchillesProcessor extends AchillesProcessor {
+
+        private final boolean gradleIncrementalBuild;
+        private RecordingFiler filer;
+
+        private RecordingAchillesProcessor(boolean gradleIncrementalBuild) {
+            this.gradleIncrementalBuild = gradleIncrementalBuild;
+        }
+
+        @Override
+        public synchronized void init(ProcessingEnvironment processingEnv) {
+            filer = new RecordingFiler(processingEnv.getFiler());
+            super.init(new ProcessingEnvironment() {
+                @Override
+                public Map<String, String> getOptions() {
+                    return processingEnv.getOptions();
+                }
+
+                @Override
+                public Messager getMessager() {
+                    return processingEnv.getMessager();
+                }
+
+                @Override
+                public Filer getFiler() {
+                    return filer;
+                }
+
+                @Override
+                public Elements getElementUtils() {
+                    return processingEnv.getElementUtils();
+                }
+
+                @Override
+                public Types getTypeUtils() {
+                    return processingEnv.getTypeUtils();
+                }
+
+                @Override
+                public SourceVersion getSourceVersion() {
+                    return processingEnv.getSourceVersion();
+                }
+
+                @Override
+                public Locale getLocale() {
+                    return processingEnv.getLocale();
+                }
+            });
+        }
+
+        @Override
+        protected boolean isGradleIncrementalBuild() {
+            return gradleIncrementalBuild;
+        }
+    }
+
+    private static class RecordingFiler implements Filer {
+
+        private final Filer delegate;
+        private final Map<String, List<Element>> createdSources = new LinkedHashMap<>();
+        private final List<String> readResources = new ArrayList<>();
+
+        private RecordingFiler(Filer delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public JavaFileObject createSourceFile(CharSequence name, Element... originatingElements) throws IOException {
+            createdSources.put(name.toString(), Arrays.asList(originatingElements));
+            return delegate.createSourceFile(name, originatingElements);
+        }
+
+        @Override
+        public JavaFileObject createClassFile(CharSequence name, Element... originatingElements) throws IOException {
+            return delegate.createClassFile(name, originatingElements);
+        }
+
+        @Override
+        public FileObject createResource(JavaFileManager.Location location, CharSequence pkg, CharSequence relativeName,
+                                         Element... originatingElements) throws IOException {
+            return delegate.createResource(location, pkg, relativeName, originatingElements);
+        }
+
+        @Override
+        public FileObject getResource(JavaFileManager.Location location, CharSequence pkg, CharSequence relativeName) throws IOException {
+            readResources.add(pkg + "/" + relativeName);
+            return delegate.getResource(location, pkg, relativeName);
+        }
+    }
+}
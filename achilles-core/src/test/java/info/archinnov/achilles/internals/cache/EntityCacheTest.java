@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.datastax.driver.core.ExecutionInfo;
+import com.datastax.driver.core.Row;
+
+@RunWith(MockitoJUnitRunner.class)
+public class EntityCacheTest {
+
+    @Mock
+    private Row row;
+
+    @Mock
+    private ExecutionInfo executionInfo;
+
+    private final EntityCache cache = new EntityCache(String.class, new EntityCacheOptions(10, 1, TimeUnit.HOURS));
+
+    @Test
+    public void should_get_cached_row_by_encoded_primary_key() throws Exception {
+        //Given
+        cache.put(new Object[]{10L, "a"}, row, executionInfo, cache.getGeneration());
+
+        //When
+        //Then
+        assertThat(cache.get(new Object[]{10L, "a"}).get()._1()).isSameAs(row);
+        assertThat(cache.get(new Object[]{10L, "b"}).isPresent()).isFalse();
+        final EntityCacheStats stats = cache.getStats();
+        assertThat(stats.getHitCount()).isEqualTo(1L);
+        assertThat(stats.getMissCount()).isEqualTo(1L);
+        assertThat(stats.getSize()).isEqualTo(1L);
+    }
+
+    @Test
+    public void should_not_cache_row_read_before_invalidation() throws Exception {
+        //Given
+        final long generation = cache.getGeneration();
+
+        //When
+        cache.invalidate(new Object[]{10L, "a"});
+        cache.put(new Object[]{10L, "a"}, row, executionInfo, generation);
+
+        //Then
+        assertThat(cache.get(new Object[]{10L, "a"}).isPresent()).isFalse();
+        assertThat(cache.getStats().getInvalidationCount()).isEqualTo(1L);
+    }
+}
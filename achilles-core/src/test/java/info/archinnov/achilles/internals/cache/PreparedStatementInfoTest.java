@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.PreparedStatement;
+
+import info.archinnov.achilles.internals.dsl.StatementTypeAware;
+import info.archinnov.achilles.internals.statements.OperationType;
+
+public class PreparedStatementInfoTest {
+
+    @Test
+    public void should_detect_lwt_operations() throws Exception {
+        //Given
+        final PreparedStatementInfo insert = new PreparedStatementInfo(preparedStatement("INSERT INTO ks.table(id) VALUES(:id) IF NOT EXISTS"));
+        final PreparedStatementInfo update = new PreparedStatementInfo(preparedStatement("UPDATE ks.table SET value=:value WHERE id=:id IF value=:previous"));
+        final PreparedStatementInfo select = new PreparedStatementInfo(preparedStatement("SELECT * FROM ks.table WHERE id=:id"));
+
+        //When
+        //Then
+        assertThat(insert.lwtOperation).isTrue();
+        assertThat(insert.lwtInsert).isTrue();
+        assertThat(update.lwtOperation).isTrue();
+        assertThat(update.lwtInsert).isFalse();
+        assertThat(select.lwtOperation).isFalse();
+        assertThat(select.lwtInsert).isFalse();
+        assertThat(select.lowerCaseQueryString).isEqualTo("select * from ks.table where id=:id");
+    }
+
+    @Test
+    public void should_compute_operation_type_once() throws Exception {
+        //Given
+        final PreparedStatementInfo info = new PreparedStatementInfo(preparedStatement("SELECT * FROM table"));
+        final AtomicInteger classifications = new AtomicInteger(0);
+
+        //When
+        info.getOperationType(() -> {
+            classifications.incrementAndGet();
+            return OperationType.SELECT;
+        });
+        final OperationType operationType = info.getOperationType(() -> {
+            classifications.incrementAndGet();
+            return OperationType.OTHER;
+        });
+
+        //Then
+        assertThat(operationType).isEqualTo(OperationType.SELECT);
+        assertThat(classifications.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_match_targeted_table_with_or_without_keyspace() throws Exception {
+        //Given
+        final PreparedStatementInfo withKeyspace = new PreparedStatementInfo(preparedStatement("SELECT * FROM my_ks.simple WHERE id=:id"));
+        final PreparedStatementInfo withoutKeyspace = new PreparedStatementInfo(preparedStatement("SELECT * FROM Simple"));
+
+        //When
+        //Then
+        assertThat(withKeyspace.isTargetingTable("simple")).isTrue();
+        assertThat(withKeyspace.isTargetingTable("other")).isFalse();
+        assertThat(withoutKeyspace.isTargetingTable("simple")).isTrue();
+        assertThat(withoutKeyspace.isTargetingTable("simple_view")).isFalse();
+    }
+
+    @Test
+    public void should_classify_bound_statement_once_per_prepared_statement() throws Exception {
+        //Given
+        final StatementsCache cache = new StatementsCache(10);
+        final PreparedStatement ps = preparedStatement("SELECT * FROM table WHERE id=:id");
+        final BoundStatement bs = mock(BoundStatement.class);
+        when(bs.preparedStatement()).thenReturn(ps);
+        final StatementTypeAware statementTypeAware = new StatementTypeAware() {
+        };
+
+        //When
+        final OperationType operationType = statementTypeAware.getOperationType(bs, cache);
+
+        //Then
+        assertThat(operationType).isEqualTo(OperationType.SELECT);
+        assertThat(cache.getPreparedStatementInfo(ps)).isSameAs(cache.getPreparedStatementInfo(ps));
+        assertThat(cache.getPreparedStatementInfo(ps).getOperationType(() -> {
+            fail("The operation type should have been memoized");
+            return null;
+        })).isEqualTo(OperationType.SELECT);
+    }
+
+    private static PreparedStatement preparedStatement(String queryString) {
+        final PreparedStatement ps = mock(PreparedStatement.class);
+        when(ps.getQueryString()).thenReturn(queryString);
+        return ps;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Session;
+
+@RunWith(MockitoJUnitRunner.class)
+public class StatementsCacheTest {
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private PreparedStatement ps;
+
+    private final List<String> evicted = new ArrayList<>();
+    private final List<String> rePrepared = new ArrayList<>();
+    private final List<Long> thresholdsExceeded = new ArrayList<>();
+
+    private final StatementsCacheListener listener = new StatementsCacheListener() {
+        @Override
+        public void onPrepare(String queryString, long prepareTimeInNanos, boolean rePrepare) {
+            if (rePrepare) rePrepared.add(queryString);
+        }
+
+        @Override
+        public void onEviction(String queryString) {
+            evicted.add(queryString);
+        }
+
+        @Override
+        public void onRePrepareThresholdExceeded(long rePreparesPerMinute, long threshold) {
+            thresholdsExceeded.add(rePreparesPerMinute);
+        }
+    };
+
+    @Before
+    public void setUp() {
+        when(session.prepare(anyString())).thenReturn(ps);
+    }
+
+    @Test
+    public void should_record_hits_and_misses() throws Exception {
+        //Given
+        final StatementsCache cache = new StatementsCache(10);
+
+        //When
+        cache.getDynamicCache("SELECT * FROM a", session);
+        cache.getDynamicCache("SELECT * FROM a", session);
+        cache.getDynamicCache("SELECT * FROM b", session);
+
+        //Then
+        final StatementsCacheStats stats = cache.getDynamicCacheStats();
+        assertThat(stats.getSize()).isEqualTo(2L);
+        assertThat(stats.getHitCount()).isEqualTo(1L);
+        assertThat(stats.getMissCount()).isEqualTo(2L);
+        assertThat(stats.getEvictionCount()).isEqualTo(0L);
+        assertThat(stats.getRePrepareCount()).isEqualTo(0L);
+        verify(session, times(2)).prepare(anyString());
+    }
+
+    @Test
+    public void should_notify_eviction_and_re_prepare_above_threshold() throws Exception {
+        //Given
+        final StatementsCache cache = new StatementsCache(1, Optional.empty(), listener, 1L);
+
+        //When
+        cache.getDynamicCache("SELECT * FROM a", session);
+        cache.getDynamicCache("SELECT * FROM b", session);
+        cache.getDynamicCache("SELECT * FROM a", session);
+        cache.getDynamicCache("SELECT * FROM b", session);
+        cache.getDynamicCache("SELECT * FROM a", session);
+
+        //Then
+        assertThat(evicted).containsExactly("SELECT * FROM a", "SELECT * FROM b", "SELECT * FROM a", "SELECT * FROM b");
+        assertThat(rePrepared).containsExactly("SELECT * FROM a", "SELECT * FROM b", "SELECT * FROM a");
+        assertThat(thresholdsExceeded).containsExactly(2L);
+        final StatementsCacheStats stats = cache.getDynamicCacheStats();
+        assertThat(stats.getEvictionCount()).isEqualTo(4L);
+        assertThat(stats.getRePrepareCount()).isEqualTo(3L);
+    }
+
+    @Test
+    public void should_bound_cache_by_query_string_length() throws Exception {
+        //Given
+        final StatementsCache cache = new StatementsCache(100, Optional.of(30L), listener, 100L);
+
+        //When
+        cache.getDynamicCache("SELECT * FROM a", session);
+        cache.getDynamicCache("SELECT * FROM b", session);
+        cache.getDynamicCache("SELECT * FROM c", session);
+
+        //Then
+        assertThat(cache.getDynamicCacheStats().getSize()).isEqualTo(2L);
+        assertThat(evicted).hasSize(1);
+    }
+
+    @Test
+    public void should_render_query_string_once_per_shape_key() throws Exception {
+        //Given
+        final StatementsCache cache = new StatementsCache(10);
+        final AtomicInteger renderCount = new AtomicInteger(0);
+
+        //When
+        final PreparedStatement first = cache.getDynamicCache("shape", () -> {
+            renderCount.incrementAndGet();
+            return "SELECT * FROM a";
+        }, session);
+        final PreparedStatement second = cache.getDynamicCache("shape", () -> {
+            renderCount.incrementAndGet();
+            return "SELECT * FROM a";
+        }, session);
+
+        //Then
+        assertThat(first).isSameAs(ps);
+        assertThat(second).isSameAs(ps);
+        assertThat(renderCount.get()).isEqualTo(1);
+        verify(session, times(1)).prepare("SELECT * FROM a");
+    }
+}
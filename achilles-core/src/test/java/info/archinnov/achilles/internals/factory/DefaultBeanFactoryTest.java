@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.factory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.type.factory.BeanFactory;
+
+public class DefaultBeanFactoryTest {
+
+    private final DefaultBeanFactory factory = new DefaultBeanFactory();
+
+    @Test
+    public void should_instantiate_with_no_arg_constructor() throws Exception {
+        //Given
+        final Supplier<PublicBean> instantiator = DefaultBeanFactory.instantiatorFor(factory, PublicBean.class);
+
+        //When
+        final PublicBean bean1 = instantiator.get();
+        final PublicBean bean2 = factory.newInstance(PublicBean.class);
+
+        //Then
+        assertThat(instantiator).isInstanceOf(DefaultBeanFactory.LinkageSafeInstantiator.class);
+        assertThat(bean1).isInstanceOf(PublicBean.class);
+        assertThat(bean2).isInstanceOf(PublicBean.class).isNotSameAs(bean1);
+    }
+
+    @Test
+    public void should_fail_instantiating_class_with_private_constructor() throws Exception {
+        //Given
+        final Supplier<PrivateConstructorBean> instantiator = DefaultBeanFactory.instantiatorFor(factory, PrivateConstructorBean.class);
+
+        //When
+        try {
+            instantiator.get();
+            fail("Expected AchillesException");
+        } catch (AchillesException ex) {
+            //Then
+            assertThat(ex.getMessage()).contains("Did you forget to declare a default constructor ?");
+        }
+    }
+
+    @Test
+    public void should_fail_instantiating_abstract_class() throws Exception {
+        //Given
+        //When
+        try {
+            factory.newInstance(AbstractBean.class);
+            fail("Expected AchillesException");
+        } catch (AchillesException ex) {
+            //Then
+            assertThat(ex.getMessage()).contains(AbstractBean.class.getCanonicalName());
+        }
+    }
+
+    @Test
+    public void should_instantiate_class_not_visible_from_achilles_class_loader() throws Exception {
+        //Given
+        final URL testClasses = PublicBean.class.getProtectionDomain().getCodeSource().getLocation();
+        try (URLClassLoader isolatedClassLoader = new URLClassLoader(new URL[]{testClasses}, null)) {
+            final Class<?> isolatedClass = isolatedClassLoader.loadClass(PublicBean.class.getName());
+            assertThat(isolatedClass).isNotSameAs(PublicBean.class);
+
+            //When
+            final Object instance = factory.newInstance(isolatedClass);
+
+            //Then
+            assertThat(instance.getClass()).isSameAs(isolatedClass);
+        }
+    }
+
+    @Test
+    public void should_switch_to_fallback_when_generated_function_cannot_link() throws Exception {
+        //Given
+        final AtomicInteger generatedCalls = new AtomicInteger(0);
+        final Supplier<PublicBean> instantiator = new DefaultBeanFactory.LinkageSafeInstantiator<>(PublicBean.class,
+                () -> {
+                    generatedCalls.incrementAndGet();
+                    throw new NoClassDefFoundError(PublicBean.class.getName());
+                },
+                PublicBean::new);
+
+        //When
+        final PublicBean bean1 = instantiator.get();
+        final PublicBean bean2 = instantiator.get();
+
+        //Then
+        assertThat(bean1).isNotNull();
+        assertThat(bean2).isNotNull().isNotSameAs(bean1);
+        assertThat(generatedCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_delegate_to_custom_bean_factory() throws Exception {
+        //Given
+        final PublicBean bean = new PublicBean();
+        final BeanFactory customFactory = new BeanFactory() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> T newInstance(Class<T> clazz) {
+                return (T) bean;
+            }
+        };
+
+        //When
+        final PublicBean instance = DefaultBeanFactory.instantiatorFor(customFactory, PublicBean.class).get();
+
+        //Then
+        assertThat(instance).isSameAs(bean);
+    }
+
+    public static class PublicBean {
+        public PublicBean() {
+        }
+    }
+
+    public static class PrivateConstructorBean {
+        private PrivateConstructorBean() {
+        }
+    }
+
+    public static abstract class AbstractBean {
+    }
+}
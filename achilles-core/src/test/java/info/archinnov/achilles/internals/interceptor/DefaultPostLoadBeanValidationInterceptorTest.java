@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.interceptor;
+
+import static info.archinnov.achilles.type.interceptor.Event.POST_LOAD;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyVararg;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import javax.validation.ConstraintViolation;
+import javax.validation.Path;
+import javax.validation.Validator;
+import javax.validation.metadata.BeanDescriptor;
+import javax.validation.metadata.PropertyDescriptor;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import info.archinnov.achilles.exception.AchillesBeanValidationException;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DefaultPostLoadBeanValidationInterceptorTest {
+
+    @Mock
+    private Validator validator;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private BeanDescriptor beanDescriptor;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private PropertyDescriptor propertyDescriptor;
+
+    @Test
+    public void should_validate_one_loaded_entity_out_of_sampling_rate() throws Exception {
+        //Given
+        when(validator.getConstraintsForClass(String.class)).thenReturn(beanDescriptor);
+        when(beanDescriptor.isBeanConstrained()).thenReturn(true);
+        when(validator.validate(any(), anyVararg())).thenReturn(Collections.emptySet());
+        final DefaultPostLoadBeanValidationInterceptor interceptor = new DefaultPostLoadBeanValidationInterceptor(validator, new Class<?>[0], 3);
+
+        //When
+        for (int i = 0; i < 10; i++) {
+            interceptor.onEvent("entity" + i, POST_LOAD);
+        }
+
+        //Then
+        verify(validator, times(4)).validate(any(), anyVararg());
+        final BeanValidationStats stats = interceptor.getStats(String.class).get();
+        assertThat(stats.getValidatedCount()).isEqualTo(4L);
+        assertThat(stats.getSkippedCount()).isEqualTo(6L);
+        assertThat(stats.getFailedCount()).isEqualTo(0L);
+        verify(validator, times(1)).getConstraintsForClass(String.class);
+    }
+
+    @Test
+    public void should_not_accept_entity_without_constraint_in_validation_groups() throws Exception {
+        //Given
+        final Class<?>[] groups = new Class<?>[]{CustomGroup.class};
+        when(validator.getConstraintsForClass(String.class)).thenReturn(beanDescriptor);
+        when(beanDescriptor.isBeanConstrained()).thenReturn(true);
+        when(beanDescriptor.findConstraints().unorderedAndMatchingGroups(groups).hasConstraints()).thenReturn(false);
+        when(beanDescriptor.getConstrainedProperties()).thenReturn(new HashSet<>(Collections.singletonList(propertyDescriptor)));
+        when(propertyDescriptor.isCascaded()).thenReturn(false);
+        when(propertyDescriptor.findConstraints().unorderedAndMatchingGroups(groups).hasConstraints()).thenReturn(false);
+        final DefaultPreMutateBeanValidationInterceptor interceptor = new DefaultPreMutateBeanValidationInterceptor(validator, groups);
+
+        //When
+        final boolean firstAccept = interceptor.acceptEntity(String.class);
+        final boolean secondAccept = interceptor.acceptEntity(String.class);
+
+        //Then
+        assertThat(firstAccept).isFalse();
+        assertThat(secondAccept).isFalse();
+        verify(validator, times(1)).getConstraintsForClass(String.class);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void should_record_failed_validation() throws Exception {
+        //Given
+        final ConstraintViolation<Object> violation = mock(ConstraintViolation.class);
+        final Path path = mock(Path.class);
+        when(violation.getLeafBean()).thenReturn("entity");
+        when(violation.getPropertyPath()).thenReturn(path);
+        when(path.toString()).thenReturn("value");
+        when(violation.getMessage()).thenReturn("may not be empty");
+        final Set<ConstraintViolation<Object>> violations = Collections.singleton(violation);
+        when(validator.getConstraintsForClass(String.class)).thenReturn(beanDescriptor);
+        when(beanDescriptor.isBeanConstrained()).thenReturn(true);
+        when(validator.validate(any(), anyVararg())).thenReturn(violations);
+        final DefaultPostLoadBeanValidationInterceptor interceptor = new DefaultPostLoadBeanValidationInterceptor(validator);
+
+        //When
+        try {
+            interceptor.onEvent("entity", POST_LOAD);
+            fail("Expected AchillesBeanValidationException");
+        } catch (AchillesBeanValidationException ex) {
+            //Then
+            assertThat(ex.getMessage()).contains("property 'value' of class 'java.lang.String' may not be empty");
+        }
+        final BeanValidationStats stats = interceptor.getStats(String.class).get();
+        assertThat(stats.getValidatedCount()).isEqualTo(1L);
+        assertThat(stats.getFailedCount()).isEqualTo(1L);
+    }
+
+    private interface CustomGroup {
+    }
+}
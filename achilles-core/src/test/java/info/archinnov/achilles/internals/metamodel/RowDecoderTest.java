@@ -0,0 +1,213 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.metamodel;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.Row;
+import com.google.common.reflect.TypeToken;
+
+import info.archinnov.achilles.internals.codec.FallThroughCodec;
+import info.archinnov.achilles.internals.metamodel.columns.ColumnInfo;
+import info.archinnov.achilles.internals.metamodel.columns.ColumnType;
+import info.archinnov.achilles.internals.metamodel.columns.ComputedColumnInfo;
+import info.archinnov.achilles.internals.metamodel.columns.FieldInfo;
+import info.archinnov.achilles.internals.metamodel.index.IndexInfo;
+
+public class RowDecoderTest {
+
+    private final SimpleProperty<TestEntity, String, String> value = new SimpleProperty<>(
+            new FieldInfo<>(TestEntity::getValue, TestEntity::setValue, "value", "value",
+                    ColumnType.NORMAL, new ColumnInfo(false), IndexInfo.noIndex()),
+            DataType.text(),
+            gettableData -> gettableData.get("value", String.class),
+            (settableData, value) -> settableData.set("value", value, String.class),
+            new TypeToken<String>() {}, new TypeToken<String>() {},
+            new FallThroughCodec<>(String.class));
+
+    private final ComputedProperty<TestEntity, Long, Long> writeTime = new ComputedProperty<>(
+            new FieldInfo<>(TestEntity::getWriteTime, TestEntity::setWriteTime, "writeTime", "value",
+                    ColumnType.COMPUTED, new ComputedColumnInfo("writetime", "write_time", asList("value"), Long.class),
+                    IndexInfo.noIndex()),
+            gettableData -> gettableData.get("write_time", Long.class),
+            new FallThroughCodec<>(Long.class));
+
+    private final List<AbstractProperty<TestEntity, ?, ?>> properties = asList(value, writeTime);
+
+    @Test
+    public void should_decode_simple_column_by_index() throws Exception {
+        //Given
+        final Row row = mock(Row.class);
+        when(row.isNull(1)).thenReturn(false);
+        when(row.get(eq(1), any(TypeToken.class))).thenReturn("val");
+        final RowDecoder<TestEntity> decoder = new RowDecoder<>(columnDefinitions("id", "value"), Collections.singletonList(value), true);
+        final TestEntity entity = new TestEntity();
+
+        //When
+        decoder.decodeFields(row, entity);
+
+        //Then
+        assertThat(entity.getValue()).isEqualTo("val");
+        verify(row, never()).get(anyString(), any(Class.class));
+    }
+
+    @Test
+    public void should_decode_null_column_as_null() throws Exception {
+        //Given
+        final Row row = mock(Row.class);
+        when(row.isNull(0)).thenReturn(true);
+        final RowDecoder<TestEntity> decoder = new RowDecoder<>(columnDefinitions("value"), Collections.singletonList(value), true);
+        final TestEntity entity = new TestEntity();
+        entity.setValue("previous");
+
+        //When
+        decoder.decodeFields(row, entity);
+
+        //Then
+        assertThat(entity.getValue()).isNull();
+        verify(row, never()).get(anyInt(), any(TypeToken.class));
+    }
+
+    @Test
+    public void should_decode_computed_column_from_its_alias() throws Exception {
+        //Given
+        final Row row = mock(Row.class);
+        when(row.isNull(1)).thenReturn(false);
+        when(row.get("write_time", Long.class)).thenReturn(123L);
+        when(row.get(eq(2), any(TypeToken.class))).thenReturn("val");
+        final RowDecoder<TestEntity> decoder = new RowDecoder<>(columnDefinitions("id", "write_time", "value"), properties, true);
+        final TestEntity entity = new TestEntity();
+
+        //When
+        decoder.decodeFields(row, entity);
+
+        //Then
+        assertThat(entity.getValue()).isEqualTo("val");
+        assertThat(entity.getWriteTime()).isEqualTo(123L);
+    }
+
+    @Test
+    public void should_check_null_on_computed_column_alias_when_decoding_from_gettable() throws Exception {
+        //Given
+        final Row row = mock(Row.class);
+        when(row.isNull("write_time")).thenReturn(true);
+
+        //When
+        final Long decoded = writeTime.decodeFromGettable(row);
+
+        //Then
+        assertThat(decoded).isNull();
+        verify(row).isNull("write_time");
+        verify(row, never()).isNull("value");
+        verify(row, never()).get(anyString(), any(Class.class));
+    }
+
+    @Test
+    public void should_skip_properties_whose_column_is_not_selected() throws Exception {
+        //Given
+        final Row row = mock(Row.class);
+        when(row.isNull(0)).thenReturn(false);
+        when(row.get(eq(0), any(TypeToken.class))).thenReturn("val");
+        final RowDecoder<TestEntity> decoder = new RowDecoder<>(columnDefinitions("value"), properties, true);
+        final TestEntity entity = new TestEntity();
+        entity.setWriteTime(1L);
+
+        //When
+        decoder.decodeFields(row, entity);
+
+        //Then
+        assertThat(entity.getValue()).isEqualTo("val");
+        assertThat(entity.getWriteTime()).isEqualTo(1L);
+        verify(row, never()).isNull("write_time");
+    }
+
+    @Test
+    public void should_decode_missing_columns_by_name_when_not_skipped() throws Exception {
+        //Given
+        final Row row = mock(Row.class);
+        when(row.isNull("write_time")).thenReturn(false);
+        when(row.get("write_time", Long.class)).thenReturn(123L);
+        final RowDecoder<TestEntity> decoder = new RowDecoder<>(columnDefinitions(), Collections.singletonList(writeTime), false);
+        final TestEntity entity = new TestEntity();
+
+        //When
+        decoder.decodeFields(row, entity);
+
+        //Then
+        assertThat(entity.getWriteTime()).isEqualTo(123L);
+    }
+
+    @Test
+    public void should_resolve_same_driver_codec_for_index_and_name_lookups() throws Exception {
+        //Given
+        final CodecRegistry registry = new CodecRegistry();
+
+        //When
+        //Generated gettable lambdas use the raw, possibly primitive, class; index lookups use the boxed type token
+        //Then
+        assertThat(registry.codecFor(DataType.bigint(), new TypeToken<Long>() {}))
+                .isSameAs(registry.codecFor(DataType.bigint(), long.class));
+        assertThat(registry.codecFor(DataType.cboolean(), new TypeToken<Boolean>() {}))
+                .isSameAs(registry.codecFor(DataType.cboolean(), boolean.class));
+        assertThat(registry.codecFor(DataType.text(), new TypeToken<String>() {}))
+                .isSameAs(registry.codecFor(DataType.text(), String.class));
+    }
+
+    private static ColumnDefinitions columnDefinitions(String... names) {
+        final ColumnDefinitions columnDefinitions = mock(ColumnDefinitions.class);
+        when(columnDefinitions.size()).thenReturn(names.length);
+        for (int i = 0; i < names.length; i++) {
+            when(columnDefinitions.getName(i)).thenReturn(names[i]);
+        }
+        return columnDefinitions;
+    }
+
+    public static class TestEntity {
+        private String value;
+        private Long writeTime;
+
+        public String getValue() {
+            return value;
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+
+        public Long getWriteTime() {
+            return writeTime;
+        }
+
+        public void setWriteTime(Long writeTime) {
+            this.writeTime = writeTime;
+        }
+    }
+}
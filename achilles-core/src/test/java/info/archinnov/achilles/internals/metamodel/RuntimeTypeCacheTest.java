@@ -0,0 +1,199 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.metamodel;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.UDTValue;
+
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.strategy.naming.InternalNamingStrategy;
+import info.archinnov.achilles.type.SchemaNameProvider;
+
+public class RuntimeTypeCacheTest {
+
+    private final RuntimeTypeCache<DataType> cache = new RuntimeTypeCache<>();
+    private final AtomicInteger buildCount = new AtomicInteger(0);
+
+    @Test
+    public void should_build_type_once_per_key() throws Exception {
+        //When
+        final DataType type1 = cache.get("ks1.address", this::buildType);
+        final DataType type1Again = cache.get("ks1.address", this::buildType);
+        final DataType type2 = cache.get("ks2.address", this::buildType);
+
+        //Then
+        assertThat(type1Again).isSameAs(type1);
+        assertThat(type2).isNotSameAs(type1);
+        assertThat(buildCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void should_not_cache_beyond_max_cached_types() throws Exception {
+        //Given
+        for (int i = 0; i < RuntimeTypeCache.MAX_CACHED_TYPES; i++) {
+            cache.get("ks" + i + ".address", this::buildType);
+        }
+
+        //When
+        final DataType type = cache.get("extra_ks.address", this::buildType);
+        final DataType typeAgain = cache.get("extra_ks.address", this::buildType);
+
+        //Then
+        assertThat(typeAgain).isNotSameAs(type);
+        assertThat(buildCount.get()).isEqualTo(RuntimeTypeCache.MAX_CACHED_TYPES + 2);
+    }
+
+    @Test
+    public void should_rebuild_type_after_clear() throws Exception {
+        //Given
+        final DataType type = cache.get("ks.address", this::buildType);
+
+        //When
+        cache.clear();
+
+        //Then
+        assertThat(cache.get("ks.address", this::buildType)).isNotSameAs(type);
+        assertThat(buildCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void should_build_same_key_for_distinct_providers_resolving_same_keyspace() throws Exception {
+        //Given
+        final List<AbstractUDTClassProperty<?>> udtClassProperties = asList(TestUDTClassProperty.named("address"), TestUDTClassProperty.named("city"));
+
+        //When
+        final String key1 = RuntimeTypeCache.keyFor(udtClassProperties, Optional.of(CassandraOptions.withSchemaNameProvider(new FixedSchemaNameProvider("tenant1"))));
+        final String key2 = RuntimeTypeCache.keyFor(udtClassProperties, Optional.of(CassandraOptions.withSchemaNameProvider(new FixedSchemaNameProvider("tenant1"))));
+
+        //Then
+        assertThat(key1).isEqualTo("tenant1.address,tenant1.city");
+        assertThat(key2).isEqualTo(key1);
+    }
+
+    @Test
+    public void should_build_distinct_keys_for_same_provider_resolving_distinct_keyspaces() throws Exception {
+        //Given
+        final List<AbstractUDTClassProperty<?>> udtClassProperties = asList(TestUDTClassProperty.named("address"));
+        final FixedSchemaNameProvider provider = new FixedSchemaNameProvider("tenant1");
+        final Optional<CassandraOptions> options = Optional.of(CassandraOptions.withSchemaNameProvider(provider));
+
+        //When
+        final String key1 = RuntimeTypeCache.keyFor(udtClassProperties, options);
+        provider.keyspace = "tenant2";
+        final String key2 = RuntimeTypeCache.keyFor(udtClassProperties, options);
+
+        //Then
+        assertThat(key1).isEqualTo("tenant1.address");
+        assertThat(key2).isEqualTo("tenant2.address");
+    }
+
+    private DataType buildType() {
+        buildCount.incrementAndGet();
+        return DataType.list(DataType.text());
+    }
+
+    private static class FixedSchemaNameProvider implements SchemaNameProvider {
+        private String keyspace;
+
+        FixedSchemaNameProvider(String keyspace) {
+            this.keyspace = keyspace;
+        }
+
+        @Override
+        public <T> String keyspaceFor(Class<T> entityClass) {
+            return keyspace;
+        }
+
+        @Override
+        public <T> String tableNameFor(Class<T> entityClass) {
+            return "table";
+        }
+    }
+
+    private static class TestUDTClassProperty extends AbstractUDTClassProperty<Object> {
+        private static String nextUdtName;
+
+        private TestUDTClassProperty() {
+            super();
+        }
+
+        static TestUDTClassProperty named(String udtName) {
+            nextUdtName = udtName;
+            return new TestUDTClassProperty();
+        }
+
+        @Override
+        protected Optional<String> getStaticKeyspace() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected Optional<InternalNamingStrategy> getStaticNamingStrategy() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected Optional<String> getStaticUdtName() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected String getUdtName() {
+            return nextUdtName;
+        }
+
+        @Override
+        protected Class<Object> getUdtClass() {
+            return Object.class;
+        }
+
+        @Override
+        protected List<AbstractProperty<Object, ?, ?>> getComponentsProperty() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        protected List<AbstractProperty<Object, ?, ?>> getConstructorInjectedProperty() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        protected Class<?> getParentEntityClass() {
+            return Object.class;
+        }
+
+        @Override
+        protected UDTValue createUDTFromBean(Object instance, boolean frozen, Optional<CassandraOptions> cassandraOptions) {
+            return null;
+        }
+
+        @Override
+        protected Object newInstanceFromCustomConstructor(UDTValue udtValue) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.metrics;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import info.archinnov.achilles.internals.statements.OperationType;
+
+public class StatementMetricsRecorderTest {
+
+    private final StatementMetricsRecorder recorder = new StatementMetricsRecorder();
+
+    @Test
+    public void should_record_latencies_and_errors_by_statement_shape() throws Exception {
+        //Given
+        final StatementMetricsKey select = new StatementMetricsKey(Optional.of(String.class), OperationType.SELECT, "SELECT * FROM table WHERE id=:id");
+        final StatementMetricsKey insert = new StatementMetricsKey(Optional.of(String.class), OperationType.INSERT, "INSERT INTO table(id) VALUES(:id)");
+        final StatementMetricsKey other = new StatementMetricsKey(Optional.of(Long.class), OperationType.SELECT, "SELECT * FROM other WHERE id=:id");
+
+        //When
+        for (int i = 1; i <= 100; i++) {
+            recorder.onSuccess(new StatementMetricsKey(Optional.of(String.class), OperationType.SELECT, "SELECT * FROM table WHERE id=:id"),
+                    MILLISECONDS.toNanos(i));
+        }
+        recorder.onError(insert, MILLISECONDS.toNanos(5), new RuntimeException("timeout"));
+        recorder.onSuccess(other, MILLISECONDS.toNanos(1));
+
+        //Then
+        final Map<StatementMetricsKey, StatementMetricsStats> stats = recorder.getStats(String.class);
+        assertThat(stats).hasSize(2);
+
+        final StatementMetricsStats selectStats = stats.get(select);
+        assertThat(selectStats.getCount()).isEqualTo(100L);
+        assertThat(selectStats.getErrorCount()).isEqualTo(0L);
+        assertThat(selectStats.getMaxLatencyInMicros()).isEqualTo(100_000L);
+        assertThat(selectStats.getMeanLatencyInMicros()).isEqualTo(50_500L);
+        assertThat(selectStats.getLatencyPercentileInMicros(50)).isBetween(50_000L, 62_500L);
+        assertThat(selectStats.getLatencyPercentileInMicros(99)).isBetween(99_000L, 100_000L);
+
+        assertThat(stats.get(insert).getCount()).isEqualTo(1L);
+        assertThat(stats.get(insert).getErrorCount()).isEqualTo(1L);
+        assertThat(recorder.getStats()).hasSize(3);
+    }
+
+    @Test
+    public void should_compute_bucket_upper_bounds_within_25_percent() throws Exception {
+        //Given
+        final long[] latencies = {0L, 3L, 4L, 7L, 100L, 1_000L, 123_456L, MICROSECONDS.convert(1, MILLISECONDS) * 3_600L};
+
+        //When
+        //Then
+        for (long latency : latencies) {
+            final long upperBound = StatementMetricsStats.bucketUpperBound(StatementMetricsRecorder.bucketIndex(latency));
+            assertThat(upperBound).isGreaterThanOrEqualTo(latency);
+            assertThat(upperBound).isLessThanOrEqualTo(latency + latency / 4);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.runtime;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.google.common.util.concurrent.AbstractFuture;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import info.archinnov.achilles.internals.metrics.StatementMetricsKey;
+import info.archinnov.achilles.internals.options.HedgingOptions;
+import info.archinnov.achilles.internals.statements.OperationType;
+
+public class HedgedReadsTest {
+
+    private final HedgedReads hedgedReads = new HedgedReads();
+    private final StatementMetricsKey key = new StatementMetricsKey(Optional.of(String.class), OperationType.SELECT, "SELECT * FROM table WHERE id=:id");
+    private final List<TestResultSetFuture> sentRequests = new ArrayList<>();
+    private final CountDownLatch hedgeSent = new CountDownLatch(2);
+
+    @After
+    public void tearDown() {
+        hedgedReads.shutDown();
+    }
+
+    @Test
+    public void should_not_send_hedge_when_first_request_answers_before_delay() throws Exception {
+        //Given
+        final ResultSet resultSet = mock(ResultSet.class);
+
+        //When
+        final ListenableFuture<ResultSet> future = hedgedReads.execute(this::send, key, HedgingOptions.fixedDelay(1, SECONDS));
+        sentRequests.get(0).set(resultSet);
+
+        //Then
+        assertThat(future.get()).isSameAs(resultSet);
+        assertThat(sentRequests).hasSize(1);
+        assertThat(hedgedReads.getStats().getHedgedReadCount()).isEqualTo(1L);
+        assertThat(hedgedReads.getStats().getHedgesSentCount()).isEqualTo(0L);
+    }
+
+    @Test
+    public void should_take_hedge_response_and_cancel_first_request() throws Exception {
+        //Given
+        final ResultSet resultSet = mock(ResultSet.class);
+
+        //When
+        final ListenableFuture<ResultSet> future = hedgedReads.execute(this::send, key, HedgingOptions.fixedDelay(10, MILLISECONDS));
+        assertThat(hedgeSent.await(5, SECONDS)).isTrue();
+        sentRequests.get(1).set(resultSet);
+
+        //Then
+        assertThat(future.get()).isSameAs(resultSet);
+        final long deadline = System.nanoTime() + SECONDS.toNanos(5);
+        while (!sentRequests.get(0).isCancelled() && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(sentRequests.get(0).isCancelled()).isTrue();
+        assertThat(hedgedReads.getStats().getHedgesSentCount()).isEqualTo(1L);
+        assertThat(hedgedReads.getStats().getHedgesWonCount()).isEqualTo(1L);
+    }
+
+    @Test
+    public void should_fail_only_when_all_requests_failed() throws Exception {
+        //Given
+        final ListenableFuture<ResultSet> future = hedgedReads.execute(this::send, key, HedgingOptions.fixedDelay(10, MILLISECONDS));
+        assertThat(hedgeSent.await(5, SECONDS)).isTrue();
+
+        //When
+        sentRequests.get(0).setException(new RuntimeException("first"));
+
+        //Then
+        assertThat(future.isDone()).isFalse();
+        sentRequests.get(1).setException(new RuntimeException("hedge"));
+        try {
+            Uninterruptibles.getUninterruptibly(future);
+            fail("Expected ExecutionException");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause()).hasMessage("hedge");
+        }
+    }
+
+    @Test
+    public void should_derive_delay_from_observed_latencies() throws Exception {
+        //Given
+        final HedgingOptions options = HedgingOptions.percentileDelay(90, 1, SECONDS);
+        assertThat(hedgedReads.computeDelayInNanos(key, options)).isEqualTo(SECONDS.toNanos(1));
+
+        //When
+        for (int i = 1; i <= HedgedReads.MIN_EXECUTIONS_FOR_PERCENTILE; i++) {
+            final ListenableFuture<ResultSet> future = hedgedReads.execute(this::send, key, options);
+            sentRequests.get(sentRequests.size() - 1).set(mock(ResultSet.class));
+            future.get();
+        }
+
+        //Then
+        assertThat(hedgedReads.computeDelayInNanos(key, options)).isLessThan(SECONDS.toNanos(1));
+    }
+
+    private synchronized ResultSetFuture send() {
+        final TestResultSetFuture future = new TestResultSetFuture();
+        sentRequests.add(future);
+        hedgeSent.countDown();
+        return future;
+    }
+
+    private static class TestResultSetFuture extends AbstractFuture<ResultSet> implements ResultSetFuture {
+
+        @Override
+        public boolean set(ResultSet value) {
+            return super.set(value);
+        }
+
+        @Override
+        public boolean setException(Throwable throwable) {
+            return super.setException(throwable);
+        }
+
+        @Override
+        public ResultSet getUninterruptibly() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ResultSet getUninterruptibly(long timeout, TimeUnit unit) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
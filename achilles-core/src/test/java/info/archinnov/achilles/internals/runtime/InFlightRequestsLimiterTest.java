@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.runtime;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.junit.Test;
+
+import info.archinnov.achilles.exception.AchillesInFlightLimitException;
+import info.archinnov.achilles.type.strategy.InFlightOverflowStrategy;
+
+public class InFlightRequestsLimiterTest {
+
+    @Test
+    public void should_reject_request_exceeding_in_flight_limit() throws Exception {
+        //Given
+        final InFlightRequestsLimiter limiter = new InFlightRequestsLimiter(1, 0, InFlightOverflowStrategy.REJECT);
+        final CompletableFuture<String> pending = new CompletableFuture<>();
+
+        //When
+        final CompletableFuture<String> first = limiter.submit(() -> pending);
+        final CompletableFuture<String> second = limiter.submit(() -> CompletableFuture.completedFuture("second"));
+
+        //Then
+        assertThat(first.isDone()).isFalse();
+        assertThat(second.isCompletedExceptionally()).isTrue();
+        try {
+            second.join();
+            fail("Expected AchillesInFlightLimitException");
+        } catch (CompletionException ex) {
+            assertThat(ex.getCause()).isInstanceOf(AchillesInFlightLimitException.class);
+        }
+        assertThat(limiter.getRejectedRequestsCount()).isEqualTo(1L);
+
+        pending.complete("first");
+        assertThat(limiter.getInFlightRequests()).isEqualTo(0);
+        assertThat(limiter.submit(() -> CompletableFuture.completedFuture("third")).join()).isEqualTo("third");
+    }
+
+    @Test
+    public void should_reject_request_when_queue_is_full() throws Exception {
+        //Given
+        final InFlightRequestsLimiter limiter = new InFlightRequestsLimiter(1, 1, InFlightOverflowStrategy.QUEUE);
+        final CompletableFuture<String> pending = new CompletableFuture<>();
+        limiter.submit(() -> pending);
+        final CompletableFuture<String> queued = limiter.submit(() -> CompletableFuture.completedFuture("queued"));
+
+        //When
+        final CompletableFuture<String> rejected = limiter.submit(() -> CompletableFuture.completedFuture("rejected"));
+
+        //Then
+        assertThat(queued.isDone()).isFalse();
+        assertThat(rejected.isCompletedExceptionally()).isTrue();
+        assertThat(limiter.getRejectedRequestsCount()).isEqualTo(1L);
+        assertThat(limiter.getQueueDepth()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_send_queued_request_when_in_flight_request_completes() throws Exception {
+        //Given
+        final InFlightRequestsLimiter limiter = new InFlightRequestsLimiter(1, 10, InFlightOverflowStrategy.QUEUE);
+        final CompletableFuture<String> pending = new CompletableFuture<>();
+
+        //When
+        limiter.submit(() -> pending);
+        final CompletableFuture<String> queued = limiter.submit(() -> CompletableFuture.completedFuture("queued"));
+
+        //Then
+        assertThat(queued.isDone()).isFalse();
+        assertThat(limiter.getQueueDepth()).isEqualTo(1);
+
+        pending.complete("first");
+        assertThat(queued.join()).isEqualTo("queued");
+        assertThat(limiter.getQueueDepth()).isEqualTo(0);
+        assertThat(limiter.getQueuedRequestsCount()).isEqualTo(1L);
+    }
+
+    @Test
+    public void should_release_slot_when_request_supplier_throws() throws Exception {
+        //Given
+        final InFlightRequestsLimiter limiter = new InFlightRequestsLimiter(1, 10, InFlightOverflowStrategy.QUEUE);
+
+        //When
+        final CompletableFuture<String> failed = limiter.submit(() -> {
+            throw new IllegalStateException("boom");
+        });
+
+        //Then
+        assertThat(failed.isCompletedExceptionally()).isTrue();
+        assertThat(limiter.getInFlightRequests()).isEqualTo(0);
+        assertThat(limiter.submit(() -> CompletableFuture.completedFuture("next")).join()).isEqualTo("next");
+    }
+
+    @Test
+    public void should_drain_synchronously_completing_queued_requests_without_recursion() throws Exception {
+        //Given
+        final int queuedCount = 100_000;
+        final InFlightRequestsLimiter limiter = new InFlightRequestsLimiter(1, queuedCount, InFlightOverflowStrategy.QUEUE);
+        final CompletableFuture<String> pending = new CompletableFuture<>();
+        limiter.submit(() -> pending);
+        final List<CompletableFuture<Integer>> queued = new ArrayList<>();
+        for (int i = 0; i < queuedCount; i++) {
+            final int value = i;
+            queued.add(limiter.submit(() -> CompletableFuture.completedFuture(value)));
+        }
+        assertThat(limiter.getQueueDepth()).isEqualTo(queuedCount);
+
+        //When
+        pending.complete("first");
+
+        //Then
+        assertThat(queued.get(queuedCount - 1).get(10, SECONDS)).isEqualTo(queuedCount - 1);
+        assertThat(queued.stream().allMatch(CompletableFuture::isDone)).isTrue();
+        assertThat(limiter.getInFlightRequests()).isEqualTo(0);
+        assertThat(limiter.getQueueDepth()).isEqualTo(0);
+    }
+}
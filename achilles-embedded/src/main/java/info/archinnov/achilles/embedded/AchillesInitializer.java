@@ -17,6 +17,7 @@
 package info.archinnov.achilles.embedded;
 
 import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.*;
+import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 import java.util.ArrayList;
@@ -64,7 +65,7 @@ public class AchillesInitializer {
                 tempSession.close();
                 singletonSession = singletonCluster.connect(keyspaceName);
                 ServerStarter.CASSANDRA_EMBEDDED.getShutdownHook().addSession(singletonSession);
-                executeStartupScripts(singletonSession, parameters);
+                executeStartupScripts(cassandraHost, singletonSession, parameters);
                 STARTED.getAndSet(true);
             } else {
                 LOGGER.debug("Cluster and session singletons already created");
@@ -76,7 +77,7 @@ public class AchillesInitializer {
                         ? singletonSession
                         : singletonCluster.connect(keyspaceName);
 
-                executeStartupScripts(tempSession, parameters);
+                executeStartupScripts(cassandraHost, tempSession, parameters);
 
                 if (!useSingletonSession) {
                     tempSession.close();
@@ -149,9 +150,16 @@ public class AchillesInitializer {
         session.execute(query);
     }
 
-    private void executeStartupScripts(Session session, TypedMap parameters) {
+    private void executeStartupScripts(String cassandraHost, Session session, TypedMap parameters) {
         ScriptExecutor scriptExecutor = null;
         List<String> scriptLocations = parameters.getTypedOr(SCRIPT_LOCATIONS, new ArrayList<>());
+
+        // SSTable fixtures are loaded directly into the embedded daemon, not available with an external Cassandra server
+        if (parameters.getTypedOr(SSTABLE_FIXTURES, false) && isBlank(cassandraHost)) {
+            new SSTableFixtures(session, parameters.getTyped(SSTABLE_FIXTURES_FOLDER))
+                    .executeScripts(scriptLocations, parameters.getTypedOr(SCRIPT_TEMPLATES, new HashMap<>()));
+            return;
+        }
         if (scriptLocations.size() > 0) {
             scriptExecutor = new ScriptExecutor(session);
             scriptLocations.forEach(scriptExecutor::executeScript);
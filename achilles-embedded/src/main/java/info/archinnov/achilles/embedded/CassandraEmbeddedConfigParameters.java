@@ -85,6 +85,9 @@ public class CassandraEmbeddedConfigParameters {
     public static final String SCRIPT_LOCATIONS = "scriptLocations";
     public static final String SCRIPT_TEMPLATES = "scriptTemplates";
 
+    public static final String SSTABLE_FIXTURES = "sstableFixtures";
+    public static final String SSTABLE_FIXTURES_FOLDER = "sstableFixturesFolder";
+
     /*
      * Default values
      */
@@ -98,6 +101,7 @@ public class CassandraEmbeddedConfigParameters {
     static final Set<String> DEFAULT_ACHILLES_TEST_FOLDERS = SetUtils.of(DEFAULT_ACHILLES_TEST_DATA_FOLDER,
             DEFAULT_ACHILLES_TEST_COMMIT_LOG_FOLDER, DEFAULT_ACHILLES_TEST_SAVED_CACHES_FOLDER,
             DEFAULT_ACHILLES_TEST_HINTS_FOLDER, DEFAULT_ACHILLES_TEST_CDC_RAW_FOLDER);
+    static final String DEFAULT_ACHILLES_TEST_SSTABLE_FIXTURES_FOLDER = "target/cassandra_embedded/sstable_fixtures";
     static final String DEFAULT_CASSANDRA_EMBEDDED_LOGBACK_FILE = "target/cassandra_embedded/logback.xml";
     static final String DEFAULT_CASSANDRA_EMBEDDED_CLUSTER_NAME = "Achilles Embedded Cassandra Cluster";
     static final Boolean DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_DURABLE_WRITE = false;
@@ -127,6 +131,8 @@ public class CassandraEmbeddedConfigParameters {
         defaultParams.put(HINTS_FOLDER, DEFAULT_ACHILLES_TEST_HINTS_FOLDER);
         defaultParams.put(CDC_RAW_FOLDER, DEFAULT_ACHILLES_TEST_CDC_RAW_FOLDER);
         defaultParams.put(LOGBACK_FILE, DEFAULT_CASSANDRA_EMBEDDED_LOGBACK_FILE);
+        defaultParams.put(SSTABLE_FIXTURES, false);
+        defaultParams.put(SSTABLE_FIXTURES_FOLDER, DEFAULT_ACHILLES_TEST_SSTABLE_FIXTURES_FOLDER);
         defaultParams.put(CLUSTER_NAME, DEFAULT_CASSANDRA_EMBEDDED_CLUSTER_NAME);
         defaultParams.put(DEFAULT_KEYSPACE_NAME, DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME);
         defaultParams.put(KEYSPACE_DURABLE_WRITE, DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_DURABLE_WRITE);
@@ -106,6 +106,10 @@ public class CassandraEmbeddedServerBuilder {
 
     private Map<String, Map<String, Object>> scriptTemplates = new HashMap<>();
 
+    private boolean useSSTableFixtures = false;
+
+    private String sstableFixturesFolder;
+
     private TypedMap cassandraParams = new TypedMap();
 
     private CassandraEmbeddedServerBuilder() {
@@ -454,6 +458,39 @@ public class CassandraEmbeddedServerBuilder {
         return this;
     }
 
+    /**
+     * Execute the scripts and script templates as SSTable fixtures. The first time a given set of scripts is executed,
+     * the SSTables produced by its INSERT/UPDATE/DELETE/BATCH statements are captured into the fixtures folder.
+     * Next executions, including in later test runs, only execute the schema statements and load the captured
+     * SSTables directly into the embedded Cassandra daemon instead of re-inserting the data row by row.
+     * <br/>
+     * Fixtures are keyed by a hash of the Cassandra version, the keyspace and the script statements, so editing
+     * a script captures a new fixture. Only the tables written by the scripts are captured.
+     * <br/>
+     * Restored rows keep the write timestamps of the capture. If a table of the fixture has been written since,
+     * e.g. partitions deleted by a previous test class, the data statements are executed instead so that the
+     * seeded rows are not hidden by the newer tombstones. This option is ignored when using an external Cassandra server
+     *
+     * @param useSSTableFixtures whether to execute the scripts as SSTable fixtures
+     * @return CassandraEmbeddedServerBuilder
+     */
+    public CassandraEmbeddedServerBuilder useSSTableFixtures(boolean useSSTableFixtures) {
+        this.useSSTableFixtures = useSSTableFixtures;
+        return this;
+    }
+
+    /**
+     * Specify the folder to store the SSTable fixtures. Default value is 'target/cassandra_embedded/sstable_fixtures'.
+     * This folder is not cleaned at startup
+     *
+     * @param sstableFixturesFolder SSTable fixtures folder
+     * @return CassandraEmbeddedServerBuilder
+     */
+    public CassandraEmbeddedServerBuilder withSSTableFixturesFolder(String sstableFixturesFolder) {
+        this.sstableFixturesFolder = sstableFixturesFolder;
+        return this;
+    }
+
     /**
      * Inject Cassandra parameters
      *
@@ -611,6 +648,12 @@ public class CassandraEmbeddedServerBuilder {
             cassandraParams.put(USE_UNSAFE_CASSANDRA_DAEMON, true);
         }
 
+        if (useSSTableFixtures)
+            cassandraParams.put(SSTABLE_FIXTURES, true);
+
+        if (isNotBlank(sstableFixturesFolder))
+            cassandraParams.put(SSTABLE_FIXTURES_FOLDER, sstableFixturesFolder);
+
         cassandraParams.put(KEYSPACE_DURABLE_WRITE, durableWrite);
 
         TypedMap parameters = CassandraEmbeddedConfigParameters.mergeWithDefaultParameters(cassandraParams);
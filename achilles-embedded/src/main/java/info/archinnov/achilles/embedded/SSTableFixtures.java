@@ -0,0 +1,322 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.embedded;
+
+import static info.archinnov.achilles.internals.statement.StatementHelper.isDeleteStatement;
+import static info.archinnov.achilles.internals.statement.StatementHelper.isSelectStatement;
+import static info.archinnov.achilles.internals.statement.StatementHelper.isUpsertStatement;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.apache.cassandra.db.ColumnFamilyStore;
+import org.apache.cassandra.io.sstable.Component;
+import org.apache.cassandra.io.sstable.Descriptor;
+import org.apache.cassandra.io.sstable.SSTable;
+import org.apache.cassandra.io.sstable.format.SSTableReader;
+import org.apache.cassandra.utils.FBUtilities;
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.SimpleStatement;
+
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.script.ScriptExecutor;
+
+/**
+ * Execute the startup scripts as SSTable fixtures.
+ * <br/>
+ * The schema statements at the beginning of the scripts are always executed. The first time a given set of scripts
+ * is executed, the data statements (INSERT/UPDATE/DELETE/BATCH) are executed, the tables are flushed and the SSTables
+ * they produced are copied into the fixtures folder. Next executions, in the same JVM or in a later run, skip the data
+ * statements and load the copied SSTables directly into the embedded Cassandra daemon.
+ * <br/>
+ * Only the SSTables of the tables written by the data statements are captured. Fixtures are identified by a hash of
+ * the Cassandra version, the keyspace and the statements.
+ * <br/>
+ * Restored cells keep the write timestamps of the capture, so they would be shadowed by any deletion written since,
+ * e.g. by a previous test class. When a table of the fixture contains writes more recent than the capture,
+ * the data statements are executed instead of restoring the fixture.
+ * Scripts having a schema statement after a data statement, or whose written tables cannot be determined,
+ * are executed normally
+ */
+class SSTableFixtures extends ScriptExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SSTableFixtures.class);
+    private static final String COMPLETE_MARKER = "COMPLETE";
+    private static final String FORMAT_VERSION = "2";
+    private static final Pattern WRITTEN_TABLE = Pattern.compile("\\b(?:INSERT\\s+INTO|UPDATE|DELETE\\b.*?\\bFROM)\\s+(\"?\\w+\"?(?:\\.\"?\\w+\"?)?)",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+    private final Session session;
+    private final Path fixturesFolder;
+
+    SSTableFixtures(Session session, String fixturesFolder) {
+        super(session);
+        this.session = session;
+        this.fixturesFolder = Paths.get(fixturesFolder);
+    }
+
+    void executeScripts(List<String> scriptLocations, Map<String, Map<String, Object>> scriptTemplates) {
+        final List<SimpleStatement> statements = new ArrayList<>();
+        scriptLocations.forEach(location -> statements.addAll(buildStatements(loadScriptAsLines(location))));
+        scriptTemplates.forEach((location, values) -> statements.addAll(buildStatements(loadScriptAsLines(location, values))));
+
+        int firstMutation = 0;
+        while (firstMutation < statements.size() && !isMutation(statements.get(firstMutation))) {
+            firstMutation++;
+        }
+        final List<SimpleStatement> schemaStatements = statements.subList(0, firstMutation);
+        final List<SimpleStatement> dataStatements = statements.subList(firstMutation, statements.size());
+
+        if (dataStatements.stream().anyMatch(statement -> !isMutation(statement) && !isSelectStatement(statement))) {
+            LOGGER.info("Schema statements found after data statements, executing the scripts without SSTable fixtures");
+            statements.forEach(session::execute);
+            return;
+        }
+
+        schemaStatements.forEach(session::execute);
+        if (dataStatements.isEmpty()) {
+            return;
+        }
+
+        final Optional<List<ColumnFamilyStore>> writtenStores = writtenTableStores(dataStatements);
+        if (!writtenStores.isPresent()) {
+            LOGGER.info("Cannot determine the tables written by the data statements, executing the scripts without SSTable fixtures");
+            dataStatements.forEach(session::execute);
+            return;
+        }
+
+        final Path fixtureFolder = fixturesFolder.resolve(fixtureKey(statements));
+        final Path completeMarker = fixtureFolder.resolve(COMPLETE_MARKER);
+        final long start = System.nanoTime();
+        if (Files.exists(completeMarker) && hasWritesAfter(writtenStores.get(), readMaxTimestamp(completeMarker))) {
+            LOGGER.info(format("Tables of SSTable fixture %s have been written since its capture, executing the data statements instead",
+                    fixtureFolder.getFileName()));
+            dataStatements.forEach(session::execute);
+        } else if (Files.exists(completeMarker) && restore(fixtureFolder)) {
+            LOGGER.info(format("SSTable fixture %s restored in %s ms", fixtureFolder.getFileName(), (System.nanoTime() - start) / 1_000_000));
+        } else {
+            capture(fixtureFolder, writtenStores.get(), dataStatements);
+            LOGGER.info(format("SSTable fixture %s captured in %s ms", fixtureFolder.getFileName(), (System.nanoTime() - start) / 1_000_000));
+        }
+    }
+
+    private void capture(Path fixtureFolder, List<ColumnFamilyStore> stores, List<SimpleStatement> dataStatements) {
+        final List<ColumnFamilyStore> compactionDisabled = new ArrayList<>();
+        final Map<ColumnFamilyStore, Set<SSTableReader>> existingSSTables = new HashMap<>();
+        try {
+            // Compactions would merge the fixture SSTables with the existing ones
+            for (ColumnFamilyStore store : stores) {
+                if (!store.isAutoCompactionDisabled()) {
+                    store.disableAutoCompaction();
+                    compactionDisabled.add(store);
+                }
+                store.forceBlockingFlush();
+                existingSSTables.put(store, new HashSet<>(store.getLiveSSTables()));
+            }
+
+            dataStatements.forEach(session::execute);
+
+            final Path tempFolder = Files.createTempDirectory(Files.createDirectories(fixturesFolder), "capture-");
+            long maxTimestamp = Long.MIN_VALUE;
+            for (ColumnFamilyStore store : stores) {
+                store.forceBlockingFlush();
+                int index = 0;
+                for (SSTableReader sstable : store.getLiveSSTables()) {
+                    if (existingSSTables.getOrDefault(store, Collections.emptySet()).contains(sstable)) {
+                        continue;
+                    }
+                    maxTimestamp = Math.max(maxTimestamp, sstable.getMaxTimestamp());
+                    final Path tableFolder = Files.createDirectories(tempFolder.resolve(store.keyspace.getName()).resolve(store.getColumnFamilyName()));
+                    for (Component component : SSTable.componentsFor(sstable.descriptor)) {
+                        Files.copy(Paths.get(sstable.descriptor.filenameFor(component)), tableFolder.resolve(index + "-" + component.name));
+                    }
+                    index++;
+                }
+            }
+            Files.write(tempFolder.resolve(COMPLETE_MARKER), String.valueOf(maxTimestamp).getBytes(UTF_8));
+            publish(tempFolder, fixtureFolder);
+        } catch (IOException e) {
+            throw new AchillesException(format("Cannot capture SSTable fixture into '%s'", fixtureFolder), e);
+        } finally {
+            compactionDisabled.forEach(ColumnFamilyStore::enableAutoCompaction);
+        }
+    }
+
+    private void publish(Path tempFolder, Path fixtureFolder) throws IOException {
+        try {
+            Files.move(tempFolder, fixtureFolder, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException | DirectoryNotEmptyException | AtomicMoveNotSupportedException e) {
+            // Captured concurrently by another JVM, keep the existing fixture
+            FileUtils.deleteDirectory(tempFolder.toFile());
+        }
+    }
+
+    /**
+     * @return false if a table of the fixture does not exist anymore, in which case the fixture is captured again
+     */
+    private boolean restore(Path fixtureFolder) {
+        try {
+            final Map<ColumnFamilyStore, Map<String, List<Path>>> sstablesByStore = new HashMap<>();
+            for (Path keyspaceFolder : list(fixtureFolder)) {
+                if (!Files.isDirectory(keyspaceFolder)) {
+                    continue;
+                }
+                for (Path tableFolder : list(keyspaceFolder)) {
+                    final ColumnFamilyStore store = ColumnFamilyStore.getIfExists(keyspaceFolder.getFileName().toString(),
+                            tableFolder.getFileName().toString());
+                    if (store == null) {
+                        LOGGER.info(format("Table %s.%s of SSTable fixture %s does not exist, discarding the fixture",
+                                keyspaceFolder.getFileName(), tableFolder.getFileName(), fixtureFolder.getFileName()));
+                        FileUtils.deleteDirectory(fixtureFolder.toFile());
+                        return false;
+                    }
+                    final Map<String, List<Path>> componentsBySSTable = new TreeMap<>();
+                    for (Path componentFile : list(tableFolder)) {
+                        final String fileName = componentFile.getFileName().toString();
+                        componentsBySSTable
+                                .computeIfAbsent(fileName.substring(0, fileName.indexOf('-')), x -> new ArrayList<>())
+                                .add(componentFile);
+                    }
+                    sstablesByStore.put(store, componentsBySSTable);
+                }
+            }
+
+            for (Map.Entry<ColumnFamilyStore, Map<String, List<Path>>> entry : sstablesByStore.entrySet()) {
+                final ColumnFamilyStore store = entry.getKey();
+                final File directory = store.getDirectories().getDirectoryForNewSSTables();
+                for (List<Path> components : entry.getValue().values()) {
+                    // Reserve a generation so that the copied files never overwrite live SSTables
+                    final String dataFile = Descriptor.fromFilename(store.getSSTablePath(directory)).filenameFor(Component.DATA);
+                    final String baseFilename = dataFile.substring(0, dataFile.length() - Component.DATA.name.length());
+                    for (Path component : components) {
+                        final String fileName = component.getFileName().toString();
+                        linkOrCopy(component, Paths.get(baseFilename + fileName.substring(fileName.indexOf('-') + 1)));
+                    }
+                }
+                store.loadNewSSTables();
+            }
+            return true;
+        } catch (IOException e) {
+            throw new AchillesException(format("Cannot restore SSTable fixture from '%s'", fixtureFolder), e);
+        }
+    }
+
+    private void linkOrCopy(Path source, Path target) throws IOException {
+        try {
+            Files.createLink(target, source);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(source, target);
+        }
+    }
+
+    private List<Path> list(Path folder) throws IOException {
+        try (Stream<Path> paths = Files.list(folder)) {
+            final List<Path> list = new ArrayList<>();
+            paths.forEach(list::add);
+            return list;
+        }
+    }
+
+    /**
+     * @return the stores of the tables written by the statements, or empty if a table cannot be determined
+     */
+    private Optional<List<ColumnFamilyStore>> writtenTableStores(List<SimpleStatement> dataStatements) {
+        final Set<ColumnFamilyStore> stores = new LinkedHashSet<>();
+        for (SimpleStatement statement : dataStatements) {
+            if (isSelectStatement(statement)) {
+                continue;
+            }
+            final Matcher matcher = WRITTEN_TABLE.matcher(statement.getQueryString());
+            boolean found = false;
+            while (matcher.find()) {
+                final String[] keyspaceAndTable = matcher.group(1).split("\\.");
+                final String keyspace = keyspaceAndTable.length == 2 ? keyspaceAndTable[0] : session.getLoggedKeyspace();
+                final String table = keyspaceAndTable[keyspaceAndTable.length - 1];
+                final ColumnFamilyStore store = keyspace == null ? null : ColumnFamilyStore.getIfExists(unquote(keyspace), unquote(table));
+                if (store == null) {
+                    return Optional.empty();
+                }
+                stores.add(store);
+                found = true;
+            }
+            if (!found) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(new ArrayList<>(stores));
+    }
+
+    private boolean hasWritesAfter(List<ColumnFamilyStore> stores, long timestamp) {
+        for (ColumnFamilyStore store : stores) {
+            store.forceBlockingFlush();
+            for (SSTableReader sstable : store.getLiveSSTables()) {
+                if (sstable.getMaxTimestamp() > timestamp) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private long readMaxTimestamp(Path completeMarker) {
+        try {
+            return Long.parseLong(new String(Files.readAllBytes(completeMarker), UTF_8).trim());
+        } catch (IOException | NumberFormatException e) {
+            throw new AchillesException(format("Cannot read the capture timestamp of SSTable fixture '%s'", completeMarker.getParent()), e);
+        }
+    }
+
+    private static String unquote(String name) {
+        return name.startsWith("\"") ? name.substring(1, name.length() - 1) : name.toLowerCase();
+    }
+
+    private String fixtureKey(List<SimpleStatement> statements) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(FORMAT_VERSION.getBytes(UTF_8));
+            digest.update(FBUtilities.getReleaseVersionString().getBytes(UTF_8));
+            digest.update(String.valueOf(session.getLoggedKeyspace()).getBytes(UTF_8));
+            for (SimpleStatement statement : statements) {
+                digest.update(statement.getQueryString().getBytes(UTF_8));
+            }
+            final StringBuilder key = new StringBuilder();
+            for (byte b : digest.digest()) {
+                key.append(format("%02x", b));
+            }
+            return key.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new AchillesException("Cannot compute the SSTable fixture key", e);
+        }
+    }
+
+    private static boolean isMutation(SimpleStatement statement) {
+        return isUpsertStatement(statement) || isDeleteStatement(statement);
+    }
+}
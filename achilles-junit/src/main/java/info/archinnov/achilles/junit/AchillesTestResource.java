@@ -18,12 +18,19 @@ package info.archinnov.achilles.junit;
 
 import static info.archinnov.achilles.junit.AchillesTestResource.Steps.BOTH;
 import static info.archinnov.achilles.validation.Validator.validateTrue;
+import static info.archinnov.achilles.junit.AchillesTestResource.CleanUpStrategy.TRUNCATE;
+import static java.lang.String.format;
+import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.function.BiFunction;
 import java.util.stream.Stream;
 
@@ -31,12 +38,12 @@ import org.junit.rules.ExternalResource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.datastax.driver.core.Cluster;
-import com.datastax.driver.core.PreparedStatement;
-import com.datastax.driver.core.Session;
+import com.datastax.driver.core.*;
+import com.google.common.util.concurrent.Futures;
 
 import info.archinnov.achilles.embedded.CassandraEmbeddedServer;
 import info.archinnov.achilles.embedded.CassandraEmbeddedServerBuilder;
+import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.internals.cache.StatementsCache;
 import info.archinnov.achilles.internals.runtime.AbstractManagerFactory;
 import info.archinnov.achilles.logger.AchillesLoggers;
@@ -93,17 +100,25 @@ public class AchillesTestResource<T extends AbstractManagerFactory> extends Exte
 
     // Default statement cache for unit testing
     private static final StatementsCache STATEMENTS_CACHE = new StatementsCache(10000);
+    private static final Logger LOGGER = LoggerFactory.getLogger(AchillesTestResource.class);
     private static final Logger DML_LOG = LoggerFactory.getLogger(AchillesLoggers.ACHILLES_DML_STATEMENT);
     private static final Map<String, PreparedStatement> TABLES_TO_TRUNCATE = new ConcurrentHashMap<>();
+    private static final Map<String, PreparedStatement> PARTITION_DELETES = new ConcurrentHashMap<>();
+    static final int MAX_PARTITIONS_TO_DELETE_PER_TABLE = 1000;
+    static final int MAX_CONCURRENT_CLEAN_UP_REQUESTS = 256;
 
     private final TypedMap cassandraParams;
     private final Optional<String> keyspaceName;
+    private final List<String> tablesToCleanUp;
     private final List<PreparedStatement> truncateStatements;
     private final CassandraEmbeddedServer server;
     private final T managerFactory;
     private final Session session;
     private final ScriptExecutor scriptExecutor;
     private final Steps steps;
+    private final CleanUpStrategy cleanUpStrategy;
+    private final Optional<WrittenPartitionsRecorder> writtenPartitionsRecorder;
+    private volatile Optional<CleanUpStats> lastCleanUpStats = Optional.empty();
 
     public AchillesTestResource(BiFunction<Cluster, StatementsCache, T> managerFactoryBuilder, TypedMap cassandraParams,
                                 Optional<String> keyspaceName, List<String> tablesToTruncate, List<Class<?>> entityClassesToTruncate) {
@@ -112,14 +127,25 @@ public class AchillesTestResource<T extends AbstractManagerFactory> extends Exte
 
     public AchillesTestResource(BiFunction<Cluster, StatementsCache, T> managerFactoryBuilder, TypedMap cassandraParams,
                                 Optional<String> keyspaceName, Steps cleanUpSteps, List<String> tablesToTruncate, List<Class<?>> entityClassesToTruncate) {
+        this(managerFactoryBuilder, cassandraParams, keyspaceName, cleanUpSteps, TRUNCATE, tablesToTruncate, entityClassesToTruncate);
+    }
+
+    public AchillesTestResource(BiFunction<Cluster, StatementsCache, T> managerFactoryBuilder, TypedMap cassandraParams,
+                                Optional<String> keyspaceName, Steps cleanUpSteps, CleanUpStrategy cleanUpStrategy,
+                                List<String> tablesToTruncate, List<Class<?>> entityClassesToTruncate) {
         this.cassandraParams = cassandraParams;
         this.keyspaceName = keyspaceName;
         this.steps = cleanUpSteps;
+        this.cleanUpStrategy = cleanUpStrategy;
         this.server = buildServer();
+        this.writtenPartitionsRecorder = cleanUpStrategy == CleanUpStrategy.DELETE_WRITTEN_PARTITIONS
+                ? Optional.of(new WrittenPartitionsRecorder(this.server.getNativeCluster()))
+                : Optional.empty();
         this.session = buildSession(this.server);
         this.scriptExecutor = new ScriptExecutor(this.session);
         this.managerFactory = buildManagerFactory(this.server, managerFactoryBuilder);
-        this.truncateStatements = determineTableToTruncate(this.managerFactory, this.session, tablesToTruncate, entityClassesToTruncate);
+        this.tablesToCleanUp = determineTablesToCleanUp(this.managerFactory, tablesToTruncate, entityClassesToTruncate);
+        this.truncateStatements = determineTableToTruncate(this.session, this.tablesToCleanUp);
     }
 
     public Session getNativeSession() {
@@ -134,6 +160,13 @@ public class AchillesTestResource<T extends AbstractManagerFactory> extends Exte
         return this.managerFactory;
     }
 
+    /**
+     * @return statistics of the last clean up of the tables, if any
+     */
+    public Optional<CleanUpStats> getLastCleanUpStats() {
+        return lastCleanUpStats;
+    }
+
     private CassandraEmbeddedServer buildServer() {
         return CassandraEmbeddedServerBuilder
                 .builder()
@@ -142,7 +175,10 @@ public class AchillesTestResource<T extends AbstractManagerFactory> extends Exte
     }
 
     private T buildManagerFactory(CassandraEmbeddedServer server, BiFunction<Cluster, StatementsCache, T> managerFactoryBuilder) {
-        return managerFactoryBuilder.apply(server.getNativeCluster(), STATEMENTS_CACHE);
+        final Cluster cluster = writtenPartitionsRecorder
+                .map(recorder -> recorder.wrap(server.getNativeCluster()))
+                .orElseGet(server::getNativeCluster);
+        return managerFactoryBuilder.apply(cluster, STATEMENTS_CACHE);
     }
 
     private Session buildSession(CassandraEmbeddedServer server) {
@@ -155,27 +191,30 @@ public class AchillesTestResource<T extends AbstractManagerFactory> extends Exte
 
         server.registerSessionForShutdown(session);
 
-        return session;
+        return writtenPartitionsRecorder
+                .map(recorder -> recorder.wrap(session))
+                .orElse(session);
     }
 
-    private List<PreparedStatement> determineTableToTruncate(T managerFactory, Session session, List<String> tablesToTruncate, List<Class<?>> entityClassesToTruncate) {
+    private List<String> determineTablesToCleanUp(T managerFactory, List<String> tablesToTruncate, List<Class<?>> entityClassesToTruncate) {
 
         entityClassesToTruncate
                 .forEach(clazz -> validateTrue(managerFactory.staticTableNameFor(clazz).isPresent(),
                         "Entity class '%s' is not managed by Achilles. Did you forget to add @Table annotation ?", clazz.getCanonicalName()));
 
-        maybeGenerateTruncateStatement(session, entityClassesToTruncate
-                .stream()
-                .map(clazz -> managerFactory.staticTableNameFor(clazz).get().toLowerCase())
-                .collect(toList()));
+        return Stream.concat(tablesToTruncate.stream(),
+                entityClassesToTruncate.stream().map(clazz -> managerFactory.staticTableNameFor(clazz).get().toLowerCase()))
+                .collect(toList());
+    }
+
+    private List<PreparedStatement> determineTableToTruncate(Session session, List<String> tablesToTruncate) {
 
         maybeGenerateTruncateStatement(session, tablesToTruncate);
 
-        return
-                Stream.concat(tablesToTruncate.stream(),
-                        entityClassesToTruncate.stream().map(clazz -> managerFactory.staticTableNameFor(clazz).get().toLowerCase()))
-                        .map(TABLES_TO_TRUNCATE::get)
-                        .collect(toList());
+        return tablesToTruncate
+                .stream()
+                .map(TABLES_TO_TRUNCATE::get)
+                .collect(toList());
     }
 
     private void maybeGenerateTruncateStatement(Session session, List<String> tablesToTruncate) {
@@ -188,12 +227,63 @@ public class AchillesTestResource<T extends AbstractManagerFactory> extends Exte
 
     protected void before() throws Throwable {
         if (steps.isBefore())
-            truncateTables();
+            cleanUpTables();
     }
 
     protected void after() {
         if (steps.isAfter())
-            truncateTables();
+            cleanUpTables();
+    }
+
+    /**
+     * Clean up the tables using the configured {@link CleanUpStrategy}
+     *
+     * @return statistics of this clean up
+     */
+    public CleanUpStats cleanUpTables() {
+        final long start = System.nanoTime();
+        int truncatedTables = 0;
+        int deletedPartitions = 0;
+        switch (cleanUpStrategy) {
+            case TRUNCATE:
+                truncateTables();
+                truncatedTables = truncateStatements.size();
+                break;
+            case CONCURRENT_TRUNCATE:
+                executeConcurrently(truncateStatements
+                        .stream()
+                        .map(this::logAndBind)
+                        .collect(toList()));
+                truncatedTables = truncateStatements.size();
+                break;
+            case DELETE_WRITTEN_PARTITIONS:
+                final List<Statement> statements = new ArrayList<>();
+                for (int i = 0; i < tablesToCleanUp.size(); i++) {
+                    final Optional<Set<List<ByteBuffer>>> partitions = writtenPartitionsRecorder.get().drain(qualifiedTableName(tablesToCleanUp.get(i)));
+                    if (partitions.isPresent() && partitions.get().size() <= MAX_PARTITIONS_TO_DELETE_PER_TABLE && !hasCounterColumn(tablesToCleanUp.get(i))) {
+                        final PreparedStatement deleteStatement = getPartitionDeleteStatement(tablesToCleanUp.get(i));
+                        for (List<ByteBuffer> partitionKey : partitions.get()) {
+                            final BoundStatement boundStatement = logAndBind(deleteStatement);
+                            for (int j = 0; j < partitionKey.size(); j++) {
+                                boundStatement.setBytesUnsafe(j, partitionKey.get(j));
+                            }
+                            statements.add(boundStatement);
+                        }
+                        deletedPartitions += partitions.get().size();
+                    } else {
+                        statements.add(logAndBind(truncateStatements.get(i)));
+                        truncatedTables++;
+                    }
+                }
+                executeConcurrently(statements);
+                break;
+        }
+        final CleanUpStats stats = new CleanUpStats(cleanUpStrategy, truncatedTables, deletedPartitions, System.nanoTime() - start);
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Tables clean up : %s", stats));
+        }
+        lastCleanUpStats = Optional.of(stats);
+        return stats;
     }
 
     public void truncateTables() {
@@ -206,6 +296,92 @@ public class AchillesTestResource<T extends AbstractManagerFactory> extends Exte
                 });
     }
 
+    private BoundStatement logAndBind(PreparedStatement statement) {
+        if (DML_LOG.isDebugEnabled()) {
+            DML_LOG.debug(statement.getQueryString());
+        }
+        return statement.bind();
+    }
+
+    private void executeConcurrently(List<? extends Statement> statements) {
+        try {
+            for (int i = 0; i < statements.size(); i += MAX_CONCURRENT_CLEAN_UP_REQUESTS) {
+                Futures.allAsList(statements
+                        .subList(i, Math.min(i + MAX_CONCURRENT_CLEAN_UP_REQUESTS, statements.size()))
+                        .stream()
+                        .map(session::executeAsync)
+                        .collect(toList()))
+                        .get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AchillesException("Interrupted while cleaning up tables", e);
+        } catch (ExecutionException e) {
+            throw new AchillesException("Cannot clean up tables", e.getCause());
+        }
+    }
+
+    private String qualifiedTableName(String tableName) {
+        if (tableName.contains(".")) {
+            return tableName.toLowerCase();
+        }
+        validateTrue(session.getLoggedKeyspace() != null,
+                "Cannot determine the keyspace of table '%s' to clean it up, please qualify it with its keyspace", tableName);
+        return (session.getLoggedKeyspace() + "." + tableName).toLowerCase();
+    }
+
+    private TableMetadata getTableMetadata(String tableName) {
+        final String[] keyspaceAndTable = qualifiedTableName(tableName).split("\\.");
+        final KeyspaceMetadata keyspaceMetadata = session.getCluster().getMetadata().getKeyspace(keyspaceAndTable[0]);
+        final TableMetadata tableMetadata = keyspaceMetadata == null ? null : keyspaceMetadata.getTable(keyspaceAndTable[1]);
+        validateTrue(tableMetadata != null, "Cannot find the metadata of table '%s' to clean up", tableName);
+        return tableMetadata;
+    }
+
+    private boolean hasCounterColumn(String tableName) {
+        return getTableMetadata(tableName)
+                .getColumns()
+                .stream()
+                .anyMatch(column -> column.getType().equals(DataType.counter()));
+    }
+
+    private PreparedStatement getPartitionDeleteStatement(String tableName) {
+        final PreparedStatement deleteStatement = PARTITION_DELETES.computeIfAbsent(qualifiedTableName(tableName), qualifiedTableName -> {
+            final String whereClause = getTableMetadata(tableName)
+                    .getPartitionKey()
+                    .stream()
+                    .map(column -> Metadata.quote(column.getName()) + "=?")
+                    .collect(joining(" AND "));
+            return session.prepare("DELETE FROM " + qualifiedTableName + " WHERE " + whereClause);
+        });
+        // The statement may have been prepared by another resource, each recorder must ignore it
+        writtenPartitionsRecorder.ifPresent(recorder -> recorder.ignore(deleteStatement));
+        return deleteStatement;
+    }
+
+    /**
+     * Strategy to clean up the test data
+     */
+    public enum CleanUpStrategy {
+        /**
+         * Truncate the tables one by one. Each TRUNCATE forces a flush and a snapshot on Cassandra side
+         */
+        TRUNCATE,
+        /**
+         * Truncate all the tables concurrently
+         */
+        CONCURRENT_TRUNCATE,
+        /**
+         * Delete concurrently only the partitions written with prepared statements since the last clean up, through
+         * the <strong>ManagerFactory</strong> or the native session of this resource. Writes are recorded when
+         * they are submitted so asynchronous writes still in flight at the end of a test are cleaned up as well.
+         * A table is truncated instead on its first clean up, if it has been written with plain CQL statements
+         * (scripts), if it has counter columns or if too many partitions have been written. Deletes use the current
+         * time so writes using a timestamp in the future are not removed
+         */
+        DELETE_WRITTEN_PARTITIONS
+    }
+
     public enum Steps {
         BEFORE_TEST, AFTER_TEST, BOTH;
 
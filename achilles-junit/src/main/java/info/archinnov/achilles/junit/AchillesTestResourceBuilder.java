@@ -28,6 +28,7 @@ import com.datastax.driver.core.Cluster;
 
 import info.archinnov.achilles.internals.cache.StatementsCache;
 import info.archinnov.achilles.internals.runtime.AbstractManagerFactory;
+import info.archinnov.achilles.junit.AchillesTestResource.CleanUpStrategy;
 import info.archinnov.achilles.junit.AchillesTestResource.Steps;
 import info.archinnov.achilles.type.TypedMap;
 import info.archinnov.achilles.validation.Validator;
@@ -58,6 +59,7 @@ import info.archinnov.achilles.validation.Validator;
 public class AchillesTestResourceBuilder {
 
     private Steps cleanupSteps = Steps.BOTH;
+    private CleanUpStrategy cleanUpStrategy = CleanUpStrategy.TRUNCATE;
     private List<Class<?>> entityClassesToCleanUp = new ArrayList<>();
     private Optional<String> keyspace = Optional.empty();
     private TypedMap cassandraParams = new TypedMap();
@@ -206,6 +208,40 @@ public class AchillesTestResourceBuilder {
         return this;
     }
 
+    /**
+     * Strategy used to clean up the tables before and/or after each test. Default = <strong>TRUNCATE</strong>
+     * <br/>
+     * <ul>
+     * <li><strong>TRUNCATE</strong>: truncate the tables one by one</li>
+     * <li><strong>CONCURRENT_TRUNCATE</strong>: truncate all the tables concurrently</li>
+     * <li><strong>DELETE_WRITTEN_PARTITIONS</strong>: delete concurrently only the partitions written through
+     * the ManagerFactory since the last clean up, falling back to TRUNCATE for tables written by CQL scripts</li>
+     * </ul>
+     * The duration of the last clean up is available with {@link AchillesTestResource#getLastCleanUpStats()}
+     *
+     * @param cleanUpStrategy clean up strategy
+     * @return AchillesTestResourceBuilder
+     */
+    public AchillesTestResourceBuilder withCleanUpStrategy(CleanUpStrategy cleanUpStrategy) {
+        Validator.validateNotNull(cleanUpStrategy, "The clean up strategy should not be null");
+        this.cleanUpStrategy = cleanUpStrategy;
+        return this;
+    }
+
+    /**
+     * Execute the scripts and script templates as SSTable fixtures: the data inserted by the scripts is captured
+     * as SSTables the first time and loaded directly into the embedded Cassandra server on next executions,
+     * only the schema statements are executed again.
+     * <br/>
+     * See {@link info.archinnov.achilles.embedded.CassandraEmbeddedServerBuilder#useSSTableFixtures(boolean)}
+     *
+     * @return AchillesTestResourceBuilder
+     */
+    public AchillesTestResourceBuilder withSSTableFixtures() {
+        this.cassandraParams.put(SSTABLE_FIXTURES, true);
+        return this;
+    }
+
     /**
      * Provide a lambda function to build the ManagerFactory instance with the given Cluster object
      *
@@ -214,7 +250,7 @@ public class AchillesTestResourceBuilder {
      */
     public <T extends AbstractManagerFactory> AchillesTestResource<T> build(BiFunction<Cluster, StatementsCache, T> managerFactoryBuilder) {
         final TypedMap cassandraParams = buildCassandraParams();
-        return new AchillesTestResource<>(managerFactoryBuilder, cassandraParams, keyspace, cleanupSteps, tablesToTruncate, entityClassesToCleanUp);
+        return new AchillesTestResource<>(managerFactoryBuilder, cassandraParams, keyspace, cleanupSteps, cleanUpStrategy, tablesToTruncate, entityClassesToCleanUp);
     }
 
     /**
@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.junit;
+
+import static java.lang.String.format;
+
+import java.util.concurrent.TimeUnit;
+
+import info.archinnov.achilles.junit.AchillesTestResource.CleanUpStrategy;
+
+/**
+ * Immutable snapshot of a test data clean up: strategy used, number of truncated tables,
+ * number of deleted partitions and duration
+ */
+public class CleanUpStats {
+
+    private final CleanUpStrategy strategy;
+    private final int truncatedTables;
+    private final int deletedPartitions;
+    private final long durationInNanos;
+
+    public CleanUpStats(CleanUpStrategy strategy, int truncatedTables, int deletedPartitions, long durationInNanos) {
+        this.strategy = strategy;
+        this.truncatedTables = truncatedTables;
+        this.deletedPartitions = deletedPartitions;
+        this.durationInNanos = durationInNanos;
+    }
+
+    public CleanUpStrategy getStrategy() {
+        return strategy;
+    }
+
+    public int getTruncatedTables() {
+        return truncatedTables;
+    }
+
+    /**
+     * @return number of partitions deleted with the <strong>DELETE_WRITTEN_PARTITIONS</strong> strategy
+     */
+    public int getDeletedPartitions() {
+        return deletedPartitions;
+    }
+
+    public long getDurationInNanos() {
+        return durationInNanos;
+    }
+
+    public long getDurationInMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(durationInNanos);
+    }
+
+    @Override
+    public String toString() {
+        return format("CleanUpStats{strategy=%s, truncatedTables=%s, deletedPartitions=%s, durationInMillis=%s}",
+                strategy, truncatedTables, deletedPartitions, getDurationInMillis());
+    }
+}
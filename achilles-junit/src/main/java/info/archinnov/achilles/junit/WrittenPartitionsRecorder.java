@@ -0,0 +1,299 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.junit;
+
+import static java.lang.String.format;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.*;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+
+/**
+ * Record the partitions written through the {@link com.datastax.driver.core.Cluster} and
+ * {@link com.datastax.driver.core.Session} instances wrapped by this recorder, so that only these partitions
+ * need to be deleted between two tests.
+ * <br/>
+ * Writes done with prepared statements binding the whole partition key are recorded per partition. Any other
+ * write (plain CQL script, partition key not bound, unknown table ...) marks the written table, or all tables when
+ * the table cannot be determined, as dirty. A table which is dirty or has never been cleaned up since the recorder
+ * has been created should be truncated.
+ * <br/>
+ * Statements are recorded when they are submitted to the wrapped session, before their future completes,
+ * so that a write still in flight at the end of a test is deleted by the next clean up
+ */
+class WrittenPartitionsRecorder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WrittenPartitionsRecorder.class);
+    private static final Pattern WRITTEN_TABLE = Pattern.compile("\\b(?:INSERT\\s+INTO|UPDATE|DELETE\\b.*?\\bFROM)\\s+(\"?\\w+\"?(?:\\.\"?\\w+\"?)?)",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    private static final String[] WRITE_PREFIXES = new String[]{"INSERT", "UPDATE", "DELETE", "BEGIN"};
+
+    private final Cluster cluster;
+    private final ConcurrentMap<String, Set<List<ByteBuffer>>> writtenPartitions = new ConcurrentHashMap<>();
+    private final Set<String> cleanTables = ConcurrentHashMap.newKeySet();
+    private final Set<PreparedStatement> ignoredStatements = ConcurrentHashMap.newKeySet();
+
+    WrittenPartitionsRecorder(Cluster cluster) {
+        this.cluster = cluster;
+    }
+
+    /**
+     * @return a cluster whose sessions record the statements they execute
+     */
+    Cluster wrap(Cluster delegate) {
+        return new RecordingCluster(delegate);
+    }
+
+    /**
+     * @return a session recording the statements it executes
+     */
+    Session wrap(Session delegate) {
+        return new RecordingSession(delegate, delegate.getCluster());
+    }
+
+    /**
+     * Do not record the writes done with this statement, used for the clean up deletes
+     */
+    void ignore(PreparedStatement preparedStatement) {
+        ignoredStatements.add(preparedStatement);
+    }
+
+    /**
+     * Take the partitions written into the table since the last call and mark the table as clean
+     *
+     * @param qualifiedTableName lower-cased <em>keyspace.table</em> name
+     * @return the written partition keys, or empty if the table should be truncated
+     */
+    Optional<Set<List<ByteBuffer>>> drain(String qualifiedTableName) {
+        final Set<List<ByteBuffer>> partitions = writtenPartitions.remove(qualifiedTableName);
+        final boolean wasClean = !cleanTables.add(qualifiedTableName);
+        if (!wasClean) {
+            return Optional.empty();
+        }
+        return Optional.of(partitions == null ? Collections.emptySet() : partitions);
+    }
+
+    void record(Statement statement) {
+        if (statement instanceof BatchStatement) {
+            ((BatchStatement) statement).getStatements().forEach(this::record);
+        } else if (statement instanceof BoundStatement) {
+            recordBoundStatement((BoundStatement) statement);
+        } else if (statement instanceof RegularStatement) {
+            recordQuery(((RegularStatement) statement).getQueryString());
+        }
+    }
+
+    private void recordBoundStatement(BoundStatement boundStatement) {
+        if (ignoredStatements.contains(boundStatement.preparedStatement())) {
+            return;
+        }
+        final String queryString = boundStatement.preparedStatement().getQueryString();
+        if (!isWrite(queryString)) {
+            return;
+        }
+        final ColumnDefinitions variables = boundStatement.preparedStatement().getVariables();
+        if (variables.size() == 0) {
+            recordQuery(queryString);
+            return;
+        }
+        final String keyspace = variables.getKeyspace(0);
+        final String table = variables.getTable(0);
+        final String qualifiedTableName = (keyspace + "." + table).toLowerCase();
+        final KeyspaceMetadata keyspaceMetadata = cluster.getMetadata().getKeyspace(Metadata.quote(keyspace));
+        final TableMetadata tableMetadata = keyspaceMetadata == null ? null : keyspaceMetadata.getTable(Metadata.quote(table));
+        if (tableMetadata == null) {
+            markDirty(qualifiedTableName);
+            return;
+        }
+
+        final List<ColumnMetadata> partitionKeyColumns = tableMetadata.getPartitionKey();
+        final List<ByteBuffer> partitionKey = new ArrayList<>(partitionKeyColumns.size());
+        for (ColumnMetadata column : partitionKeyColumns) {
+            final int index = variables.getIndexOf(Metadata.quote(column.getName()));
+            if (index < 0 || !boundStatement.isSet(index) || !variables.getType(index).equals(column.getType())) {
+                markDirty(qualifiedTableName);
+                return;
+            }
+            final ByteBuffer value = boundStatement.getBytesUnsafe(index);
+            if (value == null) {
+                markDirty(qualifiedTableName);
+                return;
+            }
+            partitionKey.add(value);
+        }
+        writtenPartitions
+                .computeIfAbsent(qualifiedTableName, x -> ConcurrentHashMap.newKeySet())
+                .add(partitionKey);
+    }
+
+    private void recordQuery(String queryString) {
+        if (!isWrite(queryString)) {
+            return;
+        }
+        final Matcher matcher = WRITTEN_TABLE.matcher(queryString);
+        boolean found = false;
+        while (matcher.find()) {
+            found = true;
+            final String tableName = matcher.group(1).replaceAll("\"", "").toLowerCase();
+            if (tableName.contains(".")) {
+                markDirty(tableName);
+            } else {
+                cleanTables.removeIf(x -> x.endsWith("." + tableName));
+            }
+        }
+        if (!found) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(format("Cannot determine the table written by '%s', marking all tables as dirty", queryString));
+            }
+            cleanTables.clear();
+        }
+    }
+
+    private void markDirty(String qualifiedTableName) {
+        cleanTables.remove(qualifiedTableName);
+    }
+
+    private static boolean isWrite(String queryString) {
+        final String trimmed = queryString.trim();
+        for (String prefix : WRITE_PREFIXES) {
+            if (trimmed.regionMatches(true, 0, prefix, 0, prefix.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private class RecordingCluster extends DelegatingCluster {
+
+        private final Cluster delegate;
+
+        RecordingCluster(Cluster delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        protected Cluster delegate() {
+            return delegate;
+        }
+
+        @Override
+        public Session newSession() {
+            return new RecordingSession(delegate.newSession(), this);
+        }
+
+        @Override
+        public Session connect() {
+            return new RecordingSession(delegate.connect(), this);
+        }
+
+        @Override
+        public Session connect(String keyspace) {
+            return new RecordingSession(delegate.connect(keyspace), this);
+        }
+
+        @Override
+        public ListenableFuture<Session> connectAsync() {
+            return Futures.transform(delegate.connectAsync(), (Session session) -> new RecordingSession(session, this));
+        }
+
+        @Override
+        public ListenableFuture<Session> connectAsync(String keyspace) {
+            return Futures.transform(delegate.connectAsync(keyspace), (Session session) -> new RecordingSession(session, this));
+        }
+    }
+
+    private class RecordingSession extends AbstractSession {
+
+        private final Session delegate;
+        private final Cluster cluster;
+
+        RecordingSession(Session delegate, Cluster cluster) {
+            this.delegate = delegate;
+            this.cluster = cluster;
+        }
+
+        @Override
+        public ResultSetFuture executeAsync(Statement statement) {
+            // Failed writes may have been partially applied, record them before knowing the outcome
+            record(statement);
+            return delegate.executeAsync(statement);
+        }
+
+        @Override
+        public ListenableFuture<PreparedStatement> prepareAsync(String query) {
+            return delegate.prepareAsync(query);
+        }
+
+        @Override
+        public ListenableFuture<PreparedStatement> prepareAsync(RegularStatement statement) {
+            return delegate.prepareAsync(statement);
+        }
+
+        @Override
+        protected ListenableFuture<PreparedStatement> prepareAsync(String query, Map<String, ByteBuffer> customPayload) {
+            final RegularStatement statement = new SimpleStatement(query);
+            statement.setOutgoingPayload(customPayload);
+            return delegate.prepareAsync(statement);
+        }
+
+        @Override
+        public String getLoggedKeyspace() {
+            return delegate.getLoggedKeyspace();
+        }
+
+        @Override
+        public Session init() {
+            delegate.init();
+            return this;
+        }
+
+        @Override
+        public ListenableFuture<Session> initAsync() {
+            return Futures.transform(delegate.initAsync(), (Session session) -> (Session) this);
+        }
+
+        @Override
+        public CloseFuture closeAsync() {
+            return delegate.closeAsync();
+        }
+
+        @Override
+        public boolean isClosed() {
+            return delegate.isClosed();
+        }
+
+        @Override
+        public Cluster getCluster() {
+            return cluster;
+        }
+
+        @Override
+        public State getState() {
+            return delegate.getState();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.exception;
+
+import info.archinnov.achilles.type.scan.ScanCheckpoint;
+
+public class AchillesScanException extends AchillesException {
+    private static final long serialVersionUID = 1L;
+
+    private final transient ScanCheckpoint checkpoint;
+
+    public AchillesScanException(String message, ScanCheckpoint checkpoint, Throwable cause) {
+        super(message, cause);
+        this.checkpoint = checkpoint;
+    }
+
+    /**
+     * @return the checkpoint of the failed scan, to resume it
+     */
+    public ScanCheckpoint getCheckpoint() {
+        return checkpoint;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type.batch;
+
+import static java.lang.String.format;
+
+import java.util.Collections;
+import java.util.List;
+
+import com.datastax.driver.core.ExecutionInfo;
+
+import info.archinnov.achilles.type.tuples.Tuple2;
+
+/**
+ * Outcome of a batch insert of entities.
+ * <br/>
+ * Entities are grouped by partition so a failure only affects the entities
+ * sharing the failed group. Each failed entity is reported along with the
+ * cause of its failure
+ *
+ * <pre class="code"><code class="java">
+ * BatchInsertResult&lt;User&gt; result = manager.crud().insertAll(users).execute();
+ *
+ * result.failedEntities()
+ *   .forEach(failure -&gt; LOGGER.error("Cannot insert " + failure._1(), failure._2()));
+ * </code></pre>
+ */
+public class BatchInsertResult<ENTITY> {
+
+    private final int insertedCount;
+    private final List<Tuple2<ENTITY, Throwable>> failedEntities;
+    private final List<ExecutionInfo> executionInfos;
+
+    public BatchInsertResult(int insertedCount, List<Tuple2<ENTITY, Throwable>> failedEntities, List<ExecutionInfo> executionInfos) {
+        this.insertedCount = insertedCount;
+        this.failedEntities = Collections.unmodifiableList(failedEntities);
+        this.executionInfos = Collections.unmodifiableList(executionInfos);
+    }
+
+    /**
+     * @return number of entities successfully inserted
+     */
+    public int insertedCount() {
+        return insertedCount;
+    }
+
+    /**
+     * @return true if at least one entity could not be inserted
+     */
+    public boolean hasFailures() {
+        return !failedEntities.isEmpty();
+    }
+
+    /**
+     * @return list of entities that could not be inserted, along with the failure cause
+     */
+    public List<Tuple2<ENTITY, Throwable>> failedEntities() {
+        return failedEntities;
+    }
+
+    /**
+     * @return the {@link com.datastax.driver.core.ExecutionInfo} of each successful statement sent to Cassandra
+     */
+    public List<ExecutionInfo> executionInfos() {
+        return executionInfos;
+    }
+
+    @Override
+    public String toString() {
+        return format("BatchInsertResult{insertedCount=%s, failedCount=%s, statementsCount=%s}",
+                insertedCount, failedEntities.size(), executionInfos.size());
+    }
+}
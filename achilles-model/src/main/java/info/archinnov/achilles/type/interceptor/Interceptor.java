@@ -77,4 +77,18 @@ public interface Interceptor<T> {
 
     List<Event> interceptOnEvents();
 
+    /**
+     * Called once for a list of entities handled together, like a page of SELECT results
+     * or a group of entities inserted in the same batch. Override this method to process the
+     * entities in bulk, the default implementation calls <em>onEvent(T entity, Event event)</em> for each entity
+     * <br>
+     * <br>
+     * The list of events to be intercepted is only read once, when the interceptor is registered
+     */
+    default void onEvents(List<T> entities, Event event) {
+        for (T entity : entities) {
+            onEvent(entity, event);
+        }
+    }
+
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type.page;
+
+import static java.lang.String.format;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import com.datastax.driver.core.ExecutionInfo;
+import com.datastax.driver.core.PagingState;
+
+/**
+ * A single page of entities, along with the opaque cursor to fetch the next page.
+ * <br/>
+ * The cursor is absent when the last page has been reached
+ *
+ * <pre class="code"><code class="java">
+ * Page&lt;User&gt; page = manager.dsl().select().allColumns_FromBaseTable()
+ *   .where().id().Eq(id)
+ *   .getPage(20, Optional.empty());
+ *
+ * // Next request
+ * Page&lt;User&gt; nextPage = manager.dsl().select().allColumns_FromBaseTable()
+ *   .where().id().Eq(id)
+ *   .getPage(20, page.nextPagingState());
+ * </code></pre>
+ */
+public class Page<ENTITY> {
+
+    private final List<ENTITY> entities;
+    private final Optional<PagingState> nextPagingState;
+    private final ExecutionInfo executionInfo;
+
+    public Page(List<ENTITY> entities, Optional<PagingState> nextPagingState, ExecutionInfo executionInfo) {
+        this.entities = Collections.unmodifiableList(entities);
+        this.nextPagingState = nextPagingState;
+        this.executionInfo = executionInfo;
+    }
+
+    /**
+     * @return entities of this page
+     */
+    public List<ENTITY> entities() {
+        return entities;
+    }
+
+    /**
+     * @return paging state to fetch the next page or Optional.empty() if this page is the last one
+     */
+    public Optional<PagingState> nextPagingState() {
+        return nextPagingState;
+    }
+
+    /**
+     * @return paging state to fetch the next page as a String, safe to be exposed to clients
+     */
+    public Optional<String> nextPagingStateString() {
+        return nextPagingState.map(PagingState::toString);
+    }
+
+    /**
+     * @return true if there are more pages to fetch
+     */
+    public boolean hasNextPage() {
+        return nextPagingState.isPresent();
+    }
+
+    /**
+     * @return the {@link com.datastax.driver.core.ExecutionInfo} of the query
+     */
+    public ExecutionInfo executionInfo() {
+        return executionInfo;
+    }
+
+    @Override
+    public String toString() {
+        return format("Page{size=%s, hasNextPage=%s}", entities.size(), hasNextPage());
+    }
+}
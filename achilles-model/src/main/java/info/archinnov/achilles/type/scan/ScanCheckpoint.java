@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type.scan;
+
+import static java.lang.String.format;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.datastax.driver.core.TokenRange;
+
+/**
+ * Immutable progress of a full table scan by token ranges.
+ * <br/>
+ * The checkpoint records which token ranges have been completely scanned. Pass it back
+ * to <strong>scanAll()</strong> to resume a scan after a failure: the completed ranges are skipped.
+ * Use {@link #serialize()} and {@link #deserialize(String)} to persist it between two runs
+ *
+ * <pre class="code"><code class="java">
+ * try {
+ *   manager.dsl().select().allColumns_FromBaseTable().without_WHERE_Clause()
+ *     .scanAll(8, ScanCheckpoint.empty(), user -&gt; process(user), checkpoint -&gt; save(checkpoint.serialize()));
+ * } catch (AchillesScanException ex) {
+ *   // Later, resume from the last saved checkpoint
+ *   manager.dsl().select().allColumns_FromBaseTable().without_WHERE_Clause()
+ *     .scanAll(8, ScanCheckpoint.deserialize(load()), user -&gt; process(user), checkpoint -&gt; save(checkpoint.serialize()));
+ * }
+ * </code></pre>
+ *
+ * Resuming after a cluster topology change may scan again some rows but never skips any
+ */
+public class ScanCheckpoint {
+
+    private static final String RANGES_SEPARATOR = ";";
+    private static final ScanCheckpoint EMPTY = new ScanCheckpoint(Collections.emptySet(), 0, 0L);
+
+    private final Set<String> completedRanges;
+    private final int totalRangesCount;
+    private final long scannedRowsCount;
+
+    public ScanCheckpoint(Set<String> completedRanges, int totalRangesCount, long scannedRowsCount) {
+        this.completedRanges = Collections.unmodifiableSet(completedRanges);
+        this.totalRangesCount = totalRangesCount;
+        this.scannedRowsCount = scannedRowsCount;
+    }
+
+    /**
+     * @return checkpoint of a scan starting from scratch
+     */
+    public static ScanCheckpoint empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @return the key identifying the given token range in a checkpoint
+     */
+    public static String rangeKey(TokenRange tokenRange) {
+        return tokenRange.getStart() + "," + tokenRange.getEnd();
+    }
+
+    /**
+     * @return true if the given token range has been completely scanned
+     */
+    public boolean isCompleted(TokenRange tokenRange) {
+        return completedRanges.contains(rangeKey(tokenRange));
+    }
+
+    /**
+     * @return keys of the completely scanned token ranges
+     */
+    public Set<String> getCompletedRanges() {
+        return completedRanges;
+    }
+
+    /**
+     * @return number of completely scanned token ranges, including the ones completed by previous runs
+     */
+    public int getCompletedRangesCount() {
+        return completedRanges.size();
+    }
+
+    /**
+     * @return total number of token ranges to scan or 0 if the checkpoint has been deserialized and not used yet
+     */
+    public int getTotalRangesCount() {
+        return totalRangesCount;
+    }
+
+    /**
+     * @return number of rows scanned during the current run
+     */
+    public long getScannedRowsCount() {
+        return scannedRowsCount;
+    }
+
+    /**
+     * @return true if all the token ranges have been scanned
+     */
+    public boolean isFinished() {
+        return totalRangesCount > 0 && completedRanges.size() >= totalRangesCount;
+    }
+
+    /**
+     * @return the completed token ranges as a String, to be restored with {@link #deserialize(String)}
+     */
+    public String serialize() {
+        return String.join(RANGES_SEPARATOR, completedRanges);
+    }
+
+    /**
+     * Restore a checkpoint previously serialized with {@link #serialize()}
+     */
+    public static ScanCheckpoint deserialize(String serializedCheckpoint) {
+        if (serializedCheckpoint == null || serializedCheckpoint.isEmpty()) {
+            return EMPTY;
+        }
+        return new ScanCheckpoint(new HashSet<>(Arrays.asList(serializedCheckpoint.split(RANGES_SEPARATOR))), 0, 0L);
+    }
+
+    @Override
+    public String toString() {
+        return format("ScanCheckpoint{completedRanges=%s, totalRanges=%s, scannedRows=%s}",
+                completedRanges.size(), totalRangesCount, scannedRowsCount);
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type.strategy;
+
+/**
+
+ * Define what to do with a statement when the max number of in-flight requests is reached. Available values are :
+ * <ul>
+ * <li>{@code info.archinnov.achilles.type.strategy.InFlightOverflowStrategy.QUEUE}: keep the statement in a bounded queue
+ * and send it as soon as an in-flight request completes. If the queue is full, the statement is rejected</li>
+ * <li>{@code info.archinnov.achilles.type.strategy.InFlightOverflowStrategy.REJECT}: reject immediately the statement</li>
+ * </ul>
+ * <br/>
+ * Rejected statements complete exceptionally with an {@link info.archinnov.achilles.exception.AchillesInFlightLimitException}
+ * <br/>
+ * Default value = {@code info.archinnov.achilles.type.strategy.InFlightOverflowStrategy.QUEUE}
+ */
+public enum InFlightOverflowStrategy {
+    QUEUE, REJECT;
+}
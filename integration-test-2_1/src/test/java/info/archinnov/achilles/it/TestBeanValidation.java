@@ -41,6 +41,7 @@ import info.archinnov.achilles.generated.ManagerFactoryBuilder;
 import info.archinnov.achilles.generated.manager.EntityWithBeanValidation_Manager;
 import info.archinnov.achilles.internals.entities.EntityWithBeanValidation;
 import info.archinnov.achilles.internals.entities.TestUDT;
+import info.archinnov.achilles.internals.interceptor.BeanValidationStats;
 import info.archinnov.achilles.junit.AchillesTestResource;
 import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
 import info.archinnov.achilles.script.ScriptExecutor;
@@ -183,6 +184,31 @@ public class TestBeanValidation {
                 .containsEntry("0", "default");
     }
 
+    @Test
+    public void should_report_bean_validation_stats() throws Exception {
+        //Given
+        final Long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final TestUDT udt = new TestUDT("test@test.com", asList("1"), null);
+        final EntityWithBeanValidation entity = new EntityWithBeanValidation(id, "value", asList("1"), udt);
+        final long validatedBefore = resource.getManagerFactory()
+                .getBeanValidationStats(EntityWithBeanValidation.class)
+                .map(BeanValidationStats::getValidatedCount)
+                .orElse(0L);
+
+        //When
+        manager
+                .crud()
+                .insert(entity)
+                .execute();
+
+        //Then
+        final BeanValidationStats stats = resource.getManagerFactory()
+                .getBeanValidationStats(EntityWithBeanValidation.class)
+                .get();
+        assertThat(stats.getValidatedCount()).isEqualTo(validatedBefore + 1);
+        assertThat(stats.getTotalValidationTimeInNanos()).isGreaterThan(0L);
+    }
+
     @Test
     public void should_fail_on_post_load() throws Exception {
         //Given
@@ -25,8 +25,10 @@ import java.text.SimpleDateFormat;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.TimeZone;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.lang3.RandomUtils;
@@ -53,6 +55,7 @@ import info.archinnov.achilles.junit.AchillesTestResource;
 import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
 import info.archinnov.achilles.script.ScriptExecutor;
 import info.archinnov.achilles.type.SchemaNameProvider;
+import info.archinnov.achilles.type.batch.BatchInsertResult;
 import info.archinnov.achilles.type.lightweighttransaction.LWTResultListener;
 import info.archinnov.achilles.type.strategy.InsertStrategy;
 import info.archinnov.achilles.type.tuples.Tuple2;
@@ -121,6 +124,140 @@ public class TestCRUDSimpleEntity {
         assertThat(executionInfo.getQueriedHost().isUp()).isTrue();
     }
 
+    @Test
+    public void should_insert_all() throws Exception {
+        //Given
+        final long id1 = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final long id2 = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date1 = new Date(1000L);
+        final Date date2 = new Date(2000L);
+        final List<SimpleEntity> entities = Arrays.asList(
+                new SimpleEntity(id1, date1, "value1"),
+                new SimpleEntity(id1, date2, "value2"),
+                new SimpleEntity(id2, date1, "value3"));
+
+        //When
+        final BatchInsertResult<SimpleEntity> result = manager.crud().insertAll(entities).execute();
+
+        //Then
+        assertThat(result.insertedCount()).isEqualTo(3);
+        assertThat(result.hasFailures()).isFalse();
+        assertThat(result.executionInfos()).hasSize(2);
+
+        final List<Row> rows1 = session.execute("SELECT value FROM simple WHERE id = " + id1).all();
+        assertThat(rows1).hasSize(2);
+        assertThat(rows1.get(0).getString("value")).isEqualTo("value1");
+        assertThat(rows1.get(1).getString("value")).isEqualTo("value2");
+
+        final Row row2 = session.execute("SELECT value FROM simple WHERE id = " + id2).one();
+        assertThat(row2.getString("value")).isEqualTo("value3");
+    }
+
+    @Test
+    public void should_insert_all_splitting_partition_by_batch_size() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final List<SimpleEntity> entities = Arrays.asList(
+                new SimpleEntity(id, new Date(1000L), "value1"),
+                new SimpleEntity(id, new Date(2000L), "value2"),
+                new SimpleEntity(id, new Date(3000L), "value3"));
+
+        //When
+        final BatchInsertResult<SimpleEntity> result = manager
+                .crud()
+                .insertAll(entities)
+                .withMaxBatchSizeInBytes(1)
+                .withInsertStrategy(InsertStrategy.ALL_FIELDS)
+                .execute();
+
+        //Then
+        assertThat(result.insertedCount()).isEqualTo(3);
+        assertThat(result.executionInfos()).hasSize(3);
+        assertThat(session.execute("SELECT * FROM simple WHERE id = " + id).all()).hasSize(3);
+    }
+
+    @Test
+    public void should_insert_all_if_not_exists_one_by_one() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date1 = new Date(1000L);
+        final Date date2 = new Date(2000L);
+        manager.crud().insert(new SimpleEntity(id, date1, "existing")).execute();
+        final AtomicInteger lwtErrors = new AtomicInteger(0);
+
+        //When
+        final BatchInsertResult<SimpleEntity> result = manager
+                .crud()
+                .insertAll(Arrays.asList(new SimpleEntity(id, date1, "value1"), new SimpleEntity(id, date2, "value2")))
+                .ifNotExists()
+                .withLwtResultListener(new LWTResultListener() {
+                    @Override
+                    public void onError(LWTResult lwtResult) {
+                        lwtErrors.incrementAndGet();
+                    }
+                })
+                .execute();
+
+        //Then
+        assertThat(result.insertedCount()).isEqualTo(2);
+        assertThat(result.executionInfos()).hasSize(2);
+        assertThat(lwtErrors.get()).isEqualTo(1);
+        final List<Row> rows = session.execute("SELECT value FROM simple WHERE id = " + id).all();
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).getString("value")).isEqualTo("existing");
+        assertThat(rows.get(1).getString("value")).isEqualTo("value2");
+    }
+
+    @Test
+    public void should_find_by_ids() throws Exception {
+        //Given
+        final long id1 = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final long id2 = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date1 = new Date(1000L);
+        final Date date2 = new Date(2000L);
+        manager.crud().insertAll(Arrays.asList(
+                new SimpleEntity(id1, date1, "value1"),
+                new SimpleEntity(id2, date2, "value2"))).execute();
+
+        //When
+        final List<SimpleEntity> found = manager
+                .crud()
+                .findByIds(Arrays.asList(Tuple2.of(id2, date2), Tuple2.of(id1, date2), Tuple2.of(id1, date1)))
+                .withMaxConcurrency(2)
+                .get();
+
+        //Then
+        assertThat(found).hasSize(2);
+        assertThat(found.get(0).getValue()).isEqualTo("value2");
+        assertThat(found.get(1).getValue()).isEqualTo("value1");
+    }
+
+    @Test
+    public void should_find_by_ids_with_partition_coalescing_on_entity_with_collections() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date1 = new Date(1000L);
+        final Date date2 = new Date(2000L);
+        final Date date3 = new Date(3000L);
+        manager.crud().insertAll(Arrays.asList(
+                new SimpleEntity(id, date1, "value1"),
+                new SimpleEntity(id, date2, "value2"),
+                new SimpleEntity(id, date3, "value3"))).execute();
+
+        //When
+        final Map<Tuple2<Long, Date>, SimpleEntity> found = manager
+                .crud()
+                .findByIds(Arrays.asList(Tuple2.of(id, date3), Tuple2.of(id, date1), Tuple2.of(id, new Date(4000L))))
+                .withPartitionCoalescing(10)
+                .getAsMap();
+
+        //Then
+        assertThat(found).hasSize(2);
+        assertThat(found.keySet()).containsExactly(Tuple2.of(id, date3), Tuple2.of(id, date1));
+        assertThat(found.get(Tuple2.of(id, date3)).getValue()).isEqualTo("value3");
+        assertThat(found.get(Tuple2.of(id, date1)).getValue()).isEqualTo("value1");
+    }
+
     @Test
     public void should_insert_if_not_exists() throws Exception {
         //Given
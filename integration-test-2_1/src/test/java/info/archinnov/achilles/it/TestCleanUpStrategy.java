@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.it;
+
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.datastax.driver.core.ExecutionInfo;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+import com.google.common.collect.ImmutableMap;
+
+import info.archinnov.achilles.generated.ManagerFactory;
+import info.archinnov.achilles.generated.ManagerFactoryBuilder;
+import info.archinnov.achilles.generated.manager.SimpleEntity_Manager;
+import info.archinnov.achilles.internals.entities.SimpleEntity;
+import info.archinnov.achilles.junit.AchillesTestResource;
+import info.archinnov.achilles.junit.AchillesTestResource.CleanUpStrategy;
+import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
+import info.archinnov.achilles.junit.CleanUpStats;
+import info.archinnov.achilles.script.ScriptExecutor;
+
+public class TestCleanUpStrategy {
+
+    @Rule
+    public AchillesTestResource<ManagerFactory> resource = buildResource();
+
+    private Session session = resource.getNativeSession();
+    private ScriptExecutor scriptExecutor = resource.getScriptExecutor();
+    private SimpleEntity_Manager manager = resource.getManagerFactory().forSimpleEntity();
+
+    private static AchillesTestResource<ManagerFactory> buildResource() {
+        return AchillesTestResourceBuilder
+                .forJunit()
+                .entityClassesToTruncate(SimpleEntity.class)
+                .truncateBeforeAndAfterTest()
+                .withCleanUpStrategy(CleanUpStrategy.DELETE_WRITTEN_PARTITIONS)
+                .build((cluster, statementsCache) -> ManagerFactoryBuilder
+                        .builder(cluster)
+                        .withManagedEntityClasses(SimpleEntity.class)
+                        .doForceSchemaCreation(true)
+                        .withStatementsCache(statementsCache)
+                        .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                        .build());
+    }
+
+    @Test
+    public void should_delete_only_partitions_written_by_manager() throws Exception {
+        //Given
+        final long id1 = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final long id2 = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = new Date();
+        manager.crud().insert(new SimpleEntity(id1, date, "value1")).execute();
+        manager.crud().insert(new SimpleEntity(id2, date, "value2")).execute();
+        manager.crud().insert(new SimpleEntity(id2, new Date(date.getTime() + 1), "value3")).execute();
+        assertThat(session.execute("SELECT * FROM simple").all()).hasSize(3);
+
+        //When
+        final CleanUpStats stats = resource.cleanUpTables();
+
+        //Then
+        assertThat(stats.getStrategy()).isEqualTo(CleanUpStrategy.DELETE_WRITTEN_PARTITIONS);
+        assertThat(stats.getDeletedPartitions()).isEqualTo(2);
+        assertThat(stats.getTruncatedTables()).isEqualTo(0);
+        assertThat(session.execute("SELECT * FROM simple").all()).isEmpty();
+        assertThat(resource.getLastCleanUpStats().get()).isSameAs(stats);
+    }
+
+    @Test
+    public void should_delete_partition_written_asynchronously_and_still_in_flight() throws Exception {
+        //Given
+        final CleanUpStats firstCleanUp = resource.cleanUpTables();
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final CompletableFuture<ExecutionInfo> pendingInsert = manager.crud().insert(new SimpleEntity(id, new Date(), "value")).executeAsyncWithStats();
+
+        //When
+        final CleanUpStats stats = resource.cleanUpTables();
+        pendingInsert.get();
+
+        //Then
+        assertThat(firstCleanUp.getTruncatedTables()).isEqualTo(0);
+        assertThat(stats.getDeletedPartitions()).isEqualTo(1);
+        assertThat(session.execute("SELECT * FROM simple WHERE id = " + id).all()).isEmpty();
+    }
+
+    @Test
+    public void should_not_record_clean_up_deletes_of_another_resource() throws Exception {
+        //Given
+        manager.crud().insert(new SimpleEntity(RandomUtils.nextLong(0L, Long.MAX_VALUE), new Date(), "value")).execute();
+        resource.cleanUpTables();
+        final AchillesTestResource<ManagerFactory> otherResource = buildResource();
+        otherResource.cleanUpTables();
+        otherResource.getManagerFactory().forSimpleEntity().crud()
+                .insert(new SimpleEntity(RandomUtils.nextLong(0L, Long.MAX_VALUE), new Date(), "value")).execute();
+
+        //When
+        final CleanUpStats stats = otherResource.cleanUpTables();
+        final CleanUpStats nextStats = otherResource.cleanUpTables();
+
+        //Then
+        assertThat(stats.getDeletedPartitions()).isEqualTo(1);
+        assertThat(nextStats.getDeletedPartitions()).isEqualTo(0);
+        assertThat(nextStats.getTruncatedTables()).isEqualTo(0);
+    }
+
+    @Test
+    public void should_truncate_table_written_by_script() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_single_row.cql", ImmutableMap.of("id", id, "table", "simple"));
+        final List<Row> rows = session.execute("SELECT * FROM simple WHERE id = " + id).all();
+        assertThat(rows).hasSize(1);
+
+        //When
+        final CleanUpStats stats = resource.cleanUpTables();
+
+        //Then
+        assertThat(stats.getTruncatedTables()).isEqualTo(1);
+        assertThat(session.execute("SELECT * FROM simple").all()).isEmpty();
+    }
+}
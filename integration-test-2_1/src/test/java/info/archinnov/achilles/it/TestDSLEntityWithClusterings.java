@@ -45,6 +45,7 @@ import info.archinnov.achilles.it.utils.CassandraLogAsserter;
 import info.archinnov.achilles.junit.AchillesTestResource;
 import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
 import info.archinnov.achilles.script.ScriptExecutor;
+import info.archinnov.achilles.type.tuples.Tuple3;
 
 public class TestDSLEntityWithClusterings {
 
@@ -656,6 +657,56 @@ public class TestDSLEntityWithClusterings {
         assertThat(actuals.get(4).getString("value")).isEqualTo("val1");
     }
 
+    @Test
+    public void should_find_by_ids_coalescing_keys_of_same_partition() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final UUID uuid = UUIDs.timeBased();
+        final Date date1 = new Date(1000L);
+        final Date date2 = new Date(2000L);
+        final Date date3 = new Date(3000L);
+
+        session.execute("INSERT INTO entity_with_clusterings(id, uuid, date, value) VALUES(" + id + ", " + uuid + ", 1000, 'val1')");
+        session.execute("INSERT INTO entity_with_clusterings(id, uuid, date, value) VALUES(" + id + ", " + uuid + ", 2000, 'val2')");
+        session.execute("INSERT INTO entity_with_clusterings(id, uuid, date, value) VALUES(" + id + ", " + uuid + ", 3000, 'val3')");
+
+        //When
+        final List<EntityWithClusteringColumns> found = manager
+                .crud()
+                .findByIds(Arrays.asList(Tuple3.of(id, uuid, date3), Tuple3.of(id, uuid, date1),
+                        Tuple3.of(id, uuid, new Date(4000L)), Tuple3.of(id, uuid, date2)))
+                .withPartitionCoalescing(10)
+                .get();
+
+        //Then
+        assertThat(found.stream().map(EntityWithClusteringColumns::getValue).collect(toList()))
+                .containsExactly("val3", "val1", "val2");
+    }
+
+    @Test
+    public void should_find_by_ids_coalescing_keys_in_chunks_of_fetch_size() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final UUID uuid = UUIDs.timeBased();
+        final List<Tuple3<Long, UUID, Date>> primaryKeys = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            session.execute("INSERT INTO entity_with_clusterings(id, uuid, date, value) VALUES(" + id + ", " + uuid + ", " + (i * 1000) + ", 'val" + i + "')");
+            primaryKeys.add(Tuple3.of(id, uuid, new Date(i * 1000L)));
+        }
+
+        //When
+        final List<EntityWithClusteringColumns> found = manager
+                .crud()
+                .findByIds(primaryKeys)
+                .withPartitionCoalescing(10)
+                .withFetchSize(2)
+                .get();
+
+        //Then
+        assertThat(found.stream().map(EntityWithClusteringColumns::getValue).collect(toList()))
+                .containsExactly("val1", "val2", "val3", "val4", "val5");
+    }
+
     private Date buildDateKey() throws ParseException {
         SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss z");
         dateFormat.setTimeZone(TimeZone.getTimeZone("GMT"));
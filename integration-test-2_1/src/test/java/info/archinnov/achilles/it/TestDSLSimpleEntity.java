@@ -25,12 +25,17 @@ import static org.assertj.core.api.Assertions.entry;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.lang3.RandomUtils;
 import org.junit.Rule;
 import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
 import com.datastax.driver.core.ConsistencyLevel;
 import com.datastax.driver.core.ExecutionInfo;
@@ -52,6 +57,8 @@ import info.archinnov.achilles.junit.AchillesTestResource;
 import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
 import info.archinnov.achilles.script.ScriptExecutor;
 import info.archinnov.achilles.type.SchemaNameProvider;
+import info.archinnov.achilles.type.page.Page;
+import info.archinnov.achilles.type.scan.ScanCheckpoint;
 import info.archinnov.achilles.type.lightweighttransaction.LWTResultListener;
 import info.archinnov.achilles.type.tuples.Tuple2;
 
@@ -474,6 +481,345 @@ public class TestDSLSimpleEntity {
         assertThat(iterator.hasNext()).isFalse();
     }
 
+    @Test
+    public void should_dsl_select_with_publisher() throws Exception {
+        //Given
+        final Map<String, Object> values = new HashMap<>();
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        values.put("id", id);
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss z");
+        dateFormat.setTimeZone(TimeZone.getTimeZone("GMT"));
+
+        final Date date1 = dateFormat.parse("2015-10-01 00:00:00 GMT");
+        final Date date9 = dateFormat.parse("2015-10-09 00:00:00 GMT");
+
+        for (int i = 1; i <= 9; i++) {
+            values.put("date" + i, "'2015-10-0" + i + " 00:00:00+0000'");
+        }
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_many_rows.cql", values);
+
+        final List<Date> dates = new ArrayList<>();
+        final AtomicInteger fetchedRows = new AtomicInteger(0);
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AtomicBoolean completed = new AtomicBoolean(false);
+
+        //When
+        manager
+                .dsl()
+                .select()
+                .allColumns_FromBaseTable()
+                .where()
+                .id().Eq(id)
+                .date().Gt_And_Lte(date1, date9)
+                .orderByDateDescending()
+                .withFetchSize(2)
+                .withRowAsyncListener(row -> {
+                    fetchedRows.incrementAndGet();
+                    return row;
+                })
+                .publisher()
+                .subscribe(new Subscriber<SimpleEntity>() {
+                    private Subscription subscription;
+
+                    @Override
+                    public void onSubscribe(Subscription subscription) {
+                        this.subscription = subscription;
+                        subscription.request(3);
+                    }
+
+                    @Override
+                    public void onNext(SimpleEntity entity) {
+                        dates.add(entity.getDate());
+                        if (dates.size() % 3 == 0) {
+                            assertThat(fetchedRows.get()).isEqualTo(dates.size());
+                            subscription.request(3);
+                        }
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {
+                        latch.countDown();
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        completed.getAndSet(true);
+                        latch.countDown();
+                    }
+                });
+
+        //Then
+        assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(completed.get()).isTrue();
+        assertThat(dates).hasSize(8);
+        assertThat(dates.get(0)).isEqualTo(date9);
+        assertThat(dates.get(7)).isEqualTo(dateFormat.parse("2015-10-02 00:00:00 GMT"));
+    }
+
+    @Test
+    public void should_dsl_scan_all_token_ranges() throws Exception {
+        //Given
+        final Date date = buildDateKey();
+        final Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < 50; i++) {
+            final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+            ids.add(id);
+            manager.crud().insert(new SimpleEntity(id, date, "value" + i)).execute();
+        }
+        final Set<Long> scannedIds = ConcurrentHashMap.newKeySet();
+        final AtomicInteger progressCount = new AtomicInteger(0);
+
+        //When
+        final ScanCheckpoint checkpoint = manager
+                .dsl()
+                .select()
+                .allColumns_FromBaseTable()
+                .without_WHERE_Clause()
+                .withFetchSize(10)
+                .scanAll(4, ScanCheckpoint.empty(),
+                        entity -> scannedIds.add(entity.getId()),
+                        progress -> progressCount.incrementAndGet());
+
+        //Then
+        assertThat(scannedIds).isEqualTo(ids);
+        assertThat(checkpoint.isFinished()).isTrue();
+        assertThat(checkpoint.getScannedRowsCount()).isEqualTo(50L);
+        assertThat(progressCount.get()).isEqualTo(checkpoint.getTotalRangesCount());
+    }
+
+    @Test
+    public void should_dsl_resume_scan_all_from_checkpoint() throws Exception {
+        //Given
+        final Date date = buildDateKey();
+        for (int i = 0; i < 20; i++) {
+            manager.crud().insert(new SimpleEntity(RandomUtils.nextLong(0L, Long.MAX_VALUE), date, "value" + i)).execute();
+        }
+        final List<ScanCheckpoint> checkpoints = Collections.synchronizedList(new ArrayList<>());
+        final ScanCheckpoint finalCheckpoint = manager
+                .dsl()
+                .select()
+                .allColumns_FromBaseTable()
+                .without_WHERE_Clause()
+                .scanAll(1, ScanCheckpoint.empty(), entity -> {}, checkpoints::add);
+        final ScanCheckpoint firstCheckpoint = checkpoints.get(0);
+        final AtomicInteger resumedCount = new AtomicInteger(0);
+
+        //When
+        final ScanCheckpoint resumed = manager
+                .dsl()
+                .select()
+                .allColumns_FromBaseTable()
+                .without_WHERE_Clause()
+                .scanAll(2, ScanCheckpoint.deserialize(firstCheckpoint.serialize()),
+                        entity -> resumedCount.incrementAndGet(), progress -> {});
+
+        final ScanCheckpoint nothingLeft = manager
+                .dsl()
+                .select()
+                .allColumns_FromBaseTable()
+                .without_WHERE_Clause()
+                .scanAll(2, finalCheckpoint, entity -> resumedCount.incrementAndGet(), progress -> {});
+
+        //Then
+        assertThat(firstCheckpoint.getCompletedRangesCount()).isEqualTo(1);
+        assertThat(resumed.isFinished()).isTrue();
+        assertThat(resumed.getScannedRowsCount()).isEqualTo(20L - firstCheckpoint.getScannedRowsCount());
+        assertThat(nothingLeft.getScannedRowsCount()).isEqualTo(0L);
+        assertThat((long) resumedCount.get()).isEqualTo(resumed.getScannedRowsCount());
+    }
+
+    @Test
+    public void should_dsl_select_with_publisher_and_cancel() throws Exception {
+        //Given
+        final Map<String, Object> values = new HashMap<>();
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        values.put("id", id);
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss z");
+        dateFormat.setTimeZone(TimeZone.getTimeZone("GMT"));
+
+        final Date date1 = dateFormat.parse("2015-10-01 00:00:00 GMT");
+        final Date date9 = dateFormat.parse("2015-10-09 00:00:00 GMT");
+
+        for (int i = 1; i <= 9; i++) {
+            values.put("date" + i, "'2015-10-0" + i + " 00:00:00+0000'");
+        }
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_many_rows.cql", values);
+
+        final List<Date> dates = new ArrayList<>();
+        final AtomicBoolean terminated = new AtomicBoolean(false);
+
+        //When
+        manager
+                .dsl()
+                .select()
+                .allColumns_FromBaseTable()
+                .where()
+                .id().Eq(id)
+                .date().Gt_And_Lte(date1, date9)
+                .withFetchSize(2)
+                .publisher()
+                .subscribe(new Subscriber<SimpleEntity>() {
+                    private Subscription subscription;
+
+                    @Override
+                    public void onSubscribe(Subscription subscription) {
+                        this.subscription = subscription;
+                        subscription.request(Long.MAX_VALUE);
+                    }
+
+                    @Override
+                    public void onNext(SimpleEntity entity) {
+                        dates.add(entity.getDate());
+                        if (dates.size() == 3) {
+                            subscription.cancel();
+                        }
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {
+                        terminated.getAndSet(true);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        terminated.getAndSet(true);
+                    }
+                });
+
+        //Then
+        Thread.sleep(500);
+        assertThat(dates).hasSize(3);
+        assertThat(terminated.get()).isFalse();
+    }
+
+    @Test
+    public void should_dsl_select_page_without_leaking_paging_options() throws Exception {
+        //Given
+        final Map<String, Object> values = new HashMap<>();
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        values.put("id", id);
+        for (int i = 1; i <= 9; i++) {
+            values.put("date" + i, "'2015-10-0" + i + " 00:00:00+0000'");
+        }
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_many_rows.cql", values);
+        final SimpleEntity_Select.W_Date dsl = manager
+                .dsl()
+                .select()
+                .allColumns_FromBaseTable()
+                .where()
+                .id().Eq(id);
+        final Page<SimpleEntity> page1 = dsl.getPage(4, Optional.empty());
+        dsl.getPage(4, page1.nextPagingState());
+
+        //When
+        final Page<SimpleEntity> firstPageAgain = dsl.getPage(4, Optional.empty());
+        final List<SimpleEntity> all = dsl.getList();
+
+        //Then
+        assertThat(firstPageAgain.entities().get(0).getValue()).isEqualTo("id - date1");
+        assertThat(all).hasSize(9);
+    }
+
+    @Test
+    public void should_dsl_select_with_same_columns_but_different_relations() throws Exception {
+        //Given
+        final Map<String, Object> values = new HashMap<>();
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        values.put("id", id);
+        for (int i = 1; i <= 9; i++) {
+            values.put("date" + i, "'2015-10-0" + i + " 00:00:00+0000'");
+        }
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_many_rows.cql", values);
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss z");
+        dateFormat.setTimeZone(TimeZone.getTimeZone("GMT"));
+        final Date date5 = dateFormat.parse("2015-10-05 00:00:00 GMT");
+
+        //When
+        final List<SimpleEntity> equal = manager
+                .dsl()
+                .select()
+                .allColumns_FromBaseTable()
+                .where()
+                .id().Eq(id)
+                .date().Eq(date5)
+                .getList();
+
+        final List<SimpleEntity> greaterOrEqual = manager
+                .dsl()
+                .select()
+                .allColumns_FromBaseTable()
+                .where()
+                .id().Eq(id)
+                .date().Gte(date5)
+                .getList();
+
+        final List<SimpleEntity> greaterOrEqualAgain = manager
+                .dsl()
+                .select()
+                .allColumns_FromBaseTable()
+                .where()
+                .id().Eq(id)
+                .date().Gte(date5)
+                .getList();
+
+        //Then
+        assertThat(equal).hasSize(1);
+        assertThat(equal.get(0).getValue()).isEqualTo("id - date5");
+        assertThat(greaterOrEqual).hasSize(5);
+        assertThat(greaterOrEqualAgain).hasSize(5);
+    }
+
+    @Test
+    public void should_dsl_select_page_by_page() throws Exception {
+        //Given
+        final Map<String, Object> values = new HashMap<>();
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        values.put("id", id);
+        for (int i = 1; i <= 9; i++) {
+            values.put("date" + i, "'2015-10-0" + i + " 00:00:00+0000'");
+        }
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_many_rows.cql", values);
+
+        //When
+        final Page<SimpleEntity> page1 = manager
+                .dsl()
+                .select()
+                .allColumns_FromBaseTable()
+                .where()
+                .id().Eq(id)
+                .getPage(4, Optional.empty());
+
+        final Page<SimpleEntity> page2 = manager
+                .dsl()
+                .select()
+                .allColumns_FromBaseTable()
+                .where()
+                .id().Eq(id)
+                .getPage(4, page1.nextPagingState());
+
+        final Page<SimpleEntity> page3 = manager
+                .dsl()
+                .select()
+                .allColumns_FromBaseTable()
+                .where()
+                .id().Eq(id)
+                .getPage(4, page2.nextPagingState());
+
+        //Then
+        assertThat(page1.entities()).hasSize(4);
+        assertThat(page1.entities().get(0).getValue()).isEqualTo("id - date1");
+        assertThat(page1.hasNextPage()).isTrue();
+        assertThat(page1.executionInfo()).isNotNull();
+
+        assertThat(page2.entities()).hasSize(4);
+        assertThat(page2.entities().get(0).getValue()).isEqualTo("id - date5");
+        assertThat(page2.hasNextPage()).isTrue();
+
+        assertThat(page3.entities()).hasSize(1);
+        assertThat(page3.entities().get(0).getValue()).isEqualTo("id - date9");
+        assertThat(page3.hasNextPage()).isFalse();
+    }
+
     @Test
     public void should_dsl_delete() throws Exception {
         //Given
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.it;
+
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.datastax.driver.core.Session;
+
+import info.archinnov.achilles.generated.ManagerFactory;
+import info.archinnov.achilles.generated.ManagerFactoryBuilder;
+import info.archinnov.achilles.generated.manager.SimpleEntity_Manager;
+import info.archinnov.achilles.internals.cache.EntityCacheStats;
+import info.archinnov.achilles.internals.entities.SimpleEntity;
+import info.archinnov.achilles.junit.AchillesTestResource;
+import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
+
+public class TestEntityCache {
+
+    @Rule
+    public AchillesTestResource<ManagerFactory> resource = AchillesTestResourceBuilder
+            .forJunit()
+            .entityClassesToTruncate(SimpleEntity.class)
+            .truncateBeforeAndAfterTest()
+            .build((cluster, statementsCache) -> ManagerFactoryBuilder
+                    .builder(cluster)
+                    .withManagedEntityClasses(SimpleEntity.class)
+                    .doForceSchemaCreation(true)
+                    .withStatementsCache(statementsCache)
+                    .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                    .withEntityCache(SimpleEntity.class, 100, 1, TimeUnit.HOURS)
+                    .build());
+
+    private Session session = resource.getNativeSession();
+    private ManagerFactory managerFactory = resource.getManagerFactory();
+    private SimpleEntity_Manager manager = managerFactory.forSimpleEntity();
+
+    @Test
+    public void should_serve_find_by_id_from_cache() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = new Date();
+        session.execute("INSERT INTO simple(id, date, value) VALUES(" + id + ", " + date.getTime() + ", 'cached')");
+
+        //When
+        final SimpleEntity first = manager.crud().findById(id, date).get();
+        session.execute("UPDATE simple SET value = 'changed behind the cache' WHERE id = " + id + " AND date = " + date.getTime());
+        final SimpleEntity second = manager.crud().findById(id, date).get();
+
+        //Then
+        assertThat(first.getValue()).isEqualTo("cached");
+        assertThat(second.getValue()).isEqualTo("cached");
+        assertThat(second).isNotSameAs(first);
+        final EntityCacheStats stats = managerFactory.getEntityCacheStats(SimpleEntity.class).get();
+        assertThat(stats.getHitCount()).isEqualTo(1L);
+        assertThat(stats.getMissCount()).isEqualTo(1L);
+        assertThat(stats.getSize()).isEqualTo(1L);
+    }
+
+    @Test
+    public void should_invalidate_cache_on_update_and_delete() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = new Date();
+        final SimpleEntity entity = new SimpleEntity(id, date, "value");
+        manager.crud().insert(entity).execute();
+        assertThat(manager.crud().findById(id, date).get().getValue()).isEqualTo("value");
+
+        //When
+        entity.setValue("new_value");
+        manager.crud().update(entity).execute();
+        final SimpleEntity updated = manager.crud().findById(id, date).get();
+        manager.crud().deleteById(id, date).execute();
+        final SimpleEntity deleted = manager.crud().findById(id, date).get();
+
+        //Then
+        assertThat(updated.getValue()).isEqualTo("new_value");
+        assertThat(deleted).isNull();
+        assertThat(managerFactory.getEntityCacheStats(SimpleEntity.class).get().getInvalidationCount()).isEqualTo(3L);
+    }
+
+    @Test
+    public void should_invalidate_cache_on_dsl_update() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = new Date();
+        manager.crud().insert(new SimpleEntity(id, date, "value")).execute();
+        manager.crud().findById(id, date).get();
+
+        //When
+        manager.dsl().update().fromBaseTable().value().Set("dsl_value").where().id().Eq(id).date().Eq(date).execute();
+
+        //Then
+        assertThat(manager.crud().findById(id, date).get().getValue()).isEqualTo("dsl_value");
+    }
+}
@@ -22,8 +22,11 @@ import static java.util.stream.Collectors.toSet;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang3.RandomUtils;
 import org.junit.Rule;
@@ -42,6 +45,7 @@ import info.archinnov.achilles.internals.metamodel.functions.FunctionCall;
 import info.archinnov.achilles.junit.AchillesTestResource;
 import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
 import info.archinnov.achilles.script.ScriptExecutor;
+import info.archinnov.achilles.type.scan.ScanCheckpoint;
 import info.archinnov.achilles.type.tuples.Tuple2;
 import info.archinnov.achilles.type.tuples.Tuple3;
 
@@ -199,4 +203,33 @@ public class TestEntityWithCompositePartitionKey {
                 .collect(toList()))
                 .containsExactly("val1-1", "val2-1", "val2-3");
     }
+
+    @Test
+    public void should_dsl_scan_all_with_composite_partition_key() throws Exception {
+        //Given
+        final Set<Tuple2<Long, UUID>> keys = new HashSet<>();
+        for (int i = 0; i < 30; i++) {
+            final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+            final UUID uuid = new UUID(i, i);
+            keys.add(Tuple2.of(id, uuid));
+            manager.crud().insert(new EntityWithCompositePartitionKey(id, uuid, "val" + i)).execute();
+        }
+        final Set<Tuple2<Long, UUID>> scannedKeys = ConcurrentHashMap.newKeySet();
+
+        //When
+        final ScanCheckpoint checkpoint = manager
+                .dsl()
+                .select()
+                .id()
+                .uuid()
+                .fromBaseTable()
+                .without_WHERE_Clause()
+                .withFetchSize(7)
+                .scanAll(3, entity -> scannedKeys.add(Tuple2.of(entity.getId(), entity.getUuid())));
+
+        //Then
+        assertThat(scannedKeys).isEqualTo(keys);
+        assertThat(checkpoint.isFinished()).isTrue();
+        assertThat(checkpoint.getScannedRowsCount()).isEqualTo(30L);
+    }
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.it;
+
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.Rule;
+import org.junit.Test;
+
+import info.archinnov.achilles.generated.ManagerFactory;
+import info.archinnov.achilles.generated.ManagerFactoryBuilder;
+import info.archinnov.achilles.generated.manager.SimpleEntity_Manager;
+import info.archinnov.achilles.internals.entities.SimpleEntity;
+import info.archinnov.achilles.internals.runtime.HedgedReadsStats;
+import info.archinnov.achilles.junit.AchillesTestResource;
+import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
+
+public class TestHedgedReads {
+
+    @Rule
+    public AchillesTestResource<ManagerFactory> resource = AchillesTestResourceBuilder
+            .forJunit()
+            .entityClassesToTruncate(SimpleEntity.class)
+            .truncateBeforeAndAfterTest()
+            .build((cluster, statementsCache) -> ManagerFactoryBuilder
+                    .builder(cluster)
+                    .withManagedEntityClasses(SimpleEntity.class)
+                    .doForceSchemaCreation(true)
+                    .withStatementsCache(statementsCache)
+                    .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                    .build());
+
+    private SimpleEntity_Manager manager = resource.getManagerFactory().forSimpleEntity();
+
+    @Test
+    public void should_hedge_idempotent_reads_only() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = new Date();
+        manager.crud().insert(new SimpleEntity(id, date, "value")).execute();
+        final HedgedReadsStats before = resource.getManagerFactory().getHedgedReadsStats();
+
+        //When
+        final SimpleEntity found = manager.crud().findById(id, date)
+                .isIdempotent()
+                .withHedging(0, MILLISECONDS)
+                .get();
+        final SimpleEntity selected = manager.dsl().select().value().fromBaseTable()
+                .where().id().Eq(id).date().Eq(date)
+                .isIdempotent()
+                .withHedgingAtPercentile(99.0, 0, MILLISECONDS)
+                .getOne();
+        final SimpleEntity notHedged = manager.crud().findById(id, date)
+                .isIdempotent(false)
+                .withHedging(0, MILLISECONDS)
+                .get();
+
+        //Then
+        assertThat(found.getValue()).isEqualTo("value");
+        assertThat(selected.getValue()).isEqualTo("value");
+        assertThat(notHedged.getValue()).isEqualTo("value");
+
+        final HedgedReadsStats after = resource.getManagerFactory().getHedgedReadsStats();
+        assertThat(after.getHedgedReadCount() - before.getHedgedReadCount()).isEqualTo(2L);
+        assertThat(after.getHedgesWonCount()).isLessThanOrEqualTo(after.getHedgesSentCount());
+    }
+}
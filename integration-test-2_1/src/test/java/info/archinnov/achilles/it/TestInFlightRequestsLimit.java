@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.it;
+
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.datastax.driver.core.Session;
+
+import info.archinnov.achilles.generated.ManagerFactory;
+import info.archinnov.achilles.generated.ManagerFactoryBuilder;
+import info.archinnov.achilles.generated.manager.SimpleEntity_Manager;
+import info.archinnov.achilles.internals.entities.SimpleEntity;
+import info.archinnov.achilles.internals.runtime.InFlightRequestsLimiter;
+import info.archinnov.achilles.junit.AchillesTestResource;
+import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
+import info.archinnov.achilles.type.Empty;
+import info.archinnov.achilles.type.strategy.InFlightOverflowStrategy;
+
+public class TestInFlightRequestsLimit {
+
+    @Rule
+    public AchillesTestResource<ManagerFactory> resource = AchillesTestResourceBuilder
+            .forJunit()
+            .entityClassesToTruncate(SimpleEntity.class)
+            .truncateBeforeAndAfterTest()
+            .build((cluster, statementsCache) -> ManagerFactoryBuilder
+                    .builder(cluster)
+                    .withManagedEntityClasses(SimpleEntity.class)
+                    .doForceSchemaCreation(true)
+                    .withStatementsCache(statementsCache)
+                    .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                    .withMaxInFlightRequests(2)
+                    .withInFlightOverflowStrategy(InFlightOverflowStrategy.QUEUE)
+                    .build());
+
+    private Session session = resource.getNativeSession();
+    private SimpleEntity_Manager manager = resource.getManagerFactory().forSimpleEntity();
+
+    @Test
+    public void should_queue_async_inserts_exceeding_in_flight_limit() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final InFlightRequestsLimiter limiter = resource.getManagerFactory().getInFlightRequestsLimiter().get();
+        final List<CompletableFuture<Empty>> futures = new ArrayList<>();
+
+        //When
+        for (int i = 0; i < 50; i++) {
+            futures.add(manager.crud().insert(new SimpleEntity(id, new Date(i), "value" + i)).executeAsync());
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()])).get();
+
+        //Then
+        assertThat(session.execute("SELECT * FROM simple WHERE id = " + id).all()).hasSize(50);
+        assertThat(limiter.getInFlightRequests()).isEqualTo(0);
+        assertThat(limiter.getQueueDepth()).isEqualTo(0);
+        assertThat(limiter.getQueuedRequestsCount()).isGreaterThan(0L);
+        assertThat(limiter.getRejectedRequestsCount()).isEqualTo(0L);
+    }
+}
@@ -166,6 +166,31 @@ public class TestInterceptorsSimpleEntity {
     };
 
 
+    public static final List<Integer> postLoadBatchSizes = Collections.synchronizedList(new ArrayList<>());
+
+    public static Interceptor<SimpleEntity> postLoadBatch = new Interceptor<SimpleEntity>() {
+        @Override
+        public boolean acceptEntity(Class<?> entityClass) {
+            return entityClass.equals(SimpleEntity.class);
+        }
+
+        @Override
+        public void onEvent(SimpleEntity entity, Event event) {
+            postLoadBatchSizes.add(1);
+        }
+
+        @Override
+        public void onEvents(List<SimpleEntity> entities, Event event) {
+            postLoadBatchSizes.add(entities.size());
+        }
+
+        @Override
+        public List<Event> interceptOnEvents() {
+            return asList(Event.POST_LOAD);
+        }
+    };
+
+
     @Rule
     public AchillesTestResource<ManagerFactory> resource = AchillesTestResourceBuilder
             .forJunit()
@@ -177,7 +202,7 @@ public class TestInterceptorsSimpleEntity {
                     .doForceSchemaCreation(true)
                     .withStatementsCache(statementsCache)
                     .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
-                    .withEventInterceptors(asList(preInsert, postInsert, preUpdate, postUpdate, preDelete, postDelete, postLoad))
+                    .withEventInterceptors(asList(preInsert, postInsert, preUpdate, postUpdate, preDelete, postDelete, postLoad, postLoadBatch))
                     .build());
 
     private Session session = resource.getNativeSession();
@@ -366,6 +391,45 @@ public class TestInterceptorsSimpleEntity {
         assertThat(actuals.hasNext()).isFalse();
     }
 
+    @Test
+    public void should_trigger_once_for_the_whole_dsl_select_list() throws Exception {
+        //Given
+        final Map<String, Object> values = new HashMap<>();
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        values.put("id", id);
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss z");
+        dateFormat.setTimeZone(TimeZone.getTimeZone("GMT"));
+        final Date date1 = dateFormat.parse("2015-10-01 00:00:00 GMT");
+        final Date date9 = dateFormat.parse("2015-10-09 00:00:00 GMT");
+        values.put("date1", "'2015-10-01 00:00:00+0000'");
+        values.put("date2", "'2015-10-02 00:00:00+0000'");
+        values.put("date3", "'2015-10-03 00:00:00+0000'");
+        values.put("date4", "'2015-10-04 00:00:00+0000'");
+        values.put("date5", "'2015-10-05 00:00:00+0000'");
+        values.put("date6", "'2015-10-06 00:00:00+0000'");
+        values.put("date7", "'2015-10-07 00:00:00+0000'");
+        values.put("date8", "'2015-10-08 00:00:00+0000'");
+        values.put("date9", "'2015-10-09 00:00:00+0000'");
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_many_rows.cql", values);
+        postLoadBatchSizes.clear();
+
+        //When
+        final List<SimpleEntity> actuals = manager
+                .dsl()
+                .select()
+                .value()
+                .fromBaseTable()
+                .where()
+                .id().Eq(id)
+                .date().Gte_And_Lt(date1, date9)
+                .getList();
+
+        //Then
+        assertThat(actuals).hasSize(8);
+        assertThat(postLoadBatchSizes).containsExactly(8);
+        assertThat(actuals.get(0).getValue()).isEqualTo("postLoad_id - date1");
+    }
+
     private Date buildDateKey() throws ParseException {
         SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss z");
         dateFormat.setTimeZone(TimeZone.getTimeZone("GMT"));
@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.it;
+
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.datastax.driver.core.Session;
+
+import info.archinnov.achilles.generated.ManagerFactory;
+import info.archinnov.achilles.generated.ManagerFactoryBuilder;
+import info.archinnov.achilles.generated.manager.SimpleEntity_Manager;
+import info.archinnov.achilles.internals.entities.SimpleEntity;
+import info.archinnov.achilles.internals.runtime.ExecutorStats;
+import info.archinnov.achilles.junit.AchillesTestResource;
+import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
+import info.archinnov.achilles.type.interceptor.Event;
+import info.archinnov.achilles.type.interceptor.Interceptor;
+
+public class TestMappingExecutor {
+
+    private static final Queue<String> postLoadThreads = new ConcurrentLinkedQueue<>();
+
+    public static Interceptor<SimpleEntity> postLoad = new Interceptor<SimpleEntity>() {
+        @Override
+        public boolean acceptEntity(Class<?> entityClass) {
+            return entityClass.equals(SimpleEntity.class);
+        }
+
+        @Override
+        public void onEvent(SimpleEntity entity, Event event) {
+            postLoadThreads.add(Thread.currentThread().getName());
+        }
+
+        @Override
+        public List<Event> interceptOnEvents() {
+            return asList(Event.POST_LOAD);
+        }
+    };
+
+    @Rule
+    public AchillesTestResource<ManagerFactory> resource = AchillesTestResourceBuilder
+            .forJunit()
+            .entityClassesToTruncate(SimpleEntity.class)
+            .truncateBeforeAndAfterTest()
+            .build((cluster, statementsCache) -> ManagerFactoryBuilder
+                    .builder(cluster)
+                    .withManagedEntityClasses(SimpleEntity.class)
+                    .doForceSchemaCreation(true)
+                    .withStatementsCache(statementsCache)
+                    .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                    .withEventInterceptors(asList(postLoad))
+                    .withMappingExecutorServiceThreadCount(2)
+                    .build());
+
+    private Session session = resource.getNativeSession();
+    private ManagerFactory managerFactory = resource.getManagerFactory();
+    private SimpleEntity_Manager manager = managerFactory.forSimpleEntity();
+
+    @Test
+    public void should_map_rows_on_mapping_executor() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = new Date();
+        session.execute("INSERT INTO simple(id, date, value) VALUES(" + id + ", " + date.getTime() + ", 'val')");
+        postLoadThreads.clear();
+
+        //When
+        final String completionThread = manager
+                .crud()
+                .findById(id, date)
+                .getAsync()
+                .thenApplyAsync(entity -> Thread.currentThread().getName(), Runnable::run)
+                .get();
+        final List<SimpleEntity> found = manager.dsl().select().allColumns_FromBaseTable().where().id().Eq(id).getList();
+
+        //Then
+        assertThat(found).hasSize(1);
+        assertThat(postLoadThreads).hasSize(2);
+        for (String threadName : postLoadThreads) {
+            assertThat(threadName).startsWith("achilles-mapping-executor-");
+        }
+        assertThat(completionThread).doesNotContain("achilles-mapping-executor-");
+
+        final ExecutorStats stats = managerFactory.getMappingExecutorStats().get();
+        assertThat(stats.getPoolSize()).isGreaterThan(0);
+        assertThat(stats.getCompletedTaskCount()).isGreaterThanOrEqualTo(2L);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.it;
+
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+
+import info.archinnov.achilles.generated.ManagerFactory;
+import info.archinnov.achilles.generated.ManagerFactoryBuilder;
+import info.archinnov.achilles.internals.entities.SimpleEntity;
+import info.archinnov.achilles.junit.AchillesTestResource;
+import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
+
+public class TestSSTableFixtures {
+
+    @Rule
+    public AchillesTestResource<ManagerFactory> resource = buildResource();
+
+    private Session session = resource.getNativeSession();
+
+    @Test
+    public void should_restore_seeded_rows_from_sstable_fixture() throws Exception {
+        //Given
+        assertSeededRows();
+        session.execute("TRUNCATE sstable_fixture");
+        assertThat(session.execute("SELECT * FROM sstable_fixture").all()).isEmpty();
+
+        //When
+        buildResource();
+
+        //Then
+        assertSeededRows();
+        final File[] fixtures = new File("target/cassandra_embedded/sstable_fixtures").listFiles(File::isDirectory);
+        assertThat(fixtures).hasSize(1);
+        assertThat(new File(fixtures[0], "COMPLETE")).exists();
+    }
+
+    @Test
+    public void should_execute_data_statements_when_seeded_rows_deleted_since_capture() throws Exception {
+        //Given
+        assertSeededRows();
+        session.execute("DELETE FROM sstable_fixture WHERE id = 1");
+
+        //When
+        buildResource();
+
+        //Then
+        assertSeededRows();
+        final File[] fixtures = new File("target/cassandra_embedded/sstable_fixtures").listFiles(File::isDirectory);
+        assertThat(fixtures).hasSize(1);
+        assertThat(new File(fixtures[0], DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME).list()).containsOnly("sstable_fixture");
+    }
+
+    private void assertSeededRows() {
+        final List<String> values = session.execute("SELECT * FROM sstable_fixture")
+                .all()
+                .stream()
+                .map(row -> row.getLong("id") + "/" + row.getInt("bucket") + "/" + row.getString("value"))
+                .collect(Collectors.toList());
+        assertThat(values).containsOnly("1/1/one", "1/2/two", "2/1/three");
+    }
+
+    private static AchillesTestResource<ManagerFactory> buildResource() {
+        return AchillesTestResourceBuilder
+                .forJunit()
+                .withScript("SSTableFixtures/seed_table.cql")
+                .withSSTableFixtures()
+                .tablesToTruncate("sstable_fixture")
+                .truncateAfterTest()
+                .build((cluster, statementsCache) -> ManagerFactoryBuilder
+                        .builder(cluster)
+                        .withManagedEntityClasses(SimpleEntity.class)
+                        .doForceSchemaCreation(true)
+                        .withStatementsCache(statementsCache)
+                        .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                        .build());
+    }
+}
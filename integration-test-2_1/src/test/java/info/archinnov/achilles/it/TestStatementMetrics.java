@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2012-2018 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.it;
+
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+import java.util.Map;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.Rule;
+import org.junit.Test;
+
+import info.archinnov.achilles.generated.ManagerFactory;
+import info.archinnov.achilles.generated.ManagerFactoryBuilder;
+import info.archinnov.achilles.generated.manager.SimpleEntity_Manager;
+import info.archinnov.achilles.internals.entities.SimpleEntity;
+import info.archinnov.achilles.internals.metrics.StatementMetricsKey;
+import info.archinnov.achilles.internals.metrics.StatementMetricsRecorder;
+import info.archinnov.achilles.internals.metrics.StatementMetricsStats;
+import info.archinnov.achilles.internals.statements.OperationType;
+import info.archinnov.achilles.junit.AchillesTestResource;
+import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
+
+public class TestStatementMetrics {
+
+    private static final StatementMetricsRecorder recorder = new StatementMetricsRecorder();
+
+    @Rule
+    public AchillesTestResource<ManagerFactory> resource = AchillesTestResourceBuilder
+            .forJunit()
+            .entityClassesToTruncate(SimpleEntity.class)
+            .truncateBeforeAndAfterTest()
+            .build((cluster, statementsCache) -> ManagerFactoryBuilder
+                    .builder(cluster)
+                    .withManagedEntityClasses(SimpleEntity.class)
+                    .doForceSchemaCreation(true)
+                    .withStatementsCache(statementsCache)
+                    .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                    .withStatementMetricsListener(recorder)
+                    .build());
+
+    private SimpleEntity_Manager manager = resource.getManagerFactory().forSimpleEntity();
+
+    @Test
+    public void should_record_metrics_by_entity_and_operation_type() throws Exception {
+        //Given
+        recorder.reset();
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = new Date();
+
+        //When
+        manager.crud().insert(new SimpleEntity(id, date, "value")).execute();
+        manager.crud().findById(id, date).get();
+        manager.crud().findById(id, date).get();
+        manager.dsl().select().value().fromBaseTable().where().id().Eq(id).date().Eq(date).getOne();
+
+        //Then
+        final Map<StatementMetricsKey, StatementMetricsStats> stats = recorder.getStats(SimpleEntity.class);
+        assertThat(stats).hasSize(3);
+
+        long insertCount = 0L;
+        long selectCount = 0L;
+        for (Map.Entry<StatementMetricsKey, StatementMetricsStats> entry : stats.entrySet()) {
+            assertThat(entry.getValue().getErrorCount()).isEqualTo(0L);
+            assertThat(entry.getValue().getMaxLatencyInMicros()).isGreaterThan(0L);
+            if (entry.getKey().getOperationType() == OperationType.INSERT) {
+                insertCount += entry.getValue().getCount();
+            } else if (entry.getKey().getOperationType() == OperationType.SELECT) {
+                selectCount += entry.getValue().getCount();
+            }
+        }
+        assertThat(insertCount).isEqualTo(1L);
+        assertThat(selectCount).isEqualTo(3L);
+    }
+}
@@ -23,6 +23,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.commons.lang3.RandomUtils;
@@ -37,12 +38,14 @@ import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.generated.ManagerFactory;
 import info.archinnov.achilles.generated.ManagerFactoryBuilder;
 import info.archinnov.achilles.generated.manager.SimpleEntity_Manager;
+import info.archinnov.achilles.internals.dsl.raw.TypedQuery;
 import info.archinnov.achilles.internals.entities.EntityWithClusteringColumns;
 import info.archinnov.achilles.internals.entities.SimpleEntity;
 import info.archinnov.achilles.it.utils.CassandraLogAsserter;
 import info.archinnov.achilles.junit.AchillesTestResource;
 import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
 import info.archinnov.achilles.script.ScriptExecutor;
+import info.archinnov.achilles.type.page.Page;
 
 public class TestTypedQueries {
 
@@ -103,6 +106,64 @@ public class TestTypedQueries {
         assertThat(actual.getValue()).contains("0 AM");
     }
 
+    @Test
+    public void should_perform_typed_query_page_by_page() throws Exception {
+        //Given
+        final Map<String, Object> values = new HashMap<>();
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        values.put("id", id);
+        for (int i = 1; i <= 9; i++) {
+            values.put("date" + i, "'2015-10-0" + i + " 00:00:00+0000'");
+        }
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_many_rows.cql", values);
+
+        final PreparedStatement preparedStatement = session.prepare("SELECT * FROM simple WHERE id = :id");
+
+        //When
+        final Page<SimpleEntity> page1 = manager
+                .raw()
+                .typedQueryForSelect(preparedStatement, id)
+                .getPage(5, Optional.empty());
+
+        final Page<SimpleEntity> page2 = manager
+                .raw()
+                .typedQueryForSelect(preparedStatement, id)
+                .getPage(5, page1.nextPagingStateString().map(PagingState::fromString));
+
+        //Then
+        assertThat(page1.entities()).hasSize(5);
+        assertThat(page1.hasNextPage()).isTrue();
+        assertThat(page2.entities()).hasSize(4);
+        assertThat(page2.entities().get(3).getValue()).isEqualTo("id - date9");
+        assertThat(page2.hasNextPage()).isFalse();
+    }
+
+    @Test
+    public void should_perform_typed_query_page_without_leaking_paging_state() throws Exception {
+        //Given
+        final Map<String, Object> values = new HashMap<>();
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        values.put("id", id);
+        for (int i = 1; i <= 9; i++) {
+            values.put("date" + i, "'2015-10-0" + i + " 00:00:00+0000'");
+        }
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_many_rows.cql", values);
+        final TypedQuery<SimpleEntity> typedQuery = manager
+                .raw()
+                .typedQueryForSelect(session.prepare("SELECT * FROM simple WHERE id = :id"), id);
+        final Page<SimpleEntity> page1 = typedQuery.getPage(5, Optional.empty());
+        typedQuery.getPage(5, page1.nextPagingState());
+
+        //When
+        final Page<SimpleEntity> firstPageAgain = typedQuery.getPage(5, Optional.empty());
+        final List<SimpleEntity> all = typedQuery.getList();
+
+        //Then
+        assertThat(firstPageAgain.entities()).hasSize(5);
+        assertThat(firstPageAgain.entities().get(0).getValue()).isEqualTo("id - date1");
+        assertThat(all).hasSize(9);
+    }
+
     @Test
     public void should_perform_bound_statement_typed_query() throws Exception {
         //Given